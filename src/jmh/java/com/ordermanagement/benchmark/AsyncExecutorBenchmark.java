@@ -0,0 +1,75 @@
+package com.ordermanagement.benchmark;
+
+import com.ordermanagement.config.AsyncConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The two AsyncConfig execution modes side by side under a slow database: 64 callers each
+ * submit a task that blocks for dbMillis and wait for it to finish.
+ * - platform: ThreadPoolTaskExecutor (max 10 threads, queue 100); tasks queue behind the pool
+ * - virtual: one virtual thread per task, capped by async.virtual.concurrency-limit (200)
+ *
+ * Compare ops/ms (tasks completed) and the sample-time percentiles (p0.50, p0.99), which
+ * include the time a task waits for a thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AsyncExecutorBenchmark {
+
+    private static final int VIRTUAL_CONCURRENCY_LIMIT = 200;
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param({"5", "20"})
+    private long dbMillis;
+
+    private Executor executor;
+
+    @Setup
+    public void setUp() {
+        executor = new AsyncConfig("virtual".equals(mode), VIRTUAL_CONCURRENCY_LIMIT).getAsyncExecutor();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void blockingTask() throws Exception {
+        CompletableFuture.runAsync(this::slowDatabaseCall, executor).get();
+    }
+
+    private void slowDatabaseCall() {
+        try {
+            Thread.sleep(dbMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
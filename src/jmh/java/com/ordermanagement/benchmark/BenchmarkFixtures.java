@@ -0,0 +1,85 @@
+package com.ordermanagement.benchmark;
+
+import com.ordermanagement.model.entity.Customer;
+import com.ordermanagement.model.entity.Item;
+import com.ordermanagement.model.entity.Order;
+import com.ordermanagement.model.entity.OrderStatusEntity;
+import com.ordermanagement.model.enums.CustomerType;
+import com.ordermanagement.model.valueobject.Email;
+import com.ordermanagement.model.valueobject.Money;
+import com.ordermanagement.model.valueobject.OrderNumber;
+import com.ordermanagement.model.valueobject.OrderNumberGenerator;
+import com.ordermanagement.model.valueobject.Quantity;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic in-memory orders for benchmarks (no Spring context, no database).
+ */
+final class BenchmarkFixtures {
+
+    private static final long SEED = 42L;
+
+    static final OrderNumberGenerator ORDER_NUMBERS = new OrderNumberGenerator(0, Clock.systemDefaultZone());
+
+    private BenchmarkFixtures() {}
+
+    static Customer customer(CustomerType type) {
+        return Customer.builder()
+                .id(1L)
+                .customerCode("CUST-BENCH")
+                .fullName("Benchmark Customer")
+                .email(Email.of("benchmark@example.com"))
+                .type(type)
+                .build();
+    }
+
+    static OrderStatusEntity pendingStatus() {
+        return OrderStatusEntity.builder()
+                .id(1L)
+                .code("PENDING")
+                .name("Pending")
+                .build();
+    }
+
+    /**
+     * Order with the given number of priced items; quantities 1-5, unit prices 1.00-500.00
+     */
+    static Order order(int itemCount, CustomerType customerType) {
+        Random random = new Random(SEED);
+        Order order = Order.builder()
+                .id(1L)
+                .orderNumber(OrderNumber.generate(ORDER_NUMBERS))
+                .customer(customer(customerType))
+                .status(pendingStatus())
+                .items(new ArrayList<>())
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        for (int i = 0; i < itemCount; i++) {
+            Item item = Item.builder()
+                    .id((long) i + 1)
+                    .productNameSnapshot("Product " + i)
+                    .productCodeSnapshot("BENCH-" + i)
+                    .quantity(Quantity.of(1 + random.nextInt(5)))
+                    .unitPrice(Money.of(BigDecimal.valueOf(100 + random.nextInt(49_900), 2)))
+                    .build();
+            item.calculatePricing();
+            order.addItem(item);
+        }
+        return order;
+    }
+
+    static List<Order> orders(int orderCount, int itemsPerOrder) {
+        List<Order> orders = new ArrayList<>(orderCount);
+        for (int i = 0; i < orderCount; i++) {
+            orders.add(order(itemsPerOrder, CustomerType.RETAIL));
+        }
+        return orders;
+    }
+}
@@ -0,0 +1,69 @@
+package com.ordermanagement.benchmark;
+
+import com.ordermanagement.model.valueobject.Money;
+import com.ordermanagement.model.valueobject.MoneyAccumulator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Money arithmetic: the pricing pattern (sum, discount, tax, final) with immutable Money
+ * versus the minor-units MoneyAccumulator.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    private static final BigDecimal DISCOUNT_FACTOR = BigDecimal.valueOf(15.0 / 100.0);
+    private static final BigDecimal TAX_FACTOR = BigDecimal.valueOf(10.0 / 100.0);
+
+    @Param({"10", "100"})
+    private int amountCount;
+
+    private Money[] amounts;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42L);
+        amounts = new Money[amountCount];
+        for (int i = 0; i < amountCount; i++) {
+            amounts[i] = Money.of(BigDecimal.valueOf(100 + random.nextInt(99_900), 2));
+        }
+    }
+
+    @Benchmark
+    public Money money() {
+        Money subtotal = Money.zero();
+        for (Money amount : amounts) {
+            subtotal = subtotal.add(amount);
+        }
+        Money discounted = subtotal.subtract(subtotal.multiply(DISCOUNT_FACTOR));
+        return discounted.add(discounted.multiply(TAX_FACTOR));
+    }
+
+    @Benchmark
+    public Money moneyAccumulator() {
+        MoneyAccumulator subtotal = MoneyAccumulator.zero();
+        for (Money amount : amounts) {
+            subtotal.add(amount);
+        }
+        MoneyAccumulator discounted = subtotal.copy().subtract(subtotal.multiply(DISCOUNT_FACTOR));
+        return discounted.add(discounted.multiply(TAX_FACTOR)).toMoney();
+    }
+}
@@ -0,0 +1,59 @@
+package com.ordermanagement.benchmark;
+
+import com.ordermanagement.mapper.OrderMapper;
+import com.ordermanagement.model.dto.response.OrderResponse;
+import com.ordermanagement.model.entity.Order;
+import com.ordermanagement.model.enums.CustomerType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping: OrderMapper.toResponse for one order and toResponses for a page.
+ * Response mapping needs neither customer resolution nor the product catalog.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderMapperBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private OrderMapper orderMapper;
+    private Order order;
+    private List<Order> page;
+
+    @Setup
+    public void setUp() {
+        orderMapper = new OrderMapper(null, null);
+        order = BenchmarkFixtures.order(itemCount, CustomerType.RETAIL);
+        page = BenchmarkFixtures.orders(PAGE_SIZE, itemCount);
+    }
+
+    @Benchmark
+    public OrderResponse toResponse() {
+        return orderMapper.toResponse(order);
+    }
+
+    @Benchmark
+    public List<OrderResponse> toResponses() {
+        return orderMapper.toResponses(page);
+    }
+}
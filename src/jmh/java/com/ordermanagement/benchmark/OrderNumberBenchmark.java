@@ -0,0 +1,42 @@
+package com.ordermanagement.benchmark;
+
+import com.ordermanagement.model.valueobject.OrderNumber;
+import com.ordermanagement.model.valueobject.OrderNumberGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrderNumber.generate uncontended and with 8 threads competing for one generator.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderNumberBenchmark {
+
+    private final OrderNumberGenerator generator = new OrderNumberGenerator(0, Clock.systemDefaultZone());
+
+    @Benchmark
+    public OrderNumber generate() {
+        return OrderNumber.generate(generator);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public OrderNumber generateContended() {
+        return OrderNumber.generate(generator);
+    }
+}
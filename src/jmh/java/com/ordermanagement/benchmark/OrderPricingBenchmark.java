@@ -0,0 +1,55 @@
+package com.ordermanagement.benchmark;
+
+import com.ordermanagement.model.entity.Order;
+import com.ordermanagement.model.enums.CustomerType;
+import com.ordermanagement.service.OrderPricingService;
+import com.ordermanagement.service.pricing.FixedPricingContextProvider;
+import com.ordermanagement.service.pricing.PricingContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrderPricingService.calculateOrderPricing for 1, 10 and 100 items and every customer type.
+ * Pricing reads a fixed PricingContext, so only the arithmetic is measured.
+ * Re-pricing the same order is idempotent, so one order is reused per trial.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderPricingBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    @Param({"RETAIL", "WHOLESALE", "VIP", "CORPORATE"})
+    private CustomerType customerType;
+
+    private OrderPricingService pricingService;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        pricingService = new OrderPricingService(new FixedPricingContextProvider(PricingContext.defaults()));
+        order = BenchmarkFixtures.order(itemCount, customerType);
+    }
+
+    @Benchmark
+    public Order calculateOrderPricing() {
+        pricingService.calculateOrderPricing(order);
+        return order;
+    }
+}
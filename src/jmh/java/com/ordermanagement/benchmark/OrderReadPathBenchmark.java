@@ -0,0 +1,133 @@
+package com.ordermanagement.benchmark;
+
+import com.ordermanagement.OrderManagementApplication;
+import com.ordermanagement.mapper.OrderMapper;
+import com.ordermanagement.model.dto.request.CreateOrderRequest;
+import com.ordermanagement.model.dto.request.OrderItemRequest;
+import com.ordermanagement.model.dto.response.OrderResponse;
+import com.ordermanagement.repository.ItemRepository;
+import com.ordermanagement.repository.OrderRepository;
+import com.ordermanagement.service.OrderService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read path for one page of orders against the H2 database of a real application context:
+ * - entityGraph: JOIN FETCH of Order + Customer + OrderStatusEntity + Items (+ batch-fetched
+ *   Products), every Money/Address embeddable hydrated and tracked, then OrderMapper
+ * - projection: OrderSummaryRow (8 columns) and OrderItemRow (7 columns) constructor
+ *   projections, then OrderMapper; nothing enters the persistence context
+ *
+ * Compare ops/ms and gc.alloc.rate.norm (bytes per page); run with show-sql to compare
+ * selected columns and statements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderReadPathBenchmark {
+
+    private static final int SEEDED_ORDERS = 1000;
+    private static final int ITEMS_PER_ORDER = 5;
+    private static final int CUSTOMERS = 50;
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnlyTransaction;
+    private OrderRepository orderRepository;
+    private ItemRepository itemRepository;
+    private OrderMapper orderMapper;
+    private List<Long> pageIds;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(OrderManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.ordermanagement=WARN",
+                        "outbox.relay-enabled=false")
+                .run();
+
+        orderRepository = context.getBean(OrderRepository.class);
+        itemRepository = context.getBean(ItemRepository.class);
+        orderMapper = context.getBean(OrderMapper.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        context.getBean(OrderService.class).createOrders(seedRequests());
+
+        pageIds = readOnlyTransaction.execute(status -> orderRepository
+                .findIdPage(PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "createdAt")))
+                .getContent());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<OrderResponse> entityGraph() {
+        return readOnlyTransaction.execute(status ->
+                orderMapper.toResponses(orderRepository.findAllWithItemsByIdIn(pageIds)));
+    }
+
+    @Benchmark
+    public List<OrderResponse> projection() {
+        return readOnlyTransaction.execute(status -> orderMapper.toResponses(
+                orderRepository.findSummaryRowsByIdIn(pageIds), itemRepository.findRowsByOrderIdIn(pageIds)));
+    }
+
+    private static List<CreateOrderRequest> seedRequests() {
+        Random random = new Random(42L);
+        List<CreateOrderRequest> requests = new ArrayList<>(SEEDED_ORDERS);
+        for (int i = 0; i < SEEDED_ORDERS; i++) {
+            List<OrderItemRequest> items = new ArrayList<>(ITEMS_PER_ORDER);
+            for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                items.add(OrderItemRequest.builder()
+                        .productName("Product " + j)
+                        .productCode("BENCH-" + j)
+                        .quantity(1 + random.nextInt(5))
+                        .unitPrice(BigDecimal.valueOf(100 + random.nextInt(49_900), 2))
+                        .build());
+            }
+            int customer = i % CUSTOMERS;
+            requests.add(CreateOrderRequest.builder()
+                    .customerName("Benchmark Customer " + customer)
+                    .customerEmail("bench" + customer + "@example.com")
+                    .items(items)
+                    .build());
+        }
+        return requests;
+    }
+}
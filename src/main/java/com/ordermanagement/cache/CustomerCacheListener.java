@@ -0,0 +1,46 @@
+package com.ordermanagement.cache;
+
+import com.ordermanagement.model.entity.Customer;
+import com.ordermanagement.service.CustomerResolutionService;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener that keeps the customer resolution cache consistent.
+ * Evicts immediately and again after commit, so a concurrent order cannot
+ * re-cache the pre-commit row for the rest of the TTL.
+ *
+ * Customers created during order creation are inserted with a JDBC MERGE and are
+ * published by CustomerResolutionService itself, so only updates and removals are handled.
+ *
+ * Design Pattern: Observer Pattern (JPA lifecycle callbacks)
+ * SOLID Principle: Single Responsibility - Only translates entity changes into cache evictions
+ */
+@Component
+public class CustomerCacheListener {
+
+    private final CustomerResolutionService customerResolutionService;
+
+    public CustomerCacheListener(@Lazy CustomerResolutionService customerResolutionService) {
+        this.customerResolutionService = customerResolutionService;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onCustomerChanged(Customer customer) {
+        customerResolutionService.evict(customer);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    customerResolutionService.evict(customer);
+                }
+            });
+        }
+    }
+}
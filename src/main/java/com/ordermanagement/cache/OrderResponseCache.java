@@ -0,0 +1,117 @@
+package com.ordermanagement.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import com.ordermanagement.constants.ApplicationConstants;
+import com.ordermanagement.model.dto.response.OrderResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Bounded, TTL-based cache of OrderResponse DTOs keyed by order ID.
+ * Every entry remembers the order's @Version at the time it was built; a lookup only
+ * returns it when the caller's freshly read version still matches, so a changed order is
+ * never served stale even if an invalidation was missed (e.g. bulk JPQL updates, which
+ * bump the version column, or writes from another instance).
+ *
+ * Design Patterns:
+ * - Cache-Aside Pattern - OrderServiceImpl loads misses and puts them here
+ * - Validation (conditional read) - Entries are checked against the current version
+ *
+ * Metrics: cache.gets (hit/miss), cache.puts, cache.evictions, cache.size for
+ * cache=orderResponses, plus cache.stale.total for entries rejected by the version check
+ * (which also count as misses).
+ *
+ * Cached responses are shared between requests and must be treated as read-only.
+ */
+@Component
+@Slf4j
+public class OrderResponseCache {
+
+    private static final String CACHE_NAME = "orderResponses";
+
+    private final Cache<Long, CachedResponse> cache;
+    private final Counter staleCounter;
+
+    /**
+     * Hits and misses are recorded by get(), after the version check, so a stale entry
+     * counts as a miss rather than a Caffeine hit
+     */
+    private final StatsCounter statsCounter = new ConcurrentStatsCounter();
+
+    public OrderResponseCache(
+            MeterRegistry meterRegistry,
+            @Value("${cache.order.max-size:" + ApplicationConstants.Cache.ORDER_CACHE_MAX_SIZE + "}") long maxSize,
+            @Value("${cache.order.ttl-minutes:" + ApplicationConstants.Cache.ORDER_CACHE_TTL_MINUTES + "}") long ttlMinutes) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats(() -> statsCounter)
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.staleCounter = Counter.builder("cache.stale.total")
+                .description("Cached entries rejected because the underlying row changed")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+
+        log.info("Order response cache initialized (maxSize={}, ttl={}m)", maxSize, ttlMinutes);
+    }
+
+    /**
+     * Returns the cached response if it was built from the given version of the order.
+     *
+     * @param orderId The order ID
+     * @param currentVersion The order's current @Version value
+     * @return The cached response, or null on a miss or a stale entry (which is evicted)
+     */
+    public OrderResponse get(Long orderId, Long currentVersion) {
+        CachedResponse cached = cache.policy().getIfPresentQuietly(orderId);
+        if (cached == null) {
+            statsCounter.recordMisses(1);
+            return null;
+        }
+        if (currentVersion == null || !currentVersion.equals(cached.version())) {
+            staleCounter.increment();
+            statsCounter.recordMisses(1);
+            cache.asMap().remove(orderId, cached);
+            return null;
+        }
+        statsCounter.recordHits(1);
+        return cached.response();
+    }
+
+    /**
+     * Caches a response built from the given version of the order.
+     */
+    public void put(Long orderId, Long version, OrderResponse response) {
+        if (orderId != null && version != null && response != null) {
+            cache.put(orderId, new CachedResponse(version, response));
+        }
+    }
+
+    /**
+     * Drops the entry of an order that was changed or deleted.
+     */
+    public void evict(Long orderId) {
+        cache.invalidate(orderId);
+    }
+
+    /**
+     * Drops all entries.
+     */
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    private record CachedResponse(Long version, OrderResponse response) {
+    }
+}
@@ -0,0 +1,163 @@
+package com.ordermanagement.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.ordermanagement.constants.ApplicationConstants;
+import com.ordermanagement.model.entity.Product;
+import com.ordermanagement.repository.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded, TTL-based in-process near-cache of the product catalog, keyed by product code.
+ * Unknown codes are cached as well (as empty entries) because most order lines reference
+ * products that are not in the catalog.
+ *
+ * Design Patterns:
+ * - Cache-Aside Pattern - Misses are loaded from the repository in one bulk query
+ * - Proxy Pattern - Stands in front of ProductRepository for product code lookups
+ *
+ * SOLID Principles:
+ * - Single Responsibility: Only caches product lookups
+ * - Dependency Inversion: Mapper depends on this component, not on query details
+ *
+ * Invalidation: ProductCatalogCacheListener evicts entries whenever a Product is written.
+ * A secondary product ID -> code index finds the entry of a product whose code changed,
+ * so eviction is O(1) instead of a scan over the cache.
+ */
+@Component
+@Slf4j
+public class ProductCatalogCache {
+
+    private static final String CACHE_NAME = "productCatalog";
+
+    private final ProductRepository productRepository;
+    private final Cache<String, Optional<Product>> cache;
+
+    /**
+     * Product ID -> cached code, for products present in the cache
+     */
+    private final Map<Long, String> codesByProductId = new ConcurrentHashMap<>();
+
+    public ProductCatalogCache(
+            ProductRepository productRepository,
+            MeterRegistry meterRegistry,
+            @Value("${cache.product.max-size:" + ApplicationConstants.Cache.PRODUCT_CACHE_MAX_SIZE + "}") long maxSize,
+            @Value("${cache.product.ttl-minutes:" + ApplicationConstants.Cache.PRODUCT_CACHE_TTL_MINUTES + "}") long ttlMinutes) {
+        this.productRepository = productRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                // Runs atomically with size/TTL evictions; explicit invalidations clean up in evict()
+                .evictionListener((String code, Optional<Product> product, RemovalCause cause) -> {
+                    if (product != null) {
+                        product.ifPresent(p -> codesByProductId.remove(p.getId(), code));
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        log.info("Product catalog cache initialized (maxSize={}, ttl={}m)", maxSize, ttlMinutes);
+    }
+
+    /**
+     * Resolve many product codes at once; all misses are loaded with a single IN query.
+     *
+     * @param productCodes Product codes to resolve (nulls and duplicates are ignored)
+     * @return Map of product code to product, containing only codes that exist in the catalog
+     */
+    public Map<String, Product> resolveAll(Collection<String> productCodes) {
+        Set<String> codes = new LinkedHashSet<>();
+        for (String code : productCodes) {
+            if (code != null) {
+                codes.add(code);
+            }
+        }
+        if (codes.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Optional<Product>> cached = cache.getAll(codes, this::loadAll);
+
+        Map<String, Product> products = new HashMap<>();
+        cached.forEach((code, product) -> product.ifPresent(p -> products.put(code, p)));
+        return products;
+    }
+
+    /**
+     * Resolve a single product code.
+     */
+    public Optional<Product> resolve(String productCode) {
+        if (productCode == null) {
+            return Optional.empty();
+        }
+
+        // Load outside the cache: Cache.get(key, loader) runs the query inside a
+        // ConcurrentHashMap bin lock, which pins the carrier when running on virtual threads
+        Optional<Product> cached = cache.getIfPresent(productCode);
+        if (cached != null) {
+            return cached;
+        }
+        Optional<Product> loaded = productRepository.findByProductCode(productCode);
+        loaded.ifPresent(this::index);
+        cache.put(productCode, loaded);
+        return loaded;
+    }
+
+    /**
+     * Evict a product code and any entry holding the given product (covers code changes).
+     */
+    public void evict(Product product) {
+        if (product.getProductCode() != null) {
+            cache.invalidate(product.getProductCode());
+        }
+        if (product.getId() != null) {
+            String cachedCode = codesByProductId.remove(product.getId());
+            if (cachedCode != null) {
+                cache.invalidate(cachedCode);
+            }
+        }
+    }
+
+    /**
+     * Drop every cached entry.
+     */
+    public void evictAll() {
+        cache.invalidateAll();
+        codesByProductId.clear();
+    }
+
+    private Map<String, Optional<Product>> loadAll(Set<? extends String> productCodes) {
+        Map<String, Optional<Product>> loaded = new HashMap<>();
+        for (Product product : productRepository.findByProductCodeIn(List.copyOf(productCodes))) {
+            index(product);
+            loaded.put(product.getProductCode(), Optional.of(product));
+        }
+        for (String code : productCodes) {
+            loaded.putIfAbsent(code, Optional.empty());
+        }
+        log.debug("Loaded {} product codes into catalog cache ({} found)", productCodes.size(), loaded.size());
+        return loaded;
+    }
+
+    private void index(Product product) {
+        if (product.getId() != null) {
+            codesByProductId.put(product.getId(), product.getProductCode());
+        }
+    }
+}
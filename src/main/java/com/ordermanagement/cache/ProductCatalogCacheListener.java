@@ -0,0 +1,44 @@
+package com.ordermanagement.cache;
+
+import com.ordermanagement.model.entity.Product;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener that keeps the product catalog near-cache consistent.
+ * Evicts immediately and again after commit, so a concurrent reader cannot
+ * re-cache the pre-commit row for the rest of the TTL.
+ *
+ * Design Pattern: Observer Pattern (JPA lifecycle callbacks)
+ * SOLID Principle: Single Responsibility - Only translates entity changes into cache evictions
+ */
+@Component
+public class ProductCatalogCacheListener {
+
+    private final ProductCatalogCache productCatalogCache;
+
+    public ProductCatalogCacheListener(@Lazy ProductCatalogCache productCatalogCache) {
+        this.productCatalogCache = productCatalogCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onProductChanged(Product product) {
+        productCatalogCache.evict(product);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    productCatalogCache.evict(product);
+                }
+            });
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.ordermanagement.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -9,12 +11,16 @@ import java.util.concurrent.Executor;
 
 /**
  * Configuration for asynchronous event processing.
- * Enables @Async annotation for non-blocking event handling.
+ * Provides the executor for @Async methods. Order events are dispatched by the outbox relay,
+ * so no @Async method exists today; this executor applies to any @Async listener added later.
  *
- * Benefits:
- * - Event listeners don't block the main transaction
- * - Better performance for high-volume operations
- * - Improved scalability
+ * spring.threads.virtual.enabled currently takes effect on Tomcat request handling,
+ * @Scheduled jobs and the outbox relay dispatch pool; this executor follows the same flag.
+ *
+ * Execution modes:
+ * - Platform (default): bounded ThreadPoolTaskExecutor, rejects when pool and queue are full
+ * - Virtual: one virtual thread per task; async.virtual.concurrency-limit caps concurrent
+ *   tasks (callers wait instead of being rejected) so a burst cannot exhaust the DB pool
  *
  * Design Pattern: Configuration Pattern
  * SOLID Principle: Single Responsibility - Configures async processing only
@@ -23,13 +29,30 @@ import java.util.concurrent.Executor;
 @EnableAsync
 public class AsyncConfig implements AsyncConfigurer {
 
+    private final boolean virtualThreads;
+    private final int virtualConcurrencyLimit;
+
+    public AsyncConfig(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${async.virtual.concurrency-limit:200}") int virtualConcurrencyLimit) {
+        this.virtualThreads = virtualThreads;
+        this.virtualConcurrencyLimit = virtualConcurrencyLimit;
+    }
+
     /**
-     * Configures thread pool for async event processing.
+     * Configures the executor for async event processing.
      *
      * @return Executor for async tasks
      */
     @Override
     public Executor getAsyncExecutor() {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("event-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(virtualConcurrencyLimit);  // Back-pressure instead of rejection
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(5);  // Minimum threads
         executor.setMaxPoolSize(10);  // Maximum threads
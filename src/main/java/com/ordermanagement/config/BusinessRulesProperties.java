@@ -1,5 +1,6 @@
 package com.ordermanagement.config;
 
+import com.ordermanagement.constants.ApplicationConstants;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -41,4 +42,40 @@ public class BusinessRulesProperties {
      * Default: 300,000 (5 minutes)
      */
     private long schedulerIntervalMs = 300000;
+
+    /**
+     * Maximum number of orders accepted by a single batch request.
+     * Default: 1,000
+     */
+    private int maxBatchSize = 1000;
+
+    /**
+     * Number of orders persisted per transaction when processing a batch.
+     * Default: 50
+     */
+    private int batchChunkSize = 50;
+
+    /**
+     * Number of PENDING orders moved to PROCESSING per transaction by the scheduler.
+     * Default: 500
+     */
+    private int schedulerChunkSize = 500;
+
+    /**
+     * Interval at which due transition timers are fired, in milliseconds.
+     * Default: 1,000
+     */
+    private long transitionTickMs = ApplicationConstants.Transitions.TICK_MS;
+
+    /**
+     * Maximum number of due orders transitioned per tick; the rest wait for the next tick.
+     * Default: 200
+     */
+    private int maxTransitionsPerTick = 200;
+
+    /**
+     * Node id (0-1023) embedded in generated order numbers.
+     * Must be unique per running instance; when unset it is derived from host name and process id.
+     */
+    private Integer nodeId;
 }
@@ -0,0 +1,64 @@
+package com.ordermanagement.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ordermanagement.constants.ApplicationConstants;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the reference-data cache layer (statuses, transitions, configuration).
+ * Backs the existing @Cacheable annotations with bounded on-heap Caffeine caches.
+ *
+ * Caches and TTLs (from ApplicationConstants.Cache):
+ * - configuration: CONFIG_CACHE_TTL_MINUTES
+ * - orderStatuses, statusTransitions: DEFAULT_CACHE_TTL_MINUTES
+ * - any other cache name: DEFAULT_CACHE_TTL_MINUTES
+ *
+ * Every cache records statistics, so Spring Boot Actuator binds per-cache
+ * cache.gets (hit/miss), cache.puts, cache.evictions and cache.size meters.
+ *
+ * The caching advisor runs outside the transaction advisor, so cache hits never open a
+ * transaction and @CacheEvict runs after the admin change has committed.
+ *
+ * Design Pattern: Configuration Pattern, Cache-Aside Pattern
+ * SOLID Principle: Single Responsibility - Configures caching only
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    /**
+     * Configures the cache manager with one bounded cache per reference-data type.
+     *
+     * @return CacheManager backed by Caffeine
+     */
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+
+        // Fallback for caches not registered below
+        cacheManager.setCaffeine(boundedCache(ApplicationConstants.Cache.DEFAULT_CACHE_TTL_MINUTES));
+
+        cacheManager.registerCustomCache(ApplicationConstants.Cache.CONFIG_CACHE,
+                boundedCache(ApplicationConstants.Cache.CONFIG_CACHE_TTL_MINUTES).build());
+        cacheManager.registerCustomCache(ApplicationConstants.Cache.ORDER_STATUS_CACHE,
+                boundedCache(ApplicationConstants.Cache.DEFAULT_CACHE_TTL_MINUTES).build());
+        cacheManager.registerCustomCache(ApplicationConstants.Cache.STATUS_TRANSITION_CACHE,
+                boundedCache(ApplicationConstants.Cache.DEFAULT_CACHE_TTL_MINUTES).build());
+
+        return cacheManager;
+    }
+
+    private static Caffeine<Object, Object> boundedCache(int ttlMinutes) {
+        return Caffeine.newBuilder()
+                .maximumSize(ApplicationConstants.Cache.REFERENCE_CACHE_MAX_SIZE)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats();
+    }
+}
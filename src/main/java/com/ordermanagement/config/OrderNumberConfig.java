@@ -0,0 +1,48 @@
+package com.ordermanagement.config;
+
+import com.ordermanagement.model.valueobject.OrderNumberGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+import java.time.Clock;
+import java.util.Arrays;
+
+/**
+ * Creates this instance's OrderNumberGenerator, bound to its node id.
+ * Each replica must run with a distinct business.order.node-id (e.g. a StatefulSet ordinal)
+ * for order numbers to stay unique across instances without a database round trip.
+ *
+ * Only a single local instance (dev/test profile, or no profile at all) may run without a
+ * node id; it then uses one derived from host name and process id. Any other profile fails
+ * at startup, since two replicas with colliding derived ids would issue duplicate numbers.
+ *
+ * Design Pattern: Configuration Pattern
+ */
+@Configuration
+@Slf4j
+public class OrderNumberConfig {
+
+    private static final Profiles DERIVED_NODE_ID_PROFILES = Profiles.of("default", "dev", "test");
+
+    @Bean
+    public OrderNumberGenerator orderNumberGenerator(BusinessRulesProperties businessRules,
+                                                     Environment environment,
+                                                     Clock clock) {
+        Integer nodeId = businessRules.getNodeId();
+        if (nodeId != null) {
+            log.info("Order number generator node id: {}", nodeId);
+            return new OrderNumberGenerator(nodeId, clock);
+        }
+
+        if (!environment.acceptsProfiles(DERIVED_NODE_ID_PROFILES)) {
+            throw new IllegalStateException("business.order.node-id (0-" + OrderNumberGenerator.MAX_NODE_ID
+                + ") must be set for profiles " + Arrays.toString(environment.getActiveProfiles()));
+        }
+        int derivedNodeId = OrderNumberGenerator.derivedNodeId();
+        log.warn("business.order.node-id not set, using derived node id {} for order numbers", derivedNodeId);
+        return new OrderNumberGenerator(derivedNodeId, clock);
+    }
+}
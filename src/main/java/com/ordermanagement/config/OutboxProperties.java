@@ -0,0 +1,74 @@
+package com.ordermanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the transactional outbox relay.
+ *
+ * Design Pattern: Configuration Pattern
+ */
+@Configuration
+@ConfigurationProperties(prefix = "outbox")
+@Getter
+@Setter
+public class OutboxProperties {
+
+    /**
+     * Whether this instance may run the relay (rows are always written).
+     * Even when enabled on several instances, only the holder of the relay lease relays.
+     * Default: true
+     */
+    private boolean relayEnabled = true;
+
+    /**
+     * Duration of the relay lease and of row claims in milliseconds; must exceed the time
+     * to relay one batch. A crashed relay is replaced after at most this long.
+     * Default: 30,000
+     */
+    private long leaseMs = 30000;
+
+    /**
+     * Delay between relay polls in milliseconds.
+     * Default: 500
+     */
+    private long pollIntervalMs = 500;
+
+    /**
+     * Maximum rows read and dispatched per batch.
+     * Default: 200
+     */
+    private int batchSize = 200;
+
+    /**
+     * Maximum batches drained per poll before yielding.
+     * Default: 10
+     */
+    private int maxBatchesPerPoll = 10;
+
+    /**
+     * Number of aggregates dispatched in parallel; events of one aggregate stay ordered.
+     * Default: 4
+     */
+    private int dispatchParallelism = 4;
+
+    /**
+     * Delivery attempts before a row is marked FAILED.
+     * Default: 10
+     */
+    private int maxAttempts = 10;
+
+    /**
+     * Hours published rows are kept before the purge deletes them.
+     * Default: 72
+     */
+    private int retentionHours = 72;
+
+    /**
+     * Interval of the retention purge in milliseconds.
+     * Default: 3,600,000 (1 hour)
+     */
+    private long purgeIntervalMs = 3600000;
+}
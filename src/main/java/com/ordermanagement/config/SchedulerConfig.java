@@ -1,12 +1,18 @@
 package com.ordermanagement.config;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
+import java.time.Clock;
+
 /**
  * Configuration class to enable scheduling support.
  * Allows @Scheduled annotations to work in the application.
  *
+ * Also provides the Clock used by time-based components (order numbers, statistics windows),
+ * so tests can substitute a fixed or manually advanced clock.
+ *
  * Design Patterns:
  * - Configuration Pattern - Centralized configuration
  *
@@ -16,6 +22,9 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 @Configuration
 @EnableScheduling
 public class SchedulerConfig {
-    // This class enables scheduling functionality
-    // The @EnableScheduling annotation allows @Scheduled methods to run
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
 }
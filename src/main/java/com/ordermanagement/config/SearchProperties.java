@@ -0,0 +1,51 @@
+package com.ordermanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the in-process order search index.
+ *
+ * Design Pattern: Configuration Pattern
+ */
+@Configuration
+@ConfigurationProperties(prefix = "search.order")
+@Getter
+@Setter
+public class SearchProperties {
+
+    /**
+     * Whether the index is rebuilt from the database when the application is ready.
+     * Default: true
+     */
+    private boolean rebuildOnStartup = true;
+
+    /**
+     * Orders loaded and tokenized per rebuild chunk.
+     * Default: 1000
+     */
+    private int rebuildChunkSize = 1000;
+
+    /**
+     * Chunks loaded in parallel during a rebuild (each in its own read-only transaction).
+     * Default: 4
+     */
+    private int rebuildParallelism = 4;
+
+    /**
+     * Candidates verified and scored per query. A term that matches more orders ranks only
+     * the newest matches, which bounds search time on common terms.
+     * Default: 10000
+     */
+    private int maxCandidates = 10000;
+
+    /**
+     * How far before the previous refresh each incremental refresh starts reading, so changes
+     * committed late (long transactions) or stamped by another instance's slower clock are not
+     * missed. Re-indexing an order is idempotent.
+     * Default: 60
+     */
+    private int refreshOverlapSeconds = 60;
+}
@@ -72,6 +72,8 @@ public final class ApplicationConstants {
         public static final int PHONE_MAX_LENGTH = 20;
         public static final String CUSTOMER_CODE_PREFIX = "CUST-";
         public static final int MAX_ORDERS_PER_CUSTOMER_PER_DAY = 50;
+        public static final int MAX_UPSERT_ATTEMPTS = 3;
+        public static final long RESOLUTION_WAIT_MS = 2000;
 
         private Customer() {}
     }
@@ -135,6 +137,40 @@ public final class ApplicationConstants {
         private Pagination() {}
     }
 
+    /**
+     * Streaming export constants
+     */
+    public static final class Export {
+        public static final int FETCH_SIZE = 500; // JDBC rows per round trip
+        public static final int CHUNK_SIZE = 500; // orders per item query and output flush
+
+        private Export() {}
+    }
+
+    /**
+     * Persistence-related constants.
+     * Aggregate entities use sequence-backed pooled IDs: identifiers are allocated in blocks,
+     * so inserts can be JDBC-batched (IDENTITY forces one round trip per insert).
+     */
+    public static final class Persistence {
+        // Block size for pooled sequence ID generators; keep in line with hibernate.jdbc.batch_size
+        public static final int ID_ALLOCATION_SIZE = 50;
+
+        private Persistence() {}
+    }
+
+    /**
+     * Transactional outbox constants
+     */
+    public static final class Outbox {
+        public static final String AGGREGATE_ORDER = "Order";
+        public static final String EVENT_ORDER_CREATED = "OrderCreated";
+        public static final String EVENT_ORDER_STATUS_CHANGED = "OrderStatusChanged";
+        public static final String EVENT_ORDER_CANCELLED = "OrderCancelled";
+
+        private Outbox() {}
+    }
+
     /**
      * Cache-related constants
      */
@@ -143,13 +179,50 @@ public final class ApplicationConstants {
         public static final String CUSTOMER_CACHE = "customers";
         public static final String ORDER_CACHE = "orders";
         public static final String CONFIG_CACHE = "configuration";
+        public static final String ORDER_STATUS_CACHE = "orderStatuses";
+        public static final String STATUS_TRANSITION_CACHE = "statusTransitions";
+        public static final int REFERENCE_CACHE_MAX_SIZE = 1000;
         public static final int DEFAULT_CACHE_TTL_MINUTES = 60;
         public static final int PRODUCT_CACHE_TTL_MINUTES = 120;
         public static final int CONFIG_CACHE_TTL_MINUTES = 30;
+        public static final int PRODUCT_CACHE_MAX_SIZE = 10000;
+        public static final int CUSTOMER_CACHE_MAX_SIZE = 50000;
+        public static final int CUSTOMER_CACHE_TTL_MINUTES = 10; // short: customer type drives pricing
+        public static final int ORDER_CACHE_MAX_SIZE = 10000;
+        public static final int ORDER_CACHE_TTL_MINUTES = 30;
 
         private Cache() {}
     }
 
+    /**
+     * Order statistics constants
+     */
+    public static final class Statistics {
+        public static final int REVENUE_DAYS = 30; // days of revenue kept in memory
+        public static final long RECONCILE_INTERVAL_MS = 300_000; // full aggregate query every 5 minutes
+        public static final int RECONCILE_MAX_PENDING_EVENTS = 100_000; // skip reconciling behind a larger outbox backlog
+
+        private Statistics() {}
+    }
+
+    /**
+     * Delayed (timer-driven) status transition constants
+     */
+    public static final class Transitions {
+        // Delay in seconds after entering a status, per status: prefix + status code
+        public static final String DELAY_PARAM_PREFIX = "order.transition.delay.seconds.";
+        public static final long DEFAULT_PENDING_DELAY_SECONDS = 300;
+        public static final long TICK_MS = 1000;
+        public static final int WHEEL_SIZE = 64;
+        public static final int WHEEL_LEVELS = 4; // 64^4 one-second ticks, about 194 days
+        public static final int REBUILD_CHUNK_SIZE = 1000;
+        public static final long REBUILD_HORIZON_SECONDS = 3600; // later timers are left to the sweep
+        public static final int MAX_TIMERS = 100_000; // beyond this, new timers are left to the sweep
+        public static final int MAX_READY = 10_000; // due orders held between ticks
+
+        private Transitions() {}
+    }
+
     /**
      * Security-related constants
      */
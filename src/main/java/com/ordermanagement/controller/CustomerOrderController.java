@@ -0,0 +1,109 @@
+package com.ordermanagement.controller;
+
+import com.ordermanagement.metrics.OrderMetrics;
+import com.ordermanagement.model.dto.response.CursorPageResponse;
+import com.ordermanagement.model.dto.response.ErrorResponse;
+import com.ordermanagement.model.dto.response.OrderResponse;
+import com.ordermanagement.model.enums.OrderView;
+import com.ordermanagement.service.OrderService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * REST Controller for a customer's order history.
+ *
+ * Orders are filtered on the denormalized orders.customerEmail column through its
+ * (customerEmail, createdAt, id) index, paged by keyset and returned as summaries by default.
+ *
+ * Design Patterns:
+ * - Controller Pattern - Handles HTTP requests and responses
+ * - Dependency Injection - OrderService injected via constructor
+ */
+@RestController
+@RequestMapping("/api/v1/customers")
+@Slf4j
+@Validated
+@Tag(name = "Customer Orders", description = "APIs for reading a customer's order history")
+public class CustomerOrderController {
+
+    private final OrderService orderService;
+    private final OrderMetrics orderMetrics;
+
+    @Autowired
+    public CustomerOrderController(OrderService orderService, OrderMetrics orderMetrics) {
+        this.orderService = orderService;
+        this.orderMetrics = orderMetrics;
+    }
+
+    /**
+     * Retrieves a customer's orders with keyset (cursor) pagination.
+     */
+    @GetMapping("/{email}/orders")
+    @Operation(
+            summary = "Get a customer's order history",
+            description = "Retrieves a customer's orders newest first (createdAt, then id, descending) using an opaque cursor. " +
+                         "Pass nextCursor from the previous response to read the next slice. " +
+                         "Returns the summary view (no items) unless view=full."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Orders retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = CursorPageResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Slice unchanged since the ETag in If-None-Match"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid email, cursor, size or view parameter",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<CursorPageResponse<OrderResponse>> getCustomerOrders(
+            @Parameter(description = "Customer email", required = true, example = "john.doe@example.com")
+            @PathVariable String email,
+            @Parameter(description = "Cursor from a previous response (omit for the first slice)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Slice size (1-100)", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "summary (no items, no item query) or full", example = "summary")
+            @RequestParam(defaultValue = "summary") String view,
+            WebRequest request) {
+
+        log.info("Received customer order history request - size: {}, view: {}, first slice: {}",
+                size, view, cursor == null);
+
+        OrderView orderView = OrderView.fromParameter(view);
+        CursorPageResponse<OrderResponse> page = orderService.getCustomerOrders(email, cursor, size, orderView);
+
+        String etag = OrderETags.weak(page.getContent(), orderView, page.isHasNext(), page.getNextCursor());
+        if (OrderETags.notModified(request, etag, orderMetrics, "customer")) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        return ResponseEntity.ok().eTag(etag).body(page);
+    }
+}
@@ -1,11 +1,23 @@
 package com.ordermanagement.controller;
 
+import com.ordermanagement.model.dto.request.BatchCreateOrderRequest;
+import com.ordermanagement.model.dto.request.BulkUpdateOrderStatusRequest;
 import com.ordermanagement.model.dto.request.CreateOrderRequest;
 import com.ordermanagement.model.dto.request.UpdateOrderStatusRequest;
+import com.ordermanagement.model.dto.response.BatchOrderResponse;
+import com.ordermanagement.model.dto.response.BulkStatusUpdateResponse;
+import com.ordermanagement.model.dto.response.CursorPageResponse;
 import com.ordermanagement.model.dto.response.ErrorResponse;
 import com.ordermanagement.model.dto.response.OrderResponse;
+import com.ordermanagement.model.dto.response.OrderSearchResponse;
+import com.ordermanagement.model.dto.response.OrderStatisticsResponse;
+import com.ordermanagement.metrics.OrderMetrics;
 import com.ordermanagement.model.enums.OrderStatus;
+import com.ordermanagement.model.enums.OrderView;
 import com.ordermanagement.service.OrderService;
+import com.ordermanagement.service.export.OrderExportService;
+import com.ordermanagement.service.search.OrderSearchService;
+import com.ordermanagement.service.statistics.OrderStatisticsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -20,11 +32,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -36,6 +53,14 @@ import java.util.List;
  * - Dependency Injection - OrderService injected via constructor
  * - RESTful API Design - Standard HTTP methods and status codes
  *
+ * Conditional GETs:
+ * - GET /{id} carries a strong ETag built from the order id and version. When If-None-Match
+ *   is sent, only the version is read and a match answers 304 without loading the order.
+ * - Paginated and cursor pages carry a weak ETag over the (id, version) pairs on the page;
+ *   a match answers 304 without serializing the body.
+ *
+ * List endpoints accept view=summary|full; the summary view omits items and never queries them.
+ *
  * SOLID Principles:
  * - Single Responsibility: Handles HTTP layer only, delegates business logic to service
  * - Dependency Inversion: Depends on OrderService abstraction
@@ -48,10 +73,20 @@ import java.util.List;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderExportService orderExportService;
+    private final OrderSearchService orderSearchService;
+    private final OrderStatisticsService orderStatisticsService;
+    private final OrderMetrics orderMetrics;
 
     @Autowired
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService, OrderExportService orderExportService,
+                           OrderSearchService orderSearchService, OrderStatisticsService orderStatisticsService,
+                           OrderMetrics orderMetrics) {
         this.orderService = orderService;
+        this.orderExportService = orderExportService;
+        this.orderSearchService = orderSearchService;
+        this.orderStatisticsService = orderStatisticsService;
+        this.orderMetrics = orderMetrics;
     }
 
     /**
@@ -90,13 +125,58 @@ public class OrderController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Creates a batch of orders.
+     */
+    @PostMapping("/batch")
+    @Operation(
+            summary = "Create a batch of orders",
+            description = "Validates, prices and persists many orders in chunked transactions. " +
+                         "Each order gets its own result; invalid orders are reported without " +
+                         "rolling back the rest. Returns 201 when every order was created and " +
+                         "207 when some orders were rejected."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "All orders created successfully",
+                    content = @Content(schema = @Schema(implementation = BatchOrderResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "207",
+                    description = "Some orders were rejected; see per-order results",
+                    content = @Content(schema = @Schema(implementation = BatchOrderResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Empty or oversized batch",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<BatchOrderResponse> createOrders(
+            @Valid @RequestBody BatchCreateOrderRequest request) {
+
+        log.info("Received request to create batch of {} orders", request.getOrders().size());
+
+        BatchOrderResponse response = orderService.createOrders(request.getOrders());
+
+        HttpStatus status = response.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+
     /**
      * Retrieves an order by ID.
      */
     @GetMapping("/{id}")
     @Operation(
             summary = "Get order by ID",
-            description = "Retrieves detailed information about a specific order including all its items"
+            description = "Retrieves detailed information about a specific order including all its items. " +
+                         "The response carries an ETag; send it back in If-None-Match to get 304 while the order is unchanged."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -104,6 +184,10 @@ public class OrderController {
                     description = "Order found",
                     content = @Content(schema = @Schema(implementation = OrderResponse.class))
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Order unchanged since the ETag in If-None-Match"
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Order not found",
@@ -117,13 +201,24 @@ public class OrderController {
     })
     public ResponseEntity<OrderResponse> getOrderById(
             @Parameter(description = "Order ID", required = true, example = "1")
-            @PathVariable @Min(value = 1, message = "Order ID must be a positive number") Long id) {
+            @PathVariable @Min(value = 1, message = "Order ID must be a positive number") Long id,
+            WebRequest request) {
 
         log.info("Received request to get order with ID: {}", id);
 
+        if (OrderETags.isConditional(request)) {
+            // Version-only lookup; the order itself is loaded only when it changed
+            String etag = OrderETags.strong(id, orderService.getOrderVersion(id));
+            if (OrderETags.notModified(request, etag, orderMetrics, "order")) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+        }
+
         OrderResponse response = orderService.getOrderById(id);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(OrderETags.strong(id, response.getVersion()))
+                .body(response);
     }
 
     /**
@@ -134,6 +229,7 @@ public class OrderController {
     @Operation(
             summary = "Get all orders or filter by status (deprecated)",
             description = "Retrieves all orders in the system. Optionally filter by order status. " +
+                         "view=summary omits items. " +
                          "DEPRECATED: Use /api/v1/orders/paginated instead for better performance."
     )
     @ApiResponses(value = {
@@ -155,16 +251,19 @@ public class OrderController {
     })
     public ResponseEntity<List<OrderResponse>> getAllOrders(
             @Parameter(description = "Filter by order status code (optional)", example = "PENDING")
-            @RequestParam(required = false) String status) {
+            @RequestParam(required = false) String status,
+            @Parameter(description = "summary (no items, no item query) or full", example = "summary")
+            @RequestParam(defaultValue = "full") String view) {
 
-        log.info("Received request to get orders with status filter: {}", status);
+        log.info("Received request to get orders with status filter: {}, view: {}", status, view);
 
+        OrderView orderView = OrderView.fromParameter(view);
         List<OrderResponse> responses;
 
         if (status != null) {
-            responses = orderService.getOrdersByStatus(status);
+            responses = orderService.getOrdersByStatus(status, orderView);
         } else {
-            responses = orderService.getAllOrders();
+            responses = orderService.getAllOrders(orderView);
         }
 
         return ResponseEntity.ok(responses);
@@ -178,7 +277,7 @@ public class OrderController {
             summary = "Get all orders with pagination",
             description = "Retrieves orders in the system with pagination support. " +
                          "This is the recommended endpoint for production use. " +
-                         "Default page size: 20, sorted by createdAt descending."
+                         "Default page size: 20, sorted by createdAt descending. view=summary omits items."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -200,21 +299,199 @@ public class OrderController {
     public ResponseEntity<Page<OrderResponse>> getAllOrdersPaginated(
             @Parameter(description = "Filter by order status code (optional)", example = "PENDING")
             @RequestParam(required = false) String status,
+            @Parameter(description = "summary (no items, no item query) or full", example = "summary")
+            @RequestParam(defaultValue = "full") String view,
             @PageableDefault(size = 20, sort = "createdAt", direction = org.springframework.data.domain.Sort.Direction.DESC)
-            Pageable pageable) {
+            Pageable pageable,
+            WebRequest request) {
 
-        log.info("Received paginated request - page: {}, size: {}, status: {}",
-                pageable.getPageNumber(), pageable.getPageSize(), status);
+        log.info("Received paginated request - page: {}, size: {}, status: {}, view: {}",
+                pageable.getPageNumber(), pageable.getPageSize(), status, view);
 
+        OrderView orderView = OrderView.fromParameter(view);
         Page<OrderResponse> responses;
 
         if (status != null) {
-            responses = orderService.getOrdersByStatusPaginated(status, pageable);
+            responses = orderService.getOrdersByStatusPaginated(status, pageable, orderView);
         } else {
-            responses = orderService.getAllOrdersPaginated(pageable);
+            responses = orderService.getAllOrdersPaginated(pageable, orderView);
         }
 
-        return ResponseEntity.ok(responses);
+        String etag = OrderETags.weak(responses.getContent(), orderView,
+                responses.getNumber(), responses.getSize(), responses.getTotalElements(), responses.getSort());
+        if (OrderETags.notModified(request, etag, orderMetrics, "paginated")) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        return ResponseEntity.ok().eTag(etag).body(responses);
+    }
+
+    /**
+     * Retrieves orders with keyset (cursor) pagination.
+     */
+    @GetMapping("/cursor")
+    @Operation(
+            summary = "Get orders with cursor pagination",
+            description = "Retrieves orders newest first (createdAt, then id, descending) using an opaque cursor. " +
+                         "Pass nextCursor from the previous response to read the next slice. " +
+                         "Latency stays flat at any depth; the total count is only computed when includeTotal=true. " +
+                         "view=summary omits items."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Orders retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = CursorPageResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor, size or status parameter",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<CursorPageResponse<OrderResponse>> getOrdersByCursor(
+            @Parameter(description = "Cursor from a previous response (omit for the first slice)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Filter by order status code (optional)", example = "PENDING")
+            @RequestParam(required = false) String status,
+            @Parameter(description = "Slice size (1-100)", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Also return the total number of matching orders")
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @Parameter(description = "summary (no items, no item query) or full", example = "summary")
+            @RequestParam(defaultValue = "full") String view,
+            WebRequest request) {
+
+        log.info("Received cursor request - size: {}, status: {}, view: {}, first slice: {}",
+                size, status, view, cursor == null);
+
+        OrderView orderView = OrderView.fromParameter(view);
+        CursorPageResponse<OrderResponse> page =
+                orderService.getOrdersByCursor(cursor, status, size, includeTotal, orderView);
+
+        String etag = OrderETags.weak(page.getContent(), orderView,
+                page.isHasNext(), page.getNextCursor(), page.getTotalElements());
+        if (OrderETags.notModified(request, etag, orderMetrics, "cursor")) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        return ResponseEntity.ok().eTag(etag).body(page);
+    }
+
+    /**
+     * Searches orders through the in-process inverted index.
+     */
+    @GetMapping("/search")
+    @Operation(
+            summary = "Search orders",
+            description = "Returns ranked order IDs whose order number, customer name, customer email or item " +
+                         "product names contain every term of q (substring match, case-insensitive). " +
+                         "Served from an in-memory index; newly created orders appear once their event is relayed."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Search completed",
+                    content = @Content(schema = @Schema(implementation = OrderSearchResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Blank query or invalid limit",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<OrderSearchResponse> searchOrders(
+            @Parameter(description = "Search terms", required = true, example = "jane laptop")
+            @RequestParam String q,
+            @Parameter(description = "Maximum order IDs returned (1-100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit) {
+
+        log.debug("Received search request - limit: {}", limit);
+
+        return ResponseEntity.ok(orderSearchService.search(q, limit));
+    }
+
+    /**
+     * Retrieves dashboard statistics from in-memory counters.
+     */
+    @GetMapping("/stats")
+    @Operation(
+            summary = "Get order statistics",
+            description = "Returns order counts per status, revenue per day and average order value. " +
+                         "Served from incrementally maintained counters (constant cost at any table size), " +
+                         "reconciled against the database periodically; see reconciledAt."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Statistics retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = OrderStatisticsResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<OrderStatisticsResponse> getOrderStatistics() {
+        log.debug("Received order statistics request");
+
+        return ResponseEntity.ok(orderStatisticsService.getStatistics());
+    }
+
+    /**
+     * Streams matching orders as newline-delimited JSON.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "Export orders as NDJSON",
+            description = "Streams orders (one JSON order per line, in ID order) straight to the response. " +
+                         "Memory use is constant regardless of the number of orders. " +
+                         "Filter by status and by creation time range [from, to); 'to' defaults to now."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Export stream started"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid status or date range",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @Parameter(description = "Filter by order status code (optional)", example = "DELIVERED")
+            @RequestParam(required = false) String status,
+            @Parameter(description = "Created at or after (ISO date-time, optional)", example = "2024-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Created before (ISO date-time, optional)", example = "2024-02-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        log.info("Received export request - status: {}, from: {}, to: {}", status, from, to);
+
+        // Validate before the body starts streaming, so bad filters still map to 400
+        OrderExportService.ExportCriteria criteria = orderExportService.resolveCriteria(status, from, to);
+
+        StreamingResponseBody body = output -> orderExportService.export(criteria, output);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     /**
@@ -260,6 +537,51 @@ public class OrderController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Updates the status of many orders at once.
+     */
+    @PutMapping("/status:bulk")
+    @Operation(
+            summary = "Update the status of many orders",
+            description = "Moves up to the configured maximum batch size of orders to one status in a single " +
+                         "transaction. Each order gets its own result; orders that are missing, not allowed " +
+                         "to make the transition or changed concurrently are reported without failing the " +
+                         "rest. Returns 200 when every order was moved and 207 when some were not."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "All orders moved successfully",
+                    content = @Content(schema = @Schema(implementation = BulkStatusUpdateResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "207",
+                    description = "Some orders were not moved; see per-order results",
+                    content = @Content(schema = @Schema(implementation = BulkStatusUpdateResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Empty or oversized request, or unknown target status",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<BulkStatusUpdateResponse> updateOrderStatuses(
+            @Valid @RequestBody BulkUpdateOrderStatusRequest request) {
+
+        log.info("Received request to update {} orders to status: {}", request.getIds().size(), request.getTargetStatus());
+
+        BulkStatusUpdateResponse response = orderService.updateOrderStatuses(
+                request.getIds(), request.getTargetStatus(), request.getReason());
+
+        HttpStatus status = response.getFailed() == 0 ? HttpStatus.OK : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+
     /**
      * Cancels an order.
      */
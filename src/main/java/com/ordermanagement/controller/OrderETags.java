@@ -0,0 +1,83 @@
+package com.ordermanagement.controller;
+
+import com.ordermanagement.metrics.OrderMetrics;
+import com.ordermanagement.model.dto.response.OrderResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Builds ETag values for order resources from Order.id and Order.version,
+ * and evaluates If-None-Match against them for the order controllers.
+ * - Single order: strong ETag "id-version" (changes exactly when the order row changes)
+ * - List pages: weak ETag over every (id, version) on the page plus the page shape,
+ *   since the page is only semantically equivalent (e.g. totals can drift)
+ */
+final class OrderETags {
+
+    private OrderETags() {
+    }
+
+    static String strong(Long id, Long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    /**
+     * Weak ETag for a page of orders.
+     *
+     * @param orders Orders on the page, in response order
+     * @param shape Values that identify the page itself (page number, size, total, cursor)
+     */
+    static String weak(List<OrderResponse> orders, Object... shape) {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocate(2 * Long.BYTES);
+        for (OrderResponse order : orders) {
+            buffer.clear();
+            buffer.putLong(order.getId() != null ? order.getId() : -1L);
+            buffer.putLong(order.getVersion() != null ? order.getVersion() : -1L);
+            digest.update(buffer.array());
+        }
+        for (Object value : shape) {
+            digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return "W/\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+    }
+
+    /**
+     * Whether the request carries If-None-Match, i.e. whether an ETag check is worth its cost.
+     */
+    static boolean isConditional(WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null;
+    }
+
+    /**
+     * Compare If-None-Match against the current ETag and record the outcome.
+     * Unconditional requests are never "not modified" and are not counted.
+     *
+     * @param endpoint Endpoint tag of the conditional request metric
+     * @return true if the response should be 304 Not Modified
+     */
+    static boolean notModified(WebRequest request, String etag, OrderMetrics orderMetrics, String endpoint) {
+        if (!isConditional(request)) {
+            return false;
+        }
+        boolean notModified = request.checkNotModified(etag);
+        orderMetrics.recordConditionalGet(endpoint, notModified);
+        return notModified;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
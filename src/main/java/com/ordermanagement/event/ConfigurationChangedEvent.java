@@ -0,0 +1,22 @@
+package com.ordermanagement.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event published when a configuration parameter is created or updated.
+ * Lets components holding derived snapshots (e.g. pricing) rebuild them.
+ *
+ * Design Pattern: Observer Pattern (via Spring Events)
+ * SOLID Principle: Open/Closed - Snapshot holders subscribe without ConfigurationService knowing them
+ */
+@Getter
+public class ConfigurationChangedEvent extends ApplicationEvent {
+
+    private final String paramKey;
+
+    public ConfigurationChangedEvent(Object source, String paramKey) {
+        super(source);
+        this.paramKey = paramKey;
+    }
+}
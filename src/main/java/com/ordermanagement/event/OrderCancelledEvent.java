@@ -3,6 +3,9 @@ package com.ordermanagement.event;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
 /**
  * Event published when an order is cancelled.
  * Allows other components to react to cancellation.
@@ -21,13 +24,27 @@ public class OrderCancelledEvent extends ApplicationEvent {
     private final String orderNumber;
     private final String customerEmail;
     private final String reason;
+    private final BigDecimal finalAmount;
+    private final String statusCode;
+    private final LocalDateTime createdAt;
+
+    /**
+     * ID of the outbox row this event was relayed from (reconciliation watermark)
+     */
+    private final Long outboxEventId;
 
     public OrderCancelledEvent(Object source, Long orderId, String orderNumber,
-                               String customerEmail, String reason) {
+                               String customerEmail, String reason,
+                               BigDecimal finalAmount, String statusCode, LocalDateTime createdAt,
+                               Long outboxEventId) {
         super(source);
         this.orderId = orderId;
         this.orderNumber = orderNumber;
         this.customerEmail = customerEmail;
         this.reason = reason;
+        this.finalAmount = finalAmount;
+        this.statusCode = statusCode;
+        this.createdAt = createdAt;
+        this.outboxEventId = outboxEventId;
     }
 }
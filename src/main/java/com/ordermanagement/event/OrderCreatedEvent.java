@@ -1,14 +1,19 @@
 package com.ordermanagement.event;
 
-import com.ordermanagement.model.entity.Order;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
 /**
  * Event published when a new order is created.
  * Allows loose coupling - other components can react to order creation
  * without the OrderService knowing about them.
  *
+ * Carries a snapshot of the order (no entity), since it is delivered from the
+ * transactional outbox after the creating transaction has committed.
+ *
  * Design Pattern: Observer Pattern (via Spring Events)
  * SOLID Principle: Open/Closed - Can add new listeners without modifying OrderService
  *
@@ -21,15 +26,41 @@ import org.springframework.context.ApplicationEvent;
 @Getter
 public class OrderCreatedEvent extends ApplicationEvent {
 
-    private final Order order;
+    private final Long orderId;
     private final String orderNumber;
     private final String customerEmail;
+    private final BigDecimal totalAmount;
+    private final String currency;
+    private final int itemCount;
+    private final BigDecimal finalAmount;
+    private final String statusCode;
+    private final LocalDateTime createdAt;
+
+    /**
+     * Persisted due time of the automatic status transition, or null if none is scheduled
+     */
+    private final LocalDateTime nextTransitionAt;
+
+    /**
+     * ID of the outbox row this event was relayed from (reconciliation watermark)
+     */
+    private final Long outboxEventId;
 
-    public OrderCreatedEvent(Object source, Order order) {
+    public OrderCreatedEvent(Object source, Long orderId, String orderNumber, String customerEmail,
+                             BigDecimal totalAmount, String currency, int itemCount,
+                             BigDecimal finalAmount, String statusCode, LocalDateTime createdAt,
+                             LocalDateTime nextTransitionAt, Long outboxEventId) {
         super(source);
-        this.order = order;
-        this.orderNumber = order.getOrderNumber() != null ? order.getOrderNumber().getValue() : null;
-        this.customerEmail = order.getCustomer() != null && order.getCustomer().getEmail() != null
-                ? order.getCustomer().getEmail().getAddress() : null;
+        this.orderId = orderId;
+        this.orderNumber = orderNumber;
+        this.customerEmail = customerEmail;
+        this.totalAmount = totalAmount;
+        this.currency = currency;
+        this.itemCount = itemCount;
+        this.finalAmount = finalAmount;
+        this.statusCode = statusCode;
+        this.createdAt = createdAt;
+        this.nextTransitionAt = nextTransitionAt;
+        this.outboxEventId = outboxEventId;
     }
 }
@@ -1,7 +1,5 @@
 package com.ordermanagement.event;
 
-import com.ordermanagement.model.entity.Order;
-import com.ordermanagement.model.entity.OrderStatusEntity;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
@@ -9,6 +7,9 @@ import org.springframework.context.ApplicationEvent;
  * Event published when an order's status changes.
  * Enables event-driven architecture for status-based workflows.
  *
+ * Carries status codes rather than entities, since it is delivered from the
+ * transactional outbox after the change has committed.
+ *
  * Design Pattern: Observer Pattern
  * Use Cases:
  * - Send status update email to customer
@@ -19,16 +20,23 @@ import org.springframework.context.ApplicationEvent;
 @Getter
 public class OrderStatusChangedEvent extends ApplicationEvent {
 
-    private final Order order;
-    private final OrderStatusEntity oldStatus;
-    private final OrderStatusEntity newStatus;
+    private final Long orderId;
     private final String orderNumber;
+    private final String oldStatusCode;
+    private final String newStatusCode;
+
+    /**
+     * ID of the outbox row this event was relayed from (reconciliation watermark)
+     */
+    private final Long outboxEventId;
 
-    public OrderStatusChangedEvent(Object source, Order order, OrderStatusEntity oldStatus, OrderStatusEntity newStatus) {
+    public OrderStatusChangedEvent(Object source, Long orderId, String orderNumber,
+                                   String oldStatusCode, String newStatusCode, Long outboxEventId) {
         super(source);
-        this.order = order;
-        this.oldStatus = oldStatus;
-        this.newStatus = newStatus;
-        this.orderNumber = order.getOrderNumber() != null ? order.getOrderNumber().getValue() : null;
+        this.orderId = orderId;
+        this.orderNumber = orderNumber;
+        this.oldStatusCode = oldStatusCode;
+        this.newStatusCode = newStatusCode;
+        this.outboxEventId = outboxEventId;
     }
 }
@@ -5,7 +5,6 @@ import com.ordermanagement.event.OrderCreatedEvent;
 import com.ordermanagement.event.OrderStatusChangedEvent;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 /**
@@ -16,7 +15,9 @@ import org.springframework.stereotype.Component;
  * Benefits:
  * - OrderService doesn't need to know about email/analytics/inventory
  * - Easy to add new listeners without modifying existing code
- * - Can process events asynchronously
+ * - Runs on the outbox relay threads, after the originating transaction committed
+ *
+ * Events are delivered at least once by OutboxRelay, so handlers must be idempotent.
  *
  * In production, you might have separate listeners for:
  * - EmailNotificationListener
@@ -34,18 +35,17 @@ public class OrderEventListener {
      * In production: Send confirmation email, reserve inventory, track analytics
      */
     @EventListener
-    @Async
     public void handleOrderCreated(OrderCreatedEvent event) {
         log.info("=== ORDER CREATED EVENT ===");
         log.info("Order Number: {}", event.getOrderNumber());
         log.info("Customer Email: {}", event.getCustomerEmail());
-        log.info("Total Amount: {}", event.getOrder().getTotalAmount());
-        log.info("Items Count: {}", event.getOrder().getItemCount());
+        log.info("Total Amount: {} {}", event.getCurrency(), event.getTotalAmount());
+        log.info("Items Count: {}", event.getItemCount());
 
         // TODO: In production, implement:
-        // - emailService.sendOrderConfirmation(event.getOrder());
-        // - inventoryService.reserveItems(event.getOrder().getOrderItems());
-        // - analyticsService.trackOrderCreation(event.getOrder());
+        // - emailService.sendOrderConfirmation(event.getOrderId());
+        // - inventoryService.reserveItems(event.getOrderId());
+        // - analyticsService.trackOrderCreation(event.getOrderId());
 
         log.info("Order creation event processed");
     }
@@ -55,29 +55,28 @@ public class OrderEventListener {
      * In production: Send status update email, trigger workflows
      */
     @EventListener
-    @Async
     public void handleOrderStatusChanged(OrderStatusChangedEvent event) {
         log.info("=== ORDER STATUS CHANGED EVENT ===");
         log.info("Order Number: {}", event.getOrderNumber());
-        log.info("Status Change: {} → {}", event.getOldStatus(), event.getNewStatus());
+        log.info("Status Change: {} → {}", event.getOldStatusCode(), event.getNewStatusCode());
 
         // Different actions based on new status code
-        String statusCode = event.getNewStatus() != null ? event.getNewStatus().getCode() : "";
+        String statusCode = event.getNewStatusCode() != null ? event.getNewStatusCode() : "";
         switch (statusCode) {
             case "PROCESSING":
                 log.info("Order is being processed. Notify warehouse.");
-                // warehouseService.notifyNewOrder(event.getOrder());
+                // warehouseService.notifyNewOrder(event.getOrderId());
                 break;
             case "SHIPPED":
                 log.info("Order shipped. Send tracking info to customer.");
-                // emailService.sendShippingNotification(event.getOrder());
+                // emailService.sendShippingNotification(event.getOrderId());
                 break;
             case "DELIVERED":
                 log.info("Order delivered. Request customer feedback.");
-                // feedbackService.requestReview(event.getOrder());
+                // feedbackService.requestReview(event.getOrderId());
                 break;
             default:
-                log.debug("No specific action for status: {}", event.getNewStatus());
+                log.debug("No specific action for status: {}", event.getNewStatusCode());
         }
 
         log.info("Order status change event processed");
@@ -88,7 +87,6 @@ public class OrderEventListener {
      * In production: Refund payment, release inventory, send cancellation email
      */
     @EventListener
-    @Async
     public void handleOrderCancelled(OrderCancelledEvent event) {
         log.info("=== ORDER CANCELLED EVENT ===");
         log.info("Order Number: {}", event.getOrderNumber());
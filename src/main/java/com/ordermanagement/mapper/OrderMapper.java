@@ -1,21 +1,23 @@
 package com.ordermanagement.mapper;
 
+import com.ordermanagement.cache.ProductCatalogCache;
+import com.ordermanagement.model.dto.projection.OrderItemRow;
+import com.ordermanagement.model.dto.projection.OrderSummaryRow;
 import com.ordermanagement.model.dto.request.CreateOrderRequest;
 import com.ordermanagement.model.dto.request.OrderItemRequest;
 import com.ordermanagement.model.dto.response.OrderItemResponse;
 import com.ordermanagement.model.dto.response.OrderResponse;
 import com.ordermanagement.model.entity.*;
-import com.ordermanagement.model.valueobject.Email;
 import com.ordermanagement.model.valueobject.Money;
 import com.ordermanagement.model.valueobject.Quantity;
-import com.ordermanagement.repository.CustomerRepository;
-import com.ordermanagement.repository.ProductRepository;
+import com.ordermanagement.service.CustomerResolutionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -34,12 +36,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class OrderMapper {
 
-    private final CustomerRepository customerRepository;
-    private final ProductRepository productRepository;
+    private final CustomerResolutionService customerResolutionService;
+    private final ProductCatalogCache productCatalogCache;
 
     /**
      * Converts CreateOrderRequest DTO to Order entity.
      * Finds or creates customer, maps items with product references.
+     * All product codes of the request are resolved in one catalog lookup.
      *
      * @param request The order creation request
      * @return Order entity with items and customer
@@ -49,8 +52,8 @@ public class OrderMapper {
             return null;
         }
 
-        // Find or create customer
-        Customer customer = findOrCreateCustomer(request.getCustomerName(), request.getCustomerEmail());
+        // Find or create customer (cached, race-free upsert)
+        Customer customer = customerResolutionService.resolve(request.getCustomerName(), request.getCustomerEmail());
 
         // Build order (status will be set by service)
         Order order = Order.builder()
@@ -60,8 +63,13 @@ public class OrderMapper {
 
         // Map and add items
         if (request.getItems() != null) {
+            Map<String, Product> products = productCatalogCache.resolveAll(
+                    request.getItems().stream()
+                            .map(OrderItemRequest::getProductCode)
+                            .toList());
+
             request.getItems().forEach(itemRequest -> {
-                Item item = toItemEntity(itemRequest);
+                Item item = toItemEntity(itemRequest, products.get(itemRequest.getProductCode()));
                 order.addItem(item);
             });
         }
@@ -69,22 +77,6 @@ public class OrderMapper {
         return order;
     }
 
-    /**
-     * Finds existing customer by email or creates a new one.
-     */
-    private Customer findOrCreateCustomer(String customerName, String customerEmail) {
-        Email email = Email.of(customerEmail);
-
-        return customerRepository.findByEmail(email.getAddress())
-                .orElseGet(() -> {
-                    Customer newCustomer = Customer.builder()
-                            .fullName(customerName)
-                            .email(email)
-                            .build();
-                    return customerRepository.save(newCustomer);
-                });
-    }
-
     /**
      * Converts OrderItemRequest DTO to Item entity.
      * Attempts to link to Product entity if exists.
@@ -98,9 +90,24 @@ public class OrderMapper {
         }
 
         // Try to find product in catalog
-        Product product = productRepository.findByProductCode(request.getProductCode())
+        Product product = productCatalogCache.resolve(request.getProductCode())
                 .orElse(null);
 
+        return toItemEntity(request, product);
+    }
+
+    /**
+     * Converts OrderItemRequest DTO to Item entity linked to an already resolved product.
+     *
+     * @param request The order item request
+     * @param product The catalog product, or null if the code is not in the catalog
+     * @return Item entity
+     */
+    private Item toItemEntity(OrderItemRequest request, Product product) {
+        if (request == null) {
+            return null;
+        }
+
         Item item = Item.builder()
                 .product(product)
                 .productCodeSnapshot(request.getProductCode())
@@ -140,6 +147,7 @@ public class OrderMapper {
                 .items(toItemResponses(order.getItems()))
                 .createdAt(order.getCreatedAt())
                 .updatedAt(order.getUpdatedAt())
+                .version(order.getVersion())
                 .build();
     }
 
@@ -199,4 +207,84 @@ public class OrderMapper {
                         : BigDecimal.ZERO)
                 .build();
     }
+
+    /**
+     * Converts projected order rows and their item rows to OrderResponse DTOs,
+     * keeping the order of the order rows.
+     *
+     * @param orders Order summary rows
+     * @param items Item rows of those orders (any order; grouped by orderId)
+     * @return List of OrderResponse DTOs
+     */
+    public List<OrderResponse> toResponses(List<OrderSummaryRow> orders, List<OrderItemRow> items) {
+        Map<Long, List<OrderItemRow>> itemsByOrder = items.stream()
+                .collect(Collectors.groupingBy(OrderItemRow::orderId));
+
+        List<OrderResponse> responses = new ArrayList<>(orders.size());
+        for (OrderSummaryRow order : orders) {
+            responses.add(toResponse(order, itemsByOrder.getOrDefault(order.id(), List.of())));
+        }
+        return responses;
+    }
+
+    /**
+     * Converts a projected order row and its item rows to an OrderResponse DTO.
+     *
+     * @param order The order summary row
+     * @param items Item rows of this order
+     * @return OrderResponse DTO
+     */
+    public OrderResponse toResponse(OrderSummaryRow order, List<OrderItemRow> items) {
+        List<OrderItemResponse> itemResponses = new ArrayList<>(items.size());
+        for (OrderItemRow item : items) {
+            itemResponses.add(toItemResponse(item));
+        }
+
+        return OrderResponse.builder()
+                .id(order.id())
+                .orderNumber(order.orderNumber())
+                .customerName(order.customerName())
+                .customerEmail(order.customerEmail())
+                .totalAmount(order.finalAmount() != null ? order.finalAmount() : BigDecimal.ZERO)
+                .status(order.statusCode())
+                .items(itemResponses)
+                .createdAt(order.createdAt())
+                .updatedAt(order.updatedAt())
+                .version(order.version())
+                .build();
+    }
+
+    /**
+     * Converts projected order rows to item-less OrderResponse DTOs (summary view).
+     * Items stay null so they are left out of the JSON, not rendered as an empty list.
+     *
+     * @param orders Order summary rows
+     * @return List of OrderResponse DTOs without items
+     */
+    public List<OrderResponse> toSummaryResponses(List<OrderSummaryRow> orders) {
+        List<OrderResponse> responses = new ArrayList<>(orders.size());
+        for (OrderSummaryRow order : orders) {
+            OrderResponse response = toResponse(order, List.of());
+            response.setItems(null);
+            responses.add(response);
+        }
+        return responses;
+    }
+
+    /**
+     * Converts a projected item row to an OrderItemResponse DTO.
+     *
+     * @param item The item row
+     * @return OrderItemResponse DTO
+     */
+    public OrderItemResponse toItemResponse(OrderItemRow item) {
+        return OrderItemResponse.builder()
+                .id(item.id())
+                .productName(item.productName())
+                .productCode(item.productCode())
+                .quantity(item.quantity() != null ? item.quantity() : 0)
+                .unitPrice(item.unitPrice() != null ? item.unitPrice() : BigDecimal.ZERO)
+                .totalPrice(item.finalAmount() != null ? item.finalAmount() : BigDecimal.ZERO)
+                .build();
+    }
 }
@@ -29,6 +29,8 @@ public class OrderMetrics {
     private final Counter ordersStatusChangedCounter;
     private final Timer orderCreationTimer;
     private final Timer orderUpdateTimer;
+    private final Counter batchOrdersFailedCounter;
+    private final Timer batchCreationTimer;
     private final MeterRegistry meterRegistry;
 
     public OrderMetrics(MeterRegistry meterRegistry) {
@@ -63,6 +65,18 @@ public class OrderMetrics {
                 .description("Time taken to update an order")
                 .tag("application", "order-management")
                 .register(meterRegistry);
+
+        // Counter: Orders rejected inside batch requests
+        this.batchOrdersFailedCounter = Counter.builder("orders.batch.failed.total")
+                .description("Total number of orders rejected within batch requests")
+                .tag("application", "order-management")
+                .register(meterRegistry);
+
+        // Timer: Batch creation duration
+        this.batchCreationTimer = Timer.builder("orders.batch.creation.duration")
+                .description("Time taken to process a batch order request")
+                .tag("application", "order-management")
+                .register(meterRegistry);
     }
 
     /**
@@ -107,6 +121,35 @@ public class OrderMetrics {
         orderUpdateTimer.record(duration, TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * Increment batch failures counter by the number of rejected orders
+     */
+    public void incrementBatchOrdersFailed(int count) {
+        batchOrdersFailedCounter.increment(count);
+    }
+
+    /**
+     * Record batch creation time
+     */
+    public void recordBatchCreationTime(long startTime) {
+        long duration = System.currentTimeMillis() - startTime;
+        batchCreationTimer.record(duration, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Count a conditional GET (request carrying If-None-Match) by endpoint and outcome.
+     * 304 ratio: result="not_modified" / all results, per endpoint.
+     */
+    public void recordConditionalGet(String endpoint, boolean notModified) {
+        Counter.builder("orders.conditional.requests.total")
+                .description("Conditional GET requests by outcome")
+                .tag("application", "order-management")
+                .tag("endpoint", endpoint)
+                .tag("result", notModified ? "not_modified" : "modified")
+                .register(meterRegistry)
+                .increment();
+    }
+
     /**
      * Get meter registry for custom metrics
      */
@@ -0,0 +1,17 @@
+package com.ordermanagement.model.dto.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Aggregate projection: number of orders and their final amount sum for one creation day.
+ * Used to reconcile the incrementally maintained order statistics.
+ *
+ * Design Pattern: Data Transfer Object (DTO) Pattern (query projection)
+ */
+public record DailyTotalsRow(
+    LocalDate day,
+    Long orders,
+    BigDecimal revenue
+) {
+}
@@ -0,0 +1,20 @@
+package com.ordermanagement.model.dto.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Read-only projection of the item columns needed for an OrderItemResponse,
+ * keyed by the owning order's ID so rows can be grouped per order.
+ *
+ * Design Pattern: Data Transfer Object (DTO) Pattern (query projection)
+ */
+public record OrderItemRow(
+    Long orderId,
+    Long id,
+    String productName,
+    String productCode,
+    Integer quantity,
+    BigDecimal unitPrice,
+    BigDecimal finalAmount
+) {
+}
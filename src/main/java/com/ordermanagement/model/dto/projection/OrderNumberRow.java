@@ -0,0 +1,13 @@
+package com.ordermanagement.model.dto.projection;
+
+/**
+ * Minimal projection of an order: ID and order number.
+ * Enough to move an order between statuses in bulk and record its outbox event.
+ *
+ * Design Pattern: Data Transfer Object (DTO) Pattern (query projection)
+ */
+public record OrderNumberRow(
+    Long id,
+    String orderNumber
+) {
+}
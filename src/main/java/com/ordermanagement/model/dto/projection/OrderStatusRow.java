@@ -0,0 +1,30 @@
+package com.ordermanagement.model.dto.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection of the columns needed to move an order to another status:
+ * identity, current status, the @Version value the row was read at, and the
+ * amounts needed for payment-gated transitions.
+ *
+ * Design Pattern: Data Transfer Object (DTO) Pattern (query projection)
+ */
+public record OrderStatusRow(
+    Long id,
+    String orderNumber,
+    Long version,
+    Long statusId,
+    String statusCode,
+    BigDecimal finalAmount,
+    BigDecimal paidAmount
+) {
+
+    /**
+     * Same rule as Order#isFullyPaid: successful payments cover the final amount
+     */
+    public boolean isFullyPaid() {
+        BigDecimal due = finalAmount != null ? finalAmount : BigDecimal.ZERO;
+        BigDecimal paid = paidAmount != null ? paidAmount : BigDecimal.ZERO;
+        return paid.compareTo(due) >= 0;
+    }
+}
@@ -0,0 +1,25 @@
+package com.ordermanagement.model.dto.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of the order columns needed for an OrderResponse.
+ * Filled by JPQL constructor expressions: one flat row per order, no entity hydration,
+ * no persistence context entry and no EAGER customer/status/product loads.
+ * Carries the @Version value the row was read at, for version-validated caching.
+ *
+ * Design Pattern: Data Transfer Object (DTO) Pattern (query projection)
+ */
+public record OrderSummaryRow(
+    Long id,
+    String orderNumber,
+    String customerName,
+    String customerEmail,
+    BigDecimal finalAmount,
+    String statusCode,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    Long version
+) {
+}
@@ -0,0 +1,14 @@
+package com.ordermanagement.model.dto.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of an order's scheduled automatic transition: ID and due time.
+ *
+ * Design Pattern: Data Transfer Object (DTO) Pattern (query projection)
+ */
+public record OrderTimerRow(
+    Long id,
+    LocalDateTime nextTransitionAt
+) {
+}
@@ -0,0 +1,16 @@
+package com.ordermanagement.model.dto.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Aggregate projection: number of orders and their final amount sum for one status.
+ * Used to reconcile the incrementally maintained order statistics.
+ *
+ * Design Pattern: Data Transfer Object (DTO) Pattern (query projection)
+ */
+public record StatusTotalsRow(
+    String statusCode,
+    Long orders,
+    BigDecimal revenue
+) {
+}
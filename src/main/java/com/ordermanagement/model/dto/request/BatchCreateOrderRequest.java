@@ -0,0 +1,30 @@
+package com.ordermanagement.model.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for creating many orders in one call.
+ * Individual orders are intentionally not annotated with @Valid: each order is validated
+ * on its own by the service so that one bad order is reported instead of rejecting the batch.
+ *
+ * Design Pattern: Data Transfer Object (DTO) Pattern
+ * SOLID Principle: Single Responsibility - Only handles data transfer for batch order creation
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request object for creating a batch of orders")
+public class BatchCreateOrderRequest {
+
+    @Schema(description = "Orders to create, processed in the given order", required = true)
+    @NotEmpty(message = "Batch must contain at least one order")
+    private List<CreateOrderRequest> orders;
+}
@@ -0,0 +1,39 @@
+package com.ordermanagement.model.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for moving many orders to the same status in one call.
+ *
+ * Design Pattern: Data Transfer Object (DTO) Pattern
+ * SOLID Principle: Single Responsibility - Only handles bulk status update data transfer
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request object for updating the status of many orders")
+public class BulkUpdateOrderStatusRequest {
+
+    @Schema(description = "IDs of the orders to update", example = "[101, 102, 103]", required = true)
+    @NotEmpty(message = "At least one order ID is required")
+    private List<@NotNull(message = "Order IDs must not be null") Long> ids;
+
+    @Schema(description = "Status code to move the orders to", example = "SHIPPED", required = true)
+    @NotBlank(message = "Target status is required")
+    private String targetStatus;
+
+    @Schema(description = "Reason recorded in each order's status history", example = "Shipment wave 42 confirmed")
+    @Size(max = 1000, message = "Reason must not exceed 1000 characters")
+    private String reason;
+}
@@ -0,0 +1,36 @@
+package com.ordermanagement.model.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for batch order creation response.
+ * Carries one result per requested order, in request order.
+ *
+ * Design Pattern: Data Transfer Object (DTO) Pattern
+ * SOLID Principle: Single Responsibility - Only handles data transfer for batch responses
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Result of a batch order creation request")
+public class BatchOrderResponse {
+
+    @Schema(description = "Number of orders in the request", example = "500")
+    private int totalRequested;
+
+    @Schema(description = "Number of orders created", example = "498")
+    private int succeeded;
+
+    @Schema(description = "Number of orders rejected", example = "2")
+    private int failed;
+
+    @Schema(description = "Per-order results in request order")
+    private List<BatchOrderResult> results;
+}
@@ -0,0 +1,49 @@
+package com.ordermanagement.model.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO describing the outcome of a single order within a batch.
+ *
+ * Design Pattern: Data Transfer Object (DTO) Pattern
+ * SOLID Principle: Single Responsibility - Only handles data transfer for one batch entry
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of one order in a batch request")
+public class BatchOrderResult {
+
+    @Schema(description = "Zero-based position of the order in the request", example = "0")
+    private int index;
+
+    @Schema(description = "Whether the order was created", example = "true")
+    private boolean success;
+
+    @Schema(description = "Created order (present when success is true)")
+    private OrderResponse order;
+
+    @Schema(description = "Failure reason (present when success is false)", example = "Customer email is required")
+    private String error;
+
+    public static BatchOrderResult success(int index, OrderResponse order) {
+        return BatchOrderResult.builder()
+                .index(index)
+                .success(true)
+                .order(order)
+                .build();
+    }
+
+    public static BatchOrderResult failure(int index, String error) {
+        return BatchOrderResult.builder()
+                .index(index)
+                .success(false)
+                .error(error)
+                .build();
+    }
+}
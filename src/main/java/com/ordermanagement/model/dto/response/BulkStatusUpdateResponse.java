@@ -0,0 +1,39 @@
+package com.ordermanagement.model.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for bulk status update response.
+ * Carries one result per distinct requested order, in request order.
+ *
+ * Design Pattern: Data Transfer Object (DTO) Pattern
+ * SOLID Principle: Single Responsibility - Only handles data transfer for bulk status updates
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Result of a bulk status update request")
+public class BulkStatusUpdateResponse {
+
+    @Schema(description = "Target status code", example = "SHIPPED")
+    private String targetStatus;
+
+    @Schema(description = "Number of distinct orders in the request", example = "300")
+    private int totalRequested;
+
+    @Schema(description = "Number of orders moved", example = "297")
+    private int succeeded;
+
+    @Schema(description = "Number of orders not moved", example = "3")
+    private int failed;
+
+    @Schema(description = "Per-order results in request order")
+    private List<BulkStatusUpdateResult> results;
+}
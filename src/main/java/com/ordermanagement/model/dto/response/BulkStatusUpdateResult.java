@@ -0,0 +1,55 @@
+package com.ordermanagement.model.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO describing the outcome of a single order within a bulk status update.
+ *
+ * Design Pattern: Data Transfer Object (DTO) Pattern
+ * SOLID Principle: Single Responsibility - Only handles data transfer for one bulk entry
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of one order in a bulk status update")
+public class BulkStatusUpdateResult {
+
+    @Schema(description = "Order ID", example = "101")
+    private Long orderId;
+
+    @Schema(description = "Whether the order was moved", example = "true")
+    private boolean success;
+
+    @Schema(description = "Status before the update (absent when the order was not found)", example = "PREPARING")
+    private String previousStatus;
+
+    @Schema(description = "Status after the update (present when success is true)", example = "SHIPPED")
+    private String status;
+
+    @Schema(description = "Failure reason (present when success is false)",
+            example = "Transition from PENDING to SHIPPED is not allowed")
+    private String error;
+
+    public static BulkStatusUpdateResult success(Long orderId, String previousStatus, String status) {
+        return BulkStatusUpdateResult.builder()
+                .orderId(orderId)
+                .success(true)
+                .previousStatus(previousStatus)
+                .status(status)
+                .build();
+    }
+
+    public static BulkStatusUpdateResult failure(Long orderId, String previousStatus, String error) {
+        return BulkStatusUpdateResult.builder()
+                .orderId(orderId)
+                .success(false)
+                .previousStatus(previousStatus)
+                .error(error)
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.ordermanagement.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for one keyset-paginated slice of results.
+ * Pass nextCursor back as the cursor parameter to read the following slice.
+ *
+ * Design Pattern: Data Transfer Object (DTO) Pattern
+ * SOLID Principle: Single Responsibility - Only handles data transfer for cursor pages
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "One slice of a cursor-paginated listing")
+public class CursorPageResponse<T> {
+
+    @Schema(description = "Items of this slice, newest first")
+    private List<T> content;
+
+    @Schema(description = "Requested slice size", example = "20")
+    private int size;
+
+    @Schema(description = "Whether more items follow this slice", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "Opaque cursor for the next slice; absent on the last slice",
+            example = "MjAyNC0wMS0xNVQxMDozMDowMHwxMjM0")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    @Schema(description = "Total matching items; only present when includeTotal=true", example = "1520")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalElements;
+}
@@ -1,5 +1,7 @@
 package com.ordermanagement.model.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -42,7 +44,8 @@ public class OrderResponse {
     @Schema(description = "Current status code of the order", example = "PENDING")
     private String status;
 
-    @Schema(description = "List of items in the order")
+    @Schema(description = "List of items in the order; omitted in the summary view")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<OrderItemResponse> items;
 
     @Schema(description = "Timestamp when the order was created", example = "2025-10-24T10:30:00")
@@ -50,4 +53,11 @@ public class OrderResponse {
 
     @Schema(description = "Timestamp when the order was last updated", example = "2025-10-24T10:35:00")
     private LocalDateTime updatedAt;
+
+    /**
+     * Order version the response was built from; exposed only through the ETag header
+     */
+    @JsonIgnore
+    @Schema(hidden = true)
+    private Long version;
 }
@@ -0,0 +1,29 @@
+package com.ordermanagement.model.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for order search results: ranked order IDs, best match first.
+ *
+ * Design Pattern: Data Transfer Object (DTO) Pattern
+ * SOLID Principle: Single Responsibility - Only handles data transfer for search results
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Ranked order search results")
+public class OrderSearchResponse {
+
+    @Schema(description = "Query as received", example = "jane 1b2c")
+    private String query;
+
+    @Schema(description = "Matching order IDs, best match first", example = "[42, 17]")
+    private List<Long> orderIds;
+}
@@ -0,0 +1,65 @@
+package com.ordermanagement.model.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO for dashboard order statistics.
+ *
+ * Design Pattern: Data Transfer Object (DTO) Pattern
+ * SOLID Principle: Single Responsibility - Only handles data transfer for order statistics
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Order counts, revenue and average order value")
+public class OrderStatisticsResponse {
+
+    @Schema(description = "Number of orders per status code", example = "{\"PENDING\": 12, \"DELIVERED\": 340}")
+    private Map<String, Long> ordersByStatus;
+
+    @Schema(description = "Number of orders", example = "352")
+    private long totalOrders;
+
+    @Schema(description = "Sum of final order amounts", example = "48210.50")
+    private BigDecimal totalRevenue;
+
+    @Schema(description = "Average final order amount", example = "136.96")
+    private BigDecimal averageOrderValue;
+
+    @Schema(description = "Orders and revenue per creation day, oldest first, for the retained days")
+    private List<DailyRevenue> revenueByDay;
+
+    @Schema(description = "When the counters were last reconciled against the database", example = "2025-10-24T10:30:00")
+    private LocalDateTime reconciledAt;
+
+    /**
+     * Orders and revenue of one creation day
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Orders and revenue of one day")
+    public static class DailyRevenue {
+
+        @Schema(description = "Creation day", example = "2025-10-24")
+        private LocalDate date;
+
+        @Schema(description = "Orders created that day", example = "41")
+        private long orders;
+
+        @Schema(description = "Sum of their final amounts", example = "5620.00")
+        private BigDecimal revenue;
+    }
+}
@@ -1,5 +1,6 @@
 package com.ordermanagement.model.entity;
 
+import com.ordermanagement.cache.CustomerCacheListener;
 import com.ordermanagement.model.enums.CustomerType;
 import com.ordermanagement.model.valueobject.Address;
 import com.ordermanagement.model.valueobject.Email;
@@ -27,6 +28,7 @@ import java.util.List;
         @Index(name = "idx_customer_created", columnList = "createdAt")
     }
 )
+@EntityListeners(CustomerCacheListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,6 +1,7 @@
 package com.ordermanagement.model.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.ordermanagement.constants.ApplicationConstants;
 import com.ordermanagement.model.valueobject.Money;
 import com.ordermanagement.model.valueobject.Quantity;
 import jakarta.persistence.*;
@@ -47,7 +48,9 @@ import java.time.LocalDateTime;
 public class Item {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "item_seq")
+    @SequenceGenerator(name = "item_seq", sequenceName = "items_seq",
+            allocationSize = ApplicationConstants.Persistence.ID_ALLOCATION_SIZE)
     private Long id;
 
     /**
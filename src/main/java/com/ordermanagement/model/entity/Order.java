@@ -1,8 +1,10 @@
 package com.ordermanagement.model.entity;
 
+import com.ordermanagement.constants.ApplicationConstants;
 import com.ordermanagement.exception.InvalidOrderStatusException;
 import com.ordermanagement.model.valueobject.Address;
 import com.ordermanagement.model.valueobject.Money;
+import com.ordermanagement.model.valueobject.MoneyAccumulator;
 import com.ordermanagement.model.valueobject.OrderNumber;
 import jakarta.persistence.*;
 import lombok.*;
@@ -41,8 +43,11 @@ import java.util.List;
     indexes = {
         @Index(name = "idx_order_number", columnList = "orderNumber_value", unique = true),
         @Index(name = "idx_order_customer", columnList = "customer_id"),
-        @Index(name = "idx_order_status", columnList = "status_id"),
+        @Index(name = "idx_order_status", columnList = "status_id, id"),
         @Index(name = "idx_order_created", columnList = "createdAt"),
+        @Index(name = "idx_order_updated", columnList = "updatedAt"),
+        @Index(name = "idx_order_status_created_id", columnList = "status_id, createdAt, id"),
+        @Index(name = "idx_order_customer_email_created_id", columnList = "customerEmail, createdAt, id"),
         @Index(name = "idx_order_total", columnList = "totalAmount_amount")
     }
 )
@@ -55,7 +60,9 @@ import java.util.List;
 public class Order {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_seq")
+    @SequenceGenerator(name = "order_seq", sequenceName = "orders_seq",
+            allocationSize = ApplicationConstants.Persistence.ID_ALLOCATION_SIZE)
     private Long id;
 
     /**
@@ -245,6 +252,13 @@ public class Order {
     @Column
     private LocalDateTime cancelledAt;
 
+    /**
+     * When the next automatic status transition is due (null if none is scheduled).
+     * Persisted so in-memory transition timers can be rebuilt after a restart.
+     */
+    @Column
+    private LocalDateTime nextTransitionAt;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -291,23 +305,28 @@ public class Order {
             return;
         }
 
-        // Sum all item totals (before discount and tax)
-        Money total = items.stream()
-            .map(Item::getTotalPrice)
-            .reduce(Money.zero(), Money::add);
-        this.totalAmount = total;
-
-        // Calculate discount (if any)
-        Money discount = discountAmount != null ? discountAmount : Money.zero();
+        // Sum item totals (before discount and tax) and, if needed, item taxes in one pass
+        boolean useItemTaxes = taxAmount == null || taxAmount.isZero();
+        MoneyAccumulator total = MoneyAccumulator.zero();
+        MoneyAccumulator itemTaxes = MoneyAccumulator.zero();
+        for (Item item : items) {
+            total.add(item.getTotalPrice());
+            if (useItemTaxes) {
+                itemTaxes.add(item.getTax());
+            }
+        }
+        this.totalAmount = total.toMoney();
 
         // Subtotal = total - discount
-        this.subtotal = total.subtract(discount);
+        MoneyAccumulator subtotalAmount = total.copy();
+        if (discountAmount != null) {
+            subtotalAmount.subtract(discountAmount);
+        }
+        this.subtotal = subtotalAmount.toMoney();
 
-        // Calculate or sum item taxes
-        if (taxAmount == null || taxAmount.isZero()) {
-            this.taxAmount = items.stream()
-                .map(Item::getTax)
-                .reduce(Money.zero(), Money::add);
+        // Use summed item taxes if no order-level tax is set
+        if (useItemTaxes) {
+            this.taxAmount = itemTaxes.toMoney();
         }
 
         // Shipping cost (if not set)
@@ -316,7 +335,7 @@ public class Order {
         }
 
         // Final amount = subtotal + tax + shipping
-        this.finalAmount = subtotal.add(taxAmount).add(shippingAmount);
+        this.finalAmount = subtotalAmount.add(taxAmount).add(shippingAmount).toMoney();
     }
 
     /**
@@ -349,6 +368,7 @@ public class Order {
 
         OrderStatusEntity oldStatus = this.status;
         this.status = newStatus;
+        this.nextTransitionAt = null;
 
         // Create status history entry
         OrderStatusHistory historyEntry = OrderStatusHistory.builder()
@@ -423,9 +443,6 @@ public class Order {
 
     @PrePersist
     protected void onCreate() {
-        if (orderNumber == null) {
-            orderNumber = OrderNumber.generate();
-        }
         if (isPriority == null) {
             isPriority = false;
         }
@@ -1,5 +1,6 @@
 package com.ordermanagement.model.entity;
 
+import com.ordermanagement.constants.ApplicationConstants;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -38,7 +39,9 @@ import java.time.LocalDateTime;
 public class OrderStatusHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_status_history_seq")
+    @SequenceGenerator(name = "order_status_history_seq", sequenceName = "order_status_history_seq",
+            allocationSize = ApplicationConstants.Persistence.ID_ALLOCATION_SIZE)
     private Long id;
 
     /**
@@ -0,0 +1,138 @@
+package com.ordermanagement.model.entity;
+
+import com.ordermanagement.constants.ApplicationConstants;
+import com.ordermanagement.model.enums.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * OutboxEvent entity - a domain event stored in the same transaction as the change that raised it.
+ * The OutboxRelay delivers PENDING rows to listeners after commit, so events survive crashes
+ * and are never published for rolled-back changes.
+ *
+ * Design Pattern: Transactional Outbox Pattern
+ * Delivery: At-least-once, in creation order per aggregate
+ */
+@Entity
+@Table(
+    name = "outbox_events",
+    indexes = {
+        @Index(name = "idx_outbox_status_created", columnList = "status, createdAt"),
+        @Index(name = "idx_outbox_claimed_by", columnList = "claimedBy"),
+        @Index(name = "idx_outbox_processed_at", columnList = "processedAt"),
+        @Index(name = "idx_outbox_aggregate", columnList = "aggregateType, aggregateId"),
+        @Index(name = "idx_outbox_event_type_created", columnList = "eventType, createdAt")
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    /**
+     * Pooled ids are only unique: each instance allocates its own blocks, so they are not
+     * ordered across instances. Delivery order comes from createdAt.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_seq")
+    @SequenceGenerator(name = "outbox_seq", sequenceName = "outbox_events_seq",
+            allocationSize = ApplicationConstants.Persistence.ID_ALLOCATION_SIZE)
+    private Long id;
+
+    /**
+     * Aggregate kind, e.g. "Order"
+     */
+    @Column(nullable = false, length = 50)
+    private String aggregateType;
+
+    /**
+     * Id of the aggregate instance the event belongs to
+     */
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    /**
+     * Event kind, e.g. "OrderCreated"
+     */
+    @Column(nullable = false, length = 50)
+    private String eventType;
+
+    /**
+     * Event snapshot as JSON
+     */
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    /**
+     * Failed delivery attempts so far
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime processedAt;
+
+    /**
+     * Relay instance delivering the row right now (null when unclaimed)
+     */
+    @Column(length = 64)
+    private String claimedBy;
+
+    /**
+     * End of the claim; an expired claim (relay crashed mid-batch) can be taken by another relay
+     */
+    private LocalDateTime claimedUntil;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+
+    /**
+     * Business method: Record a failed delivery; gives up after maxAttempts
+     */
+    public void recordFailure(String error, int maxAttempts) {
+        this.attempts = attempts + 1;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        if (attempts >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+            this.processedAt = LocalDateTime.now();
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof OutboxEvent)) return false;
+        OutboxEvent that = (OutboxEvent) o;
+        return id != null && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("OutboxEvent{id=%d, type=%s, aggregate=%s#%d, status=%s}",
+            id, eventType, aggregateType, aggregateId, status);
+    }
+}
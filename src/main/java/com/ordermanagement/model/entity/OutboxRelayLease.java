@@ -0,0 +1,39 @@
+package com.ordermanagement.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * OutboxRelayLease entity - the time-limited right to relay the outbox.
+ * One row per relay; the instance holding an unexpired lease is the only one that relays,
+ * and renews the lease on every poll. An expired lease can be taken over by any instance.
+ *
+ * Design Pattern: Lease (leader election through the shared database)
+ */
+@Entity
+@Table(name = "outbox_relay_leases")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxRelayLease {
+
+    /**
+     * Relay name, e.g. "outbox-relay"
+     */
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    /**
+     * Relay instance currently holding the lease
+     */
+    @Column(nullable = false, length = 64)
+    private String owner;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -1,5 +1,6 @@
 package com.ordermanagement.model.entity;
 
+import com.ordermanagement.constants.ApplicationConstants;
 import com.ordermanagement.model.enums.PaymentMethod;
 import com.ordermanagement.model.enums.PaymentStatus;
 import com.ordermanagement.model.valueobject.Money;
@@ -34,7 +35,9 @@ import java.time.LocalDateTime;
 public class Payment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_seq")
+    @SequenceGenerator(name = "payment_seq", sequenceName = "payments_seq",
+            allocationSize = ApplicationConstants.Persistence.ID_ALLOCATION_SIZE)
     private Long id;
 
     /**
@@ -1,5 +1,6 @@
 package com.ordermanagement.model.entity;
 
+import com.ordermanagement.cache.ProductCatalogCacheListener;
 import com.ordermanagement.model.enums.ProductCategory;
 import com.ordermanagement.model.valueobject.Money;
 import com.ordermanagement.model.valueobject.Quantity;
@@ -25,6 +26,7 @@ import java.time.LocalDateTime;
         @Index(name = "idx_product_created", columnList = "createdAt")
     }
 )
+@EntityListeners(ProductCatalogCacheListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
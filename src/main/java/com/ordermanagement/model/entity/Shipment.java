@@ -1,5 +1,6 @@
 package com.ordermanagement.model.entity;
 
+import com.ordermanagement.constants.ApplicationConstants;
 import com.ordermanagement.model.enums.ShipmentStatus;
 import com.ordermanagement.model.valueobject.Address;
 import jakarta.persistence.*;
@@ -33,7 +34,9 @@ import java.time.LocalDateTime;
 public class Shipment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "shipment_seq")
+    @SequenceGenerator(name = "shipment_seq", sequenceName = "shipments_seq",
+            allocationSize = ApplicationConstants.Persistence.ID_ALLOCATION_SIZE)
     private Long id;
 
     /**
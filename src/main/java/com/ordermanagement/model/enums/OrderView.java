@@ -0,0 +1,35 @@
+package com.ordermanagement.model.enums;
+
+import java.util.Locale;
+
+/**
+ * Enum representing how much of an order a list endpoint returns.
+ * SUMMARY skips the item query entirely, so list cost scales with the fields requested.
+ */
+public enum OrderView {
+    /**
+     * Order header only: number, customer, status, total and timestamps (no items)
+     */
+    SUMMARY,
+
+    /**
+     * Order header with all items
+     */
+    FULL;
+
+    /**
+     * Parse the view request parameter (case-insensitive); null means FULL.
+     *
+     * @throws IllegalArgumentException if the value is not a known view
+     */
+    public static OrderView fromParameter(String value) {
+        if (value == null || value.isBlank()) {
+            return FULL;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid view: " + value + ". Allowed values: summary, full");
+        }
+    }
+}
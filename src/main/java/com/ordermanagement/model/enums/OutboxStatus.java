@@ -0,0 +1,21 @@
+package com.ordermanagement.model.enums;
+
+/**
+ * Enum representing the delivery state of a transactional outbox row.
+ */
+public enum OutboxStatus {
+    /**
+     * Written with the business change, waiting for the relay
+     */
+    PENDING,
+
+    /**
+     * Dispatched to listeners; kept until the retention purge
+     */
+    PUBLISHED,
+
+    /**
+     * Gave up after the maximum number of attempts; needs manual attention
+     */
+    FAILED
+}
@@ -0,0 +1,316 @@
+package com.ordermanagement.model.valueobject;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Mutable running total for Money arithmetic inside pricing loops.
+ * Amounts are kept as a scaled long in minor units (cents), so sums and HALF_UP
+ * multiplications allocate nothing and need no currency lookup per step.
+ * Convert back with toMoney() only where a value is stored on an entity.
+ *
+ * Results are identical to the equivalent Money operations:
+ * - add/subtract are exact, subtraction below zero is rejected like Money.subtract
+ * - multiply(BigDecimal) rounds HALF_UP to 2 decimals like Money.multiply(BigDecimal)
+ *
+ * Values with more than 2 decimals, or products that would overflow a long, fall back to
+ * BigDecimal arithmetic for the rest of the accumulator's life.
+ *
+ * Design Pattern: Accumulator (Collecting Parameter)
+ * Use Case: Allocation-light totals in OrderPricingService and Order.calculateTotals
+ * Thread Safety: Not thread-safe - use one instance per calculation
+ */
+public final class MoneyAccumulator {
+
+    private static final int SCALE = 2;
+    private static final String DEFAULT_CURRENCY = "USD";
+
+    /**
+     * Powers of ten that fit in a long (10^0 .. 10^18)
+     */
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1L;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10L;
+        }
+    }
+
+    private final String currency;
+    private long minorUnits;
+
+    /**
+     * Exact value once the accumulator left the minor-units fast path (null while on it)
+     */
+    private BigDecimal exact;
+
+    private MoneyAccumulator(String currency, long minorUnits, BigDecimal exact) {
+        this.currency = currency;
+        this.minorUnits = minorUnits;
+        this.exact = exact;
+    }
+
+    /**
+     * Creates a zero accumulator in the default currency (USD), like Money.zero()
+     */
+    public static MoneyAccumulator zero() {
+        return new MoneyAccumulator(DEFAULT_CURRENCY, 0L, null);
+    }
+
+    /**
+     * Creates a zero accumulator in a specific currency
+     */
+    public static MoneyAccumulator zero(String currency) {
+        return new MoneyAccumulator(currency.toUpperCase(), 0L, null);
+    }
+
+    /**
+     * Creates an accumulator starting at the given money amount
+     */
+    public static MoneyAccumulator of(Money money) {
+        long minor = toMinorUnits(money.getAmount());
+        return minor != Long.MIN_VALUE
+            ? new MoneyAccumulator(money.getCurrency(), minor, null)
+            : new MoneyAccumulator(money.getCurrency(), 0L, money.getAmount());
+    }
+
+    /**
+     * Creates an independent accumulator with the same value
+     */
+    public MoneyAccumulator copy() {
+        return new MoneyAccumulator(currency, minorUnits, exact);
+    }
+
+    /**
+     * Adds a money amount (must have same currency)
+     */
+    public MoneyAccumulator add(Money money) {
+        validateSameCurrency(money.getCurrency());
+        addAmount(money.getAmount());
+        return this;
+    }
+
+    /**
+     * Adds another accumulator's value (must have same currency)
+     */
+    public MoneyAccumulator add(MoneyAccumulator other) {
+        validateSameCurrency(other.currency);
+        if (exact == null && other.exact == null) {
+            long sum = minorUnits + other.minorUnits;
+            if (((minorUnits ^ sum) & (other.minorUnits ^ sum)) >= 0) {
+                minorUnits = sum;
+                return this;
+            }
+        }
+        exact = toBigDecimal().add(other.toBigDecimal());
+        return this;
+    }
+
+    /**
+     * Subtracts a money amount (must have same currency, result cannot be negative)
+     */
+    public MoneyAccumulator subtract(Money money) {
+        validateSameCurrency(money.getCurrency());
+        return subtractAmount(money.getAmount());
+    }
+
+    /**
+     * Subtracts another accumulator's value (must have same currency, result cannot be negative)
+     */
+    public MoneyAccumulator subtract(MoneyAccumulator other) {
+        validateSameCurrency(other.currency);
+        if (other.exact == null) {
+            return subtractMinorUnits(other.minorUnits);
+        }
+        return subtractExact(other.exact);
+    }
+
+    /**
+     * Returns a new accumulator holding this value multiplied by a factor,
+     * rounded HALF_UP to 2 decimals (same result as Money.multiply(BigDecimal))
+     */
+    public MoneyAccumulator multiply(BigDecimal factor) {
+        if (factor.signum() < 0) {
+            throw new IllegalArgumentException("Factor cannot be negative");
+        }
+        if (exact == null) {
+            long product = multiplyMinorUnits(minorUnits, factor);
+            if (product != Long.MIN_VALUE) {
+                return new MoneyAccumulator(currency, product, null);
+            }
+        }
+        BigDecimal rounded = toBigDecimal().multiply(factor).setScale(SCALE, RoundingMode.HALF_UP);
+        return fromBigDecimal(currency, rounded);
+    }
+
+    /**
+     * Checks if the accumulated value is zero
+     */
+    public boolean isZero() {
+        return exact == null ? minorUnits == 0L : exact.signum() == 0;
+    }
+
+    /**
+     * Checks if the accumulated value is positive
+     */
+    public boolean isPositive() {
+        return exact == null ? minorUnits > 0L : exact.signum() > 0;
+    }
+
+    /**
+     * Compares the accumulated value with a plain amount
+     */
+    public int compareTo(BigDecimal amount) {
+        return toBigDecimal().compareTo(amount);
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    /**
+     * Accumulated value as a BigDecimal (scale 2 on the fast path)
+     */
+    public BigDecimal toBigDecimal() {
+        return exact != null ? exact : BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    /**
+     * Converts the accumulated value to Money (entity boundary)
+     */
+    public Money toMoney() {
+        return new Money(toBigDecimal(), currency);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s", currency, toBigDecimal().setScale(SCALE, RoundingMode.HALF_UP));
+    }
+
+    private void addAmount(BigDecimal amount) {
+        if (exact == null) {
+            long minor = toMinorUnits(amount);
+            if (minor != Long.MIN_VALUE) {
+                long sum = minorUnits + minor;
+                if (((minorUnits ^ sum) & (minor ^ sum)) >= 0) {
+                    minorUnits = sum;
+                    return;
+                }
+            }
+        }
+        exact = toBigDecimal().add(amount);
+    }
+
+    private MoneyAccumulator subtractAmount(BigDecimal amount) {
+        if (exact == null) {
+            long minor = toMinorUnits(amount);
+            if (minor != Long.MIN_VALUE) {
+                return subtractMinorUnits(minor);
+            }
+        }
+        return subtractExact(amount);
+    }
+
+    private MoneyAccumulator subtractMinorUnits(long minor) {
+        if (exact != null) {
+            return subtractExact(BigDecimal.valueOf(minor, SCALE));
+        }
+        long difference = minorUnits - minor;
+        if (((minorUnits ^ minor) & (minorUnits ^ difference)) < 0) {
+            return subtractExact(BigDecimal.valueOf(minor, SCALE));
+        }
+        if (difference < 0) {
+            throw new IllegalArgumentException("Subtraction result cannot be negative");
+        }
+        minorUnits = difference;
+        return this;
+    }
+
+    private MoneyAccumulator subtractExact(BigDecimal amount) {
+        BigDecimal result = toBigDecimal().subtract(amount);
+        if (result.signum() < 0) {
+            throw new IllegalArgumentException("Subtraction result cannot be negative");
+        }
+        exact = result;
+        return this;
+    }
+
+    private void validateSameCurrency(String otherCurrency) {
+        if (!currency.equals(otherCurrency)) {
+            throw new IllegalArgumentException(
+                String.format("Cannot operate on different currencies: %s and %s",
+                    currency, otherCurrency)
+            );
+        }
+    }
+
+    private static MoneyAccumulator fromBigDecimal(String currency, BigDecimal amount) {
+        long minor = toMinorUnits(amount);
+        return minor != Long.MIN_VALUE
+            ? new MoneyAccumulator(currency, minor, null)
+            : new MoneyAccumulator(currency, 0L, amount);
+    }
+
+    /**
+     * Exact conversion of an amount to minor units, or Long.MIN_VALUE when the amount
+     * has more than 2 decimals or does not fit in a long.
+     */
+    static long toMinorUnits(BigDecimal amount) {
+        int scale = amount.scale();
+        if (scale > SCALE || scale < SCALE - 18 || amount.precision() > 18) {
+            return Long.MIN_VALUE;
+        }
+        long unscaled = amount.unscaledValue().longValue();
+        return multiplyExactOrMin(unscaled, POWERS_OF_TEN[SCALE - scale]);
+    }
+
+    /**
+     * HALF_UP product of an amount in minor units and a decimal factor, in minor units,
+     * or Long.MIN_VALUE when an intermediate value does not fit in a long.
+     *
+     * amount * factor = minor / 10^2 * unscaled / 10^s, so the result in minor units is
+     * minor * unscaled / 10^s rounded HALF_UP.
+     */
+    static long multiplyMinorUnits(long minor, BigDecimal factor) {
+        if (factor.precision() > 18) {
+            return Long.MIN_VALUE;
+        }
+        long unscaled = factor.unscaledValue().longValue();
+        int scale = factor.scale();
+
+        if (scale <= 0) {
+            if (-scale > 18) {
+                return Long.MIN_VALUE;
+            }
+            long multiplier = multiplyExactOrMin(unscaled, POWERS_OF_TEN[-scale]);
+            return multiplier == Long.MIN_VALUE ? Long.MIN_VALUE : multiplyExactOrMin(minor, multiplier);
+        }
+        if (scale > 18) {
+            return Long.MIN_VALUE;
+        }
+
+        long product = multiplyExactOrMin(minor, unscaled);
+        if (product == Long.MIN_VALUE) {
+            return Long.MIN_VALUE;
+        }
+        long divisor = POWERS_OF_TEN[scale];
+        long quotient = product / divisor;
+        long remainder = Math.abs(product % divisor);
+
+        // HALF_UP: round away from zero when the discarded fraction is >= 0.5
+        if (remainder >= divisor - remainder) {
+            quotient += product < 0 ? -1 : 1;
+        }
+        return quotient;
+    }
+
+    private static long multiplyExactOrMin(long a, long b) {
+        long high = Math.multiplyHigh(a, b);
+        long low = a * b;
+        if ((high == 0 && low >= 0) || (high == -1 && low < 0)) {
+            return low == Long.MIN_VALUE ? Long.MIN_VALUE : low;
+        }
+        return Long.MIN_VALUE;
+    }
+}
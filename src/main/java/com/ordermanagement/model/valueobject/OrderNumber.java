@@ -6,9 +6,6 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.io.Serializable;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.UUID;
 import java.util.regex.Pattern;
 
 /**
@@ -25,7 +22,6 @@ import java.util.regex.Pattern;
 public class OrderNumber implements Serializable {
 
     private static final Pattern ORDER_NUMBER_PATTERN = Pattern.compile("^ORD-\\d{8}-[A-Z0-9]{8}$");
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
 
     private String value;
 
@@ -36,16 +32,13 @@ public class OrderNumber implements Serializable {
 
     /**
      * Generates a new unique order number
-     * Format: ORD-YYYYMMDD-XXXXXXXX
+     * Format: ORD-YYYYMMDD-XXXXXXXX (see OrderNumberGenerator)
      */
-    public static OrderNumber generate() {
-        String datePart = LocalDateTime.now().format(DATE_FORMATTER);
-        String uniquePart = UUID.randomUUID().toString()
-            .replace("-", "")
-            .substring(0, 8)
-            .toUpperCase();
-
-        return new OrderNumber("ORD-" + datePart + "-" + uniquePart);
+    public static OrderNumber generate(OrderNumberGenerator generator) {
+        // Generated values always match the format, so they skip validation
+        OrderNumber orderNumber = new OrderNumber();
+        orderNumber.value = generator.nextValue();
+        return orderNumber;
     }
 
     /**
@@ -0,0 +1,143 @@
+package com.ordermanagement.model.valueobject;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free generator for order number values in the format ORD-YYYYMMDD-XXXXXXXX.
+ *
+ * The 8-character suffix is a base-36 encoding of a 41-bit value:
+ * - 10 bits: node id (0-1023), unique per running instance
+ * - 31 bits: per-day sequence, strictly increasing on this node
+ *
+ * Uniqueness without a database round trip:
+ * - Across replicas: each instance uses a distinct node id (business.order.node-id)
+ * - Within an instance: the (day, sequence) pair comes from one AtomicLong that only grows
+ * - Across restarts: the sequence never starts below secondOfDay * 16384, so a restarted
+ *   node continues above anything it issued before, as long as it issued fewer than
+ *   16384 numbers per second on average
+ *
+ * The "ORD-YYYYMMDD-" prefix is cached and only rebuilt when the local day rolls over,
+ * so generation does no date formatting, no UUID/SecureRandom and no regex work.
+ *
+ * One instance per application (a Spring bean, see OrderNumberConfig); OrderNumber.generate
+ * takes it as an argument.
+ *
+ * Design Pattern: Value Object factory
+ * Thread Safety: Lock-free (CAS on a single AtomicLong)
+ */
+public final class OrderNumberGenerator {
+
+    public static final int NODE_ID_BITS = 10;
+    public static final int MAX_NODE_ID = (1 << NODE_ID_BITS) - 1;
+
+    private static final int SEQUENCE_BITS = 31;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int SUB_SECOND_BITS = 14;
+    private static final long MAX_SECOND_OF_DAY = (1L << (SEQUENCE_BITS - SUB_SECOND_BITS)) - 1;
+
+    private static final int SUFFIX_LENGTH = 8;
+    private static final char[] BASE36_DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final int nodeId;
+    private final long nodeBits;
+    private final Clock clock;
+
+    /**
+     * (epochDay << 31) | sequence of the last issued number
+     */
+    private final AtomicLong state = new AtomicLong();
+
+    /**
+     * Local day currently in effect, with its cached prefix
+     */
+    private volatile DayWindow window;
+
+    public OrderNumberGenerator(int nodeId, Clock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException(
+                "Node id must be between 0 and " + MAX_NODE_ID + ", got: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+        this.clock = Objects.requireNonNull(clock, "clock");
+        this.window = DayWindow.containing(clock.millis(), clock.getZone());
+    }
+
+    public int getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Generate the next order number value
+     */
+    public String nextValue() {
+        long millis = clock.millis();
+        DayWindow current = window;
+        if (!current.contains(millis)) {
+            current = DayWindow.containing(millis, clock.getZone());
+            window = current;
+        }
+
+        long secondOfDay = Math.min((millis - current.startMillis()) / 1000, MAX_SECOND_OF_DAY);
+        long floor = (current.epochDay() << SEQUENCE_BITS) | (secondOfDay << SUB_SECOND_BITS);
+        long next = state.updateAndGet(previous -> Math.max(previous + 1, floor));
+
+        // The day comes from the issued state, not the clock, so a clock stepping back
+        // across midnight keeps numbering in the newer day instead of reusing values
+        long day = next >>> SEQUENCE_BITS;
+        String prefix = day == current.epochDay() ? current.prefix() : DayWindow.prefixFor(LocalDate.ofEpochDay(day));
+
+        return prefix.concat(encode(nodeBits | (next & SEQUENCE_MASK)));
+    }
+
+    private static String encode(long value) {
+        char[] digits = new char[SUFFIX_LENGTH];
+        for (int i = SUFFIX_LENGTH - 1; i >= 0; i--) {
+            digits[i] = BASE36_DIGITS[(int) (value % 36)];
+            value /= 36;
+        }
+        return new String(digits);
+    }
+
+    /**
+     * Fallback node id when none is configured: hash of host name and process id.
+     * Distinct replicas must configure business.order.node-id explicitly.
+     */
+    public static int derivedNodeId() {
+        String host = System.getenv("HOSTNAME");
+        if (host == null) {
+            host = System.getenv("COMPUTERNAME");
+        }
+        return Math.floorMod(Objects.hash(host, ProcessHandle.current().pid()), MAX_NODE_ID + 1);
+    }
+
+    /**
+     * One local calendar day: [startMillis, endMillis) and its "ORD-YYYYMMDD-" prefix
+     */
+    private record DayWindow(long epochDay, long startMillis, long endMillis, String prefix) {
+
+        static DayWindow containing(long millis, ZoneId zone) {
+            LocalDate date = Instant.ofEpochMilli(millis).atZone(zone).toLocalDate();
+            return new DayWindow(
+                date.toEpochDay(),
+                date.atStartOfDay(zone).toInstant().toEpochMilli(),
+                date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli(),
+                prefixFor(date));
+        }
+
+        static String prefixFor(LocalDate date) {
+            return "ORD-" + date.format(DATE_FORMATTER) + "-";
+        }
+
+        boolean contains(long millis) {
+            return millis >= startMillis && millis < endMillis;
+        }
+    }
+}
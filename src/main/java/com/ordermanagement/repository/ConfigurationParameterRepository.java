@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +23,11 @@ public interface ConfigurationParameterRepository extends JpaRepository<Configur
      */
     Optional<ConfigurationParameter> findByParamKey(String paramKey);
 
+    /**
+     * Find all parameters for a set of keys in one query
+     */
+    List<ConfigurationParameter> findByParamKeyIn(Collection<String> paramKeys);
+
     /**
      * Find all active parameters
      */
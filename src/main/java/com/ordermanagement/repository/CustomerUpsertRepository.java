@@ -0,0 +1,70 @@
+package com.ordermanagement.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * JDBC insert-if-absent for customers, used by order creation.
+ *
+ * The MERGE skips emails that are already committed, but two transactions (or two replicas)
+ * inserting the same new email concurrently still meet at the unique email constraint: the
+ * later one fails once the earlier one commits. The statement therefore runs under a
+ * savepoint that is rolled back on failure, and goes through JDBC rather than a JPA query,
+ * which would mark the whole transaction rollback-only. The caller's transaction stays
+ * usable and can re-read the row the other transaction inserted.
+ * Runs in the caller's transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CustomerUpsertRepository {
+
+    private static final String INSERT_IF_ABSENT_SQL =
+            "MERGE INTO customers c " +
+            "USING (SELECT CAST(? AS VARCHAR(255)) AS email_address) src " +
+            "ON c.email_address = src.email_address " +
+            "WHEN NOT MATCHED THEN INSERT " +
+            "(customer_code, full_name, email_address, type, is_active, created_at, updated_at) " +
+            "VALUES (?, ?, src.email_address, 'RETAIL', TRUE, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Insert a customer unless one with the same email already exists (single MERGE statement).
+     *
+     * @return number of rows inserted (0 when the customer already existed)
+     * @throws org.springframework.dao.DataIntegrityViolationException if a concurrent transaction
+     *         inserted the same email (or customer code) first; nothing of this call is kept
+     */
+    public int insertIfAbsent(String email, String fullName, String customerCode, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        Integer inserted = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            Savepoint savepoint = connection.getAutoCommit() ? null : connection.setSavepoint();
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_IF_ABSENT_SQL)) {
+                statement.setString(1, email);
+                statement.setString(2, customerCode);
+                statement.setString(3, fullName);
+                statement.setTimestamp(4, timestamp);
+                statement.setTimestamp(5, timestamp);
+                int count = statement.executeUpdate();
+                if (savepoint != null) {
+                    connection.releaseSavepoint(savepoint);
+                }
+                return count;
+            } catch (SQLException e) {
+                if (savepoint != null) {
+                    connection.rollback(savepoint);
+                }
+                throw e;
+            }
+        });
+        return inserted != null ? inserted : 0;
+    }
+}
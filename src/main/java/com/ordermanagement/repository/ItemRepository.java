@@ -1,13 +1,16 @@
 package com.ordermanagement.repository;
 
+import com.ordermanagement.model.dto.projection.OrderItemRow;
 import com.ordermanagement.model.entity.Item;
 import com.ordermanagement.model.entity.Order;
+import com.ordermanagement.model.entity.OrderStatusEntity;
 import com.ordermanagement.model.entity.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -17,6 +20,15 @@ import java.util.List;
 @Repository
 public interface ItemRepository extends JpaRepository<Item, Long> {
 
+    /**
+     * Constructor projection shared by the read-path queries: only the columns
+     * an OrderItemResponse needs, plus the owning order's ID
+     */
+    String ITEM_ROW_SELECT = "SELECT new com.ordermanagement.model.dto.projection.OrderItemRow(" +
+            "i.order.id, i.id, i.productNameSnapshot, i.productCodeSnapshot, " +
+            "i.quantity.value, i.unitPrice.amount, i.finalAmount.amount) " +
+            "FROM Item i ";
+
     /**
      * Find all items for an order
      */
@@ -51,4 +63,23 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
         @Param("startDate") java.time.LocalDateTime startDate,
         @Param("endDate") java.time.LocalDateTime endDate
     );
+
+    /**
+     * Item rows of the given orders as OrderItemRow projections (no entity hydration),
+     * in item ID order
+     */
+    @Query(ITEM_ROW_SELECT + "WHERE i.order.id IN :orderIds ORDER BY i.id")
+    List<OrderItemRow> findRowsByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * Item rows of all orders, in item ID order
+     */
+    @Query(ITEM_ROW_SELECT + "ORDER BY i.id")
+    List<OrderItemRow> findAllRows();
+
+    /**
+     * Item rows of all orders with a specific status, in item ID order
+     */
+    @Query(ITEM_ROW_SELECT + "WHERE i.order.status = :status ORDER BY i.id")
+    List<OrderItemRow> findRowsByOrderStatus(@Param("status") OrderStatusEntity status);
 }
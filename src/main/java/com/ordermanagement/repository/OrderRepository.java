@@ -1,18 +1,31 @@
 package com.ordermanagement.repository;
 
+import com.ordermanagement.constants.ApplicationConstants;
+import com.ordermanagement.model.dto.projection.DailyTotalsRow;
+import com.ordermanagement.model.dto.projection.OrderNumberRow;
+import com.ordermanagement.model.dto.projection.OrderStatusRow;
+import com.ordermanagement.model.dto.projection.OrderSummaryRow;
+import com.ordermanagement.model.dto.projection.OrderTimerRow;
+import com.ordermanagement.model.dto.projection.StatusTotalsRow;
 import com.ordermanagement.model.entity.Order;
 import com.ordermanagement.model.entity.OrderStatusEntity;
 import com.ordermanagement.model.valueobject.OrderNumber;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Order entity.
@@ -29,6 +42,15 @@ import java.util.Optional;
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
+    /**
+     * Constructor projection shared by the read-path queries: selects only the
+     * columns an OrderResponse needs (customer and status via inner joins)
+     */
+    String SUMMARY_ROW_SELECT = "SELECT new com.ordermanagement.model.dto.projection.OrderSummaryRow(" +
+            "o.id, o.orderNumber.value, c.fullName, c.email.address, o.finalAmount.amount, s.code, " +
+            "o.createdAt, o.updatedAt, o.version) " +
+            "FROM Order o JOIN o.customer c JOIN o.status s ";
+
     /**
      * Finds an order by its unique order number value.
      * Uses custom query to access the embedded value object's value field.
@@ -49,12 +71,12 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 
     /**
      * Finds all orders for a specific customer email.
-     * Uses custom query to access customer's embedded email value object.
+     * Filters on the denormalized, indexed customerEmail column, so customers is not joined.
      *
-     * @param emailAddress The customer email address to search for
+     * @param emailAddress The normalized (lower-case) customer email address to search for
      * @return List of orders for the customer
      */
-    @Query("SELECT o FROM Order o WHERE o.customer.email.address = :emailAddress")
+    @Query("SELECT o FROM Order o WHERE o.customerEmail = :emailAddress")
     List<Order> findByCustomerEmail(@Param("emailAddress") String emailAddress);
 
     /**
@@ -106,38 +128,337 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findAllWithItems();
 
     /**
-     * Batch update order status for all orders with a specific current status.
-     * More efficient than updating orders one by one in a loop.
+     * Current status and version of the given orders, in one query and without hydrating entities.
+     * The paid amount sums successful payments (see PaymentStatus#isSuccessful), so payment-gated
+     * transitions need no further query.
+     *
+     * @param ids Order IDs
+     * @return One row per existing order, in no particular order
+     */
+    @Query("SELECT new com.ordermanagement.model.dto.projection.OrderStatusRow(" +
+           "o.id, o.orderNumber.value, o.version, s.id, s.code, o.finalAmount.amount, " +
+           "(SELECT COALESCE(SUM(p.amount.amount), 0) FROM Payment p " +
+           "WHERE p.order = o AND p.status IN ('CAPTURED', 'PARTIALLY_REFUNDED'))) " +
+           "FROM Order o JOIN o.status s WHERE o.id IN :ids")
+    List<OrderStatusRow> findStatusRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Next keyset chunk of orders with a specific status whose automatic transition is due
+     * (or was never scheduled), in ID order. Served by the (status_id, id) index.
+     *
+     * @param status The order status entity to filter by
+     * @param dueBy Orders with a later nextTransitionAt are left to their timer
+     * @param afterId Last ID of the previous chunk (0 for the first chunk)
+     * @param pageable Limit only (page 0, chunk size)
+     * @return ID and order number of each order in the chunk
+     */
+    @Query("SELECT new com.ordermanagement.model.dto.projection.OrderNumberRow(o.id, o.orderNumber.value) " +
+           "FROM Order o WHERE o.status = :status AND o.id > :afterId " +
+           "AND (o.nextTransitionAt IS NULL OR o.nextTransitionAt <= :dueBy) ORDER BY o.id")
+    List<OrderNumberRow> findDueNumberRowsByStatusAfter(@Param("status") OrderStatusEntity status,
+                                                        @Param("dueBy") LocalDateTime dueBy,
+                                                        @Param("afterId") Long afterId,
+                                                        Pageable pageable);
+
+    /**
+     * The given orders that still have a specific status, in ID order.
+     *
+     * @param ids Order IDs (one bounded batch)
+     * @param status The order status entity to filter by
+     * @return ID and order number of each matching order
+     */
+    @Query("SELECT new com.ordermanagement.model.dto.projection.OrderNumberRow(o.id, o.orderNumber.value) " +
+           "FROM Order o WHERE o.id IN :ids AND o.status = :status ORDER BY o.id")
+    List<OrderNumberRow> findNumberRowsByIdInAndStatus(@Param("ids") Collection<Long> ids,
+                                                       @Param("status") OrderStatusEntity status);
+
+    /**
+     * Next keyset chunk of orders whose automatic transition is due by the given time, in ID order.
+     * Used to rebuild the in-memory transition timers at startup.
      *
-     * @param currentStatus The current status entity to filter by
+     * @param dueBy Orders due later are left to the catch-up sweep
+     * @param afterId Last ID of the previous chunk (0 for the first chunk)
+     * @param pageable Limit only (page 0, chunk size)
+     * @return ID and due time of each order in the chunk
+     */
+    @Query("SELECT new com.ordermanagement.model.dto.projection.OrderTimerRow(o.id, o.nextTransitionAt) " +
+           "FROM Order o WHERE o.nextTransitionAt IS NOT NULL AND o.nextTransitionAt <= :dueBy " +
+           "AND o.id > :afterId ORDER BY o.id")
+    List<OrderTimerRow> findTransitionTimersDueBy(@Param("dueBy") LocalDateTime dueBy,
+                                                  @Param("afterId") Long afterId,
+                                                  Pageable pageable);
+
+    /**
+     * Move the given orders to a new status, only while they still have the expected status.
+     * Increments the version like an entity update would, so optimistic locks and
+     * version-validated caches see the change, and clears the scheduled transition.
+     *
+     * @param ids Orders to update (one bounded chunk)
+     * @param currentStatus Status the orders must still have
      * @param newStatus The new status entity to set
-     * @return Number of orders updated
+     * @param updatedAt Update timestamp
+     * @return Number of orders updated; less than ids.size() if some changed concurrently
      */
     @Modifying
-    @Query("UPDATE Order o SET o.status = :newStatus, o.updatedAt = CURRENT_TIMESTAMP WHERE o.status = :currentStatus")
-    int updateOrderStatusBatch(@Param("currentStatus") OrderStatusEntity currentStatus,
-                                @Param("newStatus") OrderStatusEntity newStatus);
+    @Query("UPDATE Order o SET o.status = :newStatus, o.updatedAt = :updatedAt, o.version = o.version + 1, " +
+           "o.nextTransitionAt = NULL WHERE o.id IN :ids AND o.status = :currentStatus")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                           @Param("currentStatus") OrderStatusEntity currentStatus,
+                           @Param("newStatus") OrderStatusEntity newStatus,
+                           @Param("updatedAt") LocalDateTime updatedAt);
 
     /**
-     * Finds all orders with pagination support.
-     * Uses count query for optimal performance.
+     * Finds one page of order IDs.
+     * Selecting only the ID lets the database apply LIMIT/OFFSET and sorting;
+     * load the orders themselves with {@link #findAllWithItemsByIdIn(Collection)}.
      *
      * @param pageable Pagination and sorting parameters
-     * @return Page of orders with items eagerly loaded
+     * @return Page of order IDs in the requested order
      */
-    @Query(value = "SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.items",
-           countQuery = "SELECT COUNT(DISTINCT o) FROM Order o")
-    Page<Order> findAllWithItemsPaginated(Pageable pageable);
+    @Query(value = "SELECT o.id FROM Order o",
+           countQuery = "SELECT COUNT(o) FROM Order o")
+    Page<Long> findIdPage(Pageable pageable);
 
     /**
-     * Finds orders by status with pagination support.
-     * Uses count query for optimal performance.
+     * Finds one page of order IDs with a specific status.
      *
      * @param status The order status entity to filter by
      * @param pageable Pagination and sorting parameters
-     * @return Page of orders with the specified status
+     * @return Page of order IDs in the requested order
+     */
+    @Query(value = "SELECT o.id FROM Order o WHERE o.status = :status",
+           countQuery = "SELECT COUNT(o) FROM Order o WHERE o.status = :status")
+    Page<Long> findIdPageByStatus(@Param("status") OrderStatusEntity status, Pageable pageable);
+
+    /**
+     * Loads the given orders as managed entities with customer, status and items in one query.
+     * For code that needs the entity graph; read endpoints use the summary row projections.
+     * Result order is unspecified.
+     *
+     * @param ids Order IDs to load
+     * @return Orders with items eagerly loaded
+     */
+    @Query("SELECT DISTINCT o FROM Order o " +
+           "LEFT JOIN FETCH o.customer " +
+           "LEFT JOIN FETCH o.status " +
+           "LEFT JOIN FETCH o.items " +
+           "WHERE o.id IN :ids")
+    List<Order> findAllWithItemsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * First keyset page of order IDs, newest first.
+     *
+     * @param pageable Limit only (page 0, size + 1 to detect a next page)
+     * @return Order IDs ordered by createdAt DESC, id DESC
+     */
+    @Query("SELECT o.id FROM Order o ORDER BY o.createdAt DESC, o.id DESC")
+    List<Long> findIdsForFirstKeysetPage(Pageable pageable);
+
+    /**
+     * Keyset page of order IDs strictly after the given (createdAt, id) position.
+     *
+     * @param createdAt Creation time of the last order of the previous page
+     * @param id ID of the last order of the previous page
+     * @param pageable Limit only (page 0, size + 1 to detect a next page)
+     * @return Order IDs ordered by createdAt DESC, id DESC
+     */
+    @Query("SELECT o.id FROM Order o " +
+           "WHERE o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Long> findIdsAfterKeyset(@Param("createdAt") LocalDateTime createdAt,
+                                  @Param("id") Long id,
+                                  Pageable pageable);
+
+    /**
+     * First keyset page of order IDs with a specific status, newest first.
+     * Served by the (status_id, createdAt, id) index.
+     *
+     * @param status The order status entity to filter by
+     * @param pageable Limit only (page 0, size + 1 to detect a next page)
+     * @return Order IDs ordered by createdAt DESC, id DESC
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.status = :status ORDER BY o.createdAt DESC, o.id DESC")
+    List<Long> findIdsForFirstKeysetPageByStatus(@Param("status") OrderStatusEntity status, Pageable pageable);
+
+    /**
+     * Keyset page of order IDs with a specific status, strictly after the given position.
+     * Served by the (status_id, createdAt, id) index.
+     *
+     * @param status The order status entity to filter by
+     * @param createdAt Creation time of the last order of the previous page
+     * @param id ID of the last order of the previous page
+     * @param pageable Limit only (page 0, size + 1 to detect a next page)
+     * @return Order IDs ordered by createdAt DESC, id DESC
+     */
+    @Query("SELECT o.id FROM Order o " +
+           "WHERE o.status = :status " +
+           "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Long> findIdsAfterKeysetByStatus(@Param("status") OrderStatusEntity status,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
+    /**
+     * First keyset page of a customer's order IDs, newest first.
+     * Served by the (customerEmail, createdAt, id) index without joining customers.
+     *
+     * @param customerEmail Normalized (lower-case) customer email
+     * @param pageable Limit only (page 0, size + 1 to detect a next page)
+     * @return Order IDs ordered by createdAt DESC, id DESC
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.customerEmail = :customerEmail ORDER BY o.createdAt DESC, o.id DESC")
+    List<Long> findIdsForFirstKeysetPageByCustomerEmail(@Param("customerEmail") String customerEmail,
+                                                        Pageable pageable);
+
+    /**
+     * Keyset page of a customer's order IDs, strictly after the given position.
+     * Served by the (customerEmail, createdAt, id) index without joining customers.
+     *
+     * @param customerEmail Normalized (lower-case) customer email
+     * @param createdAt Creation time of the last order of the previous page
+     * @param id ID of the last order of the previous page
+     * @param pageable Limit only (page 0, size + 1 to detect a next page)
+     * @return Order IDs ordered by createdAt DESC, id DESC
+     */
+    @Query("SELECT o.id FROM Order o " +
+           "WHERE o.customerEmail = :customerEmail " +
+           "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Long> findIdsAfterKeysetByCustomerEmail(@Param("customerEmail") String customerEmail,
+                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") Long id,
+                                                 Pageable pageable);
+
+    /**
+     * Next chunk of order IDs in ID order, strictly after the given ID (keyset scan over the primary key).
+     *
+     * @param afterId Last ID of the previous chunk (0 for the first chunk)
+     * @param pageable Limit only (page 0, chunk size)
+     * @return Order IDs in ascending order
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.id > :afterId ORDER BY o.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Next chunk of IDs of orders created or updated since the given time, in ID order
+     * (keyset scan; drives the incremental search index refresh).
+     *
+     * @param since Lower bound on updatedAt (inclusive)
+     * @param afterId Last ID of the previous chunk (0 for the first chunk)
+     * @param pageable Limit only (page 0, chunk size)
+     * @return Order IDs in ascending order
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.updatedAt >= :since AND o.id > :afterId ORDER BY o.id")
+    List<Long> findIdsUpdatedSince(@Param("since") LocalDateTime since,
+                                   @Param("afterId") Long afterId,
+                                   Pageable pageable);
+
+    /**
+     * Order count and final amount sum per status (full aggregate; used for reconciliation only).
+     *
+     * @return One row per status that has orders
+     */
+    @Query("SELECT new com.ordermanagement.model.dto.projection.StatusTotalsRow(" +
+           "s.code, COUNT(o), SUM(o.finalAmount.amount)) " +
+           "FROM Order o JOIN o.status s GROUP BY s.code")
+    List<StatusTotalsRow> findStatusTotals();
+
+    /**
+     * Order count and final amount sum per creation day, from the given time on.
+     * Served by the createdAt index (used for reconciliation only).
+     *
+     * @param from Start of the first day
+     * @return One row per day that has orders
+     */
+    @Query("SELECT new com.ordermanagement.model.dto.projection.DailyTotalsRow(" +
+           "CAST(o.createdAt AS LocalDate), COUNT(o), SUM(o.finalAmount.amount)) " +
+           "FROM Order o WHERE o.createdAt >= :from GROUP BY CAST(o.createdAt AS LocalDate)")
+    List<DailyTotalsRow> findDailyTotalsSince(@Param("from") LocalDateTime from);
+
+    /**
+     * Counts orders with a specific status.
+     *
+     * @param status The order status entity to filter by
+     * @return Number of orders with the status
+     */
+    long countByStatus(OrderStatusEntity status);
+
+    /**
+     * Current @Version of an order: a single-column primary key lookup used to
+     * validate cached responses.
+     *
+     * @param id The order ID
+     * @return Optional containing the version if the order exists
+     */
+    @Query("SELECT o.version FROM Order o WHERE o.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Order summary row for an OrderResponse (projection, no entity hydration).
+     *
+     * @param id The order ID
+     * @return Optional containing the row if found
+     */
+    @Query(SUMMARY_ROW_SELECT + "WHERE o.id = :id")
+    Optional<OrderSummaryRow> findSummaryRowById(@Param("id") Long id);
+
+    /**
+     * Order summary rows for the given IDs (projection, no entity hydration).
+     * Result order is unspecified; callers restore the order of the ID page.
+     *
+     * @param ids Order IDs to load
+     * @return Summary rows of the orders that exist
+     */
+    @Query(SUMMARY_ROW_SELECT + "WHERE o.id IN :ids")
+    List<OrderSummaryRow> findSummaryRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Summary rows of all orders in ID order (projection, no entity hydration).
+     *
+     * @return Summary rows of all orders
+     */
+    @Query(SUMMARY_ROW_SELECT + "ORDER BY o.id")
+    List<OrderSummaryRow> findAllSummaryRows();
+
+    /**
+     * Summary rows of all orders with a specific status in ID order.
+     *
+     * @param status The order status entity to filter by
+     * @return Summary rows of the matching orders
+     */
+    @Query(SUMMARY_ROW_SELECT + "WHERE o.status = :status ORDER BY o.id")
+    List<OrderSummaryRow> findSummaryRowsByStatus(@Param("status") OrderStatusEntity status);
+
+    /**
+     * Streams summary rows of orders created in [from, to) in ID order for exports.
+     * Forward-only with a JDBC fetch size, so rows are pulled from the database as the
+     * stream is consumed; must be consumed inside a transaction and closed.
+     * Projections are not managed, so the persistence context does not grow.
+     * Rows carry no items: load them per chunk of rows with
+     * {@link ItemRepository#findRowsByOrderIdIn(java.util.Collection)}.
+     *
+     * @param from Inclusive lower bound on createdAt
+     * @param to Exclusive upper bound on createdAt
+     * @return Stream of summary rows
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + ApplicationConstants.Export.FETCH_SIZE))
+    @Query(SUMMARY_ROW_SELECT + "WHERE o.createdAt >= :from AND o.createdAt < :to ORDER BY o.id")
+    Stream<OrderSummaryRow> streamSummaryRowsForExport(@Param("from") LocalDateTime from,
+                                                       @Param("to") LocalDateTime to);
+
+    /**
+     * Streams summary rows of orders with a specific status created in [from, to) in ID order.
+     *
+     * @param status The order status entity to filter by
+     * @param from Inclusive lower bound on createdAt
+     * @param to Exclusive upper bound on createdAt
+     * @return Stream of summary rows
+     * @see #streamSummaryRowsForExport(LocalDateTime, LocalDateTime)
      */
-    @Query(value = "SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.items WHERE o.status = :status",
-           countQuery = "SELECT COUNT(DISTINCT o) FROM Order o WHERE o.status = :status")
-    Page<Order> findByStatusWithItemsPaginated(@Param("status") OrderStatusEntity status, Pageable pageable);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + ApplicationConstants.Export.FETCH_SIZE))
+    @Query(SUMMARY_ROW_SELECT + "WHERE o.status = :status AND o.createdAt >= :from AND o.createdAt < :to ORDER BY o.id")
+    Stream<OrderSummaryRow> streamSummaryRowsForExportByStatus(@Param("status") OrderStatusEntity status,
+                                                               @Param("from") LocalDateTime from,
+                                                               @Param("to") LocalDateTime to);
 }
@@ -0,0 +1,98 @@
+package com.ordermanagement.repository;
+
+import com.ordermanagement.model.dto.projection.OrderStatusRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC-batched, version-guarded order status updates.
+ *
+ * JPQL bulk updates cannot be JDBC-batched and report one count for the whole statement,
+ * and entity updates would load every order's items (totals are recalculated on update).
+ * Here each order gets its own "WHERE id = ? AND version = ?" statement, all sent in one
+ * JDBC batch, so the per-statement counts tell exactly which orders changed concurrently.
+ * Drivers that report SUCCESS_NO_INFO instead of a count get those rows re-read.
+ * Runs in the caller's transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderStatusBatchRepository {
+
+    private static final String UPDATE_STATUS_SQL =
+            "UPDATE orders SET status_id = ?, updated_at = ?, version = version + 1, next_transition_at = NULL " +
+            "WHERE id = ? AND version = ?";
+
+    private static final String SELECT_VERSION_SQL = "SELECT id, version, status_id FROM orders WHERE id IN (";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Move the given orders to a new status, each only if still at the version it was read at.
+     *
+     * @param orders Orders to update, with the version they were read at
+     * @param newStatusId ID of the new status
+     * @param updatedAt Update timestamp
+     * @return One flag per order, in input order: true if the order was updated
+     */
+    public boolean[] updateStatuses(List<OrderStatusRow> orders, Long newStatusId, LocalDateTime updatedAt) {
+        boolean[] updated = new boolean[orders.size()];
+        if (orders.isEmpty()) {
+            return updated;
+        }
+
+        Timestamp timestamp = Timestamp.valueOf(updatedAt);
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_STATUS_SQL, orders, orders.size(), (statement, order) -> {
+            statement.setLong(1, newStatusId);
+            statement.setTimestamp(2, timestamp);
+            statement.setLong(3, order.id());
+            statement.setLong(4, order.version());
+        });
+
+        List<Integer> unknown = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // SUCCESS_NO_INFO (-2): the driver executed the statement without reporting a count
+                if (count == Statement.SUCCESS_NO_INFO) {
+                    unknown.add(index);
+                }
+                updated[index++] = count > 0;
+            }
+        }
+        if (!unknown.isEmpty()) {
+            resolveUnknown(orders, unknown, newStatusId, updated);
+        }
+        return updated;
+    }
+
+    /**
+     * Decide the statements the driver gave no count for by re-reading their rows. Our own update
+     * still holds the row lock, so a row at the next version with the new status was moved by it.
+     */
+    private void resolveUnknown(List<OrderStatusRow> orders, List<Integer> unknown, Long newStatusId,
+                                boolean[] updated) {
+        String placeholders = String.join(", ", Collections.nCopies(unknown.size(), "?"));
+        Object[] ids = unknown.stream().map(i -> orders.get(i).id()).toArray();
+
+        Map<Long, long[]> current = new HashMap<>();
+        jdbcTemplate.query(SELECT_VERSION_SQL + placeholders + ")", rs -> {
+            current.put(rs.getLong(1), new long[]{rs.getLong(2), rs.getLong(3)});
+        }, ids);
+
+        for (int i : unknown) {
+            OrderStatusRow order = orders.get(i);
+            long[] row = current.get(order.id());
+            updated[i] = row != null && row[0] == order.version() + 1 && row[1] == newStatusId;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.ordermanagement.repository;
+
+import com.ordermanagement.model.entity.OrderStatusHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for OrderStatusHistory entity.
+ * Used to write history rows in bulk (JDBC-batched via pooled sequence IDs)
+ * without loading the orders they belong to.
+ */
+@Repository
+public interface OrderStatusHistoryRepository extends JpaRepository<OrderStatusHistory, Long> {
+}
@@ -0,0 +1,106 @@
+package com.ordermanagement.repository;
+
+import com.ordermanagement.model.entity.OutboxEvent;
+import com.ordermanagement.model.enums.OutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for the transactional outbox.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Next rows in a status that no relay holds, oldest first (uses idx_outbox_status_created).
+     * Aggregates with a row claimed by a relay are skipped entirely, so two relays never
+     * deliver events of the same aggregate concurrently or out of order.
+     */
+    @Query("SELECT e.id FROM OutboxEvent e " +
+           "WHERE e.status = :status AND (e.claimedUntil IS NULL OR e.claimedUntil < :now) " +
+           "AND NOT EXISTS (SELECT 1 FROM OutboxEvent o WHERE o.aggregateType = e.aggregateType " +
+           "AND o.aggregateId = e.aggregateId AND o.status = :status AND o.claimedUntil >= :now) " +
+           "ORDER BY e.createdAt, e.id")
+    List<Long> findClaimableIds(@Param("status") OutboxStatus status,
+                                @Param("now") LocalDateTime now,
+                                Pageable pageable);
+
+    /**
+     * Claim rows for one relay until the lease ends. Rows claimed by another relay in the
+     * meantime (or no longer in the status) are left alone, so each row has a single owner.
+     *
+     * @return Number of rows claimed
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.claimedBy = :owner, e.claimedUntil = :claimedUntil " +
+           "WHERE e.id IN :ids AND e.status = :status AND (e.claimedUntil IS NULL OR e.claimedUntil < :now)")
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("status") OutboxStatus status,
+              @Param("owner") String owner,
+              @Param("claimedUntil") LocalDateTime claimedUntil,
+              @Param("now") LocalDateTime now);
+
+    /**
+     * Rows currently claimed by a relay, in delivery order
+     */
+    List<OutboxEvent> findByClaimedByOrderByCreatedAtAscIdAsc(String claimedBy);
+
+    /**
+     * Release every claim of a relay (delivered, failed and undelivered rows alike)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.claimedBy = NULL, e.claimedUntil = NULL WHERE e.claimedBy = :owner")
+    int releaseClaims(@Param("owner") String owner);
+
+    /**
+     * Mark a batch of rows as published in one statement
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.status = :status, e.processedAt = :processedAt WHERE e.id IN :ids")
+    int markProcessed(@Param("ids") Collection<Long> ids,
+                      @Param("status") OutboxStatus status,
+                      @Param("processedAt") LocalDateTime processedAt);
+
+    /**
+     * Creation time of the oldest row in a status (null if none) - drives the lag metric
+     */
+    @Query("SELECT MIN(e.createdAt) FROM OutboxEvent e WHERE e.status = :status")
+    LocalDateTime findOldestCreatedAt(@Param("status") OutboxStatus status);
+
+    long countByStatus(OutboxStatus status);
+
+    /**
+     * IDs of rows in a status, up to the page size (reconciliation watermark)
+     */
+    @Query("SELECT e.id FROM OutboxEvent e WHERE e.status = :status")
+    List<Long> findIdsByStatus(@Param("status") OutboxStatus status, Pageable pageable);
+
+    /**
+     * Which of the given IDs exist (reconciliation watermark)
+     */
+    @Query("SELECT e.id FROM OutboxEvent e WHERE e.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Distinct aggregates with an event of the given type created since the given time
+     * (search index refresh: orders cancelled on any instance)
+     */
+    @Query("SELECT DISTINCT e.aggregateId FROM OutboxEvent e WHERE e.eventType = :eventType AND e.createdAt >= :since")
+    List<Long> findAggregateIdsByEventTypeSince(@Param("eventType") String eventType,
+                                                @Param("since") LocalDateTime since);
+
+    /**
+     * Retention purge of processed rows
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = :status AND e.processedAt < :cutoff")
+    int deleteProcessedBefore(@Param("status") OutboxStatus status, @Param("cutoff") LocalDateTime cutoff);
+}
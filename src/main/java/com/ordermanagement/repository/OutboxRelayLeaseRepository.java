@@ -0,0 +1,31 @@
+package com.ordermanagement.repository;
+
+import com.ordermanagement.model.entity.OutboxRelayLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository interface for outbox relay leases.
+ */
+@Repository
+public interface OutboxRelayLeaseRepository extends JpaRepository<OutboxRelayLease, String> {
+
+    /**
+     * Renew the lease if the owner already holds it, or take it over if it expired.
+     * The row lock of the UPDATE makes concurrent takeovers pick a single winner.
+     *
+     * @return 1 if the owner holds the lease afterwards, 0 otherwise (or if the row does not exist)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxRelayLease l SET l.owner = :owner, l.expiresAt = :expiresAt " +
+           "WHERE l.name = :name AND (l.owner = :owner OR l.expiresAt < :now)")
+    int renewOrTakeOver(@Param("name") String name,
+                        @Param("owner") String owner,
+                        @Param("expiresAt") LocalDateTime expiresAt,
+                        @Param("now") LocalDateTime now);
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +23,11 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      */
     Optional<Product> findByProductCode(String productCode);
 
+    /**
+     * Find all products whose code is in the given set (single IN query)
+     */
+    List<Product> findByProductCodeIn(Collection<String> productCodes);
+
     /**
      * Find products by SKU
      */
@@ -1,11 +1,15 @@
 package com.ordermanagement.service;
 
+import com.ordermanagement.constants.ApplicationConstants;
+import com.ordermanagement.event.ConfigurationChangedEvent;
 import com.ordermanagement.model.entity.ConfigurationParameter;
 import com.ordermanagement.model.enums.ParameterType;
 import com.ordermanagement.repository.ConfigurationParameterRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +22,9 @@ import java.util.Optional;
  *
  * Design Pattern: Service Pattern, Cache-Aside Pattern
  * Use Case: Dynamic business rules and application settings
+ *
+ * Cache keys are prefixed with the value type (and default, where given) so typed
+ * getters for the same parameter never hand each other a value of the wrong type.
  */
 @Service
 @Slf4j
@@ -26,11 +33,12 @@ import java.util.Optional;
 public class ConfigurationService {
 
     private final ConfigurationParameterRepository configRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Get parameter value as String
      */
-    @Cacheable(value = "configuration", key = "#key")
+    @Cacheable(value = ApplicationConstants.Cache.CONFIG_CACHE, key = "'string:' + #key")
     public String getString(String key) {
         return configRepository.findByParamKey(key)
             .map(ConfigurationParameter::getValueAsString)
@@ -40,7 +48,7 @@ public class ConfigurationService {
     /**
      * Get parameter value as String with default
      */
-    @Cacheable(value = "configuration", key = "#key")
+    @Cacheable(value = ApplicationConstants.Cache.CONFIG_CACHE, key = "'string:' + #key + ':' + #defaultValue")
     public String getString(String key, String defaultValue) {
         return configRepository.findByParamKey(key)
             .map(ConfigurationParameter::getValueAsString)
@@ -50,7 +58,7 @@ public class ConfigurationService {
     /**
      * Get parameter value as Integer
      */
-    @Cacheable(value = "configuration", key = "#key")
+    @Cacheable(value = ApplicationConstants.Cache.CONFIG_CACHE, key = "'integer:' + #key")
     public Integer getInteger(String key) {
         return configRepository.findByParamKey(key)
             .map(ConfigurationParameter::getValueAsInteger)
@@ -60,7 +68,7 @@ public class ConfigurationService {
     /**
      * Get parameter value as Integer with default
      */
-    @Cacheable(value = "configuration", key = "#key")
+    @Cacheable(value = ApplicationConstants.Cache.CONFIG_CACHE, key = "'integer:' + #key + ':' + #defaultValue")
     public Integer getInteger(String key, Integer defaultValue) {
         return configRepository.findByParamKey(key)
             .map(ConfigurationParameter::getValueAsInteger)
@@ -70,7 +78,7 @@ public class ConfigurationService {
     /**
      * Get parameter value as Long
      */
-    @Cacheable(value = "configuration", key = "#key")
+    @Cacheable(value = ApplicationConstants.Cache.CONFIG_CACHE, key = "'long:' + #key")
     public Long getLong(String key) {
         return configRepository.findByParamKey(key)
             .map(ConfigurationParameter::getValueAsLong)
@@ -80,7 +88,7 @@ public class ConfigurationService {
     /**
      * Get parameter value as Long with default
      */
-    @Cacheable(value = "configuration", key = "#key")
+    @Cacheable(value = ApplicationConstants.Cache.CONFIG_CACHE, key = "'long:' + #key + ':' + #defaultValue")
     public Long getLong(String key, Long defaultValue) {
         return configRepository.findByParamKey(key)
             .map(ConfigurationParameter::getValueAsLong)
@@ -90,7 +98,7 @@ public class ConfigurationService {
     /**
      * Get parameter value as Double
      */
-    @Cacheable(value = "configuration", key = "#key")
+    @Cacheable(value = ApplicationConstants.Cache.CONFIG_CACHE, key = "'double:' + #key")
     public Double getDouble(String key) {
         return configRepository.findByParamKey(key)
             .map(ConfigurationParameter::getValueAsDouble)
@@ -100,7 +108,7 @@ public class ConfigurationService {
     /**
      * Get parameter value as Double with default
      */
-    @Cacheable(value = "configuration", key = "#key")
+    @Cacheable(value = ApplicationConstants.Cache.CONFIG_CACHE, key = "'double:' + #key + ':' + #defaultValue")
     public Double getDouble(String key, Double defaultValue) {
         return configRepository.findByParamKey(key)
             .map(ConfigurationParameter::getValueAsDouble)
@@ -110,7 +118,7 @@ public class ConfigurationService {
     /**
      * Get parameter value as Boolean
      */
-    @Cacheable(value = "configuration", key = "#key")
+    @Cacheable(value = ApplicationConstants.Cache.CONFIG_CACHE, key = "'boolean:' + #key")
     public Boolean getBoolean(String key) {
         return configRepository.findByParamKey(key)
             .map(ConfigurationParameter::getValueAsBoolean)
@@ -120,7 +128,7 @@ public class ConfigurationService {
     /**
      * Get parameter value as Boolean with default
      */
-    @Cacheable(value = "configuration", key = "#key")
+    @Cacheable(value = ApplicationConstants.Cache.CONFIG_CACHE, key = "'boolean:' + #key + ':' + #defaultValue")
     public Boolean getBoolean(String key, Boolean defaultValue) {
         return configRepository.findByParamKey(key)
             .map(ConfigurationParameter::getValueAsBoolean)
@@ -130,7 +138,7 @@ public class ConfigurationService {
     /**
      * Get all parameters by category
      */
-    @Cacheable(value = "configuration", key = "'category:' + #category")
+    @Cacheable(value = ApplicationConstants.Cache.CONFIG_CACHE, key = "'category:' + #category")
     public List<ConfigurationParameter> getByCategory(String category) {
         return configRepository.findByCategoryOrderByDisplayOrder(category);
     }
@@ -138,36 +146,40 @@ public class ConfigurationService {
     /**
      * Get all active parameters
      */
-    @Cacheable(value = "configuration", key = "'all-active'")
+    @Cacheable(value = ApplicationConstants.Cache.CONFIG_CACHE, key = "'all-active'")
     public List<ConfigurationParameter> getAllActive() {
         return configRepository.findByIsActiveTrueOrderByDisplayOrder();
     }
 
     /**
-     * Update parameter value
+     * Update parameter value (evicts the configuration cache)
      */
     @Transactional
+    @CacheEvict(value = ApplicationConstants.Cache.CONFIG_CACHE, allEntries = true)
     public void updateParameter(String key, String newValue, String updatedBy) {
         ConfigurationParameter param = configRepository.findByParamKey(key)
             .orElseThrow(() -> new IllegalArgumentException("Parameter not found: " + key));
 
         param.updateValue(newValue, updatedBy);
         configRepository.save(param);
+        eventPublisher.publishEvent(new ConfigurationChangedEvent(this, key));
 
         log.info("Configuration parameter updated: key={}, newValue={}, updatedBy={}",
             key, newValue, updatedBy);
     }
 
     /**
-     * Create new parameter
+     * Create new parameter (evicts cached defaults/nulls for the new key)
      */
     @Transactional
+    @CacheEvict(value = ApplicationConstants.Cache.CONFIG_CACHE, allEntries = true)
     public ConfigurationParameter createParameter(ConfigurationParameter parameter) {
         if (configRepository.existsByParamKey(parameter.getParamKey())) {
             throw new IllegalArgumentException("Parameter already exists: " + parameter.getParamKey());
         }
 
         ConfigurationParameter saved = configRepository.save(parameter);
+        eventPublisher.publishEvent(new ConfigurationChangedEvent(this, saved.getParamKey()));
         log.info("Configuration parameter created: key={}", parameter.getParamKey());
         return saved;
     }
@@ -0,0 +1,293 @@
+package com.ordermanagement.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.ordermanagement.constants.ApplicationConstants;
+import com.ordermanagement.model.entity.Customer;
+import com.ordermanagement.model.valueobject.Email;
+import com.ordermanagement.repository.CustomerRepository;
+import com.ordermanagement.repository.CustomerUpsertRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Resolves the customer of an incoming order by email.
+ * Replaces the select-then-save lookup that created duplicates under concurrent first orders.
+ *
+ * Resolution path:
+ * 1. Email-keyed in-memory cache (bounded, TTL)
+ * 2. Per-key single-flight: concurrent misses for one email wait for a single leader
+ * 3. Leader selects the customer and, if absent, inserts it with one MERGE statement
+ *
+ * A newly inserted customer is only published to the cache and to waiting callers after the
+ * leader's transaction commits, so nobody references an uncommitted row.
+ *
+ * Concurrency:
+ * - Followers wait at most leaderWaitMs, then look the customer up themselves
+ * - A thread whose transaction holds uncommitted inserts never waits: two batch chunks
+ *   leading different emails could otherwise wait on each other until both time out
+ * - The MERGE can still lose to a concurrent insert of the same email (another instance,
+ *   or a follower that stopped waiting); the duplicate-key error is caught and the row
+ *   inserted by the other transaction is read back
+ *
+ * Cached customers are evicted by CustomerCacheListener when they are updated or removed.
+ *
+ * Design Patterns:
+ * - Cache-Aside Pattern - In-memory cache in front of CustomerRepository
+ * - Single-Flight (Request Coalescing) - One DB round trip per email at a time
+ *
+ * SOLID Principles:
+ * - Single Responsibility: Only resolves customers for order creation
+ * - Dependency Inversion: OrderMapper depends on this service, not on repository details
+ */
+@Service
+@Slf4j
+public class CustomerResolutionService {
+
+    private static final String CACHE_NAME = "customers";
+    private static final int MAX_FOLLOWER_RETRIES = 1;
+
+    /**
+     * Resolutions of the current thread inserted but not yet committed
+     */
+    private static final ThreadLocal<Integer> UNCOMMITTED_LEADS = ThreadLocal.withInitial(() -> 0);
+
+    private final CustomerRepository customerRepository;
+    private final CustomerUpsertRepository customerUpsertRepository;
+    private final long leaderWaitMs;
+    private final Cache<String, Customer> cache;
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Customer ID -> cached email, so updates and removals evict without a scan
+     */
+    private final Map<Long, String> emailsByCustomerId = new ConcurrentHashMap<>();
+    private final Counter upsertCounter;
+    private final Counter coalescedCounter;
+
+    public CustomerResolutionService(
+            CustomerRepository customerRepository,
+            CustomerUpsertRepository customerUpsertRepository,
+            MeterRegistry meterRegistry,
+            @Value("${cache.customer.max-size:" + ApplicationConstants.Cache.CUSTOMER_CACHE_MAX_SIZE + "}") long maxSize,
+            @Value("${cache.customer.ttl-minutes:" + ApplicationConstants.Cache.CUSTOMER_CACHE_TTL_MINUTES + "}") long ttlMinutes,
+            @Value("${cache.customer.leader-wait-ms:" + ApplicationConstants.Customer.RESOLUTION_WAIT_MS + "}") long leaderWaitMs) {
+        this.customerRepository = customerRepository;
+        this.customerUpsertRepository = customerUpsertRepository;
+        this.leaderWaitMs = leaderWaitMs;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .evictionListener((String email, Customer customer, RemovalCause cause) -> {
+                    if (customer != null && customer.getId() != null) {
+                        emailsByCustomerId.remove(customer.getId(), email);
+                    }
+                })
+                .recordStats()
+                .build();
+
+        // Hit/miss/eviction metrics: cache.gets{cache="customers",result="hit|miss"}, ...
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+
+        this.upsertCounter = Counter.builder("customers.resolution.upserts.total")
+                .description("Customer MERGE upserts issued during order creation")
+                .tag("application", "order-management")
+                .register(meterRegistry);
+
+        this.coalescedCounter = Counter.builder("customers.resolution.coalesced.total")
+                .description("Customer lookups served by waiting on an in-flight resolution")
+                .tag("application", "order-management")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Get the customer for an email, creating it on first use.
+     *
+     * @param customerName Name used only when the customer does not exist yet
+     * @param customerEmail Raw email from the request (validated and normalized here)
+     * @return The customer entity
+     */
+    public Customer resolve(String customerName, String customerEmail) {
+        String email = Email.of(customerEmail).getAddress();
+        return resolve(customerName, email, 0);
+    }
+
+    /**
+     * Drop a cached customer (e.g. after its email, type or name changed).
+     * Also drops the entry cached under the customer's previous email.
+     */
+    public void evict(Customer customer) {
+        if (customer.getEmail() != null) {
+            cache.invalidate(customer.getEmail().getAddress());
+        }
+        if (customer.getId() != null) {
+            String cachedEmail = emailsByCustomerId.remove(customer.getId());
+            if (cachedEmail != null) {
+                cache.invalidate(cachedEmail);
+            }
+        }
+    }
+
+    private Customer resolve(String customerName, String email, int attempt) {
+        Customer cached = cache.getIfPresent(email);
+        if (cached != null) {
+            return cached;
+        }
+
+        InFlight flight = new InFlight(Thread.currentThread(), new CompletableFuture<>());
+        InFlight existing = inFlight.putIfAbsent(email, flight);
+
+        if (existing != null) {
+            if (existing.owner() == Thread.currentThread()) {
+                // Same thread (same transaction) already resolved this email, e.g. a batch chunk
+                return findOrInsert(customerName, email).customer();
+            }
+            return awaitLeader(existing, customerName, email, attempt);
+        }
+
+        try {
+            Resolution resolution = findOrInsert(customerName, email);
+            publish(email, flight, resolution);
+            return resolution.customer();
+        } catch (RuntimeException e) {
+            inFlight.remove(email, flight);
+            flight.result().complete(null);
+            throw e;
+        }
+    }
+
+    /**
+     * Wait (bounded) for the leader of an in-flight resolution. If the leader failed, rolled
+     * back or is still running, retry once as a potential leader and then fall back to a
+     * direct lookup. A thread holding uncommitted inserts looks the customer up directly.
+     */
+    private Customer awaitLeader(InFlight leader, String customerName, String email, int attempt) {
+        if (UNCOMMITTED_LEADS.get() > 0) {
+            return findOrInsert(customerName, email).customer();
+        }
+        coalescedCounter.increment();
+
+        Customer customer;
+        try {
+            customer = leader.result().get(leaderWaitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.debug("Resolution of {} still in flight after {} ms, looking it up directly", email, leaderWaitMs);
+            return findOrInsert(customerName, email).customer();
+        } catch (ExecutionException e) {
+            customer = null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while resolving customer " + email, e);
+        }
+
+        if (customer != null) {
+            return customer;
+        }
+        if (attempt < MAX_FOLLOWER_RETRIES) {
+            return resolve(customerName, email, attempt + 1);
+        }
+        return findOrInsert(customerName, email).customer();
+    }
+
+    /**
+     * Select the customer; if absent, insert it with a single MERGE and read it back.
+     * A MERGE that loses to a concurrent insert of the same email re-reads the winner's row.
+     */
+    private Resolution findOrInsert(String customerName, String email) {
+        DataIntegrityViolationException lastConflict = null;
+        for (int attempt = 0; attempt < ApplicationConstants.Customer.MAX_UPSERT_ATTEMPTS; attempt++) {
+            Customer existing = customerRepository.findByEmail(email).orElse(null);
+            if (existing != null) {
+                return new Resolution(existing, false);
+            }
+
+            int inserted;
+            try {
+                inserted = customerUpsertRepository.insertIfAbsent(
+                        email, customerName, generateCustomerCode(), LocalDateTime.now());
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Concurrent insert of customer {}, re-reading: {}", email, e.getMessage());
+                lastConflict = e;
+                continue;
+            }
+            if (inserted > 0) {
+                upsertCounter.increment();
+                log.debug("Created customer for email {}", email);
+            }
+
+            Customer customer = customerRepository.findByEmail(email).orElse(null);
+            if (customer != null) {
+                return new Resolution(customer, inserted > 0);
+            }
+        }
+        throw new IllegalStateException("Customer upsert did not produce a row for " + email, lastConflict);
+    }
+
+    /**
+     * Publish a resolved customer to the cache and to waiting callers.
+     * Rows inserted by this transaction are published only after commit.
+     */
+    private void publish(String email, InFlight flight, Resolution resolution) {
+        if (!resolution.inserted() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            complete(email, flight, resolution.customer());
+            return;
+        }
+
+        UNCOMMITTED_LEADS.set(UNCOMMITTED_LEADS.get() + 1);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                int remaining = UNCOMMITTED_LEADS.get() - 1;
+                if (remaining > 0) {
+                    UNCOMMITTED_LEADS.set(remaining);
+                } else {
+                    UNCOMMITTED_LEADS.remove();
+                }
+                complete(email, flight, status == STATUS_COMMITTED ? resolution.customer() : null);
+            }
+        });
+    }
+
+    private void complete(String email, InFlight flight, Customer customer) {
+        if (customer != null) {
+            cache.put(email, customer);
+            if (customer.getId() != null) {
+                emailsByCustomerId.put(customer.getId(), email);
+            }
+        }
+        inFlight.remove(email, flight);
+        flight.result().complete(customer);
+    }
+
+    private String generateCustomerCode() {
+        return ApplicationConstants.Customer.CUSTOMER_CODE_PREFIX + System.currentTimeMillis()
+                + "-" + Integer.toString(ThreadLocalRandom.current().nextInt(36 * 36 * 36 * 36), 36).toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * In-flight resolution owned by one thread; completes with null when the leader gave up.
+     */
+    private record InFlight(Thread owner, CompletableFuture<Customer> result) {}
+
+    private record Resolution(Customer customer, boolean inserted) {}
+}
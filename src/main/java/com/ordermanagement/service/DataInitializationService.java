@@ -13,6 +13,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,6 +35,7 @@ public class DataInitializationService {
     private final ConfigurationParameterRepository configRepository;
 
     @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
     @Transactional
     public void initializeData() {
         log.info("=== Starting Data Initialization ===");
@@ -204,6 +207,10 @@ public class DataInitializationService {
             "Maximum quantity per item", "ORDER", "LIMITS", 2);
         createConfig("order.auto.cancel.hours", "24", ParameterType.INTEGER, "24",
             "Hours before auto-cancelling pending orders", "ORDER", "TIMEOUTS", 3);
+        createConfig(ApplicationConstants.Transitions.DELAY_PARAM_PREFIX + ApplicationConstants.Status.STATUS_PENDING,
+            String.valueOf(ApplicationConstants.Transitions.DEFAULT_PENDING_DELAY_SECONDS), ParameterType.LONG,
+            String.valueOf(ApplicationConstants.Transitions.DEFAULT_PENDING_DELAY_SECONDS),
+            "Seconds after creation before a pending order moves to processing", "ORDER", "TIMEOUTS", 4);
 
         // Payment configuration
         createConfig("payment.max.attempts", "3", ParameterType.INTEGER, "3",
@@ -1,22 +1,24 @@
 package com.ordermanagement.service;
 
-import com.ordermanagement.constants.ApplicationConstants;
 import com.ordermanagement.model.entity.Customer;
 import com.ordermanagement.model.entity.Item;
 import com.ordermanagement.model.entity.Order;
-import com.ordermanagement.model.enums.CustomerType;
 import com.ordermanagement.model.valueobject.Money;
+import com.ordermanagement.model.valueobject.MoneyAccumulator;
+import com.ordermanagement.service.pricing.PricingContext;
+import com.ordermanagement.service.pricing.PricingContextProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-
 /**
  * Service for calculating order pricing including discounts, taxes, and shipping.
  * Implements business rules for pricing calculations.
  *
+ * All configuration comes from one immutable PricingContext snapshot taken at the start of
+ * each calculation, so pricing an order performs no configuration I/O and every item of an
+ * order is priced against the same configuration version.
+ *
  * Design Pattern: Service Pattern, Strategy Pattern
  * Use Case: Complex pricing calculations with multiple business rules
  */
@@ -25,35 +27,39 @@ import java.math.RoundingMode;
 @RequiredArgsConstructor
 public class OrderPricingService {
 
-    private final ConfigurationService configService;
+    private final PricingContextProvider pricingContextProvider;
 
     /**
      * Calculate complete pricing for an order
      */
     public void calculateOrderPricing(Order order) {
-        log.debug("Calculating pricing for order: {}", order.getOrderNumber());
+        PricingContext pricing = pricingContextProvider.current();
+        log.debug("Calculating pricing for order: {} (pricing context v{})",
+            order.getOrderNumber(), pricing.getVersion());
 
-        // Calculate item-level pricing
+        // Calculate item-level pricing and sum item totals in one pass
+        MoneyAccumulator subtotal = MoneyAccumulator.zero();
         for (Item item : order.getItems()) {
-            calculateItemPricing(item, order.getCustomer());
+            calculateItemPricing(item, order.getCustomer(), pricing);
+            subtotal.add(item.getTotalPrice());
         }
 
-        // Calculate order totals
-        Money subtotal = calculateSubtotal(order);
-        Money discount = calculateOrderDiscount(order, subtotal);
-        Money taxAmount = calculateTax(order, subtotal.subtract(discount));
-        Money shippingCost = calculateShipping(order, subtotal);
+        // Calculate order totals (minor-units arithmetic, converted to Money only when set)
+        MoneyAccumulator discount = calculateOrderDiscount(order, subtotal, pricing);
+        MoneyAccumulator discountedSubtotal = subtotal.copy().subtract(discount);
+        MoneyAccumulator taxAmount = calculateTax(discountedSubtotal, pricing);
+        Money shippingCost = calculateShipping(order, subtotal, pricing);
+
+        // Final amount = subtotal - discount + tax + shipping
+        MoneyAccumulator finalAmount = discountedSubtotal.copy().add(taxAmount).add(shippingCost);
 
         // Set calculated values
-        order.setTotalAmount(subtotal);
-        order.setDiscountAmount(discount);
-        order.setSubtotal(subtotal.subtract(discount));
-        order.setTaxAmount(taxAmount);
+        order.setTotalAmount(subtotal.toMoney());
+        order.setDiscountAmount(discount.toMoney());
+        order.setSubtotal(discountedSubtotal.toMoney());
+        order.setTaxAmount(taxAmount.toMoney());
         order.setShippingAmount(shippingCost);
-
-        // Final amount = subtotal - discount + tax + shipping
-        Money finalAmount = subtotal.subtract(discount).add(taxAmount).add(shippingCost);
-        order.setFinalAmount(finalAmount);
+        order.setFinalAmount(finalAmount.toMoney());
 
         log.info("Order pricing calculated: orderId={}, subtotal={}, discount={}, tax={}, shipping={}, final={}",
             order.getId(), subtotal, discount, taxAmount, shippingCost, finalAmount);
@@ -63,53 +69,41 @@ public class OrderPricingService {
      * Calculate pricing for a single item
      */
     public void calculateItemPricing(Item item, Customer customer) {
+        calculateItemPricing(item, customer, pricingContextProvider.current());
+    }
+
+    private void calculateItemPricing(Item item, Customer customer, PricingContext pricing) {
         // Item-level discount based on customer type
-        Money itemDiscount = calculateItemDiscount(item, customer);
+        Money itemDiscount = calculateItemDiscount(item, customer, pricing);
         item.applyDiscount(itemDiscount);
 
         // Calculate tax for item (after discount)
-        Money itemTax = calculateItemTax(item);
+        Money itemTax = item.getSubtotal().multiply(pricing.getTaxRateFactor());
         item.setCustomTax(itemTax);
 
         item.calculatePricing();
     }
 
-    /**
-     * Calculate subtotal (sum of all item totals)
-     */
-    private Money calculateSubtotal(Order order) {
-        return order.getItems().stream()
-            .map(Item::getTotalPrice)
-            .reduce(Money.zero(), Money::add);
-    }
-
     /**
      * Calculate order-level discount
      */
-    private Money calculateOrderDiscount(Order order, Money subtotal) {
+    private MoneyAccumulator calculateOrderDiscount(Order order, MoneyAccumulator subtotal, PricingContext pricing) {
         Customer customer = order.getCustomer();
-        Money discount = Money.zero();
+        MoneyAccumulator discount = MoneyAccumulator.zero();
 
         // Customer type discount
         if (customer != null) {
-            double discountPercent = getCustomerDiscountPercent(customer.getType());
+            double discountPercent = pricing.discountPercentFor(customer.getType());
             if (discountPercent > 0) {
-                discount = subtotal.multiply(BigDecimal.valueOf(discountPercent / 100.0));
+                discount.add(subtotal.multiply(pricing.discountFactorFor(customer.getType())));
                 log.debug("Customer type discount applied: {}% for {}", discountPercent, customer.getType());
             }
         }
 
         // Bulk order discount
-        int totalQuantity = order.getTotalQuantity();
-        int bulkThreshold = configService.getInteger("order.bulk.discount.threshold",
-            (int) ApplicationConstants.BusinessRules.BULK_ORDER_DISCOUNT_THRESHOLD);
-
-        if (totalQuantity >= bulkThreshold) {
-            double bulkDiscountPercent = configService.getDouble("order.bulk.discount.percent",
-                ApplicationConstants.BusinessRules.BULK_ORDER_DISCOUNT_PERCENT);
-            Money bulkDiscount = subtotal.multiply(BigDecimal.valueOf(bulkDiscountPercent / 100.0));
-            discount = discount.add(bulkDiscount);
-            log.debug("Bulk order discount applied: {}%", bulkDiscountPercent);
+        if (order.getTotalQuantity() >= pricing.getBulkDiscountThreshold()) {
+            discount.add(subtotal.multiply(pricing.getBulkDiscountFactor()));
+            log.debug("Bulk order discount applied: {}%", pricing.getBulkDiscountPercent());
         }
 
         return discount;
@@ -118,82 +112,44 @@ public class OrderPricingService {
     /**
      * Calculate item-level discount based on customer type
      */
-    private Money calculateItemDiscount(Item item, Customer customer) {
+    private Money calculateItemDiscount(Item item, Customer customer, PricingContext pricing) {
         if (customer == null) {
             return Money.zero();
         }
 
-        double discountPercent = getCustomerDiscountPercent(customer.getType());
-        return item.getTotalPrice().multiply(BigDecimal.valueOf(discountPercent / 100.0));
-    }
-
-    /**
-     * Get discount percent for customer type
-     */
-    private double getCustomerDiscountPercent(CustomerType customerType) {
-        return switch (customerType) {
-            case VIP -> configService.getDouble("discount.vip.percent",
-                ApplicationConstants.BusinessRules.VIP_CUSTOMER_DISCOUNT_PERCENT);
-            case WHOLESALE -> configService.getDouble("discount.wholesale.percent",
-                ApplicationConstants.BusinessRules.WHOLESALE_CUSTOMER_DISCOUNT_PERCENT);
-            case CORPORATE -> customerType.getDefaultDiscount() * 100;
-            default -> 0.0;
-        };
+        return item.getTotalPrice().multiply(pricing.discountFactorFor(customer.getType()));
     }
 
     /**
      * Calculate tax for order
      */
-    private Money calculateTax(Order order, Money taxableAmount) {
-        // Get tax rate from configuration (can be region-specific)
-        double taxRate = configService.getDouble("tax.rate.percent",
-            ApplicationConstants.BusinessRules.TAX_RATE_PERCENT);
-
-        Money tax = taxableAmount.multiply(BigDecimal.valueOf(taxRate / 100.0));
+    private MoneyAccumulator calculateTax(MoneyAccumulator taxableAmount, PricingContext pricing) {
+        MoneyAccumulator tax = taxableAmount.multiply(pricing.getTaxRateFactor());
 
         log.debug("Tax calculated: rate={}%, taxableAmount={}, tax={}",
-            taxRate, taxableAmount, tax);
+            pricing.getTaxRatePercent(), taxableAmount, tax);
 
         return tax;
     }
 
-    /**
-     * Calculate tax for a single item
-     */
-    private Money calculateItemTax(Item item) {
-        double taxRate = configService.getDouble("tax.rate.percent",
-            ApplicationConstants.BusinessRules.TAX_RATE_PERCENT);
-
-        Money subtotal = item.getSubtotal(); // After discount
-        return subtotal.multiply(BigDecimal.valueOf(taxRate / 100.0));
-    }
-
     /**
      * Calculate shipping cost
      */
-    private Money calculateShipping(Order order, Money subtotal) {
+    private Money calculateShipping(Order order, MoneyAccumulator subtotal, PricingContext pricing) {
         // Free shipping threshold
-        BigDecimal freeShippingThreshold = configService.getDouble("shipping.free.threshold",
-            ApplicationConstants.BusinessRules.FREE_SHIPPING_THRESHOLD.doubleValue())
-            != null ? BigDecimal.valueOf(configService.getDouble("shipping.free.threshold",
-            ApplicationConstants.BusinessRules.FREE_SHIPPING_THRESHOLD.doubleValue()))
-            : ApplicationConstants.BusinessRules.FREE_SHIPPING_THRESHOLD;
-
-        if (subtotal.getAmount().compareTo(freeShippingThreshold) >= 0) {
+        if (subtotal.compareTo(pricing.getFreeShippingThreshold()) >= 0) {
             log.debug("Free shipping applied (order above threshold)");
             return Money.zero();
         }
 
         // Calculate based on weight or flat rate
         if (order.getIsPriority() != null && order.getIsPriority()) {
-            double expressShipping = configService.getDouble("shipping.express.cost", 25.0);
-            log.debug("Express shipping applied: {}", expressShipping);
-            return Money.of(BigDecimal.valueOf(expressShipping));
+            log.debug("Express shipping applied: {}", pricing.getExpressShippingCost());
+            return pricing.getExpressShippingCost();
         }
 
-        double standardShipping = configService.getDouble("shipping.standard.cost", 10.0);
-        log.debug("Standard shipping applied: {}", standardShipping);
-        return Money.of(BigDecimal.valueOf(standardShipping));
+        log.debug("Standard shipping applied: {}", pricing.getStandardShippingCost());
+        return pricing.getStandardShippingCost();
     }
 
     /**
@@ -209,8 +165,7 @@ public class OrderPricingService {
      * Calculate loyalty points earned (future enhancement)
      */
     public int calculateLoyaltyPoints(Order order) {
-        int pointsPerDollar = configService.getInteger("loyalty.points.per.dollar",
-            ApplicationConstants.BusinessRules.LOYALTY_POINTS_PER_DOLLAR);
+        int pointsPerDollar = pricingContextProvider.current().getLoyaltyPointsPerDollar();
 
         int totalDollars = order.getFinalAmount().getAmount().intValue();
         int points = totalDollars * pointsPerDollar;
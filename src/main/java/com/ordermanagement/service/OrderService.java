@@ -1,7 +1,11 @@
 package com.ordermanagement.service;
 
 import com.ordermanagement.model.dto.request.CreateOrderRequest;
+import com.ordermanagement.model.dto.response.BatchOrderResponse;
+import com.ordermanagement.model.dto.response.BulkStatusUpdateResponse;
+import com.ordermanagement.model.dto.response.CursorPageResponse;
 import com.ordermanagement.model.dto.response.OrderResponse;
+import com.ordermanagement.model.enums.OrderView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -31,6 +35,17 @@ public interface OrderService {
      */
     OrderResponse createOrder(CreateOrderRequest request);
 
+    /**
+     * Creates a batch of orders.
+     * Orders are validated individually and persisted in chunked transactions, so an invalid
+     * or failing order is reported in its result without rolling back the others.
+     *
+     * @param requests The order creation requests, processed in list order
+     * @return BatchOrderResponse with one result per request
+     * @throws IllegalArgumentException if the batch is empty or exceeds the configured maximum size
+     */
+    BatchOrderResponse createOrders(List<CreateOrderRequest> requests);
+
     /**
      * Retrieves an order by its ID.
      *
@@ -40,42 +55,84 @@ public interface OrderService {
      */
     OrderResponse getOrderById(Long id);
 
+    /**
+     * Retrieves only the current version of an order (single-column lookup).
+     * Used to answer conditional GETs without loading the order.
+     *
+     * @param id The order ID
+     * @return Current @Version value of the order
+     * @throws com.ordermanagement.exception.OrderNotFoundException if order not found
+     */
+    Long getOrderVersion(Long id);
+
     /**
      * Retrieves all orders in the system.
      *
+     * @param view SUMMARY to skip loading items, FULL to include them
      * @return List of all orders
-     * @deprecated Use {@link #getAllOrdersPaginated(Pageable)} instead for better performance
+     * @deprecated Use {@link #getAllOrdersPaginated(Pageable, OrderView)} instead for better performance
      */
     @Deprecated
-    List<OrderResponse> getAllOrders();
+    List<OrderResponse> getAllOrders(OrderView view);
 
     /**
      * Retrieves all orders in the system with pagination support.
      * This is the recommended method for production use.
      *
      * @param pageable Pagination and sorting parameters
+     * @param view SUMMARY to skip loading items, FULL to include them
      * @return Page of orders
      */
-    Page<OrderResponse> getAllOrdersPaginated(Pageable pageable);
+    Page<OrderResponse> getAllOrdersPaginated(Pageable pageable, OrderView view);
 
     /**
      * Retrieves orders filtered by status.
      *
      * @param statusCode The order status code to filter by (e.g., "PENDING", "PROCESSING")
+     * @param view SUMMARY to skip loading items, FULL to include them
      * @return List of orders with the specified status
-     * @deprecated Use {@link #getOrdersByStatusPaginated(String, Pageable)} instead
+     * @deprecated Use {@link #getOrdersByStatusPaginated(String, Pageable, OrderView)} instead
      */
     @Deprecated
-    List<OrderResponse> getOrdersByStatus(String statusCode);
+    List<OrderResponse> getOrdersByStatus(String statusCode, OrderView view);
 
     /**
      * Retrieves orders filtered by status with pagination support.
      *
      * @param statusCode The order status code to filter by (e.g., "PENDING", "PROCESSING")
      * @param pageable Pagination and sorting parameters
+     * @param view SUMMARY to skip loading items, FULL to include them
      * @return Page of orders with the specified status
      */
-    Page<OrderResponse> getOrdersByStatusPaginated(String statusCode, Pageable pageable);
+    Page<OrderResponse> getOrdersByStatusPaginated(String statusCode, Pageable pageable, OrderView view);
+
+    /**
+     * Retrieves one keyset-paginated slice of orders, newest first (createdAt DESC, id DESC).
+     * Cost does not grow with depth, unlike OFFSET pagination.
+     *
+     * @param cursor Opaque cursor from a previous slice, or null for the first slice
+     * @param statusCode Optional order status code to filter by
+     * @param size Slice size (1 to the maximum page size)
+     * @param includeTotal Whether to also run the (costly) total count query
+     * @param view SUMMARY to skip loading items, FULL to include them
+     * @return Slice of orders with the cursor of the next slice
+     * @throws IllegalArgumentException if the cursor or size is invalid
+     */
+    CursorPageResponse<OrderResponse> getOrdersByCursor(String cursor, String statusCode, int size,
+                                                       boolean includeTotal, OrderView view);
+
+    /**
+     * Retrieves one keyset-paginated slice of a customer's orders, newest first.
+     * Filters on the denormalized order email column; customers is never joined to filter.
+     *
+     * @param customerEmail Customer email (normalized before the lookup)
+     * @param cursor Opaque cursor from a previous slice, or null for the first slice
+     * @param size Slice size (1 to the maximum page size)
+     * @param view SUMMARY to skip loading items, FULL to include them
+     * @return Slice of the customer's orders with the cursor of the next slice
+     * @throws IllegalArgumentException if the email, cursor or size is invalid
+     */
+    CursorPageResponse<OrderResponse> getCustomerOrders(String customerEmail, String cursor, int size, OrderView view);
 
     /**
      * Updates the status of an order.
@@ -88,6 +145,22 @@ public interface OrderService {
      */
     OrderResponse updateOrderStatus(Long id, String newStatusCode);
 
+    /**
+     * Moves many orders to the same status.
+     * Orders are read in one query, transition rules are checked once per source status and
+     * the changes are applied with JDBC-batched, version-guarded updates. An order that is
+     * missing, not allowed to move or changed concurrently is reported in its result without
+     * failing the others.
+     *
+     * @param ids The order IDs; duplicates are processed once
+     * @param targetStatusCode The status code to move the orders to
+     * @param reason Reason recorded in each order's status history (optional)
+     * @return BulkStatusUpdateResponse with one result per distinct order ID
+     * @throws IllegalArgumentException if no IDs are given or they exceed the configured maximum batch size
+     * @throws com.ordermanagement.exception.InvalidOrderStatusException if the target status does not exist
+     */
+    BulkStatusUpdateResponse updateOrderStatuses(List<Long> ids, String targetStatusCode, String reason);
+
     /**
      * Cancels an order.
      * Business rule: Only orders in PENDING status can be cancelled.
@@ -1,5 +1,6 @@
 package com.ordermanagement.service;
 
+import com.ordermanagement.constants.ApplicationConstants;
 import com.ordermanagement.exception.InvalidOrderStatusException;
 import com.ordermanagement.model.entity.Order;
 import com.ordermanagement.model.entity.OrderStatusEntity;
@@ -7,36 +8,87 @@ import com.ordermanagement.model.entity.OrderStatusHistory;
 import com.ordermanagement.model.entity.OrderStatusTransition;
 import com.ordermanagement.repository.OrderStatusRepository;
 import com.ordermanagement.repository.OrderStatusTransitionRepository;
-import lombok.RequiredArgsConstructor;
+import com.ordermanagement.service.workflow.StatusTransitionGraph;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Service for managing dynamic order statuses.
  * THIS IS THE KEY SERVICE for your primary request!
  * Enables complete status workflow management via database.
  *
+ * Transition checks run against a StatusTransitionGraph compiled from both tables. It is
+ * compiled when the application is ready (or on first use before that) and rebuilt in a fresh
+ * read-only transaction after any admin change commits here, and periodically so changes
+ * committed on other instances are picked up too. Graphs are published through an
+ * AtomicReference with a generation number, so a compile that read the rows before a change
+ * can never replace the graph built after it, and no lock is held while the tables are read.
+ *
  * Design Pattern: Service Pattern, State Machine Pattern
  * Use Case: Dynamic order status management and workflow transitions
  */
 @Service
 @Slf4j
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class OrderStatusService {
 
     private final OrderStatusRepository statusRepository;
     private final OrderStatusTransitionRepository transitionRepository;
 
+    /**
+     * Read-only transaction of its own, for rebuilding the graph after a commit
+     */
+    private final TransactionTemplate rebuildTransaction;
+
+    /**
+     * Current compiled workflow; null until the first compile
+     */
+    private final AtomicReference<CompiledGraph> transitionGraph = new AtomicReference<>();
+
+    /**
+     * Incremented by every committed admin change
+     */
+    private final AtomicLong graphGeneration = new AtomicLong();
+
+    /**
+     * A graph and the generation of the rows it was compiled from; graph is null when the
+     * rebuild for that generation failed and the next reader has to compile it
+     */
+    private record CompiledGraph(long generation, StatusTransitionGraph graph) {
+    }
+
+    public OrderStatusService(OrderStatusRepository statusRepository,
+                              OrderStatusTransitionRepository transitionRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.statusRepository = statusRepository;
+        this.transitionRepository = transitionRepository;
+        this.rebuildTransaction = new TransactionTemplate(transactionManager);
+        this.rebuildTransaction.setReadOnly(true);
+        this.rebuildTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
     /**
      * Get status by code (primary lookup method)
      */
-    @Cacheable(value = "orderStatuses", key = "#code")
+    @Cacheable(value = ApplicationConstants.Cache.ORDER_STATUS_CACHE, key = "#code")
     public OrderStatusEntity getStatusByCode(String code) {
         return statusRepository.findByCode(code)
             .orElseThrow(() -> new InvalidOrderStatusException("Status not found: " + code));
@@ -45,7 +97,7 @@ public class OrderStatusService {
     /**
      * Get all active statuses
      */
-    @Cacheable(value = "orderStatuses", key = "'all-active'")
+    @Cacheable(value = ApplicationConstants.Cache.ORDER_STATUS_CACHE, key = "'all-active'")
     public List<OrderStatusEntity> getAllActiveStatuses() {
         return statusRepository.findByIsActiveTrueOrderByDisplayOrder();
     }
@@ -53,7 +105,7 @@ public class OrderStatusService {
     /**
      * Get all statuses
      */
-    @Cacheable(value = "orderStatuses", key = "'all'")
+    @Cacheable(value = ApplicationConstants.Cache.ORDER_STATUS_CACHE, key = "'all'")
     public List<OrderStatusEntity> getAllStatuses() {
         return statusRepository.findAllByOrderByDisplayOrder();
     }
@@ -61,16 +113,50 @@ public class OrderStatusService {
     /**
      * Get allowed transitions from a status
      */
-    @Cacheable(value = "statusTransitions", key = "#fromStatus.code")
+    @Cacheable(value = ApplicationConstants.Cache.STATUS_TRANSITION_CACHE, key = "#fromStatus.code")
     public List<OrderStatusTransition> getAllowedTransitions(OrderStatusEntity fromStatus) {
         return transitionRepository.findAllowedTransitionsFrom(fromStatus);
     }
 
     /**
-     * Check if transition is allowed
+     * Check if transition is allowed (no database access once the graph is compiled)
      */
     public boolean isTransitionAllowed(OrderStatusEntity fromStatus, OrderStatusEntity toStatus) {
-        return transitionRepository.isTransitionAllowed(fromStatus, toStatus);
+        return getTransitionGraph().isAllowed(fromStatus.getId(), toStatus.getId());
+    }
+
+    /**
+     * Compiled workflow graph; compiles one only if none is available yet (before the
+     * application is ready, or after a failed rebuild)
+     */
+    public StatusTransitionGraph getTransitionGraph() {
+        CompiledGraph current = transitionGraph.get();
+        if (current != null && current.graph() != null) {
+            return current.graph();
+        }
+        long generation = graphGeneration.get();
+        return publish(new CompiledGraph(generation, compile()));
+    }
+
+    /**
+     * Compile the graph once reference data has been seeded
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @org.springframework.core.annotation.Order(Ordered.LOWEST_PRECEDENCE)
+    public void compileTransitionGraph() {
+        long generation = graphGeneration.get();
+        publish(new CompiledGraph(generation, compile()));
+    }
+
+    /**
+     * Safety net for changes that bypass this instance (other instances, direct SQL): rebuild
+     * the graph under a new generation.
+     */
+    @Scheduled(fixedDelayString = "${workflow.graph.refresh-interval-ms:60000}",
+            initialDelayString = "${workflow.graph.refresh-interval-ms:60000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void scheduledRecompile() {
+        rebuildTransitionGraph();
     }
 
     /**
@@ -83,37 +169,37 @@ public class OrderStatusService {
         String changedBy,
         String reason
     ) {
+        StatusTransitionGraph graph = getTransitionGraph();
         OrderStatusEntity currentStatus = order.getStatus();
-        OrderStatusEntity newStatus = getStatusByCode(toStatusCode);
+        OrderStatusEntity newStatus = graph.getStatus(toStatusCode);
+        if (newStatus == null) {
+            throw new InvalidOrderStatusException("Status not found: " + toStatusCode);
+        }
 
-        // Check if transition is allowed
-        if (!isTransitionAllowed(currentStatus, newStatus)) {
+        // Check if transition is allowed; the rule carries its requirement flags
+        int rule = graph.rule(currentStatus.getId(), newStatus.getId());
+        if (rule == StatusTransitionGraph.NOT_ALLOWED) {
             throw new InvalidOrderStatusException(
                 String.format("Transition from %s to %s is not allowed",
                     currentStatus.getCode(), newStatus.getCode())
             );
         }
 
-        // Get transition rules
-        OrderStatusTransition transition = transitionRepository
-            .findByFromStatusAndToStatus(currentStatus, newStatus)
-            .orElseThrow(() -> new InvalidOrderStatusException("Transition not configured"));
-
         // Check if approval required
-        if (transition.getRequiresApproval()) {
+        if (StatusTransitionGraph.requires(rule, StatusTransitionGraph.REQUIRES_APPROVAL)) {
             log.warn("Transition requires approval: {} -> {}", currentStatus.getCode(), newStatus.getCode());
             // In real implementation, would check user permissions
         }
 
         // Check if payment required
-        if (transition.getRequiresPayment()) {
+        if (StatusTransitionGraph.requires(rule, StatusTransitionGraph.REQUIRES_PAYMENT)) {
             if (!order.isFullyPaid()) {
                 throw new IllegalStateException("Payment required before status transition");
             }
         }
 
         // Check if inventory check required
-        if (transition.getRequiresInventoryCheck()) {
+        if (StatusTransitionGraph.requires(rule, StatusTransitionGraph.REQUIRES_INVENTORY_CHECK)) {
             // In real implementation, would check inventory availability
             log.info("Inventory check required for transition");
         }
@@ -132,20 +218,27 @@ public class OrderStatusService {
      * Create new status (admin function)
      */
     @Transactional
+    @CacheEvict(value = ApplicationConstants.Cache.ORDER_STATUS_CACHE, allEntries = true)
     public OrderStatusEntity createStatus(OrderStatusEntity status) {
         if (statusRepository.existsByCode(status.getCode())) {
             throw new IllegalArgumentException("Status code already exists: " + status.getCode());
         }
 
         OrderStatusEntity saved = statusRepository.save(status);
+        recompileAfterCommit();
         log.info("New order status created: code={}, name={}", status.getCode(), status.getName());
         return saved;
     }
 
     /**
      * Update status configuration (admin function)
+     * Transitions embed status entities, so both caches are evicted.
      */
     @Transactional
+    @Caching(evict = {
+        @CacheEvict(value = ApplicationConstants.Cache.ORDER_STATUS_CACHE, allEntries = true),
+        @CacheEvict(value = ApplicationConstants.Cache.STATUS_TRANSITION_CACHE, allEntries = true)
+    })
     public OrderStatusEntity updateStatus(Long id, OrderStatusEntity updatedStatus) {
         OrderStatusEntity existing = statusRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("Status not found: " + id));
@@ -164,6 +257,7 @@ public class OrderStatusService {
         existing.setIsActive(updatedStatus.getIsActive());
 
         OrderStatusEntity saved = statusRepository.save(existing);
+        recompileAfterCommit();
         log.info("Order status updated: code={}", existing.getCode());
         return saved;
     }
@@ -172,8 +266,10 @@ public class OrderStatusService {
      * Create status transition rule (admin function)
      */
     @Transactional
+    @CacheEvict(value = ApplicationConstants.Cache.STATUS_TRANSITION_CACHE, allEntries = true)
     public OrderStatusTransition createTransition(OrderStatusTransition transition) {
         OrderStatusTransition saved = transitionRepository.save(transition);
+        recompileAfterCommit();
         log.info("Status transition created: {} -> {}",
             transition.getFromStatus().getCode(),
             transition.getToStatus().getCode());
@@ -182,22 +278,80 @@ public class OrderStatusService {
 
     /**
      * Get default/initial status (typically PENDING)
+     * Cached under the same key as getStatusByCode (self-invocation bypasses the cache proxy)
      */
+    @Cacheable(value = ApplicationConstants.Cache.ORDER_STATUS_CACHE, key = "'PENDING'")
     public OrderStatusEntity getDefaultStatus() {
         return getStatusByCode("PENDING");
     }
 
     /**
      * Get cancelled status
+     * Cached under the same key as getStatusByCode (self-invocation bypasses the cache proxy)
      */
+    @Cacheable(value = ApplicationConstants.Cache.ORDER_STATUS_CACHE, key = "'CANCELLED'")
     public OrderStatusEntity getCancelledStatus() {
         return getStatusByCode("CANCELLED");
     }
 
     /**
      * Get completed status
+     * Cached under the same key as getStatusByCode (self-invocation bypasses the cache proxy)
      */
+    @Cacheable(value = ApplicationConstants.Cache.ORDER_STATUS_CACHE, key = "'COMPLETED'")
     public OrderStatusEntity getCompletedStatus() {
         return getStatusByCode("COMPLETED");
     }
+
+    /**
+     * Rebuild the graph once the change is committed; rebuilding before commit would read the old rows.
+     */
+    private void recompileAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    rebuildTransitionGraph();
+                }
+            });
+        } else {
+            rebuildTransitionGraph();
+        }
+    }
+
+    /**
+     * Compile the committed rows under a new generation. On failure the generation is published
+     * without a graph, so readers compile it themselves instead of keeping the stale one.
+     */
+    private void rebuildTransitionGraph() {
+        long generation = graphGeneration.incrementAndGet();
+        try {
+            publish(new CompiledGraph(generation, rebuildTransaction.execute(status -> compile())));
+        } catch (RuntimeException e) {
+            log.error("Status transition graph rebuild failed; it will be compiled on next use", e);
+            publish(new CompiledGraph(generation, null));
+        }
+    }
+
+    private StatusTransitionGraph compile() {
+        return StatusTransitionGraph.compile(statusRepository.findAll(), transitionRepository.findAll());
+    }
+
+    /**
+     * Publish a graph unless one of a newer generation is already current
+     *
+     * @return The graph to use: the given one, or the newer one
+     */
+    private StatusTransitionGraph publish(CompiledGraph compiled) {
+        CompiledGraph current = transitionGraph.accumulateAndGet(compiled, (existing, candidate) ->
+            existing == null
+                || existing.generation() < candidate.generation()
+                || (existing.generation() == candidate.generation() && existing.graph() == null)
+                ? candidate : existing);
+        if (current == compiled && compiled.graph() != null) {
+            log.info("Status transition graph compiled: {} statuses, {} transitions (generation {})",
+                compiled.graph().getStatusCount(), compiled.graph().getTransitionCount(), compiled.generation());
+        }
+        return current.graph() != null ? current.graph() : compiled.graph();
+    }
 }
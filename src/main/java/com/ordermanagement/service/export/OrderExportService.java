@@ -0,0 +1,138 @@
+package com.ordermanagement.service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.ordermanagement.constants.ApplicationConstants;
+import com.ordermanagement.mapper.OrderMapper;
+import com.ordermanagement.model.dto.projection.OrderSummaryRow;
+import com.ordermanagement.model.dto.response.OrderResponse;
+import com.ordermanagement.model.entity.OrderStatusEntity;
+import com.ordermanagement.repository.ItemRepository;
+import com.ordermanagement.repository.OrderRepository;
+import com.ordermanagement.service.OrderStatusService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Streams orders as newline-delimited JSON (one OrderResponse per line).
+ *
+ * Memory stays flat regardless of table size:
+ * - Order rows are read as projections through a forward-only cursor with a JDBC fetch size
+ *   (no List of all orders, no managed entities in the persistence context)
+ * - Every CHUNK_SIZE orders, the chunk's items are loaded with one query, the chunk is
+ *   written straight to the output and dropped
+ *
+ * Criteria are resolved with {@link #resolveCriteria} before the response starts, so
+ * invalid filters still produce a 400 instead of a truncated body.
+ *
+ * Design Pattern: Iterator (database cursor), Mapper Pattern
+ */
+@Service
+@Slf4j
+public class OrderExportService {
+
+    private final OrderRepository orderRepository;
+    private final OrderStatusService orderStatusService;
+    private final ItemRepository itemRepository;
+    private final OrderMapper orderMapper;
+    private final ObjectWriter lineWriter;
+
+    public OrderExportService(OrderRepository orderRepository,
+                              OrderStatusService orderStatusService,
+                              ItemRepository itemRepository,
+                              OrderMapper orderMapper,
+                              ObjectMapper objectMapper) {
+        this.orderRepository = orderRepository;
+        this.orderStatusService = orderStatusService;
+        this.itemRepository = itemRepository;
+        this.orderMapper = orderMapper;
+        this.lineWriter = objectMapper.writerFor(OrderResponse.class);
+    }
+
+    /**
+     * Validates export filters.
+     *
+     * @param statusCode Optional status code
+     * @param from Optional inclusive lower bound on createdAt (default: no lower bound)
+     * @param to Optional exclusive upper bound on createdAt (default: now, so orders created
+     *           while the export runs are not included)
+     * @return Resolved criteria
+     * @throws IllegalArgumentException if the range is empty or the status is unknown
+     */
+    @Transactional(readOnly = true)
+    public ExportCriteria resolveCriteria(String statusCode, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime effectiveFrom = from != null ? from : LocalDateTime.of(1970, 1, 1, 0, 0);
+        LocalDateTime effectiveTo = to != null ? to : LocalDateTime.now();
+        if (!effectiveFrom.isBefore(effectiveTo)) {
+            throw new IllegalArgumentException("Export range start must be before its end");
+        }
+
+        OrderStatusEntity status = statusCode != null ? orderStatusService.getStatusByCode(statusCode) : null;
+        return new ExportCriteria(status, effectiveFrom, effectiveTo);
+    }
+
+    /**
+     * Writes all matching orders to the output as NDJSON.
+     * Runs in its own read-only transaction on the calling (streaming) thread.
+     *
+     * @return Number of orders written
+     */
+    @Transactional(readOnly = true)
+    public long export(ExportCriteria criteria, OutputStream output) throws IOException {
+        long startTime = System.currentTimeMillis();
+        long written = 0;
+
+        try (Stream<OrderSummaryRow> rows = criteria.status() != null
+                ? orderRepository.streamSummaryRowsForExportByStatus(criteria.status(), criteria.from(), criteria.to())
+                : orderRepository.streamSummaryRowsForExport(criteria.from(), criteria.to())) {
+
+            List<OrderSummaryRow> chunk = new ArrayList<>(ApplicationConstants.Export.CHUNK_SIZE);
+            Iterator<OrderSummaryRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == ApplicationConstants.Export.CHUNK_SIZE) {
+                    written += writeChunk(chunk, output);
+                    chunk.clear();
+                }
+            }
+            written += writeChunk(chunk, output);
+        }
+
+        log.info("Order export completed: {} orders, status={}, from={}, to={}, took {} ms",
+                written, criteria.status() != null ? criteria.status().getCode() : "ANY",
+                criteria.from(), criteria.to(), System.currentTimeMillis() - startTime);
+        return written;
+    }
+
+    /**
+     * Loads the chunk's items in one query and writes one line per order
+     */
+    private int writeChunk(List<OrderSummaryRow> chunk, OutputStream output) throws IOException {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> orderIds = chunk.stream().map(OrderSummaryRow::id).toList();
+        for (OrderResponse response : orderMapper.toResponses(chunk, itemRepository.findRowsByOrderIdIn(orderIds))) {
+            output.write(lineWriter.writeValueAsBytes(response));
+            output.write('\n');
+        }
+        output.flush();
+        return chunk.size();
+    }
+
+    /**
+     * Resolved export filters: optional status and the [from, to) createdAt range
+     */
+    public record ExportCriteria(OrderStatusEntity status, LocalDateTime from, LocalDateTime to) {
+    }
+}
@@ -1,32 +1,68 @@
 package com.ordermanagement.service.impl;
 
-import com.ordermanagement.event.OrderCancelledEvent;
-import com.ordermanagement.event.OrderCreatedEvent;
-import com.ordermanagement.event.OrderStatusChangedEvent;
+import com.ordermanagement.cache.OrderResponseCache;
+import com.ordermanagement.config.BusinessRulesProperties;
+import com.ordermanagement.constants.ApplicationConstants;
+import com.ordermanagement.exception.InvalidOrderStatusException;
 import com.ordermanagement.exception.OrderCancellationException;
 import com.ordermanagement.exception.OrderNotFoundException;
 import com.ordermanagement.mapper.OrderMapper;
 import com.ordermanagement.metrics.OrderMetrics;
+import com.ordermanagement.model.dto.projection.OrderNumberRow;
+import com.ordermanagement.model.dto.projection.OrderStatusRow;
+import com.ordermanagement.model.dto.projection.OrderSummaryRow;
 import com.ordermanagement.model.dto.request.CreateOrderRequest;
+import com.ordermanagement.model.dto.response.BatchOrderResponse;
+import com.ordermanagement.model.dto.response.BatchOrderResult;
+import com.ordermanagement.model.dto.response.BulkStatusUpdateResponse;
+import com.ordermanagement.model.dto.response.BulkStatusUpdateResult;
+import com.ordermanagement.model.dto.response.CursorPageResponse;
 import com.ordermanagement.model.dto.response.OrderResponse;
 import com.ordermanagement.model.entity.Order;
 import com.ordermanagement.model.entity.OrderStatusEntity;
+import com.ordermanagement.model.entity.OrderStatusHistory;
+import com.ordermanagement.model.enums.OrderView;
+import com.ordermanagement.model.valueobject.Email;
+import com.ordermanagement.model.valueobject.OrderCursor;
 import com.ordermanagement.model.valueobject.OrderNumber;
+import com.ordermanagement.model.valueobject.OrderNumberGenerator;
+import com.ordermanagement.repository.ItemRepository;
 import com.ordermanagement.repository.OrderRepository;
+import com.ordermanagement.repository.OrderStatusBatchRepository;
+import com.ordermanagement.repository.OrderStatusHistoryRepository;
 import com.ordermanagement.service.OrderService;
 import com.ordermanagement.service.OrderStatusService;
 import com.ordermanagement.service.OrderPricingService;
+import com.ordermanagement.service.outbox.OrderEventOutbox;
+import com.ordermanagement.service.scheduler.DelayedTransitionService;
+import com.ordermanagement.service.scheduler.PendingOrderProcessor;
+import com.ordermanagement.service.workflow.StatusTransitionGraph;
 import com.ordermanagement.validator.OrderValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of OrderService interface.
@@ -49,29 +85,59 @@ import java.util.UUID;
 public class OrderServiceImpl implements OrderService {
 
     private final OrderRepository orderRepository;
+    private final ItemRepository itemRepository;
+    private final OrderStatusBatchRepository orderStatusBatchRepository;
+    private final OrderStatusHistoryRepository statusHistoryRepository;
     private final OrderMapper orderMapper;
+    private final OrderResponseCache orderResponseCache;
     private final OrderValidator orderValidator;
-    private final ApplicationEventPublisher eventPublisher;
+    private final OrderEventOutbox orderEventOutbox;
     private final OrderMetrics orderMetrics;
     private final OrderStatusService orderStatusService;
     private final OrderPricingService orderPricingService;
+    private final OrderNumberGenerator orderNumberGenerator;
+    private final PendingOrderProcessor pendingOrderProcessor;
+    private final DelayedTransitionService delayedTransitionService;
+    private final BusinessRulesProperties businessRules;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
 
     @Autowired
     public OrderServiceImpl(
             OrderRepository orderRepository,
+            ItemRepository itemRepository,
+            OrderStatusBatchRepository orderStatusBatchRepository,
+            OrderStatusHistoryRepository statusHistoryRepository,
             OrderMapper orderMapper,
+            OrderResponseCache orderResponseCache,
             OrderValidator orderValidator,
-            ApplicationEventPublisher eventPublisher,
+            OrderEventOutbox orderEventOutbox,
             OrderMetrics orderMetrics,
             OrderStatusService orderStatusService,
-            OrderPricingService orderPricingService) {
+            OrderPricingService orderPricingService,
+            OrderNumberGenerator orderNumberGenerator,
+            PendingOrderProcessor pendingOrderProcessor,
+            DelayedTransitionService delayedTransitionService,
+            BusinessRulesProperties businessRules,
+            Validator validator,
+            TransactionTemplate transactionTemplate) {
         this.orderRepository = orderRepository;
+        this.itemRepository = itemRepository;
+        this.orderStatusBatchRepository = orderStatusBatchRepository;
+        this.statusHistoryRepository = statusHistoryRepository;
         this.orderMapper = orderMapper;
+        this.orderResponseCache = orderResponseCache;
         this.orderValidator = orderValidator;
-        this.eventPublisher = eventPublisher;
+        this.orderEventOutbox = orderEventOutbox;
         this.orderMetrics = orderMetrics;
         this.orderStatusService = orderStatusService;
         this.orderPricingService = orderPricingService;
+        this.orderNumberGenerator = orderNumberGenerator;
+        this.pendingOrderProcessor = pendingOrderProcessor;
+        this.delayedTransitionService = delayedTransitionService;
+        this.businessRules = businessRules;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
     }
 
     /**
@@ -86,25 +152,16 @@ public class OrderServiceImpl implements OrderService {
             // Validate the request
             orderValidator.validateCreateOrderRequest(request);
 
-            // Map request to entity
-            Order order = orderMapper.toEntity(request);
-
-            // Generate unique order number using Value Object
-            order.setOrderNumber(OrderNumber.generate());
-
-            // Set default status from database
-            order.setStatus(orderStatusService.getDefaultStatus());
-
-            // Calculate pricing (handled by pricing service)
-            orderPricingService.calculateOrderPricing(order);
+            // Map, number and price the order
+            Order order = buildOrder(request);
 
             // Save order
             Order savedOrder = orderRepository.save(order);
 
             log.info("Order created successfully with order number: {}", savedOrder.getOrderNumber().getValue());
 
-            // Publish event for other components to react (e.g., send email, update inventory)
-            eventPublisher.publishEvent(new OrderCreatedEvent(this, savedOrder));
+            // Record event in the outbox (same transaction); the relay delivers it after commit
+            orderEventOutbox.orderCreated(savedOrder);
 
             // Record metrics
             orderMetrics.incrementOrdersCreated();
@@ -118,29 +175,104 @@ public class OrderServiceImpl implements OrderService {
     }
 
     /**
-     * Retrieves an order by ID with items eagerly loaded.
+     * Creates a batch of orders using chunked transactions.
+     * Runs without an outer transaction so every chunk commits independently.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchOrderResponse createOrders(List<CreateOrderRequest> requests) {
+        long startTime = System.currentTimeMillis();
+
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one order");
+        }
+        if (requests.size() > businessRules.getMaxBatchSize()) {
+            throw new IllegalArgumentException(String.format(
+                    "Batch cannot contain more than %d orders", businessRules.getMaxBatchSize()));
+        }
+
+        log.info("Creating batch of {} orders", requests.size());
+
+        BatchOrderResult[] results = new BatchOrderResult[requests.size()];
+        int chunkSize = Math.max(1, businessRules.getBatchChunkSize());
+
+        for (int from = 0; from < requests.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, requests.size());
+            processBatchChunk(requests, from, to, results);
+        }
+
+        int succeeded = 0;
+        for (BatchOrderResult result : results) {
+            if (result.isSuccess()) {
+                succeeded++;
+            }
+        }
+        int failed = results.length - succeeded;
+
+        log.info("Batch completed: {} created, {} rejected", succeeded, failed);
+
+        // Record metrics
+        orderMetrics.incrementBatchOrdersFailed(failed);
+        orderMetrics.recordBatchCreationTime(startTime);
+
+        return BatchOrderResponse.builder()
+                .totalRequested(results.length)
+                .succeeded(succeeded)
+                .failed(failed)
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    /**
+     * Retrieves an order by ID.
+     * Serves the cached response when the order's version is unchanged (one single-column
+     * lookup); otherwise loads it through column projections and caches it.
      */
     @Override
     @Transactional(readOnly = true)
     public OrderResponse getOrderById(Long id) {
         log.debug("Fetching order with ID: {}", id);
 
-        Order order = orderRepository.findByIdWithItems(id)
+        Long version = orderRepository.findVersionById(id)
                 .orElseThrow(() -> new OrderNotFoundException(id));
 
-        return orderMapper.toResponse(order);
+        OrderResponse cached = orderResponseCache.get(id, version);
+        if (cached != null) {
+            return cached;
+        }
+
+        OrderSummaryRow order = orderRepository.findSummaryRowById(id)
+                .orElseThrow(() -> new OrderNotFoundException(id));
+
+        OrderResponse response = orderMapper.toResponse(order, itemRepository.findRowsByOrderIdIn(List.of(id)));
+        orderResponseCache.put(id, order.version(), response);
+        return response;
+    }
+
+    /**
+     * Retrieves the current version of an order without loading it.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Long getOrderVersion(Long id) {
+        return orderRepository.findVersionById(id)
+                .orElseThrow(() -> new OrderNotFoundException(id));
     }
 
     /**
-     * Retrieves all orders in the system with items eagerly loaded.
+     * Retrieves all orders in the system through column projections.
+     * The summary view runs no item query.
      */
     @Override
     @Transactional(readOnly = true)
-    public List<OrderResponse> getAllOrders() {
-        log.debug("Fetching all orders");
+    public List<OrderResponse> getAllOrders(OrderView view) {
+        log.debug("Fetching all orders - view: {}", view);
 
-        List<Order> orders = orderRepository.findAllWithItems();
-        return orderMapper.toResponses(orders);
+        List<OrderSummaryRow> orders = orderRepository.findAllSummaryRows();
+        if (view == OrderView.SUMMARY) {
+            return orderMapper.toSummaryResponses(orders);
+        }
+        return orderMapper.toResponses(orders, itemRepository.findAllRows());
     }
 
     /**
@@ -149,29 +281,31 @@ public class OrderServiceImpl implements OrderService {
      */
     @Override
     @Transactional(readOnly = true)
-    public Page<OrderResponse> getAllOrdersPaginated(Pageable pageable) {
-        log.debug("Fetching paginated orders - page: {}, size: {}",
-                pageable.getPageNumber(), pageable.getPageSize());
+    public Page<OrderResponse> getAllOrdersPaginated(Pageable pageable, OrderView view) {
+        log.debug("Fetching paginated orders - page: {}, size: {}, view: {}",
+                pageable.getPageNumber(), pageable.getPageSize(), view);
 
-        Page<Order> orders = orderRepository.findAllWithItemsPaginated(pageable);
-        return orders.map(orderMapper::toResponse);
+        return toResponsePage(orderRepository.findIdPage(pageable), view);
     }
 
     /**
-     * Retrieves orders by status with items eagerly loaded for performance.
+     * Retrieves orders by status through column projections.
      */
     @Override
     @Transactional(readOnly = true)
-    public List<OrderResponse> getOrdersByStatus(String statusCode) {
-        log.debug("Fetching orders with status: {}", statusCode);
+    public List<OrderResponse> getOrdersByStatus(String statusCode, OrderView view) {
+        log.debug("Fetching orders with status: {} - view: {}", statusCode, view);
 
         if (statusCode == null) {
             throw new IllegalArgumentException("Status code cannot be null");
         }
 
         OrderStatusEntity status = orderStatusService.getStatusByCode(statusCode);
-        List<Order> orders = orderRepository.findByStatusWithItems(status);
-        return orderMapper.toResponses(orders);
+        List<OrderSummaryRow> orders = orderRepository.findSummaryRowsByStatus(status);
+        if (view == OrderView.SUMMARY) {
+            return orderMapper.toSummaryResponses(orders);
+        }
+        return orderMapper.toResponses(orders, itemRepository.findRowsByOrderStatus(status));
     }
 
     /**
@@ -179,17 +313,77 @@ public class OrderServiceImpl implements OrderService {
      */
     @Override
     @Transactional(readOnly = true)
-    public Page<OrderResponse> getOrdersByStatusPaginated(String statusCode, Pageable pageable) {
-        log.debug("Fetching paginated orders with status: {} - page: {}, size: {}",
-                statusCode, pageable.getPageNumber(), pageable.getPageSize());
+    public Page<OrderResponse> getOrdersByStatusPaginated(String statusCode, Pageable pageable, OrderView view) {
+        log.debug("Fetching paginated orders with status: {} - page: {}, size: {}, view: {}",
+                statusCode, pageable.getPageNumber(), pageable.getPageSize(), view);
 
         if (statusCode == null) {
             throw new IllegalArgumentException("Status code cannot be null");
         }
 
         OrderStatusEntity status = orderStatusService.getStatusByCode(statusCode);
-        Page<Order> orders = orderRepository.findByStatusWithItemsPaginated(status, pageable);
-        return orders.map(orderMapper::toResponse);
+        return toResponsePage(orderRepository.findIdPageByStatus(status, pageable), view);
+    }
+
+    /**
+     * Retrieves one keyset-paginated slice of orders.
+     * Reads size + 1 IDs past the cursor to detect a following slice without a COUNT query.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<OrderResponse> getOrdersByCursor(String cursor, String statusCode,
+                                                              int size, boolean includeTotal, OrderView view) {
+        log.debug("Fetching orders by cursor - cursor: {}, status: {}, size: {}, view: {}",
+                cursor, statusCode, size, view);
+
+        validateSliceSize(size);
+
+        OrderCursor position = cursor != null ? OrderCursor.decode(cursor) : null;
+        OrderStatusEntity status = statusCode != null ? orderStatusService.getStatusByCode(statusCode) : null;
+        PageRequest limit = PageRequest.ofSize(size + 1);
+
+        List<Long> ids;
+        if (status == null) {
+            ids = position == null
+                    ? orderRepository.findIdsForFirstKeysetPage(limit)
+                    : orderRepository.findIdsAfterKeyset(position.createdAt(), position.id(), limit);
+        } else {
+            ids = position == null
+                    ? orderRepository.findIdsForFirstKeysetPageByStatus(status, limit)
+                    : orderRepository.findIdsAfterKeysetByStatus(status, position.createdAt(), position.id(), limit);
+        }
+
+        Long total = null;
+        if (includeTotal) {
+            total = status != null ? orderRepository.countByStatus(status) : orderRepository.count();
+        }
+
+        return toCursorPage(ids, size, view, total);
+    }
+
+    /**
+     * Retrieves one keyset-paginated slice of a customer's orders.
+     * The ID query filters on orders.customerEmail, served by its (customerEmail, createdAt, id) index.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<OrderResponse> getCustomerOrders(String customerEmail, String cursor,
+                                                              int size, OrderView view) {
+        log.debug("Fetching customer orders - email: {}, cursor: {}, size: {}, view: {}",
+                customerEmail, cursor, size, view);
+
+        validateSliceSize(size);
+
+        // Same normalization as the column is written with (lower-case, trimmed)
+        String email = Email.of(customerEmail).getAddress();
+        OrderCursor position = cursor != null ? OrderCursor.decode(cursor) : null;
+        PageRequest limit = PageRequest.ofSize(size + 1);
+
+        List<Long> ids = position == null
+                ? orderRepository.findIdsForFirstKeysetPageByCustomerEmail(email, limit)
+                : orderRepository.findIdsAfterKeysetByCustomerEmail(email, position.createdAt(), position.id(), limit);
+
+        return toCursorPage(ids, size, view, null);
     }
 
     /**
@@ -214,12 +408,13 @@ public class OrderServiceImpl implements OrderService {
         orderStatusService.transitionStatus(order, newStatusCode, "SYSTEM", "Status update via API");
 
         Order updatedOrder = orderRepository.save(order);
+        orderResponseCache.evict(id);
 
         log.info("Order {} status updated to {}", id, newStatusCode);
 
-        // Publish status change event
+        // Record status change event in the outbox (same transaction)
         OrderStatusEntity newStatus = order.getStatus();
-        eventPublisher.publishEvent(new OrderStatusChangedEvent(this, updatedOrder, oldStatus, newStatus));
+        orderEventOutbox.orderStatusChanged(updatedOrder, oldStatus.getCode(), newStatus.getCode());
 
         // Record metrics
         orderMetrics.incrementStatusChanged(oldStatus.getCode(), newStatus.getCode());
@@ -228,6 +423,55 @@ public class OrderServiceImpl implements OrderService {
         return orderMapper.toResponse(updatedOrder);
     }
 
+    /**
+     * Moves many orders to one status in a single transaction.
+     * Runs without an outer transaction so the wave commits on its own; per-order version
+     * checks keep a concurrent change from failing the rest of the wave.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkStatusUpdateResponse updateOrderStatuses(List<Long> ids, String targetStatusCode, String reason) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one order ID is required");
+        }
+        if (ids.size() > businessRules.getMaxBatchSize()) {
+            throw new IllegalArgumentException(String.format(
+                    "Batch cannot contain more than %d orders", businessRules.getMaxBatchSize()));
+        }
+
+        StatusTransitionGraph graph = orderStatusService.getTransitionGraph();
+        OrderStatusEntity targetStatus = graph.getStatus(targetStatusCode);
+        if (targetStatus == null) {
+            throw new InvalidOrderStatusException("Status not found: " + targetStatusCode);
+        }
+        String changeReason = reason != null && !reason.isBlank() ? reason : "Bulk status update via API";
+
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        log.info("Updating {} orders to status: {}", distinctIds.size(), targetStatus.getCode());
+
+        Map<Long, BulkStatusUpdateResult> results = new HashMap<>();
+        List<OrderStatusRow> moved = transactionTemplate.execute(status ->
+                applyBulkStatusChange(distinctIds, graph, targetStatus, changeReason, results));
+
+        for (OrderStatusRow row : moved) {
+            orderResponseCache.evict(row.id());
+            orderMetrics.incrementStatusChanged(row.statusCode(), targetStatus.getCode());
+        }
+
+        List<BulkStatusUpdateResult> ordered = distinctIds.stream().map(results::get).toList();
+        int succeeded = moved.size();
+        int failed = ordered.size() - succeeded;
+        log.info("Bulk status update to {} completed: {} moved, {} rejected", targetStatus.getCode(), succeeded, failed);
+
+        return BulkStatusUpdateResponse.builder()
+                .targetStatus(targetStatus.getCode())
+                .totalRequested(ordered.size())
+                .succeeded(succeeded)
+                .failed(failed)
+                .results(ordered)
+                .build();
+    }
+
     /**
      * Cancels an order if it's in PENDING status.
      */
@@ -247,21 +491,14 @@ public class OrderServiceImpl implements OrderService {
             );
         }
 
-        // Capture order details before deletion
-        String orderNumber = order.getOrderNumber().getValue();
-        String customerEmail = order.getCustomer() != null && order.getCustomer().getEmail() != null
-                ? order.getCustomer().getEmail().getAddress()
-                : "unknown";
-
         // Delete the order (cascade will delete items)
         orderRepository.delete(order);
+        orderResponseCache.evict(id);
 
         log.info("Order {} cancelled successfully", id);
 
-        // Publish cancellation event for cleanup tasks (refund, release inventory, etc.)
-        eventPublisher.publishEvent(new OrderCancelledEvent(
-                this, id, orderNumber, customerEmail, "Customer requested cancellation"
-        ));
+        // Record cancellation event for cleanup tasks (refund, release inventory, etc.)
+        orderEventOutbox.orderCancelled(order, "Customer requested cancellation");
 
         // Record metrics
         orderMetrics.incrementOrdersCancelled();
@@ -269,10 +506,13 @@ public class OrderServiceImpl implements OrderService {
 
     /**
      * Processes scheduled status update from PENDING to PROCESSING.
-     * Called by scheduler every 5 minutes.
-     * Uses batch update for optimal performance.
+     * Called by scheduler every 5 minutes as a catch-up: orders are normally moved by their own
+     * timer (DelayedTransitionService), so only overdue orders and orders without a due time are left.
+     * Runs without a surrounding transaction: orders are moved in keyset chunks, each chunk
+     * in its own transaction together with its status history and outbox events.
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void processScheduledStatusUpdate() {
         log.info("Starting scheduled status update: PENDING → PROCESSING");
 
@@ -281,10 +521,12 @@ public class OrderServiceImpl implements OrderService {
             OrderStatusEntity pendingStatus = orderStatusService.getStatusByCode("PENDING");
             OrderStatusEntity processingStatus = orderStatusService.getStatusByCode("PROCESSING");
 
-            // Use batch update for better performance
-            int updatedCount = orderRepository.updateOrderStatusBatch(
+            // Chunked bulk updates bump each order's version, so cached responses of the
+            // moved orders fail validation on their next read
+            int updatedCount = pendingOrderProcessor.transitionAll(
                     pendingStatus,
-                    processingStatus
+                    processingStatus,
+                    "Scheduled processing of pending orders"
             );
 
             log.info("Scheduled status update completed. {} orders updated from PENDING to PROCESSING", updatedCount);
@@ -295,17 +537,280 @@ public class OrderServiceImpl implements OrderService {
     }
 
     /**
-     * Generates a unique order number using UUID.
-     * Format: ORD-{UUID-first-13-chars}
+     * Reads the orders, checks each source status once, then applies the allowed moves with one
+     * JDBC batch of version-guarded updates, one batch of history rows and one of outbox rows.
      *
-     * UUID guarantees uniqueness without database queries,
-     * eliminating race conditions in concurrent environments.
+     * @return rows of the orders that were moved
+     */
+    private List<OrderStatusRow> applyBulkStatusChange(List<Long> ids, StatusTransitionGraph graph,
+                                                       OrderStatusEntity targetStatus, String reason,
+                                                       Map<Long, BulkStatusUpdateResult> results) {
+        results.clear();
+        Map<Long, List<OrderStatusRow>> bySourceStatus = new LinkedHashMap<>();
+        for (OrderStatusRow row : orderRepository.findStatusRowsByIdIn(ids)) {
+            bySourceStatus.computeIfAbsent(row.statusId(), key -> new ArrayList<>()).add(row);
+        }
+
+        List<OrderStatusRow> candidates = new ArrayList<>(ids.size());
+        for (List<OrderStatusRow> group : bySourceStatus.values()) {
+            String sourceCode = group.get(0).statusCode();
+            OrderStatusEntity sourceStatus = graph.getStatus(sourceCode);
+            int rule = sourceStatus != null && sourceStatus.canTransitionTo(targetStatus)
+                    ? graph.rule(sourceStatus.getId(), targetStatus.getId())
+                    : StatusTransitionGraph.NOT_ALLOWED;
+
+            if (rule == StatusTransitionGraph.NOT_ALLOWED) {
+                String error = String.format("Transition from %s to %s is not allowed", sourceCode, targetStatus.getCode());
+                group.forEach(row -> results.put(row.id(), BulkStatusUpdateResult.failure(row.id(), sourceCode, error)));
+            } else if (StatusTransitionGraph.requires(rule, StatusTransitionGraph.REQUIRES_PAYMENT)) {
+                // The projection carries the paid amount, so no entities or payments are loaded
+                for (OrderStatusRow row : group) {
+                    if (row.isFullyPaid()) {
+                        candidates.add(row);
+                    } else {
+                        results.put(row.id(), BulkStatusUpdateResult.failure(row.id(), sourceCode,
+                                "Payment required before status transition"));
+                    }
+                }
+            } else {
+                candidates.addAll(group);
+            }
+        }
+
+        boolean[] updated = orderStatusBatchRepository.updateStatuses(candidates, targetStatus.getId(), LocalDateTime.now());
+
+        List<OrderStatusRow> moved = new ArrayList<>(candidates.size());
+        List<OrderStatusHistory> history = new ArrayList<>(candidates.size());
+        Map<String, List<OrderNumberRow>> movedBySourceCode = new LinkedHashMap<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            OrderStatusRow row = candidates.get(i);
+            if (!updated[i]) {
+                results.put(row.id(), BulkStatusUpdateResult.failure(row.id(), row.statusCode(),
+                        "Order was modified concurrently; retry the update"));
+                continue;
+            }
+            moved.add(row);
+            results.put(row.id(), BulkStatusUpdateResult.success(row.id(), row.statusCode(), targetStatus.getCode()));
+
+            OrderStatusHistory entry = OrderStatusHistory.create(orderRepository.getReferenceById(row.id()),
+                    graph.getStatus(row.statusCode()), targetStatus, "SYSTEM", reason);
+            entry.setChangeCategory("MANUAL");
+            history.add(entry);
+            movedBySourceCode.computeIfAbsent(row.statusCode(), key -> new ArrayList<>())
+                    .add(new OrderNumberRow(row.id(), row.orderNumber()));
+        }
+
+        // History and outbox rows use pooled sequence IDs, so both inserts are JDBC-batched
+        statusHistoryRepository.saveAll(history);
+        movedBySourceCode.forEach((sourceCode, orders) ->
+                orderEventOutbox.ordersStatusChanged(orders, sourceCode, targetStatus.getCode()));
+
+        for (Long id : ids) {
+            results.putIfAbsent(id, BulkStatusUpdateResult.failure(id, null, new OrderNotFoundException(id).getMessage()));
+        }
+        return moved;
+    }
+
+    private static void validateSliceSize(int size) {
+        int minSize = ApplicationConstants.Pagination.MIN_PAGE_SIZE;
+        int maxSize = ApplicationConstants.Pagination.MAX_PAGE_SIZE;
+        if (size < minSize || size > maxSize) {
+            throw new IllegalArgumentException(String.format("Size must be between %d and %d", minSize, maxSize));
+        }
+    }
+
+    /**
+     * Builds a cursor slice from up to size + 1 keyset-ordered IDs: the extra ID only
+     * signals that another slice follows.
+     */
+    private CursorPageResponse<OrderResponse> toCursorPage(List<Long> ids, int size, OrderView view, Long total) {
+        boolean hasNext = ids.size() > size;
+        List<OrderResponse> content = ids.isEmpty()
+                ? List.of()
+                : loadInIdOrder(hasNext ? ids.subList(0, size) : ids, view);
+
+        String nextCursor = null;
+        if (hasNext && !content.isEmpty()) {
+            OrderResponse last = content.get(content.size() - 1);
+            nextCursor = new OrderCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return CursorPageResponse.<OrderResponse>builder()
+                .content(content)
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .totalElements(total)
+                .build();
+    }
+
+    /**
+     * Second phase of paginated reads: maps an ID page to a page of responses.
+     * Memory per request is bounded by the page size, not by the number of matching rows.
+     */
+    private Page<OrderResponse> toResponsePage(Page<Long> idPage, OrderView view) {
+        if (!idPage.hasContent()) {
+            return idPage.map(id -> null);
+        }
+        return new PageImpl<>(loadInIdOrder(idPage.getContent(), view), idPage.getPageable(), idPage.getTotalElements());
+    }
+
+    /**
+     * Loads the given orders as projections (one order query, one item query) and maps
+     * them in the order of the IDs.
+     * Rows deleted between the ID query and this one are skipped rather than mapped as null.
+     * The summary view skips the item query.
+     */
+    private List<OrderResponse> loadInIdOrder(List<Long> ids, OrderView view) {
+        Map<Long, OrderSummaryRow> rowsById = orderRepository.findSummaryRowsByIdIn(ids).stream()
+                .collect(Collectors.toMap(OrderSummaryRow::id, Function.identity()));
+
+        List<OrderSummaryRow> orders = ids.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        if (view == OrderView.SUMMARY) {
+            return orderMapper.toSummaryResponses(orders);
+        }
+        return orderMapper.toResponses(orders, itemRepository.findRowsByOrderIdIn(ids));
+    }
+
+    /**
+     * Maps a validated request to a priced order with number and default status.
+     */
+    private Order buildOrder(CreateOrderRequest request) {
+        // Map request to entity
+        Order order = orderMapper.toEntity(request);
+
+        // Generate unique order number using Value Object
+        order.setOrderNumber(OrderNumber.generate(orderNumberGenerator));
+
+        // Set default status from database
+        OrderStatusEntity status = orderStatusService.getDefaultStatus();
+        order.setStatus(status);
+
+        // Persist when the automatic transition is due, so its timer survives a restart
+        order.setNextTransitionAt(delayedTransitionService.dueTimeFor(status.getCode(), LocalDateTime.now()));
+
+        // Calculate pricing (handled by pricing service)
+        orderPricingService.calculateOrderPricing(order);
+
+        return order;
+    }
+
+    /**
+     * Validates a chunk up-front, then persists the valid orders in a single transaction.
+     * If that transaction fails, the chunk is retried one order per transaction so a
+     * single failing order cannot roll back the rest of the chunk.
+     */
+    private void processBatchChunk(List<CreateOrderRequest> requests, int from, int to,
+                                   BatchOrderResult[] results) {
+        List<Integer> validIndexes = new ArrayList<>(to - from);
+        for (int index = from; index < to; index++) {
+            String error = validateBatchEntry(requests.get(index));
+            if (error != null) {
+                results[index] = BatchOrderResult.failure(index, error);
+            } else {
+                validIndexes.add(index);
+            }
+        }
+
+        if (validIndexes.isEmpty()) {
+            return;
+        }
+
+        List<BatchOrderResult> chunkResults = new ArrayList<>(validIndexes.size());
+        List<Order> createdOrders = new ArrayList<>(validIndexes.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                chunkResults.clear();
+                createdOrders.clear();
+                persistChunk(requests, validIndexes, chunkResults, createdOrders);
+            });
+        } catch (RuntimeException e) {
+            log.warn("Batch chunk [{}, {}) failed, retrying orders individually: {}", from, to, e.getMessage());
+            for (Integer index : validIndexes) {
+                results[index] = persistSingle(requests.get(index), index);
+            }
+            return;
+        }
+
+        chunkResults.forEach(result -> results[result.getIndex()] = result);
+        createdOrders.forEach(order -> orderMetrics.incrementOrdersCreated());
+    }
+
+    /**
+     * Builds and saves the orders of one chunk inside the current transaction.
+     * Orders that cannot be built (mapping or pricing errors) are reported and skipped.
+     */
+    private void persistChunk(List<CreateOrderRequest> requests, List<Integer> indexes,
+                              List<BatchOrderResult> chunkResults, List<Order> createdOrders) {
+        List<Order> orders = new ArrayList<>(indexes.size());
+        List<Integer> orderIndexes = new ArrayList<>(indexes.size());
+
+        for (Integer index : indexes) {
+            try {
+                orders.add(buildOrder(requests.get(index)));
+                orderIndexes.add(index);
+            } catch (RuntimeException e) {
+                chunkResults.add(BatchOrderResult.failure(index, e.getMessage()));
+            }
+        }
+
+        // Outbox rows are flushed together with the orders, in the same JDBC batches
+        List<Order> savedOrders = orderRepository.saveAll(orders);
+        savedOrders.forEach(orderEventOutbox::orderCreated);
+        orderRepository.flush();
+
+        for (int i = 0; i < savedOrders.size(); i++) {
+            Order savedOrder = savedOrders.get(i);
+            chunkResults.add(BatchOrderResult.success(orderIndexes.get(i), orderMapper.toResponse(savedOrder)));
+            createdOrders.add(savedOrder);
+        }
+    }
+
+    /**
+     * Persists a single batch entry in its own transaction (fallback for failed chunks).
+     */
+    private BatchOrderResult persistSingle(CreateOrderRequest request, int index) {
+        try {
+            OrderResponse response = transactionTemplate.execute(status -> {
+                Order savedOrder = orderRepository.saveAndFlush(buildOrder(request));
+                orderEventOutbox.orderCreated(savedOrder);
+                return orderMapper.toResponse(savedOrder);
+            });
+            orderMetrics.incrementOrdersCreated();
+            return BatchOrderResult.success(index, response);
+        } catch (RuntimeException e) {
+            log.warn("Batch order at index {} failed: {}", index, e.getMessage());
+            return BatchOrderResult.failure(index, e.getMessage());
+        }
+    }
+
+    /**
+     * Runs bean validation and business validation for one batch entry.
      *
-     * @return Unique order number
+     * @return the failure reason, or null if the request is valid
      */
-    private String generateOrderNumber() {
-        String uuid = UUID.randomUUID().toString().replace("-", "").toUpperCase();
-        // Take first 13 characters for reasonable length: ORD-XXXXXXXXXXXX
-        return "ORD-" + uuid.substring(0, 13);
+    private String validateBatchEntry(CreateOrderRequest request) {
+        if (request == null) {
+            return "Order must not be null";
+        }
+
+        Set<ConstraintViolation<CreateOrderRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+
+        try {
+            orderValidator.validateCreateOrderRequest(request);
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+        return null;
     }
 }
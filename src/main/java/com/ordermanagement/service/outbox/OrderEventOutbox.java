@@ -0,0 +1,211 @@
+package com.ordermanagement.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ordermanagement.constants.ApplicationConstants;
+import com.ordermanagement.event.OrderCancelledEvent;
+import com.ordermanagement.event.OrderCreatedEvent;
+import com.ordermanagement.event.OrderStatusChangedEvent;
+import com.ordermanagement.model.dto.projection.OrderNumberRow;
+import com.ordermanagement.model.entity.Order;
+import com.ordermanagement.model.entity.OutboxEvent;
+import com.ordermanagement.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes order events to the transactional outbox and turns outbox rows back into events.
+ *
+ * Writes join the caller's transaction (MANDATORY), so an event row exists if and only if
+ * the order change that raised it committed. Payloads are small JSON snapshots; listeners
+ * never receive JPA entities.
+ *
+ * Design Pattern: Transactional Outbox Pattern, Mapper Pattern
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderEventOutbox {
+
+    private final OutboxEventRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Record an OrderCreated event for a saved order
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void orderCreated(Order order) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("orderNumber", orderNumber(order));
+        payload.put("customerEmail", order.getCustomerEmail() != null ? order.getCustomerEmail()
+                : order.getCustomer() != null && order.getCustomer().getEmail() != null
+                        ? order.getCustomer().getEmail().getAddress() : null);
+        payload.put("totalAmount", order.getTotalAmount() != null ? order.getTotalAmount().getAmount() : null);
+        payload.put("currency", order.getTotalAmount() != null ? order.getTotalAmount().getCurrency() : null);
+        payload.put("itemCount", order.getItemCount());
+        payload.put("nextTransitionAt", order.getNextTransitionAt() != null
+                ? order.getNextTransitionAt().toString() : null);
+        putSnapshot(payload, order);
+
+        append(order.getId(), ApplicationConstants.Outbox.EVENT_ORDER_CREATED, payload);
+    }
+
+    /**
+     * Record an OrderStatusChanged event
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void orderStatusChanged(Order order, String oldStatusCode, String newStatusCode) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("orderNumber", orderNumber(order));
+        payload.put("oldStatusCode", oldStatusCode);
+        payload.put("newStatusCode", newStatusCode);
+
+        append(order.getId(), ApplicationConstants.Outbox.EVENT_ORDER_STATUS_CHANGED, payload);
+    }
+
+    /**
+     * Record OrderStatusChanged events for many orders moved in bulk, saved with one batched insert
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void ordersStatusChanged(List<OrderNumberRow> orders, String oldStatusCode, String newStatusCode) {
+        List<OutboxEvent> events = new ArrayList<>(orders.size());
+        for (OrderNumberRow order : orders) {
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("orderNumber", order.orderNumber());
+            payload.put("oldStatusCode", oldStatusCode);
+            payload.put("newStatusCode", newStatusCode);
+            events.add(toOutboxEvent(order.id(), ApplicationConstants.Outbox.EVENT_ORDER_STATUS_CHANGED, payload));
+        }
+        outboxRepository.saveAll(events);
+    }
+
+    /**
+     * Record an OrderCancelled event for an order being deleted
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void orderCancelled(Order order, String reason) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("orderNumber", orderNumber(order));
+        payload.put("customerEmail", order.getCustomer() != null && order.getCustomer().getEmail() != null
+                ? order.getCustomer().getEmail().getAddress() : "unknown");
+        payload.put("reason", reason);
+        putSnapshot(payload, order);
+
+        append(order.getId(), ApplicationConstants.Outbox.EVENT_ORDER_CANCELLED, payload);
+    }
+
+    /**
+     * Rebuild the application event stored in an outbox row
+     *
+     * @param source Event source (the relay)
+     * @throws IllegalArgumentException for unknown event types or unreadable payloads
+     */
+    public ApplicationEvent toApplicationEvent(OutboxEvent row, Object source) {
+        JsonNode payload;
+        try {
+            payload = objectMapper.readTree(row.getPayload());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Unreadable outbox payload for event " + row.getId(), e);
+        }
+
+        return switch (row.getEventType()) {
+            case ApplicationConstants.Outbox.EVENT_ORDER_CREATED -> new OrderCreatedEvent(
+                    source,
+                    row.getAggregateId(),
+                    text(payload, "orderNumber"),
+                    text(payload, "customerEmail"),
+                    payload.hasNonNull("totalAmount") ? payload.get("totalAmount").decimalValue() : BigDecimal.ZERO,
+                    text(payload, "currency"),
+                    payload.path("itemCount").asInt(),
+                    decimal(payload, "finalAmount"),
+                    text(payload, "statusCode"),
+                    createdAt(payload, row),
+                    dateTime(payload, "nextTransitionAt"),
+                    row.getId());
+            case ApplicationConstants.Outbox.EVENT_ORDER_STATUS_CHANGED -> new OrderStatusChangedEvent(
+                    source,
+                    row.getAggregateId(),
+                    text(payload, "orderNumber"),
+                    text(payload, "oldStatusCode"),
+                    text(payload, "newStatusCode"),
+                    row.getId());
+            case ApplicationConstants.Outbox.EVENT_ORDER_CANCELLED -> new OrderCancelledEvent(
+                    source,
+                    row.getAggregateId(),
+                    text(payload, "orderNumber"),
+                    text(payload, "customerEmail"),
+                    text(payload, "reason"),
+                    decimal(payload, "finalAmount"),
+                    text(payload, "statusCode"),
+                    createdAt(payload, row),
+                    row.getId());
+            default -> throw new IllegalArgumentException("Unknown outbox event type: " + row.getEventType());
+        };
+    }
+
+    private void append(Long orderId, String eventType, Map<String, Object> payload) {
+        outboxRepository.save(toOutboxEvent(orderId, eventType, payload));
+    }
+
+    private OutboxEvent toOutboxEvent(Long orderId, String eventType, Map<String, Object> payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + eventType + " event for order " + orderId, e);
+        }
+
+        return OutboxEvent.builder()
+                .aggregateType(ApplicationConstants.Outbox.AGGREGATE_ORDER)
+                .aggregateId(orderId)
+                .eventType(eventType)
+                .payload(json)
+                .build();
+    }
+
+    private static String orderNumber(Order order) {
+        return order.getOrderNumber() != null ? order.getOrderNumber().getValue() : null;
+    }
+
+    /**
+     * Amount, status and creation time of the order, used by the order statistics
+     */
+    private static void putSnapshot(Map<String, Object> payload, Order order) {
+        payload.put("finalAmount", order.getFinalAmount() != null ? order.getFinalAmount().getAmount() : null);
+        payload.put("statusCode", order.getStatus() != null ? order.getStatus().getCode() : null);
+        payload.put("createdAt", order.getCreatedAt() != null ? order.getCreatedAt().toString() : null);
+    }
+
+    private static BigDecimal decimal(JsonNode payload, String field) {
+        return payload.hasNonNull(field) ? payload.get(field).decimalValue() : null;
+    }
+
+    /**
+     * Order creation time; rows written before it was part of the payload fall back to the
+     * outbox row's own time (written in the same transaction)
+     */
+    private static LocalDateTime createdAt(JsonNode payload, OutboxEvent row) {
+        LocalDateTime createdAt = dateTime(payload, "createdAt");
+        return createdAt != null ? createdAt : row.getCreatedAt();
+    }
+
+    private static LocalDateTime dateTime(JsonNode payload, String field) {
+        String value = text(payload, field);
+        return value != null ? LocalDateTime.parse(value) : null;
+    }
+
+    private static String text(JsonNode payload, String field) {
+        JsonNode node = payload.get(field);
+        return node != null && !node.isNull() ? node.asText() : null;
+    }
+}
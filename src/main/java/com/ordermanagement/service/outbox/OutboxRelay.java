@@ -0,0 +1,326 @@
+package com.ordermanagement.service.outbox;
+
+import com.ordermanagement.config.OutboxProperties;
+import com.ordermanagement.model.entity.OutboxEvent;
+import com.ordermanagement.model.entity.OutboxRelayLease;
+import com.ordermanagement.model.enums.OutboxStatus;
+import com.ordermanagement.repository.OutboxEventRepository;
+import com.ordermanagement.repository.OutboxRelayLeaseRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers transactional outbox rows to application event listeners.
+ *
+ * Single relay node:
+ * Events are published in-process, so only the relaying instance updates the read models
+ * built from them (order search index, order statistics, delayed transition timers). One
+ * instance relays at a time: it holds a lease row in the database and renews it on every
+ * poll; the others skip their polls and take over only once the lease has expired.
+ * The other instances catch up from the database instead: the search index on its scheduled
+ * refresh, order statistics on reconciliation. Delayed transition timers only run on the
+ * relaying instance, so each due order is moved once.
+ *
+ * Each poll (on the lease holder):
+ * 1. Claims up to batchSize PENDING rows, oldest first, by writing claimedBy/claimedUntil;
+ *    the conditional UPDATE gives each row a single owner, and aggregates with a row
+ *    claimed elsewhere are skipped (a relay that lost its lease during a pause can still
+ *    finish its own claimed batch, but never one of the same aggregates)
+ * 2. Groups them by aggregate and dispatches the groups on a bounded pool;
+ *    events of one aggregate are delivered sequentially and in creation order
+ * 3. Marks all delivered rows PUBLISHED with one bulk UPDATE; failed rows get their attempt
+ *    count increased (and are marked FAILED after maxAttempts); all claims are released
+ *
+ * Delivery is at-least-once: a crash between dispatch and the bulk update re-delivers the
+ * batch once its claims expire, so listeners must be idempotent.
+ *
+ * Metrics:
+ * - outbox.events.published.total / outbox.events.failed.total - throughput and failures
+ * - outbox.relay.batch.duration - time per relayed batch
+ * - outbox.events.pending - PENDING rows at the last poll
+ * - outbox.lag.seconds - age of the oldest PENDING row at the last poll
+ * - outbox.relay.leader - 1 while this instance holds the relay lease
+ *
+ * Design Pattern: Transactional Outbox Pattern (polling publisher)
+ */
+@Service
+@Slf4j
+public class OutboxRelay {
+
+    static final String LEASE_NAME = "outbox-relay";
+
+    private final OutboxEventRepository outboxRepository;
+    private final OutboxRelayLeaseRepository leaseRepository;
+    private final OrderEventOutbox orderEventOutbox;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService dispatchExecutor;
+
+    /**
+     * Identifies this relay instance in the lease and in row claims
+     */
+    private final String relayId = UUID.randomUUID().toString();
+
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final AtomicBoolean leader = new AtomicBoolean();
+
+    public OutboxRelay(OutboxEventRepository outboxRepository,
+                       OutboxRelayLeaseRepository leaseRepository,
+                       OrderEventOutbox orderEventOutbox,
+                       ApplicationEventPublisher eventPublisher,
+                       OutboxProperties properties,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.outboxRepository = outboxRepository;
+        this.leaseRepository = leaseRepository;
+        this.orderEventOutbox = orderEventOutbox;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // Parallelism stays bounded in both modes; virtual threads only make blocking listeners cheap
+        this.dispatchExecutor = Executors.newFixedThreadPool(
+                Math.max(1, properties.getDispatchParallelism()),
+                virtualThreads
+                        ? Thread.ofVirtual().name("outbox-relay-", 1).factory()
+                        : new CustomizableThreadFactory("outbox-relay-"));
+
+        this.publishedCounter = Counter.builder("outbox.events.published.total")
+                .description("Outbox events delivered to listeners")
+                .tag("application", "order-management")
+                .register(meterRegistry);
+
+        this.failedCounter = Counter.builder("outbox.events.failed.total")
+                .description("Failed outbox event deliveries")
+                .tag("application", "order-management")
+                .register(meterRegistry);
+
+        this.batchTimer = Timer.builder("outbox.relay.batch.duration")
+                .description("Time taken to relay one outbox batch")
+                .tag("application", "order-management")
+                .register(meterRegistry);
+
+        Gauge.builder("outbox.events.pending", pendingCount, AtomicLong::get)
+                .description("Outbox events waiting for delivery")
+                .tag("application", "order-management")
+                .register(meterRegistry);
+
+        Gauge.builder("outbox.lag.seconds", lagSeconds, AtomicLong::get)
+                .description("Age of the oldest undelivered outbox event")
+                .tag("application", "order-management")
+                .register(meterRegistry);
+
+        Gauge.builder("outbox.relay.leader", leader, held -> held.get() ? 1 : 0)
+                .description("Whether this instance holds the outbox relay lease")
+                .tag("application", "order-management")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Poll and relay pending events, draining up to maxBatchesPerPoll full batches.
+     * Does nothing unless this instance holds (or can take over) the relay lease.
+     */
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:500}")
+    public void relayPendingEvents() {
+        if (!properties.isRelayEnabled()) {
+            return;
+        }
+
+        try {
+            if (!acquireLease()) {
+                return;
+            }
+
+            int batches = 0;
+            int relayed;
+            do {
+                relayed = relayBatch();
+                batches++;
+            } while (relayed >= properties.getBatchSize() && batches < properties.getMaxBatchesPerPoll());
+
+            updateLagMetrics();
+        } catch (RuntimeException e) {
+            log.error("Outbox relay poll failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Relay one batch of pending events.
+     *
+     * @return Number of rows claimed
+     */
+    public int relayBatch() {
+        List<OutboxEvent> batch = claimBatch();
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        Timer.Sample sample = Timer.start();
+
+        // Group by aggregate, keeping creation order inside each group
+        Map<String, List<OutboxEvent>> byAggregate = new LinkedHashMap<>();
+        for (OutboxEvent event : batch) {
+            byAggregate.computeIfAbsent(event.getAggregateType() + "#" + event.getAggregateId(),
+                    key -> new ArrayList<>()).add(event);
+        }
+
+        ConcurrentLinkedQueue<Long> delivered = new ConcurrentLinkedQueue<>();
+        Map<Long, String> failures = new ConcurrentHashMap<>();
+
+        CompletableFuture<?>[] dispatches = byAggregate.values().stream()
+                .map(events -> CompletableFuture.runAsync(
+                        () -> dispatchInOrder(events, delivered, failures), dispatchExecutor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(dispatches).join();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!delivered.isEmpty()) {
+                outboxRepository.markProcessed(List.copyOf(delivered), OutboxStatus.PUBLISHED, LocalDateTime.now());
+            }
+            // Undelivered rows (after a failure in their aggregate) are picked up again next poll
+            outboxRepository.releaseClaims(relayId);
+            failures.forEach((id, error) -> outboxRepository.findById(id)
+                    .ifPresent(event -> event.recordFailure(error, properties.getMaxAttempts())));
+        });
+
+        publishedCounter.increment(delivered.size());
+        failedCounter.increment(failures.size());
+        sample.stop(batchTimer);
+
+        if (!failures.isEmpty()) {
+            log.warn("Outbox batch relayed with failures: delivered={}, failed={}", delivered.size(), failures.size());
+        } else {
+            log.debug("Outbox batch relayed: {} events", delivered.size());
+        }
+        return batch.size();
+    }
+
+    /**
+     * Delete published rows older than the retention period.
+     */
+    @Scheduled(fixedDelayString = "${outbox.purge-interval-ms:3600000}",
+            initialDelayString = "${outbox.purge-interval-ms:3600000}")
+    public void purgePublishedEvents() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(properties.getRetentionHours());
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxRepository.deleteProcessedBefore(OutboxStatus.PUBLISHED, cutoff));
+        log.info("Outbox retention purge removed {} events published before {}", deleted, cutoff);
+    }
+
+    /**
+     * Whether this instance holds the relay lease after renewing it (or taking over an expired one)
+     */
+    boolean acquireLease() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(Duration.ofMillis(properties.getLeaseMs()));
+
+        Integer renewed = transactionTemplate.execute(status ->
+                leaseRepository.renewOrTakeOver(LEASE_NAME, relayId, expiresAt, now));
+        boolean held = renewed != null && renewed > 0;
+        if (!held) {
+            try {
+                // First relay ever: create the lease row; a concurrent creator wins the primary key
+                held = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                    if (leaseRepository.existsById(LEASE_NAME)) {
+                        return false;
+                    }
+                    leaseRepository.saveAndFlush(new OutboxRelayLease(LEASE_NAME, relayId, expiresAt));
+                    return true;
+                }));
+            } catch (DataIntegrityViolationException e) {
+                held = false;
+            }
+        }
+
+        if (leader.getAndSet(held) != held) {
+            log.info(held ? "Outbox relay lease acquired ({})" : "Outbox relay lease lost ({})", relayId);
+        }
+        return held;
+    }
+
+    /**
+     * Claim the next batch for this relay and load it in delivery order
+     */
+    private List<OutboxEvent> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime claimedUntil = now.plus(Duration.ofMillis(properties.getLeaseMs()));
+
+        return transactionTemplate.execute(status -> {
+            List<Long> ids = outboxRepository.findClaimableIds(
+                    OutboxStatus.PENDING, now, PageRequest.of(0, properties.getBatchSize()));
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            outboxRepository.claim(ids, OutboxStatus.PENDING, relayId, claimedUntil, now);
+            return outboxRepository.findByClaimedByOrderByCreatedAtAscIdAsc(relayId);
+        });
+    }
+
+    /**
+     * Deliver one aggregate's events in order; stop at the first failure so later
+     * events of the same aggregate are not delivered ahead of it.
+     */
+    private void dispatchInOrder(List<OutboxEvent> events, ConcurrentLinkedQueue<Long> delivered,
+                                 Map<Long, String> failures) {
+        for (OutboxEvent event : events) {
+            try {
+                eventPublisher.publishEvent(orderEventOutbox.toApplicationEvent(event, this));
+                delivered.add(event.getId());
+            } catch (RuntimeException e) {
+                log.warn("Outbox event {} delivery failed: {}", event, e.getMessage());
+                failures.put(event.getId(), e.getClass().getSimpleName() + ": " + e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private void updateLagMetrics() {
+        transactionTemplate.executeWithoutResult(status -> {
+            pendingCount.set(outboxRepository.countByStatus(OutboxStatus.PENDING));
+            LocalDateTime oldest = outboxRepository.findOldestCreatedAt(OutboxStatus.PENDING);
+            lagSeconds.set(oldest != null ? Math.max(0, Duration.between(oldest, LocalDateTime.now()).toSeconds()) : 0);
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        dispatchExecutor.shutdown();
+        if (!dispatchExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+            dispatchExecutor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.ordermanagement.service.pricing;
+
+import com.ordermanagement.constants.ApplicationConstants;
+import com.ordermanagement.model.entity.ConfigurationParameter;
+import com.ordermanagement.model.enums.CustomerType;
+import com.ordermanagement.model.valueobject.Money;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable, versioned snapshot of every configuration value used by pricing.
+ * Values are parsed once and the derived BigDecimal factors are precomputed, so pricing an
+ * order performs no configuration lookups and no string parsing. A new snapshot replaces the
+ * old one as a whole, so one order is always priced against a single consistent version.
+ *
+ * Factors are derived exactly like the previous per-call code (BigDecimal.valueOf(percent / 100.0))
+ * so pricing results are unchanged.
+ *
+ * Design Pattern: Immutable Snapshot, Value Object Pattern
+ * Use Case: Consistent, I/O-free pricing inputs
+ */
+@Getter
+public final class PricingContext {
+
+    public static final String TAX_RATE_PERCENT = "tax.rate.percent";
+    public static final String DISCOUNT_VIP_PERCENT = "discount.vip.percent";
+    public static final String DISCOUNT_WHOLESALE_PERCENT = "discount.wholesale.percent";
+    public static final String BULK_DISCOUNT_THRESHOLD = "order.bulk.discount.threshold";
+    public static final String BULK_DISCOUNT_PERCENT = "order.bulk.discount.percent";
+    public static final String FREE_SHIPPING_THRESHOLD = "shipping.free.threshold";
+    public static final String STANDARD_SHIPPING_COST = "shipping.standard.cost";
+    public static final String EXPRESS_SHIPPING_COST = "shipping.express.cost";
+    public static final String LOYALTY_POINTS_PER_DOLLAR = "loyalty.points.per.dollar";
+
+    /**
+     * Configuration keys that feed pricing; a change to any of them triggers a new snapshot.
+     */
+    public static final Set<String> KEYS = Set.of(
+        TAX_RATE_PERCENT, DISCOUNT_VIP_PERCENT, DISCOUNT_WHOLESALE_PERCENT,
+        BULK_DISCOUNT_THRESHOLD, BULK_DISCOUNT_PERCENT, FREE_SHIPPING_THRESHOLD,
+        STANDARD_SHIPPING_COST, EXPRESS_SHIPPING_COST, LOYALTY_POINTS_PER_DOLLAR
+    );
+
+    private static final double DEFAULT_STANDARD_SHIPPING = 10.0;
+    private static final double DEFAULT_EXPRESS_SHIPPING = 25.0;
+
+    private final long version;
+    private final LocalDateTime builtAt;
+
+    private final double taxRatePercent;
+    private final BigDecimal taxRateFactor;
+
+    private final Map<CustomerType, Double> customerDiscountPercents;
+    private final Map<CustomerType, BigDecimal> customerDiscountFactors;
+
+    private final int bulkDiscountThreshold;
+    private final double bulkDiscountPercent;
+    private final BigDecimal bulkDiscountFactor;
+
+    private final BigDecimal freeShippingThreshold;
+    private final Money standardShippingCost;
+    private final Money expressShippingCost;
+
+    private final int loyaltyPointsPerDollar;
+
+    private PricingContext(long version, Map<String, ConfigurationParameter> parameters) {
+        this.version = version;
+        this.builtAt = LocalDateTime.now();
+
+        this.taxRatePercent = doubleValue(parameters, TAX_RATE_PERCENT,
+            ApplicationConstants.BusinessRules.TAX_RATE_PERCENT);
+        this.taxRateFactor = BigDecimal.valueOf(taxRatePercent / 100.0);
+
+        Map<CustomerType, Double> percents = new EnumMap<>(CustomerType.class);
+        Map<CustomerType, BigDecimal> factors = new EnumMap<>(CustomerType.class);
+        for (CustomerType type : CustomerType.values()) {
+            double percent = switch (type) {
+                case VIP -> doubleValue(parameters, DISCOUNT_VIP_PERCENT,
+                    ApplicationConstants.BusinessRules.VIP_CUSTOMER_DISCOUNT_PERCENT);
+                case WHOLESALE -> doubleValue(parameters, DISCOUNT_WHOLESALE_PERCENT,
+                    ApplicationConstants.BusinessRules.WHOLESALE_CUSTOMER_DISCOUNT_PERCENT);
+                case CORPORATE -> type.getDefaultDiscount() * 100;
+                default -> 0.0;
+            };
+            percents.put(type, percent);
+            factors.put(type, BigDecimal.valueOf(percent / 100.0));
+        }
+        this.customerDiscountPercents = Collections.unmodifiableMap(percents);
+        this.customerDiscountFactors = Collections.unmodifiableMap(factors);
+
+        this.bulkDiscountThreshold = intValue(parameters, BULK_DISCOUNT_THRESHOLD,
+            (int) ApplicationConstants.BusinessRules.BULK_ORDER_DISCOUNT_THRESHOLD);
+        this.bulkDiscountPercent = doubleValue(parameters, BULK_DISCOUNT_PERCENT,
+            ApplicationConstants.BusinessRules.BULK_ORDER_DISCOUNT_PERCENT);
+        this.bulkDiscountFactor = BigDecimal.valueOf(bulkDiscountPercent / 100.0);
+
+        this.freeShippingThreshold = BigDecimal.valueOf(doubleValue(parameters, FREE_SHIPPING_THRESHOLD,
+            ApplicationConstants.BusinessRules.FREE_SHIPPING_THRESHOLD.doubleValue()));
+        this.standardShippingCost = Money.of(BigDecimal.valueOf(
+            doubleValue(parameters, STANDARD_SHIPPING_COST, DEFAULT_STANDARD_SHIPPING)));
+        this.expressShippingCost = Money.of(BigDecimal.valueOf(
+            doubleValue(parameters, EXPRESS_SHIPPING_COST, DEFAULT_EXPRESS_SHIPPING)));
+
+        this.loyaltyPointsPerDollar = intValue(parameters, LOYALTY_POINTS_PER_DOLLAR,
+            ApplicationConstants.BusinessRules.LOYALTY_POINTS_PER_DOLLAR);
+    }
+
+    /**
+     * Build a snapshot from configuration parameters keyed by paramKey.
+     * Missing or unparsable parameters fall back to ApplicationConstants defaults.
+     */
+    public static PricingContext from(long version, Map<String, ConfigurationParameter> parameters) {
+        return new PricingContext(version, parameters);
+    }
+
+    /**
+     * Snapshot built purely from ApplicationConstants defaults (version 0).
+     */
+    public static PricingContext defaults() {
+        return new PricingContext(0L, Map.of());
+    }
+
+    /**
+     * Discount percent for a customer type (0 for unknown types)
+     */
+    public double discountPercentFor(CustomerType customerType) {
+        return customerType != null ? customerDiscountPercents.get(customerType) : 0.0;
+    }
+
+    /**
+     * Discount factor (percent / 100) for a customer type
+     */
+    public BigDecimal discountFactorFor(CustomerType customerType) {
+        return customerDiscountFactors.get(customerType != null ? customerType : CustomerType.RETAIL);
+    }
+
+    /**
+     * Whether another snapshot carries the same pricing values (version and build time ignored)
+     */
+    public boolean hasSameValues(PricingContext other) {
+        return other != null
+            && Double.compare(taxRatePercent, other.taxRatePercent) == 0
+            && customerDiscountPercents.equals(other.customerDiscountPercents)
+            && bulkDiscountThreshold == other.bulkDiscountThreshold
+            && Double.compare(bulkDiscountPercent, other.bulkDiscountPercent) == 0
+            && freeShippingThreshold.compareTo(other.freeShippingThreshold) == 0
+            && standardShippingCost.equals(other.standardShippingCost)
+            && expressShippingCost.equals(other.expressShippingCost)
+            && loyaltyPointsPerDollar == other.loyaltyPointsPerDollar;
+    }
+
+    private static double doubleValue(Map<String, ConfigurationParameter> parameters, String key, double defaultValue) {
+        ConfigurationParameter parameter = parameters.get(key);
+        Double value = parameter != null ? parameter.getValueAsDouble() : null;
+        return value != null ? value : defaultValue;
+    }
+
+    private static int intValue(Map<String, ConfigurationParameter> parameters, String key, int defaultValue) {
+        ConfigurationParameter parameter = parameters.get(key);
+        Integer value = parameter != null ? parameter.getValueAsInteger() : null;
+        return value != null ? value : defaultValue;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PricingContext{version=%d, taxRate=%s%%, bulkThreshold=%d, freeShippingThreshold=%s}",
+            version, taxRatePercent, bulkDiscountThreshold, freeShippingThreshold);
+    }
+}
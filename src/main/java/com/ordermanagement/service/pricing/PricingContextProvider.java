@@ -0,0 +1,115 @@
+package com.ordermanagement.service.pricing;
+
+import com.ordermanagement.event.ConfigurationChangedEvent;
+import com.ordermanagement.model.entity.ConfigurationParameter;
+import com.ordermanagement.repository.ConfigurationParameterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Holds the current PricingContext and swaps it atomically when pricing configuration changes.
+ *
+ * Readers call current() - a single volatile read, no locking and no I/O.
+ * Rebuilds load all pricing keys in one query and happen:
+ * - once the application is ready (after reference data is seeded)
+ * - after a pricing parameter is created/updated through ConfigurationService (after commit)
+ * - periodically, to pick up changes made by other instances or directly in the database
+ *
+ * The version only increments when a rebuild actually changes a value.
+ *
+ * Design Pattern: Copy-on-Write Snapshot, Observer Pattern
+ * SOLID Principle: Single Responsibility - Owns the lifecycle of pricing configuration
+ */
+@Component
+@Slf4j
+public class PricingContextProvider {
+
+    private final ConfigurationParameterRepository configRepository;
+    private final AtomicReference<PricingContext> current = new AtomicReference<>();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    public PricingContextProvider(ConfigurationParameterRepository configRepository) {
+        this.configRepository = configRepository;
+    }
+
+    /**
+     * Get the current snapshot, building it on first use.
+     */
+    public PricingContext current() {
+        PricingContext context = current.get();
+        return context != null ? context : refresh();
+    }
+
+    /**
+     * Rebuild the snapshot from configuration and publish it if any value changed.
+     * A failed rebuild keeps the previous snapshot (or defaults when there is none yet).
+     *
+     * @return The snapshot in effect after the refresh
+     */
+    public PricingContext refresh() {
+        refreshLock.lock();
+        try {
+            PricingContext previous = current.get();
+            long nextVersion = previous != null ? previous.getVersion() + 1 : 1L;
+
+            PricingContext rebuilt;
+            try {
+                Map<String, ConfigurationParameter> parameters = configRepository
+                        .findByParamKeyIn(PricingContext.KEYS).stream()
+                        .collect(Collectors.toMap(ConfigurationParameter::getParamKey, Function.identity()));
+                rebuilt = PricingContext.from(nextVersion, parameters);
+            } catch (RuntimeException e) {
+                log.warn("Failed to rebuild pricing context, keeping current snapshot: {}", e.getMessage());
+                if (previous == null) {
+                    current.set(PricingContext.defaults());
+                }
+                return current.get();
+            }
+
+            if (previous != null && previous.hasSameValues(rebuilt)) {
+                return previous;
+            }
+
+            current.set(rebuilt);
+            log.info("Pricing context published: {}", rebuilt);
+            return rebuilt;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    /**
+     * Rebuild after a pricing parameter change commits (or immediately outside a transaction).
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onConfigurationChanged(ConfigurationChangedEvent event) {
+        if (PricingContext.KEYS.contains(event.getParamKey())) {
+            refresh();
+        }
+    }
+
+    /**
+     * Safety net for changes that bypass ConfigurationService (other instances, direct SQL).
+     */
+    @Scheduled(fixedDelayString = "${pricing.context.refresh-interval-ms:60000}",
+            initialDelayString = "${pricing.context.refresh-interval-ms:60000}")
+    public void scheduledRefresh() {
+        refresh();
+    }
+}
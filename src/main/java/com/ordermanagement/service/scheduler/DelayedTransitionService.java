@@ -0,0 +1,272 @@
+package com.ordermanagement.service.scheduler;
+
+import com.ordermanagement.config.BusinessRulesProperties;
+import com.ordermanagement.constants.ApplicationConstants;
+import com.ordermanagement.event.OrderCancelledEvent;
+import com.ordermanagement.event.OrderCreatedEvent;
+import com.ordermanagement.event.OrderStatusChangedEvent;
+import com.ordermanagement.model.dto.projection.OrderTimerRow;
+import com.ordermanagement.model.entity.OrderStatusEntity;
+import com.ordermanagement.repository.OrderRepository;
+import com.ordermanagement.service.ConfigurationService;
+import com.ordermanagement.service.OrderStatusService;
+import com.ordermanagement.service.workflow.StatusTransitionGraph;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-order delayed status transitions driven by a hierarchical timing wheel.
+ *
+ * Each order entering a status with an automatic successor gets a due time (entry time plus
+ * the delay configured for that status); at the due time it is moved to the successor.
+ * Currently the only automatic transition is PENDING -> PROCESSING.
+ *
+ * Timers:
+ * - Set from the outbox order events: OrderCreated schedules, OrderStatusChanged reschedules
+ *   or cancels, OrderCancelled cancels
+ * - The due time of new orders is persisted (Order.nextTransitionAt) and carried by the
+ *   OrderCreated event, so the timer fires at the stored time even if the configured delay
+ *   changed before the event was relayed; timers due within the next hour are rebuilt from the
+ *   database when the application is ready
+ * - Every tick the wheel is advanced and at most maxTransitionsPerTick due orders are moved in
+ *   one transaction; the rest wait for the next tick, so bursts are spread out smoothly
+ * - At most MAX_TIMERS timers and MAX_READY due orders are held in memory
+ *
+ * The periodic OrderStatusScheduler sweep stays as a catch-up for orders without a timer
+ * (no persisted due time, past the rebuild horizon or the caps, or overdue on another
+ * instance). Moves are guarded by the expected status, so an order moved by either path is
+ * skipped by the other.
+ *
+ * Metrics:
+ * - orders.transitions.scheduled - orders with a pending timer
+ * - orders.transitions.ready - due orders waiting for a tick
+ */
+@Service
+@Slf4j
+public class DelayedTransitionService {
+
+    private static final String TRANSITION_REASON = "Automatic transition after configured delay";
+
+    /**
+     * Status code -> status it moves to automatically once its delay has elapsed
+     */
+    private static final Map<String, String> AUTOMATIC_SUCCESSORS = Map.of(
+            ApplicationConstants.Status.STATUS_PENDING, ApplicationConstants.Status.STATUS_PROCESSING);
+
+    private final OrderRepository orderRepository;
+    private final OrderStatusService orderStatusService;
+    private final ConfigurationService configurationService;
+    private final PendingOrderProcessor pendingOrderProcessor;
+    private final BusinessRulesProperties businessRules;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Clock clock;
+
+    private final HierarchicalTimingWheel wheel;
+
+    /**
+     * Due order IDs not yet moved, at most MAX_READY (guarded by itself)
+     */
+    private final Deque<Long> ready = new ArrayDeque<>();
+
+    public DelayedTransitionService(OrderRepository orderRepository,
+                                    OrderStatusService orderStatusService,
+                                    ConfigurationService configurationService,
+                                    PendingOrderProcessor pendingOrderProcessor,
+                                    BusinessRulesProperties businessRules,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry,
+                                    Clock clock) {
+        this.orderRepository = orderRepository;
+        this.orderStatusService = orderStatusService;
+        this.configurationService = configurationService;
+        this.pendingOrderProcessor = pendingOrderProcessor;
+        this.businessRules = businessRules;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.clock = clock;
+        this.wheel = new HierarchicalTimingWheel(
+                Math.max(1, businessRules.getTransitionTickMs()),
+                ApplicationConstants.Transitions.WHEEL_SIZE,
+                ApplicationConstants.Transitions.WHEEL_LEVELS,
+                clock.millis());
+
+        Gauge.builder("orders.transitions.scheduled", wheel, HierarchicalTimingWheel::size)
+                .description("Orders waiting for their automatic status transition")
+                .tag("application", "order-management")
+                .register(meterRegistry);
+
+        Gauge.builder("orders.transitions.ready", this, service -> service.readyCount())
+                .description("Due orders waiting to be moved")
+                .tag("application", "order-management")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Due time of the automatic transition for an order entering the given status.
+     *
+     * @param statusCode Status the order enters
+     * @param from Time the order enters it
+     * @return Due time, or null if the status has no automatic transition (or it is disabled
+     *         with a negative delay)
+     */
+    public LocalDateTime dueTimeFor(String statusCode, LocalDateTime from) {
+        if (statusCode == null || !AUTOMATIC_SUCCESSORS.containsKey(statusCode)) {
+            return null;
+        }
+        Long delaySeconds = configurationService.getLong(
+                ApplicationConstants.Transitions.DELAY_PARAM_PREFIX + statusCode,
+                ApplicationConstants.Transitions.DEFAULT_PENDING_DELAY_SECONDS);
+        if (delaySeconds == null || delaySeconds < 0) {
+            return null;
+        }
+        return from.plusSeconds(delaySeconds);
+    }
+
+    /**
+     * Rebuild the timers due within REBUILD_HORIZON_SECONDS from the persisted due times once
+     * reference data has been seeded. Later ones, and any beyond MAX_TIMERS, are left to the sweep.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void rebuildTimers() {
+        long start = clock.millis();
+        LocalDateTime dueBy = LocalDateTime.now(clock)
+                .plusSeconds(ApplicationConstants.Transitions.REBUILD_HORIZON_SECONDS);
+        int scheduled = 0;
+        long afterId = 0;
+        while (scheduled < ApplicationConstants.Transitions.MAX_TIMERS) {
+            long from = afterId;
+            int limit = Math.min(ApplicationConstants.Transitions.REBUILD_CHUNK_SIZE,
+                    ApplicationConstants.Transitions.MAX_TIMERS - scheduled);
+            List<OrderTimerRow> rows = readOnlyTransaction.execute(status ->
+                    orderRepository.findTransitionTimersDueBy(dueBy, from, PageRequest.ofSize(limit)));
+            if (rows == null || rows.isEmpty()) {
+                break;
+            }
+            for (OrderTimerRow row : rows) {
+                wheel.schedule(row.id(), toEpochMillis(row.nextTransitionAt()));
+            }
+            scheduled += rows.size();
+            afterId = rows.get(rows.size() - 1).id();
+        }
+        log.info("Transition timers rebuilt: {} orders due by {} in {} ms", scheduled, dueBy, clock.millis() - start);
+    }
+
+    /**
+     * Schedule the persisted due time; the delay configured now may differ from the one the
+     * due time was computed with
+     */
+    @EventListener
+    public void handleOrderCreated(OrderCreatedEvent event) {
+        if (event.getNextTransitionAt() != null) {
+            schedule(event.getOrderId(), event.getNextTransitionAt());
+        }
+    }
+
+    @EventListener
+    public void handleOrderStatusChanged(OrderStatusChangedEvent event) {
+        LocalDateTime due = dueTimeFor(event.getNewStatusCode(), LocalDateTime.now(clock));
+        if (due != null) {
+            schedule(event.getOrderId(), due);
+        } else {
+            wheel.cancel(event.getOrderId());
+        }
+    }
+
+    @EventListener
+    public void handleOrderCancelled(OrderCancelledEvent event) {
+        wheel.cancel(event.getOrderId());
+    }
+
+    /**
+     * Advance the wheel and move up to maxTransitionsPerTick due orders.
+     * Orders that already left the source status are skipped by the move.
+     */
+    @Scheduled(fixedDelayString = "${business.order.transition-tick-ms:1000}")
+    public void tick() {
+        List<Long> batch;
+        synchronized (ready) {
+            List<Long> due = wheel.advance(clock.millis());
+            int room = Math.max(0, ApplicationConstants.Transitions.MAX_READY - ready.size());
+            if (due.size() > room) {
+                log.warn("{} due orders over the ready limit are left to the catch-up sweep", due.size() - room);
+                due = due.subList(0, room);
+            }
+            ready.addAll(due);
+            int limit = Math.min(ready.size(), Math.max(1, businessRules.getMaxTransitionsPerTick()));
+            batch = new ArrayList<>(limit);
+            for (int i = 0; i < limit; i++) {
+                batch.add(ready.poll());
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            StatusTransitionGraph graph = orderStatusService.getTransitionGraph();
+            int moved = 0;
+            for (Map.Entry<String, String> successor : AUTOMATIC_SUCCESSORS.entrySet()) {
+                OrderStatusEntity fromStatus = graph.getStatus(successor.getKey());
+                OrderStatusEntity toStatus = graph.getStatus(successor.getValue());
+                if (fromStatus != null && toStatus != null) {
+                    moved += pendingOrderProcessor.transitionOrders(batch, fromStatus, toStatus, TRANSITION_REASON);
+                }
+            }
+            log.debug("Transition tick: {} due orders, {} moved", batch.size(), moved);
+        } catch (Exception e) {
+            // Keep the orders due; they are retried on the next tick
+            log.error("Error moving {} due orders: {}", batch.size(), e.getMessage(), e);
+            synchronized (ready) {
+                for (int i = batch.size() - 1; i >= 0; i--) {
+                    ready.addFirst(batch.get(i));
+                }
+                // Orders that became due meanwhile are dropped from the tail, newest first
+                while (ready.size() > ApplicationConstants.Transitions.MAX_READY) {
+                    ready.pollLast();
+                }
+            }
+        }
+    }
+
+    /**
+     * Schedule a timer, unless MAX_TIMERS are already held; the order is then left to the sweep
+     */
+    private void schedule(Long orderId, LocalDateTime due) {
+        if (wheel.size() >= ApplicationConstants.Transitions.MAX_TIMERS) {
+            // Drop any earlier deadline too, so the order is not moved at a stale time
+            wheel.cancel(orderId);
+            log.debug("Transition timer limit reached; order {} is left to the catch-up sweep", orderId);
+            return;
+        }
+        wheel.schedule(orderId, toEpochMillis(due));
+    }
+
+    private int readyCount() {
+        synchronized (ready) {
+            return ready.size();
+        }
+    }
+
+    private long toEpochMillis(LocalDateTime time) {
+        return time.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,164 @@
+package com.ordermanagement.service.scheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical timing wheel for per-order deadlines.
+ *
+ * Layout:
+ * - levels wheels of wheelSize slots each; a level-0 slot spans one tick, a level-L slot
+ *   spans wheelSize^L ticks, so 4 levels of 64 one-second slots cover about 194 days
+ * - an entry sits in the lowest level whose range covers its remaining delay; when a
+ *   higher-level slot comes due, its entries cascade down to finer slots
+ * - deadlines beyond the top level wait in the farthest top-level slot and are re-placed
+ *   when it is reached
+ *
+ * Scheduling and cancelling are O(1); advancing costs O(ticks elapsed + entries expired).
+ * Cancellation is lazy: the latest deadline per key is remembered, and entries that no
+ * longer match it are dropped when their slot expires.
+ *
+ * Design Pattern: Timing Wheel (Varghese &amp; Lauck hierarchical variant)
+ * Thread Safety: All methods are synchronized
+ */
+public final class HierarchicalTimingWheel {
+
+    private final long tickMillis;
+    private final int wheelBits;
+    private final int wheelMask;
+    private final int levels;
+    private final List<Entry>[][] slots;
+    private final Map<Long, Long> deadlines = new HashMap<>();
+
+    /**
+     * Last tick whose level-0 slot has been expired
+     */
+    private long currentTick;
+
+    private record Entry(long key, long deadlineTick) {
+    }
+
+    /**
+     * @param tickMillis Width of one level-0 slot
+     * @param wheelSize Slots per level (rounded up to a power of two)
+     * @param levels Number of levels
+     * @param startMillis Current time; deadlines at or before it expire on the next advance
+     */
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levels, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2 || levels < 1) {
+            throw new IllegalArgumentException("Tick must be positive, wheel size at least 2 and levels at least 1");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelBits = 32 - Integer.numberOfLeadingZeros(wheelSize - 1);
+        this.wheelMask = (1 << wheelBits) - 1;
+        this.levels = levels;
+        this.slots = new List[levels][1 << wheelBits];
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    /**
+     * Schedule (or reschedule) a key; a later call replaces the earlier deadline.
+     */
+    public synchronized void schedule(long key, long deadlineMillis) {
+        long deadlineTick = Math.max(ceilDiv(deadlineMillis, tickMillis), currentTick + 1);
+        deadlines.put(key, deadlineTick);
+        place(new Entry(key, deadlineTick));
+    }
+
+    /**
+     * Cancel a key's deadline; no-op if none is scheduled.
+     */
+    public synchronized void cancel(long key) {
+        deadlines.remove(key);
+    }
+
+    /**
+     * Advance the wheel to the given time.
+     *
+     * @return Keys whose deadline is at or before nowMillis, in deadline order
+     */
+    public synchronized List<Long> advance(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        List<Long> expired = new ArrayList<>();
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            List<Entry> due = take(0, slotIndex(currentTick, 0));
+            if (due == null) {
+                continue;
+            }
+            for (Entry entry : due) {
+                Long deadline = deadlines.get(entry.key());
+                if (deadline == null || deadline != entry.deadlineTick()) {
+                    continue;
+                }
+                if (entry.deadlineTick() > currentTick) {
+                    // Parked beyond a single-level wheel's range
+                    place(entry);
+                } else {
+                    deadlines.remove(entry.key());
+                    expired.add(entry.key());
+                }
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * Number of scheduled keys
+     */
+    public synchronized int size() {
+        return deadlines.size();
+    }
+
+    /**
+     * When a lower level wraps around, bring the next slot of the level above down
+     */
+    private void cascade() {
+        for (int level = 1; level < levels; level++) {
+            if ((currentTick & ((1L << (wheelBits * level)) - 1)) != 0) {
+                return;
+            }
+            List<Entry> entries = take(level, slotIndex(currentTick, level));
+            if (entries != null) {
+                entries.forEach(this::place);
+            }
+        }
+    }
+
+    private void place(Entry entry) {
+        long delta = entry.deadlineTick() - currentTick;
+        for (int level = 0; level < levels; level++) {
+            if (level == levels - 1 || delta < (1L << (wheelBits * (level + 1)))) {
+                int index = delta < (1L << (wheelBits * (level + 1)))
+                        ? slotIndex(entry.deadlineTick(), level)
+                        // Beyond the top level: park in the farthest slot and re-place on arrival
+                        : slotIndex(currentTick, level) == 0 ? wheelMask : slotIndex(currentTick, level) - 1;
+                List<Entry> slot = slots[level][index];
+                if (slot == null) {
+                    slot = new ArrayList<>();
+                    slots[level][index] = slot;
+                }
+                slot.add(entry);
+                return;
+            }
+        }
+    }
+
+    private List<Entry> take(int level, int index) {
+        List<Entry> entries = slots[level][index];
+        slots[level][index] = null;
+        return entries;
+    }
+
+    private int slotIndex(long tick, int level) {
+        return (int) ((tick >>> (wheelBits * level)) & wheelMask);
+    }
+
+    private static long ceilDiv(long value, long divisor) {
+        return -Math.floorDiv(-value, divisor);
+    }
+}
@@ -39,6 +39,9 @@ public class OrderStatusScheduler {
      *
      * Business Rule: All orders in PENDING status should automatically
      * transition to PROCESSING status at regular intervals to simulate order processing.
+     * Orders are normally moved by their own timer (DelayedTransitionService) once their
+     * configured delay has elapsed; this sweep catches up on overdue orders and orders
+     * without a due time.
      *
      * Default: 5 minutes (300,000 milliseconds)
      *
@@ -0,0 +1,210 @@
+package com.ordermanagement.service.scheduler;
+
+import com.ordermanagement.config.BusinessRulesProperties;
+import com.ordermanagement.model.dto.projection.OrderNumberRow;
+import com.ordermanagement.model.entity.OrderStatusEntity;
+import com.ordermanagement.model.entity.OrderStatusHistory;
+import com.ordermanagement.repository.OrderRepository;
+import com.ordermanagement.repository.OrderStatusHistoryRepository;
+import com.ordermanagement.service.outbox.OrderEventOutbox;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Moves orders of one status to another: every due order in bounded keyset chunks (catch-up
+ * sweep), or a given batch of orders whose transition timers fired.
+ *
+ * Each chunk runs in its own transaction:
+ * 1. Reads the next chunkSize orders in id order (ID and order number only)
+ * 2. Moves them with one UPDATE guarded by the expected status (bumps each version)
+ * 3. Writes one status history row per order (JDBC-batched)
+ * 4. Writes one outbox OrderStatusChanged event per order (JDBC-batched)
+ *
+ * If a concurrent change leaves fewer rows updated than read, the chunk is rolled back and
+ * re-read, so history and events never describe a transition that did not happen.
+ *
+ * Crash safety: a chunk either commits completely or not at all, and committed orders no
+ * longer have the source status, so the next run simply continues with what is left.
+ *
+ * Metrics:
+ * - orders.scheduler.transitions.total - orders moved
+ * - orders.scheduler.chunk.duration - time per chunk transaction
+ * - orders.scheduler.backlog - orders left in the source status during the current run
+ */
+@Component
+@Slf4j
+public class PendingOrderProcessor {
+
+    private static final String CHANGED_BY = "SYSTEM";
+    private static final String CHANGE_CATEGORY = "SCHEDULED";
+    private static final int MAX_CHUNK_ATTEMPTS = 3;
+
+    private final OrderRepository orderRepository;
+    private final OrderStatusHistoryRepository historyRepository;
+    private final OrderEventOutbox orderEventOutbox;
+    private final BusinessRulesProperties businessRules;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter transitionsCounter;
+    private final Timer chunkTimer;
+    private final AtomicLong backlog = new AtomicLong();
+
+    public PendingOrderProcessor(OrderRepository orderRepository,
+                                 OrderStatusHistoryRepository historyRepository,
+                                 OrderEventOutbox orderEventOutbox,
+                                 BusinessRulesProperties businessRules,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        this.orderRepository = orderRepository;
+        this.historyRepository = historyRepository;
+        this.orderEventOutbox = orderEventOutbox;
+        this.businessRules = businessRules;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.transitionsCounter = Counter.builder("orders.scheduler.transitions.total")
+                .description("Orders moved by the status scheduler")
+                .tag("application", "order-management")
+                .register(meterRegistry);
+
+        this.chunkTimer = Timer.builder("orders.scheduler.chunk.duration")
+                .description("Time taken to move one chunk of orders")
+                .tag("application", "order-management")
+                .register(meterRegistry);
+
+        Gauge.builder("orders.scheduler.backlog", backlog, AtomicLong::get)
+                .description("Orders waiting for the status scheduler")
+                .tag("application", "order-management")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Move all orders currently in fromStatus whose transition is due (or was never scheduled)
+     * to toStatus, one chunk per transaction.
+     *
+     * @param fromStatus Status the orders must have
+     * @param toStatus Status to move them to
+     * @param reason Reason recorded in the status history
+     * @return Number of orders moved
+     */
+    public int transitionAll(OrderStatusEntity fromStatus, OrderStatusEntity toStatus, String reason) {
+        int chunkSize = Math.max(1, businessRules.getSchedulerChunkSize());
+        LocalDateTime dueBy = LocalDateTime.now();
+        Long remaining = transactionTemplate.execute(status -> orderRepository.countByStatus(fromStatus));
+        backlog.set(remaining != null ? remaining : 0);
+
+        int moved = 0;
+        long afterId = 0;
+        int attempts = 0;
+        while (true) {
+            long position = afterId;
+            ChunkResult result = processChunk(() -> orderRepository.findDueNumberRowsByStatusAfter(
+                    fromStatus, dueBy, position, PageRequest.of(0, chunkSize)), fromStatus, toStatus, reason);
+            if (result == null || result.read() == 0) {
+                break;
+            }
+            if (!result.committed()) {
+                if (++attempts < MAX_CHUNK_ATTEMPTS) {
+                    continue;
+                }
+                // Orders keep changing under us; leave this chunk for the next run
+                log.warn("Skipping chunk after id {}: orders changed concurrently {} times", afterId, attempts);
+            } else {
+                moved += result.read();
+                transitionsCounter.increment(result.read());
+            }
+            backlog.updateAndGet(value -> Math.max(0, value - result.read()));
+            afterId = result.lastId();
+            attempts = 0;
+        }
+
+        backlog.set(0);
+        return moved;
+    }
+
+    /**
+     * Move the given orders that are still in fromStatus to toStatus, in one transaction.
+     * Orders that already left fromStatus are skipped.
+     *
+     * @param ids Orders to move (one bounded batch)
+     * @param fromStatus Status the orders must have
+     * @param toStatus Status to move them to
+     * @param reason Reason recorded in the status history
+     * @return Number of orders moved
+     */
+    public int transitionOrders(Collection<Long> ids, OrderStatusEntity fromStatus, OrderStatusEntity toStatus,
+                                String reason) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        for (int attempt = 1; attempt <= MAX_CHUNK_ATTEMPTS; attempt++) {
+            ChunkResult result = processChunk(() -> orderRepository.findNumberRowsByIdInAndStatus(ids, fromStatus),
+                    fromStatus, toStatus, reason);
+            if (result != null && result.committed()) {
+                transitionsCounter.increment(result.read());
+                return result.read();
+            }
+        }
+        log.warn("Skipping {} due orders: orders changed concurrently {} times", ids.size(), MAX_CHUNK_ATTEMPTS);
+        return 0;
+    }
+
+    private ChunkResult processChunk(Supplier<List<OrderNumberRow>> chunkReader, OrderStatusEntity fromStatus,
+                                     OrderStatusEntity toStatus, String reason) {
+        Timer.Sample sample = Timer.start();
+        try {
+            return transactionTemplate.execute(status -> {
+                List<OrderNumberRow> rows = chunkReader.get();
+                if (rows.isEmpty()) {
+                    return new ChunkResult(0, 0, true);
+                }
+                long lastId = rows.get(rows.size() - 1).id();
+
+                List<Long> ids = rows.stream().map(OrderNumberRow::id).toList();
+                int updated = orderRepository.updateStatusByIdIn(ids, fromStatus, toStatus, LocalDateTime.now());
+                if (updated != rows.size()) {
+                    status.setRollbackOnly();
+                    return new ChunkResult(rows.size(), lastId, false);
+                }
+
+                List<OrderStatusHistory> history = new ArrayList<>(rows.size());
+                for (OrderNumberRow row : rows) {
+                    OrderStatusHistory entry = OrderStatusHistory.create(
+                            orderRepository.getReferenceById(row.id()), fromStatus, toStatus, CHANGED_BY, reason);
+                    entry.setChangeCategory(CHANGE_CATEGORY);
+                    entry.setIsAutomatic(true);
+                    history.add(entry);
+                }
+                historyRepository.saveAll(history);
+                orderEventOutbox.ordersStatusChanged(rows, fromStatus.getCode(), toStatus.getCode());
+
+                return new ChunkResult(rows.size(), lastId, true);
+            });
+        } finally {
+            sample.stop(chunkTimer);
+        }
+    }
+
+    /**
+     * Outcome of one chunk transaction
+     *
+     * @param read Orders read for the chunk
+     * @param lastId Highest order ID in the chunk (keyset position for the next chunk; 0 if empty)
+     * @param committed Whether the chunk was applied; false if it was rolled back
+     */
+    private record ChunkResult(int read, long lastId, boolean committed) {
+    }
+}
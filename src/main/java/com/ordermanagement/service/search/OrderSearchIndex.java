@@ -0,0 +1,368 @@
+package com.ordermanagement.service.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over the searchable text of orders.
+ *
+ * Every field is split into lower-case alphanumeric tokens, and each token is posted under:
+ * - its trigrams, for substring matches ("1b2c" finds "000a1b2c")
+ * - its 1- and 2-character prefixes, for very short terms
+ *
+ * Posting lists are sorted primitive long arrays (8 bytes per entry, no boxed Longs).
+ * New orders have the highest IDs, so indexing them appends.
+ *
+ * A query matches an order when every query term occurs in one of its tokens (AND).
+ * The rarest posting list of the query is walked newest order first, and each ID is checked
+ * against the other lists by binary search. Each candidate is then verified against the stored
+ * tokens, so trigram false positives never reach the results. At most maxCandidates candidates
+ * are verified per query, so a very common term ranks only the newest maxCandidates matches.
+ *
+ * Ranking: per term, the weight of the best matching field (order number > email >
+ * customer name > product name) times 3 for an exact token, 2 for a token prefix and
+ * 1 for a substring; ties go to the newer (higher) order ID. Only the best `limit` hits
+ * are kept, in a bounded heap.
+ *
+ * Thread Safety: reads do not block each other; writes of one order are serialized on its
+ * document entry, every posting list update is an atomic per-key compute, and each posting
+ * list is guarded by its own monitor (held only for array copies and binary searches).
+ */
+public class OrderSearchIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int GRAM_LENGTH = 3;
+    private static final String PREFIX_MARK = "^";
+    private static final int SCAN_BLOCK_SIZE = 256;
+
+    private static final Comparator<Hit> RANKING = Comparator.comparingInt(Hit::score).reversed()
+            .thenComparing(Comparator.comparingLong(Hit::orderId).reversed());
+
+    /**
+     * Searchable fields with their ranking weight
+     */
+    public enum Field {
+        ORDER_NUMBER(8),
+        CUSTOMER_EMAIL(4),
+        CUSTOMER_NAME(3),
+        PRODUCT_NAME(1);
+
+        private final int weight;
+
+        Field(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * Searchable snapshot of one order
+     */
+    public record Document(long orderId, String orderNumber, String customerName, String customerEmail,
+                           List<String> productNames) {
+    }
+
+    /**
+     * One ranked result
+     */
+    public record Hit(long orderId, int score) {
+    }
+
+    /**
+     * Tokens of one indexed order, per field
+     */
+    private record IndexedDocument(long orderId, Map<Field, String[]> tokens) {
+
+        Set<String> grams() {
+            Set<String> grams = new HashSet<>();
+            for (String[] fieldTokens : tokens.values()) {
+                for (String token : fieldTokens) {
+                    addGrams(token, grams);
+                }
+            }
+            return grams;
+        }
+    }
+
+    private final Map<String, Posting> postings = new ConcurrentHashMap<>();
+    private final Map<Long, IndexedDocument> documents = new ConcurrentHashMap<>();
+    private final int maxCandidates;
+
+    /**
+     * @param maxCandidates Maximum candidates verified and scored per query
+     */
+    public OrderSearchIndex(int maxCandidates) {
+        if (maxCandidates < 1) {
+            throw new IllegalArgumentException("maxCandidates must be positive");
+        }
+        this.maxCandidates = maxCandidates;
+    }
+
+    /**
+     * Add or replace an order; only the grams that changed are re-posted.
+     */
+    public void put(Document document) {
+        IndexedDocument next = new IndexedDocument(document.orderId(), Map.of(
+                Field.ORDER_NUMBER, tokenize(document.orderNumber()),
+                Field.CUSTOMER_EMAIL, tokenize(document.customerEmail()),
+                Field.CUSTOMER_NAME, tokenize(document.customerName()),
+                Field.PRODUCT_NAME, tokenize(document.productNames() != null
+                        ? String.join(" ", document.productNames()) : null)));
+        Set<String> nextGrams = next.grams();
+
+        documents.compute(document.orderId(), (id, previous) -> {
+            Set<String> previousGrams = previous != null ? previous.grams() : Set.of();
+            for (String gram : previousGrams) {
+                if (!nextGrams.contains(gram)) {
+                    unpost(gram, id);
+                }
+            }
+            for (String gram : nextGrams) {
+                if (!previousGrams.contains(gram)) {
+                    post(gram, id);
+                }
+            }
+            return next;
+        });
+    }
+
+    /**
+     * Remove an order; a no-op for unknown IDs.
+     */
+    public void remove(long orderId) {
+        documents.computeIfPresent(orderId, (id, previous) -> {
+            for (String gram : previous.grams()) {
+                unpost(gram, id);
+            }
+            return null;
+        });
+    }
+
+    public boolean contains(long orderId) {
+        return documents.containsKey(orderId);
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * Ranked order IDs matching every term of the query.
+     *
+     * @param query Free text (split like the indexed fields)
+     * @param limit Maximum hits returned
+     * @return Hits ordered by score descending, then order ID descending
+     */
+    public List<Hit> search(String query, int limit) {
+        String[] terms = tokenize(query);
+        if (terms.length == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        Posting rarest = null;
+        List<Posting> others = new ArrayList<>();
+        for (String term : terms) {
+            for (String gram : queryGrams(term)) {
+                Posting posting = postings.get(gram);
+                if (posting == null) {
+                    return List.of();
+                }
+                if (rarest == null || posting.size() < rarest.size()) {
+                    if (rarest != null) {
+                        others.add(rarest);
+                    }
+                    rarest = posting;
+                } else if (posting != rarest) {
+                    others.add(posting);
+                }
+            }
+        }
+
+        // Worst hit at the head, so the heap never holds more than limit + 1 hits
+        PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        long[] block = new long[SCAN_BLOCK_SIZE];
+        long below = Long.MAX_VALUE;
+        int verified = 0;
+        scan:
+        while (true) {
+            int count = rarest.copyDescendingBelow(below, block);
+            if (count == 0) {
+                break;
+            }
+            for (int i = 0; i < count; i++) {
+                long orderId = block[i];
+                if (!containedInAll(others, orderId)) {
+                    continue;
+                }
+                IndexedDocument document = documents.get(orderId);
+                int score = document != null ? score(document, terms) : 0;
+                if (score > 0) {
+                    top.add(new Hit(orderId, score));
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                }
+                if (++verified >= maxCandidates) {
+                    break scan;
+                }
+            }
+            below = block[count - 1];
+        }
+
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(RANKING);
+        return Collections.unmodifiableList(hits);
+    }
+
+    private static boolean containedInAll(List<Posting> postings, long orderId) {
+        for (Posting posting : postings) {
+            if (!posting.contains(orderId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sum of the best field score of every term; 0 when a term matches no token.
+     */
+    private static int score(IndexedDocument document, String[] terms) {
+        int total = 0;
+        for (String term : terms) {
+            int best = 0;
+            for (Map.Entry<Field, String[]> field : document.tokens().entrySet()) {
+                for (String token : field.getValue()) {
+                    int match = token.equals(term) ? 3
+                            : token.startsWith(term) ? 2
+                            : term.length() >= GRAM_LENGTH && token.contains(term) ? 1
+                            : 0;
+                    best = Math.max(best, match * field.getKey().weight);
+                }
+            }
+            if (best == 0) {
+                return 0;
+            }
+            total += best;
+        }
+        return total;
+    }
+
+    private void post(String gram, long orderId) {
+        postings.compute(gram, (key, existing) -> {
+            Posting posting = existing != null ? existing : new Posting();
+            posting.add(orderId);
+            return posting;
+        });
+    }
+
+    private void unpost(String gram, long orderId) {
+        postings.computeIfPresent(gram, (key, posting) -> {
+            posting.remove(orderId);
+            return posting.isEmpty() ? null : posting;
+        });
+    }
+
+    static String[] tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return new String[0];
+        }
+        return TOKEN_SEPARATOR.splitAsStream(text.toLowerCase(Locale.ROOT))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .toArray(String[]::new);
+    }
+
+    private static void addGrams(String token, Set<String> grams) {
+        grams.add(PREFIX_MARK + token.substring(0, 1));
+        if (token.length() >= 2) {
+            grams.add(PREFIX_MARK + token.substring(0, 2));
+        }
+        for (int i = 0; i + GRAM_LENGTH <= token.length(); i++) {
+            grams.add(token.substring(i, i + GRAM_LENGTH));
+        }
+    }
+
+    private static List<String> queryGrams(String term) {
+        if (term.length() < GRAM_LENGTH) {
+            return List.of(PREFIX_MARK + term);
+        }
+        List<String> grams = new ArrayList<>(term.length() - GRAM_LENGTH + 1);
+        for (int i = 0; i + GRAM_LENGTH <= term.length(); i++) {
+            grams.add(term.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    /**
+     * Sorted set of order IDs in a primitive array
+     */
+    private static final class Posting {
+
+        private long[] ids = new long[4];
+        private int size;
+
+        synchronized void add(long orderId) {
+            int position = size == 0 || orderId > ids[size - 1]
+                    ? size
+                    : Arrays.binarySearch(ids, 0, size, orderId);
+            if (position >= 0 && position < size) {
+                return;
+            }
+            int insertAt = position >= 0 ? position : -position - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = orderId;
+            size++;
+        }
+
+        synchronized void remove(long orderId) {
+            int position = Arrays.binarySearch(ids, 0, size, orderId);
+            if (position < 0) {
+                return;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+            if (size > 16 && size < ids.length / 4) {
+                ids = Arrays.copyOf(ids, ids.length / 2);
+            }
+        }
+
+        synchronized boolean contains(long orderId) {
+            return Arrays.binarySearch(ids, 0, size, orderId) >= 0;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized boolean isEmpty() {
+            return size == 0;
+        }
+
+        /**
+         * Copy the highest IDs below the bound into the buffer, highest first.
+         *
+         * @return Number of IDs copied
+         */
+        synchronized int copyDescendingBelow(long bound, long[] buffer) {
+            int position = Arrays.binarySearch(ids, 0, size, bound);
+            int end = position >= 0 ? position : -position - 1;
+            int count = Math.min(buffer.length, end);
+            for (int i = 0; i < count; i++) {
+                buffer[i] = ids[end - 1 - i];
+            }
+            return count;
+        }
+    }
+}
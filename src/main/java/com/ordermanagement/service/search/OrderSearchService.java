@@ -0,0 +1,309 @@
+package com.ordermanagement.service.search;
+
+import com.ordermanagement.config.SearchProperties;
+import com.ordermanagement.constants.ApplicationConstants;
+import com.ordermanagement.event.OrderCancelledEvent;
+import com.ordermanagement.event.OrderCreatedEvent;
+import com.ordermanagement.model.dto.projection.OrderItemRow;
+import com.ordermanagement.model.dto.projection.OrderSummaryRow;
+import com.ordermanagement.model.dto.response.OrderSearchResponse;
+import com.ordermanagement.repository.ItemRepository;
+import com.ordermanagement.repository.OrderRepository;
+import com.ordermanagement.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Order search backed by an in-process inverted index (OrderSearchIndex) over order number,
+ * customer name, customer email and item product names. Replaces LIKE '%term%' scans for
+ * the support search box.
+ *
+ * Maintenance:
+ * - Rebuilt when the application is ready: order IDs are read in keyset chunks and the chunks
+ *   are loaded (projections) and tokenized in parallel into a fresh index, which is then swapped in
+ * - Kept current from the outbox order events: OrderCreated indexes the order, OrderCancelled
+ *   removes it (status changes do not touch searchable fields). Events are only delivered on
+ *   the instance holding the relay lease.
+ * - Refreshed on every instance on a schedule: orders updated since the previous refresh are
+ *   re-indexed (keyset chunks over updatedAt/id) and orders with an OrderCancelled outbox row
+ *   since then are removed, so replicas without the lease catch up within one interval
+ *
+ * Events are delivered at least once; indexing and removal are idempotent. Event updates and
+ * the rebuild swap are applied under one lock (database reads happen before it is taken), so
+ * an update lands either in both the old and the new index or after the swap, never only in
+ * the discarded one. Rebuild and refresh never run at the same time.
+ * The index is per instance and eventually consistent with the database (outbox lag on the
+ * relay instance, the refresh interval elsewhere).
+ *
+ * Metrics:
+ * - orders.search.duration - search latency
+ * - orders.search.indexed - orders currently in the index
+ */
+@Service
+@Slf4j
+public class OrderSearchService {
+
+    private final OrderRepository orderRepository;
+    private final ItemRepository itemRepository;
+    private final OutboxEventRepository outboxEventRepository;
+    private final SearchProperties properties;
+    private final Clock clock;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Timer searchTimer;
+
+    private volatile OrderSearchIndex index;
+
+    /**
+     * Index being rebuilt (null when no rebuild runs); events are applied to it as well
+     */
+    private volatile OrderSearchIndex rebuilding;
+
+    /**
+     * Orders removed while a rebuild runs, removed again from the new index before the swap
+     * (a chunk may have loaded them before the removal)
+     */
+    private final Set<Long> removedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Guards event updates against the swap of index and rebuilding
+     */
+    private final Object swapLock = new Object();
+
+    /**
+     * Start of the last rebuild or refresh; the next refresh reads changes from here (less the overlap)
+     */
+    private volatile LocalDateTime refreshedSince;
+
+    public OrderSearchService(OrderRepository orderRepository,
+                              ItemRepository itemRepository,
+                              OutboxEventRepository outboxEventRepository,
+                              SearchProperties properties,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              Clock clock) {
+        this.orderRepository = orderRepository;
+        this.itemRepository = itemRepository;
+        this.outboxEventRepository = outboxEventRepository;
+        this.properties = properties;
+        this.clock = clock;
+        this.refreshedSince = LocalDateTime.now(clock);
+        this.index = new OrderSearchIndex(properties.getMaxCandidates());
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        this.searchTimer = Timer.builder("orders.search.duration")
+                .description("Time taken to answer an order search")
+                .tag("application", "order-management")
+                .register(meterRegistry);
+
+        Gauge.builder("orders.search.indexed", this, service -> service.index.size())
+                .description("Orders in the search index")
+                .tag("application", "order-management")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Ranked order IDs matching every term of the query.
+     *
+     * @param query Free text over order number, customer name/email and product names
+     * @param limit Maximum number of order IDs (1 to the maximum page size)
+     * @throws IllegalArgumentException if the query is blank or the limit is out of range
+     */
+    public OrderSearchResponse search(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query cannot be null or empty");
+        }
+        int minSize = ApplicationConstants.Pagination.MIN_PAGE_SIZE;
+        int maxSize = ApplicationConstants.Pagination.MAX_PAGE_SIZE;
+        if (limit < minSize || limit > maxSize) {
+            throw new IllegalArgumentException(String.format("Limit must be between %d and %d", minSize, maxSize));
+        }
+
+        List<OrderSearchIndex.Hit> hits = searchTimer.record(() -> index.search(query, limit));
+        return OrderSearchResponse.builder()
+                .query(query)
+                .orderIds(hits.stream().map(OrderSearchIndex.Hit::orderId).toList())
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (properties.isRebuildOnStartup()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Rebuild the index from the database and swap it in.
+     *
+     * @return Number of orders indexed
+     */
+    public synchronized int rebuild() {
+        long start = System.currentTimeMillis();
+        LocalDateTime started = LocalDateTime.now(clock);
+        OrderSearchIndex target = new OrderSearchIndex(properties.getMaxCandidates());
+        synchronized (swapLock) {
+            removedDuringRebuild.clear();
+            rebuilding = target;
+        }
+
+        int parallelism = Math.max(1, properties.getRebuildParallelism());
+        ExecutorService loaders = Executors.newFixedThreadPool(parallelism,
+                new CustomizableThreadFactory("order-search-rebuild-"));
+        try {
+            Deque<CompletableFuture<Void>> inFlight = new ArrayDeque<>();
+            long afterId = 0;
+            while (true) {
+                long from = afterId;
+                List<Long> ids = readOnlyTransaction.execute(status ->
+                        orderRepository.findIdsAfter(from, PageRequest.ofSize(properties.getRebuildChunkSize())));
+                if (ids == null || ids.isEmpty()) {
+                    break;
+                }
+                afterId = ids.get(ids.size() - 1);
+
+                // Bound memory: at most two chunks per loader are read ahead
+                while (inFlight.size() >= parallelism * 2) {
+                    inFlight.poll().join();
+                }
+                inFlight.add(CompletableFuture.runAsync(() -> read(ids).forEach(target::put), loaders));
+            }
+            CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).join();
+
+            synchronized (swapLock) {
+                removedDuringRebuild.forEach(target::remove);
+                index = target;
+                rebuilding = null;
+            }
+            refreshedSince = started;
+        } finally {
+            synchronized (swapLock) {
+                rebuilding = null;
+            }
+            loaders.shutdown();
+        }
+
+        log.info("Order search index rebuilt: {} orders in {} ms", target.size(), System.currentTimeMillis() - start);
+        return target.size();
+    }
+
+    /**
+     * Apply the database changes since the last rebuild or refresh: re-index orders created or
+     * updated since then and remove orders cancelled since then, whichever instance made the change.
+     *
+     * @return Number of orders re-indexed
+     */
+    @Scheduled(fixedDelayString = "${search.order.refresh-interval-ms:60000}",
+            initialDelayString = "${search.order.refresh-interval-ms:60000}")
+    public synchronized int refresh() {
+        LocalDateTime started = LocalDateTime.now(clock);
+        LocalDateTime since = refreshedSince.minusSeconds(properties.getRefreshOverlapSeconds());
+
+        int indexed = 0;
+        long afterId = 0;
+        while (true) {
+            long from = afterId;
+            List<Long> ids = readOnlyTransaction.execute(status -> orderRepository.findIdsUpdatedSince(
+                    since, from, PageRequest.ofSize(properties.getRebuildChunkSize())));
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+            afterId = ids.get(ids.size() - 1);
+            index(ids);
+            indexed += ids.size();
+        }
+
+        List<Long> cancelled = readOnlyTransaction.execute(status -> outboxEventRepository
+                .findAggregateIdsByEventTypeSince(ApplicationConstants.Outbox.EVENT_ORDER_CANCELLED, since));
+        if (cancelled != null) {
+            cancelled.forEach(this::remove);
+        }
+
+        refreshedSince = started;
+        log.debug("Order search index refreshed since {}: {} orders re-indexed, {} removed",
+                since, indexed, cancelled == null ? 0 : cancelled.size());
+        return indexed;
+    }
+
+    /**
+     * Index (or re-index) the given orders from the database.
+     */
+    public void index(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        List<OrderSearchIndex.Document> documents = read(List.copyOf(orderIds));
+        synchronized (swapLock) {
+            documents.forEach(index::put);
+            if (rebuilding != null) {
+                documents.forEach(rebuilding::put);
+            }
+        }
+    }
+
+    /**
+     * Remove an order from the index.
+     */
+    public void remove(Long orderId) {
+        synchronized (swapLock) {
+            index.remove(orderId);
+            if (rebuilding != null) {
+                removedDuringRebuild.add(orderId);
+                rebuilding.remove(orderId);
+            }
+        }
+    }
+
+    @EventListener
+    public void handleOrderCreated(OrderCreatedEvent event) {
+        index(List.of(event.getOrderId()));
+    }
+
+    @EventListener
+    public void handleOrderCancelled(OrderCancelledEvent event) {
+        remove(event.getOrderId());
+    }
+
+    /**
+     * Read one chunk as projections (one order query, one item query) into index documents.
+     */
+    private List<OrderSearchIndex.Document> read(List<Long> ids) {
+        return readOnlyTransaction.execute(status -> {
+            Map<Long, List<String>> productNames = itemRepository.findRowsByOrderIdIn(ids).stream()
+                    .collect(Collectors.groupingBy(OrderItemRow::orderId,
+                            Collectors.mapping(OrderItemRow::productName, Collectors.toList())));
+
+            List<OrderSearchIndex.Document> documents = new ArrayList<>(ids.size());
+            for (OrderSummaryRow row : orderRepository.findSummaryRowsByIdIn(ids)) {
+                documents.add(new OrderSearchIndex.Document(row.id(), row.orderNumber(), row.customerName(),
+                        row.customerEmail(), productNames.getOrDefault(row.id(), List.of())));
+            }
+            return documents;
+        });
+    }
+}
@@ -0,0 +1,378 @@
+package com.ordermanagement.service.statistics;
+
+import com.ordermanagement.constants.ApplicationConstants;
+import com.ordermanagement.event.OrderCancelledEvent;
+import com.ordermanagement.event.OrderCreatedEvent;
+import com.ordermanagement.event.OrderStatusChangedEvent;
+import com.ordermanagement.model.dto.projection.DailyTotalsRow;
+import com.ordermanagement.model.dto.projection.StatusTotalsRow;
+import com.ordermanagement.model.dto.response.OrderStatisticsResponse;
+import com.ordermanagement.model.enums.OutboxStatus;
+import com.ordermanagement.repository.OrderRepository;
+import com.ordermanagement.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Dashboard statistics (orders per status, revenue per day, average order value) kept in
+ * striped LongAdder counters, so reads are O(1) in the table size and writers never contend.
+ *
+ * Maintenance:
+ * - Outbox events: OrderCreated adds the order, OrderStatusChanged moves it between statuses,
+ *   OrderCancelled (the order is deleted) subtracts it; the scheduler's chunked updates emit
+ *   one OrderStatusChanged event per order as well
+ * - Reconciliation: every statistics.order.reconcile-interval-ms the counters are replaced by
+ *   two aggregate queries. This repairs drift from events delivered twice before the
+ *   reconciliation (at-least-once outbox) and from lost or failed deliveries. The absolute
+ *   difference found is exported as drift.
+ *
+ * Outbox watermark: the aggregates and the IDs of the still PENDING outbox rows are read in
+ * one repeatable-read transaction, so they describe the same committed state.
+ * - Pending events are already part of the aggregates and are skipped when they arrive
+ *   (until the next reconciliation)
+ * - Events applied while the queries ran but committed after the snapshot are not part of the
+ *   aggregates and are applied again on top of them
+ * Events are applied under a shared lock, and the counters are swapped for fresh adders
+ * under the exclusive lock, which is never held across a database call.
+ *
+ * Amounts are accumulated in cents; revenue per day is kept for statistics.order.revenue-days.
+ *
+ * Metrics:
+ * - orders.statistics.drift - counter difference found by the last reconciliation
+ */
+@Service
+@Slf4j
+public class OrderStatisticsService {
+
+    private final OrderRepository orderRepository;
+    private final OutboxEventRepository outboxRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Clock clock;
+    private final int revenueDays;
+
+    private final Map<String, LongAdder> ordersByStatus = new ConcurrentHashMap<>();
+    private volatile LongAdder totalOrders = new LongAdder();
+    private volatile LongAdder totalRevenueCents = new LongAdder();
+    private final Map<LocalDate, DayTotals> revenueByDay = new ConcurrentHashMap<>();
+
+    /**
+     * Shared while an event is applied or the counters are read, exclusive while they are replaced
+     */
+    private final ReentrantReadWriteLock countersLock = new ReentrantReadWriteLock();
+
+    /**
+     * Changes applied while a reconciliation reads the database, by outbox event ID (null otherwise)
+     */
+    private volatile Map<Long, Runnable> appliedDuringReconcile;
+
+    /**
+     * Outbox events that were pending at the last reconciliation, so already counted
+     */
+    private volatile Set<Long> countedByReconcile = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong lastDrift = new AtomicLong();
+    private volatile LocalDateTime reconciledAt;
+
+    /**
+     * Orders and revenue (cents) of one creation day
+     */
+    private record DayTotals(LongAdder orders, LongAdder revenueCents) {
+        DayTotals() {
+            this(new LongAdder(), new LongAdder());
+        }
+    }
+
+    /**
+     * Database state read by one reconciliation
+     *
+     * @param pendingEventIds Outbox rows not delivered yet, whose changes are in the aggregates
+     * @param committedAppliedIds Events applied during the read that are in the aggregates as well
+     */
+    private record Snapshot(Set<Long> pendingEventIds, List<StatusTotalsRow> statusRows,
+                            List<DailyTotalsRow> dayRows, Set<Long> committedAppliedIds) {
+
+        boolean contains(Long outboxEventId) {
+            return pendingEventIds.contains(outboxEventId) || committedAppliedIds.contains(outboxEventId);
+        }
+    }
+
+    public OrderStatisticsService(
+            OrderRepository orderRepository,
+            OutboxEventRepository outboxRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            Clock clock,
+            @Value("${statistics.order.revenue-days:" + ApplicationConstants.Statistics.REVENUE_DAYS + "}") int revenueDays) {
+        this.orderRepository = orderRepository;
+        this.outboxRepository = outboxRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // Every query of a reconciliation sees the snapshot taken by its first one
+        this.readOnlyTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.clock = clock;
+        this.revenueDays = Math.max(1, revenueDays);
+
+        Gauge.builder("orders.statistics.drift", lastDrift, AtomicLong::get)
+                .description("Counter difference corrected by the last statistics reconciliation")
+                .tag("application", "order-management")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Current statistics; cost depends only on the number of statuses and retained days.
+     */
+    public OrderStatisticsResponse getStatistics() {
+        Map<String, Long> byStatus = new TreeMap<>();
+        List<OrderStatisticsResponse.DailyRevenue> days = new ArrayList<>();
+        long orders;
+        long revenueCents;
+
+        countersLock.readLock().lock();
+        try {
+            ordersByStatus.forEach((status, count) -> byStatus.put(status, count.sum()));
+
+            LocalDate firstDay = firstRetainedDay();
+            new TreeMap<>(revenueByDay).forEach((day, totals) -> {
+                if (!day.isBefore(firstDay)) {
+                    days.add(OrderStatisticsResponse.DailyRevenue.builder()
+                            .date(day)
+                            .orders(totals.orders().sum())
+                            .revenue(fromCents(totals.revenueCents().sum()))
+                            .build());
+                }
+            });
+
+            orders = totalOrders.sum();
+            revenueCents = totalRevenueCents.sum();
+        } finally {
+            countersLock.readLock().unlock();
+        }
+
+        return OrderStatisticsResponse.builder()
+                .ordersByStatus(byStatus)
+                .totalOrders(orders)
+                .totalRevenue(fromCents(revenueCents))
+                .averageOrderValue(orders > 0
+                        ? BigDecimal.valueOf(revenueCents).divide(BigDecimal.valueOf(orders * 100L), 2, RoundingMode.HALF_UP)
+                        : BigDecimal.ZERO.setScale(2))
+                .revenueByDay(days)
+                .reconciledAt(reconciledAt)
+                .build();
+    }
+
+    @EventListener
+    public void handleOrderCreated(OrderCreatedEvent event) {
+        applyEvent(event.getOutboxEventId(),
+                () -> apply(event.getStatusCode(), event.getCreatedAt(), event.getFinalAmount(), 1));
+    }
+
+    @EventListener
+    public void handleOrderStatusChanged(OrderStatusChangedEvent event) {
+        applyEvent(event.getOutboxEventId(),
+                () -> moveStatus(event.getOldStatusCode(), event.getNewStatusCode(), 1));
+    }
+
+    @EventListener
+    public void handleOrderCancelled(OrderCancelledEvent event) {
+        applyEvent(event.getOutboxEventId(),
+                () -> apply(event.getStatusCode(), event.getCreatedAt(), event.getFinalAmount(), -1));
+    }
+
+    /**
+     * Replace the counters with the database aggregates.
+     */
+    @Scheduled(fixedDelayString = "${statistics.order.reconcile-interval-ms:" + ApplicationConstants.Statistics.RECONCILE_INTERVAL_MS + "}")
+    public void reconcile() {
+        LocalDate firstDay = firstRetainedDay();
+        Map<Long, Runnable> applied = new ConcurrentHashMap<>();
+        appliedDuringReconcile = applied;
+
+        Snapshot snapshot;
+        try {
+            snapshot = readOnlyTransaction.execute(status -> readSnapshot(firstDay, applied));
+        } catch (RuntimeException e) {
+            appliedDuringReconcile = null;
+            throw e;
+        }
+        if (snapshot == null) {
+            appliedDuringReconcile = null;
+            log.warn("Order statistics not reconciled: more than {} outbox events pending",
+                    ApplicationConstants.Statistics.RECONCILE_MAX_PENDING_EVENTS);
+            return;
+        }
+
+        long drift;
+        countersLock.writeLock().lock();
+        try {
+            appliedDuringReconcile = null;
+            drift = replaceCounters(snapshot, firstDay);
+            applied.forEach((outboxEventId, change) -> {
+                if (!snapshot.contains(outboxEventId)) {
+                    change.run();
+                }
+            });
+            Set<Long> counted = ConcurrentHashMap.newKeySet();
+            counted.addAll(snapshot.pendingEventIds());
+            countedByReconcile = counted;
+        } finally {
+            countersLock.writeLock().unlock();
+        }
+
+        lastDrift.set(drift);
+        reconciledAt = LocalDateTime.now(clock);
+        if (drift > 0) {
+            log.info("Order statistics reconciled: corrected drift of {} orders", drift);
+        } else {
+            log.debug("Order statistics reconciled: no drift");
+        }
+    }
+
+    /**
+     * Read the pending outbox IDs, the aggregates and which of the events applied so far are
+     * committed, all in the caller's repeatable-read transaction.
+     *
+     * @return The snapshot, or null when the outbox backlog is too large to track
+     */
+    private Snapshot readSnapshot(LocalDate firstDay, Map<Long, Runnable> applied) {
+        int maxPending = ApplicationConstants.Statistics.RECONCILE_MAX_PENDING_EVENTS;
+        List<Long> pending = outboxRepository.findIdsByStatus(
+                OutboxStatus.PENDING, PageRequest.ofSize(maxPending + 1));
+        if (pending.size() > maxPending) {
+            return null;
+        }
+        List<StatusTotalsRow> statusRows = orderRepository.findStatusTotals();
+        List<DailyTotalsRow> dayRows = orderRepository.findDailyTotalsSince(firstDay.atStartOfDay());
+
+        // Applied before this point: either committed in the snapshot already, or committed after it.
+        // Events applied later are committed after the snapshot unless they are pending in it.
+        Set<Long> appliedSoFar = Set.copyOf(applied.keySet());
+        Set<Long> committed = appliedSoFar.isEmpty()
+                ? Set.of()
+                : Set.copyOf(outboxRepository.findExistingIds(appliedSoFar));
+        return new Snapshot(Set.copyOf(pending), statusRows, dayRows, committed);
+    }
+
+    /**
+     * Swap every counter for a fresh adder holding the aggregate value; caller holds the write lock.
+     *
+     * @return Absolute difference between the previous order counts and the aggregates
+     */
+    private long replaceCounters(Snapshot snapshot, LocalDate firstDay) {
+        long drift = 0;
+        long orders = 0;
+        long revenueCents = 0;
+        Map<String, Long> actualByStatus = new HashMap<>();
+        for (StatusTotalsRow row : snapshot.statusRows()) {
+            actualByStatus.put(row.statusCode(), row.orders());
+            orders += row.orders();
+            revenueCents += toCents(row.revenue());
+        }
+        for (String status : ordersByStatus.keySet()) {
+            actualByStatus.putIfAbsent(status, 0L);
+        }
+        for (Map.Entry<String, Long> entry : actualByStatus.entrySet()) {
+            LongAdder previous = ordersByStatus.put(entry.getKey(), adderOf(entry.getValue()));
+            drift += Math.abs((previous != null ? previous.sum() : 0L) - entry.getValue());
+        }
+        drift += Math.abs(totalOrders.sum() - orders);
+        totalOrders = adderOf(orders);
+        totalRevenueCents = adderOf(revenueCents);
+
+        revenueByDay.keySet().removeIf(day -> day.isBefore(firstDay));
+        Map<LocalDate, DailyTotalsRow> actualByDay = new TreeMap<>();
+        snapshot.dayRows().forEach(row -> actualByDay.put(row.day(), row));
+        for (LocalDate day : revenueByDay.keySet()) {
+            actualByDay.putIfAbsent(day, new DailyTotalsRow(day, 0L, BigDecimal.ZERO));
+        }
+        actualByDay.forEach((day, row) ->
+                revenueByDay.put(day, new DayTotals(adderOf(row.orders()), adderOf(toCents(row.revenue())))));
+        return drift;
+    }
+
+    /**
+     * Apply one event's change unless the last reconciliation already counted it,
+     * and remember it while a reconciliation reads the database.
+     */
+    private void applyEvent(Long outboxEventId, Runnable change) {
+        countersLock.readLock().lock();
+        try {
+            if (outboxEventId != null && countedByReconcile.remove(outboxEventId)) {
+                return;
+            }
+            change.run();
+            Map<Long, Runnable> applied = appliedDuringReconcile;
+            if (applied != null && outboxEventId != null) {
+                applied.put(outboxEventId, change);
+            }
+        } finally {
+            countersLock.readLock().unlock();
+        }
+    }
+
+    private void apply(String statusCode, LocalDateTime createdAt, BigDecimal finalAmount, int sign) {
+        long cents = toCents(finalAmount) * sign;
+        if (statusCode != null) {
+            ordersByStatus.computeIfAbsent(statusCode, key -> new LongAdder()).add(sign);
+        }
+        totalOrders.add(sign);
+        totalRevenueCents.add(cents);
+
+        if (createdAt != null && !createdAt.toLocalDate().isBefore(firstRetainedDay())) {
+            DayTotals totals = revenueByDay.computeIfAbsent(createdAt.toLocalDate(), key -> new DayTotals());
+            totals.orders().add(sign);
+            totals.revenueCents().add(cents);
+        }
+    }
+
+    private void moveStatus(String fromStatusCode, String toStatusCode, int count) {
+        if (fromStatusCode != null) {
+            ordersByStatus.computeIfAbsent(fromStatusCode, key -> new LongAdder()).add(-count);
+        }
+        if (toStatusCode != null) {
+            ordersByStatus.computeIfAbsent(toStatusCode, key -> new LongAdder()).add(count);
+        }
+    }
+
+    private LocalDate firstRetainedDay() {
+        return LocalDate.now(clock).minusDays(revenueDays - 1L);
+    }
+
+    private static LongAdder adderOf(long value) {
+        LongAdder adder = new LongAdder();
+        adder.add(value);
+        return adder;
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount != null ? amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact() : 0L;
+    }
+
+    private static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+}
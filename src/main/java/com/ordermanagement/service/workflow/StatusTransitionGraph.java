@@ -0,0 +1,148 @@
+package com.ordermanagement.service.workflow;
+
+import com.ordermanagement.model.entity.OrderStatusEntity;
+import com.ordermanagement.model.entity.OrderStatusTransition;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable, precompiled form of the order_statuses / order_status_transitions tables.
+ *
+ * Layout:
+ * - statusIds: sorted status IDs; a status' position is its dense index
+ * - targets[i]: sorted dense indexes of the statuses reachable from status i (allowed rules only)
+ * - rules[i][k]: requirement flags of the transition i -> targets[i][k]
+ *
+ * Lookups are two or three binary searches over primitive arrays, so checking a transition
+ * touches no database and allocates nothing. A changed workflow is published by building a
+ * new graph and swapping the reference.
+ *
+ * Design Pattern: State Machine Pattern (compiled transition table)
+ * Thread Safety: Immutable after construction
+ */
+public final class StatusTransitionGraph {
+
+    /**
+     * Rule value returned when the transition is not configured or not allowed
+     */
+    public static final int NOT_ALLOWED = -1;
+
+    public static final int REQUIRES_APPROVAL = 1;
+    public static final int REQUIRES_PAYMENT = 1 << 1;
+    public static final int REQUIRES_INVENTORY_CHECK = 1 << 2;
+
+    private final long[] statusIds;
+    private final int[][] targets;
+    private final int[][] rules;
+    private final Map<String, OrderStatusEntity> statusesByCode;
+    private final int transitionCount;
+
+    private StatusTransitionGraph(long[] statusIds, int[][] targets, int[][] rules,
+                                  Map<String, OrderStatusEntity> statusesByCode, int transitionCount) {
+        this.statusIds = statusIds;
+        this.targets = targets;
+        this.rules = rules;
+        this.statusesByCode = statusesByCode;
+        this.transitionCount = transitionCount;
+    }
+
+    /**
+     * Compile statuses and transition rules; transitions that are not allowed are left out.
+     */
+    public static StatusTransitionGraph compile(Collection<OrderStatusEntity> statuses,
+                                                Collection<OrderStatusTransition> transitions) {
+        long[] ids = statuses.stream().mapToLong(OrderStatusEntity::getId).sorted().distinct().toArray();
+        Map<String, OrderStatusEntity> byCode = new HashMap<>();
+        statuses.forEach(status -> byCode.put(status.getCode(), status));
+
+        // Collect (target << 32 | flags) per source, then sort by target
+        long[][] edges = new long[ids.length][];
+        int[] edgeCounts = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            edges[i] = new long[4];
+        }
+        int count = 0;
+        for (OrderStatusTransition transition : transitions) {
+            if (!Boolean.TRUE.equals(transition.getIsAllowed())) {
+                continue;
+            }
+            int from = Arrays.binarySearch(ids, transition.getFromStatus().getId());
+            int to = Arrays.binarySearch(ids, transition.getToStatus().getId());
+            if (from < 0 || to < 0) {
+                continue;
+            }
+            if (edgeCounts[from] == edges[from].length) {
+                edges[from] = Arrays.copyOf(edges[from], edges[from].length * 2);
+            }
+            edges[from][edgeCounts[from]++] = ((long) to << 32) | flagsOf(transition);
+            count++;
+        }
+
+        int[][] targets = new int[ids.length][];
+        int[][] rules = new int[ids.length][];
+        for (int i = 0; i < ids.length; i++) {
+            long[] sorted = Arrays.copyOf(edges[i], edgeCounts[i]);
+            Arrays.sort(sorted);
+            targets[i] = new int[sorted.length];
+            rules[i] = new int[sorted.length];
+            for (int k = 0; k < sorted.length; k++) {
+                targets[i][k] = (int) (sorted[k] >>> 32);
+                rules[i][k] = (int) sorted[k];
+            }
+        }
+        return new StatusTransitionGraph(ids, targets, rules, Map.copyOf(byCode), count);
+    }
+
+    /**
+     * Status with the given code, or null if unknown
+     */
+    public OrderStatusEntity getStatus(String code) {
+        return code != null ? statusesByCode.get(code) : null;
+    }
+
+    /**
+     * Requirement flags of the transition, or NOT_ALLOWED
+     */
+    public int rule(long fromStatusId, long toStatusId) {
+        int from = Arrays.binarySearch(statusIds, fromStatusId);
+        int to = Arrays.binarySearch(statusIds, toStatusId);
+        if (from < 0 || to < 0) {
+            return NOT_ALLOWED;
+        }
+        int k = Arrays.binarySearch(targets[from], to);
+        return k >= 0 ? rules[from][k] : NOT_ALLOWED;
+    }
+
+    public boolean isAllowed(long fromStatusId, long toStatusId) {
+        return rule(fromStatusId, toStatusId) != NOT_ALLOWED;
+    }
+
+    public static boolean requires(int rule, int flag) {
+        return rule != NOT_ALLOWED && (rule & flag) != 0;
+    }
+
+    public int getStatusCount() {
+        return statusIds.length;
+    }
+
+    public int getTransitionCount() {
+        return transitionCount;
+    }
+
+    private static int flagsOf(OrderStatusTransition transition) {
+        int flags = 0;
+        if (Boolean.TRUE.equals(transition.getRequiresApproval())) {
+            flags |= REQUIRES_APPROVAL;
+        }
+        if (Boolean.TRUE.equals(transition.getRequiresPayment())) {
+            flags |= REQUIRES_PAYMENT;
+        }
+        if (Boolean.TRUE.equals(transition.getRequiresInventoryCheck())) {
+            flags |= REQUIRES_INVENTORY_CHECK;
+        }
+        return flags;
+    }
+}
@@ -0,0 +1,55 @@
+package com.ordermanagement.cache;
+
+import com.ordermanagement.model.entity.Customer;
+import com.ordermanagement.service.CustomerResolutionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for CustomerCacheListener: immediate and after-commit eviction.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Customer Cache Listener Tests")
+class CustomerCacheListenerTest {
+
+    @Mock
+    private CustomerResolutionService customerResolutionService;
+
+    private final Customer customer = Customer.builder().id(1L).customerCode("CUST-1").build();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should evict immediately outside a transaction")
+    void onCustomerChanged_NoTransaction() {
+        new CustomerCacheListener(customerResolutionService).onCustomerChanged(customer);
+
+        verify(customerResolutionService, times(1)).evict(customer);
+    }
+
+    @Test
+    @DisplayName("Should evict again after the transaction commits")
+    void onCustomerChanged_EvictsAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        new CustomerCacheListener(customerResolutionService).onCustomerChanged(customer);
+        verify(customerResolutionService, times(1)).evict(customer);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(customerResolutionService, times(2)).evict(customer);
+    }
+}
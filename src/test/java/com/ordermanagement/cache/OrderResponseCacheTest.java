@@ -0,0 +1,129 @@
+package com.ordermanagement.cache;
+
+import com.ordermanagement.model.dto.response.OrderResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for OrderResponseCache: version-validated reads, stale-entry rejection,
+ * eviction and the cache metrics.
+ */
+@DisplayName("Order Response Cache Tests")
+class OrderResponseCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new OrderResponseCache(meterRegistry, 100, 10);
+    }
+
+    @Test
+    @DisplayName("Should return the cached response for the version it was built from")
+    void get_MatchingVersion() {
+        OrderResponse response = response(1L, 3L);
+        cache.put(1L, 3L, response);
+
+        assertThat(cache.get(1L, 3L)).isSameAs(response);
+        assertThat(staleCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject and evict an entry built from an older version")
+    void get_StaleVersion() {
+        cache.put(1L, 3L, response(1L, 3L));
+
+        assertThat(cache.get(1L, 4L)).isNull();
+        assertThat(staleCount()).isEqualTo(1.0);
+        assertThat(gets("hit")).isZero();
+        assertThat(gets("miss")).isEqualTo(1.0);
+
+        // The stale entry is gone, so even its own version now misses without counting again
+        assertThat(cache.get(1L, 3L)).isNull();
+        assertThat(staleCount()).isEqualTo(1.0);
+        assertThat(gets("miss")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should treat an unknown current version as stale")
+    void get_NullVersion() {
+        cache.put(1L, 3L, response(1L, 3L));
+
+        assertThat(cache.get(1L, null)).isNull();
+        assertThat(staleCount()).isEqualTo(1.0);
+        assertThat(gets("hit")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should replace an entry when a newer version is put")
+    void put_NewerVersion() {
+        OrderResponse newer = response(1L, 4L);
+        cache.put(1L, 3L, response(1L, 3L));
+        cache.put(1L, 4L, newer);
+
+        assertThat(cache.get(1L, 4L)).isSameAs(newer);
+        assertThat(staleCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should ignore puts without an ID, version or response")
+    void put_IncompleteEntry() {
+        cache.put(1L, null, response(1L, 3L));
+        cache.put(2L, 3L, null);
+
+        assertThat(cache.get(1L, 3L)).isNull();
+        assertThat(cache.get(2L, 3L)).isNull();
+        assertThat(gets("miss")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should miss after evict and evictAll")
+    void evict_SingleAndAll() {
+        cache.put(1L, 3L, response(1L, 3L));
+        cache.put(2L, 5L, response(2L, 5L));
+
+        cache.evict(1L);
+        assertThat(cache.get(1L, 3L)).isNull();
+        assertThat(cache.get(2L, 5L)).isNotNull();
+
+        cache.evictAll();
+        assertThat(cache.get(2L, 5L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should record hits, misses and puts under cache=orderResponses")
+    void metrics_HitsMissesAndPuts() {
+        cache.get(1L, 3L);
+        cache.put(1L, 3L, response(1L, 3L));
+        cache.get(1L, 3L);
+        cache.get(1L, 3L);
+
+        assertThat(gets("hit")).isEqualTo(2.0);
+        assertThat(gets("miss")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.puts").tag("cache", "orderResponses").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+
+    private double staleCount() {
+        return meterRegistry.get("cache.stale.total").tag("cache", "orderResponses").counter().count();
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tags("cache", "orderResponses", "result", result)
+                .functionCounter().count();
+    }
+
+    private static OrderResponse response(Long id, Long version) {
+        return OrderResponse.builder()
+                .id(id)
+                .orderNumber("ORD-" + id)
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.ordermanagement.cache;
+
+import com.ordermanagement.model.entity.Product;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for ProductCatalogCacheListener: immediate and after-commit eviction.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Product Catalog Cache Listener Tests")
+class ProductCatalogCacheListenerTest {
+
+    @Mock
+    private ProductCatalogCache productCatalogCache;
+
+    private final Product product = Product.builder().id(1L).productCode("LAPTOP-001").build();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should evict immediately outside a transaction")
+    void onProductChanged_NoTransaction() {
+        new ProductCatalogCacheListener(productCatalogCache).onProductChanged(product);
+
+        verify(productCatalogCache, times(1)).evict(product);
+    }
+
+    @Test
+    @DisplayName("Should evict again after the transaction commits")
+    void onProductChanged_EvictsAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        new ProductCatalogCacheListener(productCatalogCache).onProductChanged(product);
+        verify(productCatalogCache, times(1)).evict(product);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(productCatalogCache, times(2)).evict(product);
+    }
+}
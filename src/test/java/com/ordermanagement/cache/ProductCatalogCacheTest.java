@@ -0,0 +1,98 @@
+package com.ordermanagement.cache;
+
+import com.ordermanagement.model.entity.Product;
+import com.ordermanagement.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ProductCatalogCache: bulk loading, negative caching and eviction.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Product Catalog Cache Tests")
+class ProductCatalogCacheTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private ProductCatalogCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ProductCatalogCache(productRepository, new SimpleMeterRegistry(), 100, 10);
+    }
+
+    @Test
+    @DisplayName("Should load all misses in one query and cache unknown codes")
+    void resolveAll_LoadsMissesOnce() {
+        Product laptop = product(1L, "LAPTOP-001");
+        when(productRepository.findByProductCodeIn(anyCollection())).thenReturn(List.of(laptop));
+
+        Map<String, Product> first = cache.resolveAll(List.of("LAPTOP-001", "UNKNOWN-1", "LAPTOP-001"));
+        Map<String, Product> second = cache.resolveAll(List.of("UNKNOWN-1", "LAPTOP-001"));
+
+        assertThat(first).containsOnlyKeys("LAPTOP-001");
+        assertThat(second).containsEntry("LAPTOP-001", laptop).doesNotContainKey("UNKNOWN-1");
+        verify(productRepository, times(1)).findByProductCodeIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should reload a product after it is evicted")
+    void evict_ByCode() {
+        Product laptop = product(1L, "LAPTOP-001");
+        when(productRepository.findByProductCode("LAPTOP-001")).thenReturn(Optional.of(laptop));
+
+        cache.resolve("LAPTOP-001");
+        cache.evict(laptop);
+        cache.resolve("LAPTOP-001");
+
+        verify(productRepository, times(2)).findByProductCode("LAPTOP-001");
+    }
+
+    @Test
+    @DisplayName("Should evict the entry cached under a product's previous code")
+    void evict_AfterCodeChange() {
+        Product laptop = product(1L, "LAPTOP-001");
+        when(productRepository.findByProductCodeIn(anyCollection())).thenReturn(List.of(laptop));
+        cache.resolveAll(List.of("LAPTOP-001"));
+
+        // The product is renamed; the listener evicts with the new code only
+        cache.evict(product(1L, "LAPTOP-002"));
+        when(productRepository.findByProductCodeIn(anyCollection())).thenReturn(List.of());
+
+        assertThat(cache.resolveAll(List.of("LAPTOP-001"))).isEmpty();
+        verify(productRepository, times(2)).findByProductCodeIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should reload everything after evictAll")
+    void evictAll_ClearsEntries() {
+        when(productRepository.findByProductCode("UNKNOWN-1")).thenReturn(Optional.empty());
+
+        cache.resolve("UNKNOWN-1");
+        cache.resolve("UNKNOWN-1");
+        cache.evictAll();
+        cache.resolve("UNKNOWN-1");
+
+        verify(productRepository, times(2)).findByProductCode("UNKNOWN-1");
+    }
+
+    private static Product product(Long id, String code) {
+        return Product.builder().id(id).productCode(code).name(code).build();
+    }
+}
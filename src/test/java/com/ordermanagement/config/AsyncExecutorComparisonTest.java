@@ -0,0 +1,100 @@
+package com.ordermanagement.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Behaviour of the two AsyncConfig execution modes under a burst of blocking tasks
+ * (every task blocks for SLOW_DB_MILLIS, like a slow database call):
+ * - Platform: bounded pool and queue; the overflow of the burst is rejected
+ * - Virtual: every task completes, and no more than the concurrency limit run at once
+ *
+ * Throughput and latency percentiles of both modes: AsyncExecutorBenchmark (benchmarks profile).
+ */
+@Slf4j
+@DisplayName("Async Executor Platform vs Virtual Comparison")
+class AsyncExecutorComparisonTest {
+
+    private static final int TASKS = 300;
+    private static final long SLOW_DB_MILLIS = 20;
+    private static final int VIRTUAL_CONCURRENCY_LIMIT = 25;
+
+    /**
+     * Max pool size of the platform executor in AsyncConfig
+     */
+    private static final int PLATFORM_MAX_THREADS = 10;
+
+    @Test
+    @DisplayName("Platform mode should reject the part of a slow burst that exceeds pool and queue")
+    void platformMode_RejectsOverflow() throws InterruptedException {
+        ThreadPoolTaskExecutor executor =
+                (ThreadPoolTaskExecutor) new AsyncConfig(false, VIRTUAL_CONCURRENCY_LIMIT).getAsyncExecutor();
+        try {
+            Result result = run("platform", executor);
+
+            assertThat(result.rejected()).isPositive();
+            assertThat(result.completed()).isEqualTo(TASKS - result.rejected());
+            assertThat(result.peakConcurrency()).isLessThanOrEqualTo(PLATFORM_MAX_THREADS);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Virtual mode should complete the whole burst within the concurrency limit")
+    void virtualMode_CompletesBurstWithinLimit() throws InterruptedException {
+        Result result = run("virtual", new AsyncConfig(true, VIRTUAL_CONCURRENCY_LIMIT).getAsyncExecutor());
+
+        assertThat(result.rejected()).isZero();
+        assertThat(result.completed()).isEqualTo(TASKS);
+        assertThat(result.peakConcurrency()).isLessThanOrEqualTo(VIRTUAL_CONCURRENCY_LIMIT);
+    }
+
+    private Result run(String mode, Executor executor) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(TASKS);
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < TASKS; i++) {
+            try {
+                executor.execute(() -> {
+                    peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(SLOW_DB_MILLIS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        running.decrementAndGet();
+                    }
+                    completed.incrementAndGet();
+                    done.countDown();
+                });
+            } catch (TaskRejectedException e) {
+                rejected.incrementAndGet();
+                done.countDown();
+            }
+        }
+        assertThat(done.await(1, TimeUnit.MINUTES)).as("%s burst finished", mode).isTrue();
+
+        Result result = new Result(completed.get(), rejected.get(), peak.get());
+        log.info("{} executor: {} completed, {} rejected, peak concurrency {}, {} ms",
+                mode, result.completed(), result.rejected(), result.peakConcurrency(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return result;
+    }
+
+    private record Result(int completed, int rejected, int peakConcurrency) {}
+}
@@ -1,6 +1,8 @@
 package com.ordermanagement.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ordermanagement.model.dto.request.BatchCreateOrderRequest;
+import com.ordermanagement.model.dto.request.BulkUpdateOrderStatusRequest;
 import com.ordermanagement.model.dto.request.CreateOrderRequest;
 import com.ordermanagement.model.dto.request.OrderItemRequest;
 import com.ordermanagement.model.dto.request.UpdateOrderStatusRequest;
@@ -97,6 +99,64 @@ class OrderControllerIntegrationTest {
                 .andExpect(jsonPath("$.fieldErrors", notNullValue()));
     }
 
+    @Test
+    @DisplayName("Should return 201 when every order of a batch is created")
+    void createOrders_AllCreated() throws Exception {
+        // Arrange
+        BatchCreateOrderRequest request = BatchCreateOrderRequest.builder()
+                .orders(List.of(batchOrder("Batch Buyer One", "batch.one@example.com"),
+                        batchOrder("Batch Buyer Two", "batch.two@example.com")))
+                .build();
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.totalRequested", is(2)))
+                .andExpect(jsonPath("$.succeeded", is(2)))
+                .andExpect(jsonPath("$.failed", is(0)))
+                .andExpect(jsonPath("$.results[0].order.id", notNullValue()))
+                .andExpect(jsonPath("$.results[1].order.customerEmail", is("batch.two@example.com")));
+    }
+
+    @Test
+    @DisplayName("Should return 207 with per-order results when some batch orders are invalid")
+    void createOrders_PartialFailure() throws Exception {
+        // Arrange - Second order has no customer name
+        BatchCreateOrderRequest request = BatchCreateOrderRequest.builder()
+                .orders(List.of(batchOrder("Batch Buyer Three", "batch.three@example.com"),
+                        batchOrder(null, "batch.four@example.com")))
+                .build();
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.succeeded", is(1)))
+                .andExpect(jsonPath("$.failed", is(1)))
+                .andExpect(jsonPath("$.results[0].success", is(true)))
+                .andExpect(jsonPath("$.results[0].order.status", is("PENDING")))
+                .andExpect(jsonPath("$.results[1].index", is(1)))
+                .andExpect(jsonPath("$.results[1].success", is(false)))
+                .andExpect(jsonPath("$.results[1].error", containsString("customerName")))
+                .andExpect(jsonPath("$.results[1].order").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should return 400 for an empty batch")
+    void createOrders_EmptyBatch() throws Exception {
+        BatchCreateOrderRequest request = BatchCreateOrderRequest.builder()
+                .orders(List.of())
+                .build();
+
+        mockMvc.perform(post("/api/v1/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Should get order by ID successfully")
     void getOrderById_Success() throws Exception {
@@ -131,6 +191,49 @@ class OrderControllerIntegrationTest {
                 .andExpect(jsonPath("$.totalAmount", is(25.00)));
     }
 
+    @Test
+    @DisplayName("Should return 304 when If-None-Match matches the order ETag")
+    void getOrderById_NotModified() throws Exception {
+        // Arrange
+        OrderItemRequest item = OrderItemRequest.builder()
+                .productName("Keyboard")
+                .productCode("KEYBOARD-001")
+                .quantity(1)
+                .unitPrice(new BigDecimal("75.00"))
+                .build();
+
+        CreateOrderRequest createRequest = CreateOrderRequest.builder()
+                .customerName("Etag Tester")
+                .customerEmail("etag.tester@example.com")
+                .items(List.of(item))
+                .build();
+
+        MvcResult createResult = mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        Long orderId = objectMapper.readTree(createResult.getResponse().getContentAsString()).get("id").asLong();
+
+        String etag = mockMvc.perform(get("/api/v1/orders/{id}", orderId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", startsWith("\"" + orderId + "-")))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Act & Assert - unchanged order
+        mockMvc.perform(get("/api/v1/orders/{id}", orderId).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+
+        // Act & Assert - stale ETag
+        mockMvc.perform(get("/api/v1/orders/{id}", orderId).header("If-None-Match", "\"" + orderId + "-999\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(orderId.intValue())))
+                .andExpect(jsonPath("$.version").doesNotExist());
+    }
+
     @Test
     @DisplayName("Should return 404 when order not found")
     void getOrderById_NotFound() throws Exception {
@@ -169,6 +272,70 @@ class OrderControllerIntegrationTest {
                 .andExpect(jsonPath("$", hasSize(greaterThanOrEqualTo(1))));
     }
 
+    @Test
+    @DisplayName("Should omit items in the summary view")
+    void getAllOrdersPaginated_SummaryView() throws Exception {
+        // Arrange
+        OrderItemRequest item = OrderItemRequest.builder()
+                .productName("Monitor")
+                .productCode("MON-001")
+                .quantity(1)
+                .unitPrice(new BigDecimal("300.00"))
+                .build();
+
+        CreateOrderRequest request = CreateOrderRequest.builder()
+                .customerName("Summary User")
+                .customerEmail("summary.user@example.com")
+                .items(List.of(item))
+                .build();
+
+        mockMvc.perform(post("/api/v1/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/orders/paginated").param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(greaterThanOrEqualTo(1))))
+                .andExpect(jsonPath("$.content[0].orderNumber", notNullValue()))
+                .andExpect(jsonPath("$.content[0].items").doesNotExist());
+
+        mockMvc.perform(get("/api/v1/orders/paginated").param("view", "compact"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should list a customer's order history by email")
+    void getCustomerOrders_Success() throws Exception {
+        // Arrange
+        OrderItemRequest item = OrderItemRequest.builder()
+                .productName("Headset")
+                .productCode("HEAD-001")
+                .quantity(1)
+                .unitPrice(new BigDecimal("80.00"))
+                .build();
+
+        CreateOrderRequest request = CreateOrderRequest.builder()
+                .customerName("History User")
+                .customerEmail("history.user@example.com")
+                .items(List.of(item))
+                .build();
+
+        mockMvc.perform(post("/api/v1/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/customers/{email}/orders", "History.User@example.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].customerEmail", is("history.user@example.com")))
+                .andExpect(jsonPath("$.content[0].items").doesNotExist())
+                .andExpect(jsonPath("$.hasNext", is(false)));
+    }
+
     @Test
     @DisplayName("Should filter orders by status")
     void getOrdersByStatus_Success() throws Exception {
@@ -237,6 +404,34 @@ class OrderControllerIntegrationTest {
                 .andExpect(jsonPath("$.status", is("PROCESSING")));
     }
 
+    @Test
+    @DisplayName("Should return 400 for bulk status update without order IDs")
+    void updateOrderStatuses_NoIds() throws Exception {
+        BulkUpdateOrderStatusRequest request = BulkUpdateOrderStatusRequest.builder()
+                .ids(List.of())
+                .targetStatus("SHIPPED")
+                .build();
+
+        mockMvc.perform(put("/api/v1/orders/status:bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return 400 for bulk status update to an unknown status")
+    void updateOrderStatuses_UnknownStatus() throws Exception {
+        BulkUpdateOrderStatusRequest request = BulkUpdateOrderStatusRequest.builder()
+                .ids(List.of(1L, 2L))
+                .targetStatus("NOT_A_STATUS")
+                .build();
+
+        mockMvc.perform(put("/api/v1/orders/status:bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Should cancel order in PENDING status")
     void cancelOrder_Success() throws Exception {
@@ -313,4 +508,44 @@ class OrderControllerIntegrationTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.message", containsString("cannot be cancelled")));
     }
+
+    @Test
+    @DisplayName("Should stream the export as NDJSON")
+    void exportOrders_StreamsNdjson() throws Exception {
+        // Arrange - The export runs in its own transaction, so use a range no uncommitted test data falls into
+        MvcResult started = mockMvc.perform(get("/api/v1/orders/export")
+                        .param("from", "2000-01-01T00:00:00")
+                        .param("to", "2000-01-02T00:00:00"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Act & Assert
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Should return 400 before streaming when the export range is empty")
+    void exportOrders_InvalidRange() throws Exception {
+        mockMvc.perform(get("/api/v1/orders/export")
+                        .param("from", "2024-02-01T00:00:00")
+                        .param("to", "2024-01-01T00:00:00"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status", is(400)));
+    }
+
+    private static CreateOrderRequest batchOrder(String customerName, String customerEmail) {
+        return CreateOrderRequest.builder()
+                .customerName(customerName)
+                .customerEmail(customerEmail)
+                .items(List.of(OrderItemRequest.builder()
+                        .productName("Batch Keyboard")
+                        .productCode("KEY-001")
+                        .quantity(1)
+                        .unitPrice(new BigDecimal("45.00"))
+                        .build()))
+                .build();
+    }
 }
@@ -0,0 +1,171 @@
+package com.ordermanagement.model.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Property-based equivalence tests for MoneyAccumulator.
+ * Generates random amounts and factors from fixed seeds and checks that every accumulator
+ * operation produces the same value as the equivalent Money operation.
+ */
+@DisplayName("MoneyAccumulator Equivalence Tests")
+class MoneyAccumulatorTest {
+
+    private static final long SEED = 20240601L;
+    private static final int ITERATIONS = 20_000;
+
+    @Test
+    @DisplayName("Sum of random amounts should equal Money.add chain")
+    void add_RandomAmounts_MatchesMoney() {
+        Random random = new Random(SEED);
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            List<Money> amounts = randomAmounts(random, 1 + random.nextInt(20));
+
+            Money expected = amounts.stream().reduce(Money.zero(), Money::add);
+            MoneyAccumulator actual = MoneyAccumulator.zero();
+            amounts.forEach(actual::add);
+
+            assertSameAmount(actual, expected, "sum of " + amounts);
+        }
+    }
+
+    @Test
+    @DisplayName("HALF_UP multiplication by random factors should equal Money.multiply")
+    void multiply_RandomFactors_MatchesMoney() {
+        Random random = new Random(SEED + 1);
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            Money amount = randomAmount(random);
+            BigDecimal factor = randomFactor(random);
+
+            Money expected = amount.multiply(factor);
+            MoneyAccumulator actual = MoneyAccumulator.of(amount).multiply(factor);
+
+            assertSameAmount(actual, expected, amount + " * " + factor);
+        }
+    }
+
+    @Test
+    @DisplayName("Order pricing pipeline should equal the Money-based calculation")
+    void pricingPipeline_RandomOrders_MatchesMoney() {
+        Random random = new Random(SEED + 2);
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            List<Money> itemTotals = randomAmounts(random, 1 + random.nextInt(30));
+            BigDecimal discountFactor = BigDecimal.valueOf(random.nextInt(31) / 100.0);
+            BigDecimal taxFactor = BigDecimal.valueOf((random.nextInt(2500) / 100.0) / 100.0);
+            Money shipping = Money.of(BigDecimal.valueOf(random.nextInt(5000) / 100.0));
+
+            // Reference: the Money operations OrderPricingService used before
+            Money subtotal = itemTotals.stream().reduce(Money.zero(), Money::add);
+            Money discount = subtotal.multiply(discountFactor);
+            Money taxable = subtotal.subtract(discount);
+            Money tax = taxable.multiply(taxFactor);
+            Money expected = taxable.add(tax).add(shipping);
+
+            MoneyAccumulator accSubtotal = MoneyAccumulator.zero();
+            itemTotals.forEach(accSubtotal::add);
+            MoneyAccumulator accDiscount = accSubtotal.multiply(discountFactor);
+            MoneyAccumulator accTaxable = MoneyAccumulator.zero().add(accSubtotal).subtract(accDiscount);
+            MoneyAccumulator accTax = accTaxable.multiply(taxFactor);
+            MoneyAccumulator actual = MoneyAccumulator.zero().add(accTaxable).add(accTax).add(shipping);
+
+            assertSameAmount(accDiscount, discount, "discount");
+            assertSameAmount(accTax, tax, "tax");
+            assertSameAmount(actual, expected, "final amount");
+        }
+    }
+
+    @Test
+    @DisplayName("Subtraction should match Money.subtract and reject negative results")
+    void subtract_RandomAmounts_MatchesMoney() {
+        Random random = new Random(SEED + 3);
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            Money a = randomAmount(random);
+            Money b = randomAmount(random);
+            Money larger = a.compareTo(b) >= 0 ? a : b;
+            Money smaller = larger == a ? b : a;
+
+            assertSameAmount(MoneyAccumulator.of(larger).subtract(smaller), larger.subtract(smaller),
+                larger + " - " + smaller);
+        }
+
+        assertThatThrownBy(() -> MoneyAccumulator.zero().subtract(Money.of(new BigDecimal("0.01"))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("cannot be negative");
+    }
+
+    @Test
+    @DisplayName("Values outside the minor-units range should fall back to exact arithmetic")
+    void fallback_LargeAndFineGrainedValues_MatchesMoney() {
+        Money huge = new Money(new BigDecimal("92233720368547758.07"), "USD");
+        Money fine = new Money(new BigDecimal("0.0049"), "USD");
+        BigDecimal factor = new BigDecimal("1.0000000000000000001");
+
+        assertSameAmount(MoneyAccumulator.of(huge).add(huge), huge.add(huge), "overflowing sum");
+        assertSameAmount(MoneyAccumulator.of(huge).multiply(factor), huge.multiply(factor), "overflowing product");
+        assertSameAmount(MoneyAccumulator.zero().add(fine).add(fine), fine.add(fine), "sub-cent sum");
+        assertSameAmount(MoneyAccumulator.of(fine).multiply(BigDecimal.TEN), fine.multiply(BigDecimal.TEN),
+            "sub-cent product");
+    }
+
+    @Test
+    @DisplayName("Should reject mixing currencies like Money does")
+    void add_DifferentCurrency_ThrowsException() {
+        assertThatThrownBy(() -> MoneyAccumulator.zero().add(Money.of(BigDecimal.ONE, "EUR")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("different currencies");
+    }
+
+    private static void assertSameAmount(MoneyAccumulator actual, Money expected, String description) {
+        assertThat(actual.toMoney().getCurrency()).isEqualTo(expected.getCurrency());
+        assertThat(actual.toBigDecimal())
+            .as(description)
+            .isEqualByComparingTo(expected.getAmount());
+    }
+
+    private static List<Money> randomAmounts(Random random, int count) {
+        List<Money> amounts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            amounts.add(randomAmount(random));
+        }
+        return amounts;
+    }
+
+    /**
+     * Amounts from cents up to ~10^9, mostly with scale 2 (Money.of) and some raw scales 0..1
+     */
+    private static Money randomAmount(Random random) {
+        long unscaled = switch (random.nextInt(4)) {
+            case 0 -> random.nextInt(100);
+            case 1 -> random.nextInt(1_000_000);
+            case 2 -> Math.floorMod(random.nextLong(), 100_000_000_000L);
+            default -> random.nextInt(10) * 5L;
+        };
+        int scale = random.nextInt(5) == 0 ? random.nextInt(2) : 2;
+        BigDecimal amount = BigDecimal.valueOf(unscaled, scale);
+        return scale == 2 ? Money.of(amount) : new Money(amount, "USD");
+    }
+
+    /**
+     * Factors shaped like pricing factors (percent / 100.0) plus arbitrary decimals
+     */
+    private static BigDecimal randomFactor(Random random) {
+        return switch (random.nextInt(4)) {
+            case 0 -> BigDecimal.valueOf(random.nextInt(10_001) / 100.0 / 100.0);
+            case 1 -> BigDecimal.valueOf(random.nextDouble());
+            case 2 -> BigDecimal.valueOf(random.nextInt(1_000_000), random.nextInt(9));
+            default -> BigDecimal.valueOf(random.nextInt(100), -random.nextInt(3));
+        };
+    }
+}
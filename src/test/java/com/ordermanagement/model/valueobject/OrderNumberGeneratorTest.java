@@ -0,0 +1,184 @@
+package com.ordermanagement.model.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for OrderNumberGenerator: format, day rollover, concurrent uniqueness and the
+ * per-second sequence budget that keeps restarted nodes above earlier numbers.
+ */
+@DisplayName("Order Number Generator Tests")
+class OrderNumberGeneratorTest {
+
+    private static final Instant BEFORE_MIDNIGHT = Instant.parse("2024-01-15T23:59:59.900Z");
+
+    @Test
+    @DisplayName("Should generate valid order numbers for the clock's local day")
+    void nextValue_Format() {
+        OrderNumberGenerator generator = new OrderNumberGenerator(7, new MutableClock(BEFORE_MIDNIGHT));
+
+        OrderNumber orderNumber = OrderNumber.generate(generator);
+
+        assertThat(orderNumber.getDatePart()).isEqualTo("20240115");
+        assertThat(OrderNumber.of(orderNumber.getValue())).isEqualTo(orderNumber);
+    }
+
+    @Test
+    @DisplayName("Should switch to the new day at midnight and keep it if the clock steps back")
+    void nextValue_MidnightRollover() {
+        MutableClock clock = new MutableClock(BEFORE_MIDNIGHT);
+        OrderNumberGenerator generator = new OrderNumberGenerator(1, clock);
+
+        String beforeMidnight = generator.nextValue();
+        clock.advance(Duration.ofMillis(200));
+        String afterMidnight = generator.nextValue();
+        clock.advance(Duration.ofMillis(-150));
+        String afterStepBack = generator.nextValue();
+
+        assertThat(beforeMidnight).startsWith("ORD-20240115-");
+        assertThat(afterMidnight).startsWith("ORD-20240116-");
+        assertThat(afterStepBack).startsWith("ORD-20240116-");
+        assertThat(sequence(afterStepBack)).isGreaterThan(sequence(afterMidnight));
+    }
+
+    @Test
+    @DisplayName("Should issue unique numbers to concurrent callers")
+    void nextValue_ConcurrentUniqueness() throws Exception {
+        OrderNumberGenerator generator = new OrderNumberGenerator(3, Clock.systemUTC());
+        int threads = 8;
+        int perThread = 10_000;
+        Set<String> issued = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        issued.add(generator.nextValue());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(issued).hasSize(threads * perThread);
+    }
+
+    @Test
+    @DisplayName("Should stay unique and increasing when one second's sequence budget is exhausted")
+    void nextValue_SequenceBudgetExhausted() {
+        MutableClock clock = new MutableClock(Instant.parse("2024-01-15T10:00:00Z"));
+        OrderNumberGenerator generator = new OrderNumberGenerator(5, clock);
+        int budget = 1 << 14;
+
+        String previous = generator.nextValue();
+        for (int i = 0; i < budget + 100; i++) {
+            String next = generator.nextValue();
+            assertThat(sequence(next)).isGreaterThan(sequence(previous));
+            previous = next;
+        }
+
+        // The next second's floor is already used up, so numbering continues from the last value
+        clock.advance(Duration.ofSeconds(1));
+        String nextSecond = generator.nextValue();
+        assertThat(sequence(nextSecond)).isEqualTo(sequence(previous) + 1);
+    }
+
+    @Test
+    @DisplayName("Should continue above earlier numbers after a restart within the sequence budget")
+    void nextValue_RestartedNodeContinuesAbove() {
+        MutableClock clock = new MutableClock(Instant.parse("2024-01-15T10:00:00Z"));
+        OrderNumberGenerator beforeRestart = new OrderNumberGenerator(5, clock);
+        String last = null;
+        for (int i = 0; i < 1_000; i++) {
+            last = beforeRestart.nextValue();
+        }
+
+        clock.advance(Duration.ofSeconds(1));
+        OrderNumberGenerator afterRestart = new OrderNumberGenerator(5, clock);
+
+        assertThat(sequence(afterRestart.nextValue())).isGreaterThan(sequence(last));
+    }
+
+    @Test
+    @DisplayName("Should issue different numbers on different nodes at the same instant")
+    void nextValue_DistinctNodes() {
+        Clock clock = new MutableClock(BEFORE_MIDNIGHT);
+
+        assertThat(new OrderNumberGenerator(1, clock).nextValue())
+                .isNotEqualTo(new OrderNumberGenerator(2, clock).nextValue());
+    }
+
+    @Test
+    @DisplayName("Should reject node ids outside 0-1023")
+    void constructor_InvalidNodeId() {
+        assertThatThrownBy(() -> new OrderNumberGenerator(OrderNumberGenerator.MAX_NODE_ID + 1, Clock.systemUTC()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new OrderNumberGenerator(-1, Clock.systemUTC()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Per-day sequence encoded in the suffix (node id bits masked off)
+     */
+    private static long sequence(String value) {
+        return Long.parseLong(value.substring(value.length() - 8), 36) & ((1L << 31) - 1);
+    }
+
+    /**
+     * UTC clock moved explicitly by the test
+     */
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
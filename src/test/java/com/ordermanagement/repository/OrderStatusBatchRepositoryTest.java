@@ -0,0 +1,107 @@
+package com.ordermanagement.repository;
+
+import com.ordermanagement.model.dto.projection.OrderStatusRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for OrderStatusBatchRepository: per-statement counts and statements the driver
+ * reported as SUCCESS_NO_INFO.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Order Status Batch Repository Tests")
+class OrderStatusBatchRepositoryTest {
+
+    private static final long NEW_STATUS_ID = 2L;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private OrderStatusBatchRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new OrderStatusBatchRepository(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should report each order by its own update count")
+    void updateStatuses_Counts() {
+        stubCounts(1, 0, 1);
+
+        boolean[] updated = repository.updateStatuses(rows(1L, 2L, 3L), NEW_STATUS_ID, LocalDateTime.now());
+
+        assertThat(updated).containsExactly(true, false, true);
+        verify(jdbcTemplate, never()).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("Should re-read orders the driver gave no count for instead of assuming they moved")
+    void updateStatuses_SuccessNoInfo() throws Exception {
+        stubCounts(Statement.SUCCESS_NO_INFO, 1, Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO);
+        // Order 1 moved (next version, new status); order 3 was changed by someone else
+        // (version unchanged); order 4 was deleted
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getLong(1)).thenReturn(1L, 3L);
+        when(resultSet.getLong(2)).thenReturn(6L, 5L);
+        when(resultSet.getLong(3)).thenReturn(NEW_STATUS_ID, 1L);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(resultSet);
+            handler.processRow(resultSet);
+            return null;
+        }).when(jdbcTemplate).query(eq("SELECT id, version, status_id FROM orders WHERE id IN (?, ?, ?)"),
+                any(RowCallbackHandler.class), any(Object[].class));
+
+        boolean[] updated = repository.updateStatuses(rows(1L, 2L, 3L, 4L), NEW_STATUS_ID, LocalDateTime.now());
+
+        assertThat(updated).containsExactly(true, true, false, false);
+    }
+
+    @Test
+    @DisplayName("Should not touch the database for an empty list")
+    void updateStatuses_Empty() {
+        assertThat(repository.updateStatuses(List.of(), NEW_STATUS_ID, LocalDateTime.now())).isEmpty();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubCounts(int... counts) {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[][]{counts});
+    }
+
+    private static List<OrderStatusRow> rows(Long... ids) {
+        return Arrays.stream(ids)
+                .map(id -> new OrderStatusRow(id, "ORD-" + id, 5L, 1L, "PENDING", BigDecimal.TEN, BigDecimal.ZERO))
+                .toList();
+    }
+}
@@ -0,0 +1,243 @@
+package com.ordermanagement.service;
+
+import com.ordermanagement.model.entity.Customer;
+import com.ordermanagement.model.valueobject.Email;
+import com.ordermanagement.repository.CustomerRepository;
+import com.ordermanagement.repository.CustomerUpsertRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for CustomerResolutionService: caching, duplicate-key races, single-flight
+ * waiting, leader rollback, bounded waits and eviction.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Customer Resolution Service Tests")
+class CustomerResolutionServiceTest {
+
+    private static final String EMAIL = "jane@example.com";
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private CustomerUpsertRepository customerUpsertRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve a resolved customer from the cache")
+    void resolve_CacheHit() {
+        CustomerResolutionService service = service(2_000);
+        Customer jane = customer(1L, EMAIL);
+        when(customerRepository.findByEmail(EMAIL)).thenReturn(Optional.of(jane));
+
+        assertThat(service.resolve("Jane", "Jane@Example.com")).isSameAs(jane);
+        assertThat(service.resolve("Jane", EMAIL)).isSameAs(jane);
+
+        verify(customerRepository, times(1)).findByEmail(EMAIL);
+        verify(customerUpsertRepository, never()).insertIfAbsent(anyString(), anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should insert a missing customer and read it back")
+    void resolve_InsertsMissingCustomer() {
+        CustomerResolutionService service = service(2_000);
+        Customer jane = customer(1L, EMAIL);
+        when(customerRepository.findByEmail(EMAIL)).thenReturn(Optional.empty(), Optional.of(jane));
+        when(customerUpsertRepository.insertIfAbsent(eq(EMAIL), eq("Jane"), anyString(), any())).thenReturn(1);
+
+        assertThat(service.resolve("Jane", EMAIL)).isSameAs(jane);
+        assertThat(meterRegistry.counter("customers.resolution.upserts.total", "application", "order-management").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should re-read the row when a concurrent insert wins the unique email constraint")
+    void resolve_DuplicateKeyRace() {
+        CustomerResolutionService service = service(2_000);
+        Customer jane = customer(1L, EMAIL);
+        when(customerRepository.findByEmail(EMAIL)).thenReturn(Optional.empty(), Optional.of(jane));
+        when(customerUpsertRepository.insertIfAbsent(eq(EMAIL), eq("Jane"), anyString(), any()))
+                .thenThrow(new DuplicateKeyException("uk_customer_email"));
+
+        assertThat(service.resolve("Jane", EMAIL)).isSameAs(jane);
+        assertThat(meterRegistry.counter("customers.resolution.upserts.total", "application", "order-management").count())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Should let a follower wait for the leader and get the customer once it commits")
+    void resolve_FollowerWaitsForCommittedLeader() throws Exception {
+        CustomerResolutionService service = service(10_000);
+        Customer jane = customer(1L, EMAIL);
+        when(customerRepository.findByEmail(EMAIL)).thenReturn(Optional.empty(), Optional.of(jane));
+        when(customerUpsertRepository.insertIfAbsent(eq(EMAIL), eq("Jane"), anyString(), any())).thenReturn(1);
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertThat(service.resolve("Jane", EMAIL)).isSameAs(jane);
+
+        AtomicReference<Customer> followerResult = new AtomicReference<>();
+        Thread follower = startWaitingFollower(service, followerResult);
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        follower.join(5_000);
+
+        assertThat(followerResult.get()).isSameAs(jane);
+        verify(customerRepository, times(2)).findByEmail(EMAIL);
+        verify(customerUpsertRepository, times(1)).insertIfAbsent(anyString(), anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should retry as leader when the leader's transaction rolls back")
+    void resolve_FollowerRetriesAfterLeaderRollback() throws Exception {
+        CustomerResolutionService service = service(10_000);
+        Customer jane = customer(1L, EMAIL);
+        when(customerRepository.findByEmail(EMAIL)).thenReturn(
+                Optional.empty(), Optional.of(jane), Optional.empty(), Optional.of(jane));
+        when(customerUpsertRepository.insertIfAbsent(eq(EMAIL), eq("Jane"), anyString(), any())).thenReturn(1);
+
+        TransactionSynchronizationManager.initSynchronization();
+        service.resolve("Jane", EMAIL);
+
+        AtomicReference<Customer> followerResult = new AtomicReference<>();
+        Thread follower = startWaitingFollower(service, followerResult);
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        follower.join(5_000);
+
+        assertThat(followerResult.get()).isSameAs(jane);
+        verify(customerUpsertRepository, times(2)).insertIfAbsent(anyString(), anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should stop waiting for a stuck leader and look the customer up directly")
+    void resolve_FollowerTimesOut() throws Exception {
+        CustomerResolutionService service = service(50);
+        Customer jane = customer(1L, EMAIL);
+        when(customerRepository.findByEmail(EMAIL)).thenReturn(Optional.empty(), Optional.of(jane));
+        when(customerUpsertRepository.insertIfAbsent(eq(EMAIL), eq("Jane"), anyString(), any())).thenReturn(1);
+
+        // Leader in another thread whose transaction never completes
+        runUncommitted(() -> service.resolve("Jane", EMAIL));
+
+        Customer result = assertTimeout(Duration.ofSeconds(5), () -> service.resolve("Jane", EMAIL));
+
+        assertThat(result).isSameAs(jane);
+        verify(customerRepository, times(3)).findByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("Should not wait on another leader while holding uncommitted inserts")
+    void resolve_NoWaitWithUncommittedLead() throws Exception {
+        String otherEmail = "john@example.com";
+        CustomerResolutionService service = service(60_000);
+        Customer jane = customer(1L, EMAIL);
+        Customer john = customer(2L, otherEmail);
+        when(customerRepository.findByEmail(EMAIL)).thenReturn(Optional.empty(), Optional.of(jane));
+        when(customerRepository.findByEmail(otherEmail)).thenReturn(Optional.empty(), Optional.of(john));
+        when(customerUpsertRepository.insertIfAbsent(anyString(), anyString(), anyString(), any())).thenReturn(1);
+
+        // Another chunk leads john@ and has not committed yet
+        runUncommitted(() -> service.resolve("John", otherEmail));
+
+        // This chunk leads jane@ (uncommitted), then needs john@
+        TransactionSynchronizationManager.initSynchronization();
+        service.resolve("Jane", EMAIL);
+        Customer result = assertTimeout(Duration.ofSeconds(5), () -> service.resolve("John", otherEmail));
+
+        assertThat(result).isSameAs(john);
+        assertThat(meterRegistry.counter("customers.resolution.coalesced.total", "application", "order-management").count())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop the entry cached under the customer's previous email on evict")
+    void evict_ByCustomerId() {
+        CustomerResolutionService service = service(2_000);
+        Customer jane = customer(1L, EMAIL);
+        when(customerRepository.findByEmail(EMAIL)).thenReturn(Optional.of(jane));
+        service.resolve("Jane", EMAIL);
+
+        Customer renamed = customer(1L, "jane.doe@example.com");
+        service.evict(renamed);
+        service.resolve("Jane", EMAIL);
+
+        verify(customerRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    private CustomerResolutionService service(long leaderWaitMs) {
+        return new CustomerResolutionService(
+                customerRepository, customerUpsertRepository, meterRegistry, 100, 10, leaderWaitMs);
+    }
+
+    /**
+     * Start a follower for EMAIL and return once it is blocked waiting for the leader
+     */
+    private Thread startWaitingFollower(CustomerResolutionService service, AtomicReference<Customer> result)
+            throws InterruptedException {
+        Thread follower = new Thread(() -> result.set(service.resolve("Jane", EMAIL)));
+        follower.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (follower.getState() != Thread.State.TIMED_WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(follower.getState()).isEqualTo(Thread.State.TIMED_WAITING);
+        return follower;
+    }
+
+    /**
+     * Run an action in a transaction on a separate thread that ends without completing it
+     */
+    private static void runUncommitted(Runnable action) throws InterruptedException {
+        Thread thread = new Thread(() -> {
+            TransactionSynchronizationManager.initSynchronization();
+            action.run();
+        });
+        thread.start();
+        thread.join(5_000);
+    }
+
+    private static void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private static Customer customer(Long id, String email) {
+        return Customer.builder()
+                .id(id)
+                .fullName("Jane Doe")
+                .email(Email.of(email))
+                .build();
+    }
+}
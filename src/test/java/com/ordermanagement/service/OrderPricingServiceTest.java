@@ -0,0 +1,203 @@
+package com.ordermanagement.service;
+
+import com.ordermanagement.constants.ApplicationConstants;
+import com.ordermanagement.model.entity.ConfigurationParameter;
+import com.ordermanagement.model.entity.Customer;
+import com.ordermanagement.model.entity.Item;
+import com.ordermanagement.model.entity.Order;
+import com.ordermanagement.model.enums.CustomerType;
+import com.ordermanagement.model.valueobject.Email;
+import com.ordermanagement.model.valueobject.Money;
+import com.ordermanagement.model.valueobject.Quantity;
+import com.ordermanagement.service.pricing.FixedPricingContextProvider;
+import com.ordermanagement.service.pricing.PricingContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for OrderPricingService: pricing from a precomputed PricingContext must give the
+ * same item and order amounts as the previous per-item configuration lookups.
+ */
+@DisplayName("Order Pricing Service Tests")
+class OrderPricingServiceTest {
+
+    private static final Map<String, String> CUSTOM_CONFIG = Map.of(
+            PricingContext.TAX_RATE_PERCENT, "8.25",
+            PricingContext.DISCOUNT_VIP_PERCENT, "17.5",
+            PricingContext.DISCOUNT_WHOLESALE_PERCENT, "12",
+            PricingContext.BULK_DISCOUNT_THRESHOLD, "6",
+            PricingContext.BULK_DISCOUNT_PERCENT, "3.3",
+            PricingContext.FREE_SHIPPING_THRESHOLD, "750",
+            PricingContext.STANDARD_SHIPPING_COST, "7.99",
+            PricingContext.EXPRESS_SHIPPING_COST, "19.49");
+
+    @ParameterizedTest
+    @EnumSource(CustomerType.class)
+    @DisplayName("Should match per-item pricing with default configuration")
+    void calculateOrderPricing_MatchesPerItemPricing_Defaults(CustomerType customerType) {
+        assertMatchesPerItemPricing(customerType, Map.of());
+    }
+
+    @ParameterizedTest
+    @EnumSource(CustomerType.class)
+    @DisplayName("Should match per-item pricing with overridden configuration")
+    void calculateOrderPricing_MatchesPerItemPricing_CustomConfig(CustomerType customerType) {
+        assertMatchesPerItemPricing(customerType, CUSTOM_CONFIG);
+    }
+
+    private void assertMatchesPerItemPricing(CustomerType customerType, Map<String, String> config) {
+        OrderPricingService service = new OrderPricingService(
+                new FixedPricingContextProvider(PricingContext.from(1L, parameters(config))));
+
+        for (int itemCount : new int[] {1, 3, 12}) {
+            for (boolean priority : new boolean[] {false, true}) {
+                Order expected = order(itemCount, customerType, priority);
+                Order actual = order(itemCount, customerType, priority);
+
+                PerItemPricing.calculateOrderPricing(expected, config);
+                service.calculateOrderPricing(actual);
+
+                String scenario = customerType + ", " + itemCount + " items, priority=" + priority;
+                assertSameAmount(actual.getTotalAmount(), expected.getTotalAmount(), scenario + ": total");
+                assertSameAmount(actual.getDiscountAmount(), expected.getDiscountAmount(), scenario + ": discount");
+                assertSameAmount(actual.getSubtotal(), expected.getSubtotal(), scenario + ": subtotal");
+                assertSameAmount(actual.getTaxAmount(), expected.getTaxAmount(), scenario + ": tax");
+                assertSameAmount(actual.getShippingAmount(), expected.getShippingAmount(), scenario + ": shipping");
+                assertSameAmount(actual.getFinalAmount(), expected.getFinalAmount(), scenario + ": final");
+                for (int i = 0; i < itemCount; i++) {
+                    Item actualItem = actual.getItems().get(i);
+                    Item expectedItem = expected.getItems().get(i);
+                    assertSameAmount(actualItem.getDiscount(), expectedItem.getDiscount(), scenario + ": item discount");
+                    assertSameAmount(actualItem.getTax(), expectedItem.getTax(), scenario + ": item tax");
+                    assertSameAmount(actualItem.getFinalAmount(), expectedItem.getFinalAmount(), scenario + ": item final");
+                }
+            }
+        }
+    }
+
+    private static void assertSameAmount(Money actual, Money expected, String description) {
+        assertThat(actual.getAmount()).as(description).isEqualByComparingTo(expected.getAmount());
+    }
+
+    private static Map<String, ConfigurationParameter> parameters(Map<String, String> config) {
+        return config.entrySet().stream()
+                .map(entry -> ConfigurationParameter.builder()
+                        .paramKey(entry.getKey())
+                        .paramValue(entry.getValue())
+                        .build())
+                .collect(Collectors.toMap(ConfigurationParameter::getParamKey, Function.identity()));
+    }
+
+    /**
+     * Deterministic order; quantities 1-3, unit prices 1.00-150.00
+     */
+    private static Order order(int itemCount, CustomerType customerType, boolean priority) {
+        Random random = new Random(itemCount * 31L + customerType.ordinal());
+        Order order = Order.builder()
+                .id(1L)
+                .customer(Customer.builder()
+                        .id(1L)
+                        .fullName("Pricing Customer")
+                        .email(Email.of("pricing@example.com"))
+                        .type(customerType)
+                        .build())
+                .items(new ArrayList<>())
+                .isPriority(priority)
+                .build();
+
+        for (int i = 0; i < itemCount; i++) {
+            Item item = Item.builder()
+                    .id((long) i + 1)
+                    .productNameSnapshot("Product " + i)
+                    .productCodeSnapshot("PRICING-" + i)
+                    .quantity(Quantity.of(1 + random.nextInt(3)))
+                    .unitPrice(Money.of(BigDecimal.valueOf(100 + random.nextInt(14_900), 2)))
+                    .build();
+            item.calculatePricing();
+            order.addItem(item);
+        }
+        return order;
+    }
+
+    /**
+     * The pricing rules as they were computed before PricingContext: every value is looked up
+     * and every factor is derived per call, and totals are summed with Money.
+     */
+    private static final class PerItemPricing {
+
+        static void calculateOrderPricing(Order order, Map<String, String> config) {
+            Customer customer = order.getCustomer();
+            for (Item item : order.getItems()) {
+                double discountPercent = customerDiscountPercent(customer.getType(), config);
+                item.applyDiscount(item.getTotalPrice().multiply(BigDecimal.valueOf(discountPercent / 100.0)));
+                double taxRate = doubleValue(config, PricingContext.TAX_RATE_PERCENT,
+                        ApplicationConstants.BusinessRules.TAX_RATE_PERCENT);
+                item.setCustomTax(item.getSubtotal().multiply(BigDecimal.valueOf(taxRate / 100.0)));
+                item.calculatePricing();
+            }
+
+            Money subtotal = order.getItems().stream().map(Item::getTotalPrice).reduce(Money.zero(), Money::add);
+
+            Money discount = Money.zero();
+            double discountPercent = customerDiscountPercent(customer.getType(), config);
+            if (discountPercent > 0) {
+                discount = subtotal.multiply(BigDecimal.valueOf(discountPercent / 100.0));
+            }
+            int bulkThreshold = (int) doubleValue(config, PricingContext.BULK_DISCOUNT_THRESHOLD,
+                    ApplicationConstants.BusinessRules.BULK_ORDER_DISCOUNT_THRESHOLD);
+            if (order.getTotalQuantity() >= bulkThreshold) {
+                double bulkPercent = doubleValue(config, PricingContext.BULK_DISCOUNT_PERCENT,
+                        ApplicationConstants.BusinessRules.BULK_ORDER_DISCOUNT_PERCENT);
+                discount = discount.add(subtotal.multiply(BigDecimal.valueOf(bulkPercent / 100.0)));
+            }
+
+            double taxRate = doubleValue(config, PricingContext.TAX_RATE_PERCENT,
+                    ApplicationConstants.BusinessRules.TAX_RATE_PERCENT);
+            Money taxAmount = subtotal.subtract(discount).multiply(BigDecimal.valueOf(taxRate / 100.0));
+
+            Money shipping;
+            BigDecimal freeShippingThreshold = BigDecimal.valueOf(doubleValue(config, PricingContext.FREE_SHIPPING_THRESHOLD,
+                    ApplicationConstants.BusinessRules.FREE_SHIPPING_THRESHOLD.doubleValue()));
+            if (subtotal.getAmount().compareTo(freeShippingThreshold) >= 0) {
+                shipping = Money.zero();
+            } else if (Boolean.TRUE.equals(order.getIsPriority())) {
+                shipping = Money.of(BigDecimal.valueOf(doubleValue(config, PricingContext.EXPRESS_SHIPPING_COST, 25.0)));
+            } else {
+                shipping = Money.of(BigDecimal.valueOf(doubleValue(config, PricingContext.STANDARD_SHIPPING_COST, 10.0)));
+            }
+
+            order.setTotalAmount(subtotal);
+            order.setDiscountAmount(discount);
+            order.setSubtotal(subtotal.subtract(discount));
+            order.setTaxAmount(taxAmount);
+            order.setShippingAmount(shipping);
+            order.setFinalAmount(subtotal.subtract(discount).add(taxAmount).add(shipping));
+        }
+
+        private static double customerDiscountPercent(CustomerType customerType, Map<String, String> config) {
+            return switch (customerType) {
+                case VIP -> doubleValue(config, PricingContext.DISCOUNT_VIP_PERCENT,
+                        ApplicationConstants.BusinessRules.VIP_CUSTOMER_DISCOUNT_PERCENT);
+                case WHOLESALE -> doubleValue(config, PricingContext.DISCOUNT_WHOLESALE_PERCENT,
+                        ApplicationConstants.BusinessRules.WHOLESALE_CUSTOMER_DISCOUNT_PERCENT);
+                case CORPORATE -> customerType.getDefaultDiscount() * 100;
+                default -> 0.0;
+            };
+        }
+
+        private static double doubleValue(Map<String, String> config, String key, double defaultValue) {
+            String value = config.get(key);
+            return value != null ? Double.parseDouble(value) : defaultValue;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.ordermanagement.service;
+
+import com.ordermanagement.model.entity.OrderStatusEntity;
+import com.ordermanagement.model.entity.OrderStatusTransition;
+import com.ordermanagement.repository.OrderStatusRepository;
+import com.ordermanagement.repository.OrderStatusTransitionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the compiled transition graph of OrderStatusService: reuse, rebuild after
+ * commit, scheduled rebuild, stale compiles and failed rebuilds.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Order Status Service Tests")
+class OrderStatusServiceTest {
+
+    @Mock
+    private OrderStatusRepository statusRepository;
+
+    @Mock
+    private OrderStatusTransitionRepository transitionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final OrderStatusEntity pending = status(1L, "PENDING");
+    private final OrderStatusEntity processing = status(2L, "PROCESSING");
+    private final OrderStatusTransition pendingToProcessing = OrderStatusTransition.builder()
+            .fromStatus(pending)
+            .toStatus(processing)
+            .isAllowed(true)
+            .build();
+
+    private OrderStatusService statusService;
+
+    @BeforeEach
+    void setUp() {
+        statusService = new OrderStatusService(statusRepository, transitionRepository, transactionManager);
+        when(statusRepository.findAll()).thenReturn(List.of(pending, processing));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should compile the graph once and serve every reader from it")
+    void getTransitionGraph_CompiledOnce() {
+        when(transitionRepository.findAll()).thenReturn(List.of(pendingToProcessing));
+
+        statusService.compileTransitionGraph();
+
+        assertThat(statusService.isTransitionAllowed(pending, processing)).isTrue();
+        assertThat(statusService.isTransitionAllowed(processing, pending)).isFalse();
+        assertThat(statusService.getTransitionGraph()).isSameAs(statusService.getTransitionGraph());
+        verify(transitionRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Should keep the old graph until commit, then rebuild it in a new read-only transaction")
+    void createTransition_RebuildsAfterCommit() {
+        when(transitionRepository.findAll()).thenReturn(List.of(), List.of(pendingToProcessing));
+        statusService.compileTransitionGraph();
+
+        TransactionSynchronizationManager.initSynchronization();
+        statusService.createTransition(pendingToProcessing);
+        assertThat(statusService.isTransitionAllowed(pending, processing)).isFalse();
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(statusService.isTransitionAllowed(pending, processing)).isTrue();
+        verify(transactionManager).getTransaction(argThat(definition -> definition.isReadOnly()
+                && definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    @Test
+    @DisplayName("Should pick up a change committed elsewhere on the scheduled rebuild")
+    void scheduledRecompile_PicksUpChangeWithoutLocalCommit() {
+        when(transitionRepository.findAll()).thenReturn(List.of(), List.of(pendingToProcessing));
+        statusService.compileTransitionGraph();
+        assertThat(statusService.isTransitionAllowed(pending, processing)).isFalse();
+
+        statusService.scheduledRecompile();
+
+        assertThat(statusService.isTransitionAllowed(pending, processing)).isTrue();
+        verify(transitionRepository, times(2)).findAll();
+        verify(transactionManager).getTransaction(argThat(definition -> definition.isReadOnly()
+                && definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    @Test
+    @DisplayName("Should not let a compile that read the old rows replace the graph rebuilt after a change")
+    void getTransitionGraph_StaleCompileDiscarded() {
+        AtomicInteger reads = new AtomicInteger();
+        when(transitionRepository.findAll()).thenAnswer(invocation -> {
+            if (reads.incrementAndGet() == 1) {
+                // The first compile has read the old rows when an admin change commits
+                statusService.createTransition(pendingToProcessing);
+                return List.of();
+            }
+            return List.of(pendingToProcessing);
+        });
+
+        assertThat(statusService.getTransitionGraph().isAllowed(1L, 2L)).isTrue();
+        assertThat(statusService.isTransitionAllowed(pending, processing)).isTrue();
+        assertThat(reads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should compile on next use when the rebuild after a change fails")
+    void createTransition_FailedRebuildRecompilesOnUse() {
+        when(transitionRepository.findAll())
+                .thenReturn(List.of())
+                .thenThrow(new IllegalStateException("connection lost"))
+                .thenReturn(List.of(pendingToProcessing));
+        statusService.compileTransitionGraph();
+
+        statusService.createTransition(pendingToProcessing);
+
+        assertThat(statusService.isTransitionAllowed(pending, processing)).isTrue();
+        verify(transitionRepository, times(3)).findAll();
+    }
+
+    private static OrderStatusEntity status(Long id, String code) {
+        return OrderStatusEntity.builder().id(id).code(code).build();
+    }
+}
@@ -0,0 +1,227 @@
+package com.ordermanagement.service.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ordermanagement.constants.ApplicationConstants;
+import com.ordermanagement.mapper.OrderMapper;
+import com.ordermanagement.model.dto.projection.OrderItemRow;
+import com.ordermanagement.model.dto.projection.OrderSummaryRow;
+import com.ordermanagement.model.entity.OrderStatusEntity;
+import com.ordermanagement.repository.ItemRepository;
+import com.ordermanagement.repository.OrderRepository;
+import com.ordermanagement.service.OrderStatusService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for OrderExportService: NDJSON output, per-chunk item loading,
+ * status filtering and a client that disconnects mid-stream.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Order Export Service Tests")
+class OrderExportServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2024, 2, 1, 0, 0);
+    private static final int CHUNK_SIZE = ApplicationConstants.Export.CHUNK_SIZE;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderStatusService orderStatusService;
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private OrderExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        // Projection mapping does not touch the customer or catalog collaborators
+        exportService = new OrderExportService(orderRepository, orderStatusService, itemRepository,
+                new OrderMapper(null, null), objectMapper);
+    }
+
+    @Test
+    @DisplayName("Should write one JSON order per line with its items")
+    void export_WritesNdjsonLines() throws Exception {
+        when(orderRepository.streamSummaryRowsForExport(FROM, TO)).thenReturn(rows(1, 3).stream());
+        when(itemRepository.findRowsByOrderIdIn(List.of(1L, 2L, 3L))).thenReturn(List.of(
+                item(1L, 10L), item(1L, 11L), item(3L, 30L)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long written = exportService.export(new OrderExportService.ExportCriteria(null, FROM, TO), output);
+
+        String body = output.toString(StandardCharsets.UTF_8);
+        assertThat(written).isEqualTo(3);
+        assertThat(body).endsWith("\n");
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(3);
+
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("id").asLong()).isEqualTo(1L);
+        assertThat(first.get("orderNumber").asText()).isEqualTo("ORD-1");
+        assertThat(first.get("items")).hasSize(2);
+        assertThat(objectMapper.readTree(lines.get(1)).get("items")).isEmpty();
+        assertThat(objectMapper.readTree(lines.get(2)).get("items").get(0).get("id").asLong()).isEqualTo(30L);
+    }
+
+    @Test
+    @DisplayName("Should load items with one query per chunk of orders")
+    @SuppressWarnings("unchecked")
+    void export_LoadsItemsPerChunk() throws Exception {
+        int orderCount = CHUNK_SIZE * 2 + 1;
+        when(orderRepository.streamSummaryRowsForExport(FROM, TO)).thenReturn(rows(1, orderCount).stream());
+        when(itemRepository.findRowsByOrderIdIn(anyCollection())).thenReturn(List.of());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long written = exportService.export(new OrderExportService.ExportCriteria(null, FROM, TO), output);
+
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(itemRepository, times(3)).findRowsByOrderIdIn(ids.capture());
+        assertThat(ids.getAllValues()).extracting(Collection::size).containsExactly(CHUNK_SIZE, CHUNK_SIZE, 1);
+        assertThat(ids.getAllValues().get(2)).containsExactly((long) orderCount);
+        assertThat(written).isEqualTo(orderCount);
+        assertThat(output.toString(StandardCharsets.UTF_8).lines()).hasSize(orderCount);
+    }
+
+    @Test
+    @DisplayName("Should write nothing and run no item query when no order matches")
+    void export_Empty() throws Exception {
+        when(orderRepository.streamSummaryRowsForExport(FROM, TO)).thenReturn(Stream.empty());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long written = exportService.export(new OrderExportService.ExportCriteria(null, FROM, TO), output);
+
+        assertThat(written).isZero();
+        assertThat(output.size()).isZero();
+        verify(itemRepository, times(0)).findRowsByOrderIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should use the status-filtered query when a status is given")
+    void export_ByStatus() throws Exception {
+        OrderStatusEntity delivered = OrderStatusEntity.builder().id(5L).code("DELIVERED").build();
+        when(orderRepository.streamSummaryRowsForExportByStatus(delivered, FROM, TO)).thenReturn(rows(1, 1).stream());
+        when(itemRepository.findRowsByOrderIdIn(List.of(1L))).thenReturn(List.of());
+
+        long written = exportService.export(
+                new OrderExportService.ExportCriteria(delivered, FROM, TO), new ByteArrayOutputStream());
+
+        assertThat(written).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should stop reading and close the cursor when the client disconnects mid-stream")
+    @SuppressWarnings("unchecked")
+    void export_ClientAbort() {
+        AtomicBoolean cursorClosed = new AtomicBoolean();
+        AtomicInteger rowsRead = new AtomicInteger();
+        List<OrderSummaryRow> rows = rows(1, CHUNK_SIZE * 4);
+        when(orderRepository.streamSummaryRowsForExport(FROM, TO)).thenReturn(rows.stream()
+                .peek(row -> rowsRead.incrementAndGet())
+                .onClose(() -> cursorClosed.set(true)));
+        when(itemRepository.findRowsByOrderIdIn(anyCollection())).thenReturn(List.of());
+
+        // Accepts the first chunk, then fails like a reset connection
+        OutputStream disconnecting = new DisconnectingOutputStream(CHUNK_SIZE);
+
+        assertThatThrownBy(() -> exportService.export(
+                new OrderExportService.ExportCriteria(null, FROM, TO), disconnecting))
+                .isInstanceOf(IOException.class);
+
+        assertThat(cursorClosed).isTrue();
+        assertThat(rowsRead.get()).isEqualTo(CHUNK_SIZE * 2);
+        verify(itemRepository, times(2)).findRowsByOrderIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should reject an empty export range")
+    void resolveCriteria_EmptyRange() {
+        assertThatThrownBy(() -> exportService.resolveCriteria(null, TO, FROM))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should default the range to everything created before now")
+    void resolveCriteria_Defaults() {
+        LocalDateTime before = LocalDateTime.now();
+
+        OrderExportService.ExportCriteria criteria = exportService.resolveCriteria(null, null, null);
+
+        assertThat(criteria.status()).isNull();
+        assertThat(criteria.from()).isBefore(before);
+        assertThat(criteria.to()).isAfterOrEqualTo(before);
+    }
+
+    private static List<OrderSummaryRow> rows(long firstId, long lastId) {
+        return new ArrayList<>(LongStream.rangeClosed(firstId, lastId)
+                .mapToObj(id -> new OrderSummaryRow(id, "ORD-" + id, "Export Customer", "export@example.com",
+                        new BigDecimal("10.00"), "DELIVERED", FROM, FROM, 0L))
+                .toList());
+    }
+
+    private static OrderItemRow item(Long orderId, Long id) {
+        return new OrderItemRow(orderId, id, "Product " + id, "EXPORT-" + id, 1,
+                new BigDecimal("10.00"), new BigDecimal("10.00"));
+    }
+
+    /**
+     * Output that fails once more than the given number of lines has been written
+     */
+    private static final class DisconnectingOutputStream extends OutputStream {
+
+        private final int maxLines;
+        private int lines;
+
+        DisconnectingOutputStream(int maxLines) {
+            this.maxLines = maxLines;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (lines >= maxLines) {
+                throw new IOException("Connection reset by peer");
+            }
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            for (int i = off; i < off + len; i++) {
+                write(b[i]);
+            }
+        }
+    }
+}
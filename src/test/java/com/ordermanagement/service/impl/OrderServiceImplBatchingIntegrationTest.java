@@ -0,0 +1,214 @@
+package com.ordermanagement.service.impl;
+
+import com.ordermanagement.model.dto.request.CreateOrderRequest;
+import com.ordermanagement.model.dto.request.OrderItemRequest;
+import com.ordermanagement.model.dto.response.OrderResponse;
+import com.ordermanagement.repository.OrderRepository;
+import com.ordermanagement.service.OrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for JDBC batching of order persistence.
+ * Counts the JDBC round trips issued while OrderServiceImpl.createOrder persists a large order.
+ */
+@SpringBootTest
+@DisplayName("Order Persistence Batching Integration Tests")
+class OrderServiceImplBatchingIntegrationTest {
+
+    private static final int ITEM_COUNT = 100;
+    private static final int JDBC_BATCH_SIZE = 50;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private Long createdOrderId;
+
+    @AfterEach
+    void cleanUp() {
+        JdbcRoundTripCounter.stop();
+        if (createdOrderId != null) {
+            orderRepository.deleteById(createdOrderId);
+        }
+    }
+
+    @Test
+    @DisplayName("Should batch item inserts when persisting a 100-item order")
+    void createOrder_HundredItems_BatchesInserts() {
+        // Arrange
+        List<OrderItemRequest> items = IntStream.range(0, ITEM_COUNT)
+                .mapToObj(i -> OrderItemRequest.builder()
+                        .productName("Batch Product " + i)
+                        .productCode("BATCH-" + i)
+                        .quantity(1)
+                        .unitPrice(new BigDecimal("10.00"))
+                        .build())
+                .toList();
+
+        CreateOrderRequest request = CreateOrderRequest.builder()
+                .customerName("Batch Customer")
+                .customerEmail("batch.customer@example.com")
+                .items(items)
+                .build();
+
+        // Act
+        JdbcRoundTripCounter.start();
+        OrderResponse response = orderService.createOrder(request);
+        JdbcRoundTripCounter.stop();
+        createdOrderId = response.getId();
+
+        // Assert
+        assertThat(response.getItems()).hasSize(ITEM_COUNT);
+
+        // One executeBatch per JDBC batch instead of one executeUpdate per item
+        assertThat(JdbcRoundTripCounter.executions("insert into items"))
+                .isLessThanOrEqualTo(ITEM_COUNT / JDBC_BATCH_SIZE + 1);
+
+        // All writes for the order (customer, order, items, sequence calls) in a handful of round trips
+        assertThat(JdbcRoundTripCounter.writeExecutions())
+                .isLessThan(ITEM_COUNT / 5);
+    }
+
+    /**
+     * Wraps the application DataSource so every statement execution is counted.
+     */
+    @TestConfiguration
+    static class JdbcCountingConfig {
+
+        @Bean
+        static BeanPostProcessor countingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof CountingDataSource)) {
+                        return new CountingDataSource(dataSource);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * DataSource decorator that hands out connections with counting prepared statements.
+     */
+    static class CountingDataSource extends DelegatingDataSource {
+
+        CountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return countingConnection(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return countingConnection(super.getConnection(username, password));
+        }
+
+        private static Connection countingConnection(Connection target) {
+            return (Connection) Proxy.newProxyInstance(
+                    CountingDataSource.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(target, method, args);
+                        if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                            return countingStatement(statement, (String) args[0]);
+                        }
+                        return result;
+                    });
+        }
+
+        private static PreparedStatement countingStatement(PreparedStatement target, String sql) {
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    CountingDataSource.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().startsWith("execute")) {
+                            JdbcRoundTripCounter.record(sql);
+                        }
+                        return invoke(target, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+
+    /**
+     * Counts JDBC round trips (statement executions) by SQL text while recording is active.
+     */
+    static final class JdbcRoundTripCounter {
+
+        private static final Map<String, AtomicInteger> EXECUTIONS = new ConcurrentHashMap<>();
+        private static volatile boolean recording;
+
+        private JdbcRoundTripCounter() {}
+
+        static void start() {
+            EXECUTIONS.clear();
+            recording = true;
+        }
+
+        static void stop() {
+            recording = false;
+        }
+
+        static void record(String sql) {
+            if (recording) {
+                EXECUTIONS.computeIfAbsent(sql.trim().toLowerCase(Locale.ROOT), key -> new AtomicInteger())
+                        .incrementAndGet();
+            }
+        }
+
+        static int executions(String sqlPrefix) {
+            return EXECUTIONS.entrySet().stream()
+                    .filter(entry -> entry.getKey().startsWith(sqlPrefix))
+                    .mapToInt(entry -> entry.getValue().get())
+                    .sum();
+        }
+
+        static int writeExecutions() {
+            return EXECUTIONS.entrySet().stream()
+                    .filter(entry -> entry.getKey().startsWith("insert")
+                            || entry.getKey().startsWith("update")
+                            || entry.getKey().startsWith("delete")
+                            || entry.getKey().contains("next value for"))
+                    .mapToInt(entry -> entry.getValue().get())
+                    .sum();
+        }
+    }
+}
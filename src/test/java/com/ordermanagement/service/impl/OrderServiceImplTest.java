@@ -1,31 +1,60 @@
 package com.ordermanagement.service.impl;
 
+import com.ordermanagement.cache.OrderResponseCache;
+import com.ordermanagement.config.BusinessRulesProperties;
 import com.ordermanagement.exception.OrderCancellationException;
 import com.ordermanagement.exception.OrderNotFoundException;
 import com.ordermanagement.mapper.OrderMapper;
 import com.ordermanagement.metrics.OrderMetrics;
+import com.ordermanagement.model.dto.projection.OrderItemRow;
+import com.ordermanagement.model.dto.projection.OrderNumberRow;
+import com.ordermanagement.model.dto.projection.OrderStatusRow;
+import com.ordermanagement.model.dto.projection.OrderSummaryRow;
 import com.ordermanagement.model.dto.request.CreateOrderRequest;
 import com.ordermanagement.model.dto.request.OrderItemRequest;
+import com.ordermanagement.model.dto.response.BatchOrderResponse;
+import com.ordermanagement.model.dto.response.BulkStatusUpdateResponse;
+import com.ordermanagement.model.dto.response.BulkStatusUpdateResult;
+import com.ordermanagement.model.dto.response.CursorPageResponse;
 import com.ordermanagement.model.dto.response.OrderResponse;
 import com.ordermanagement.model.entity.*;
+import com.ordermanagement.model.enums.OrderView;
 import com.ordermanagement.model.valueobject.Email;
 import com.ordermanagement.model.valueobject.Money;
+import com.ordermanagement.model.valueobject.OrderCursor;
 import com.ordermanagement.model.valueobject.OrderNumber;
+import com.ordermanagement.model.valueobject.OrderNumberGenerator;
 import com.ordermanagement.model.valueobject.Quantity;
+import com.ordermanagement.repository.ItemRepository;
 import com.ordermanagement.repository.OrderRepository;
+import com.ordermanagement.repository.OrderStatusBatchRepository;
+import com.ordermanagement.repository.OrderStatusHistoryRepository;
 import com.ordermanagement.service.OrderPricingService;
 import com.ordermanagement.service.OrderStatusService;
+import com.ordermanagement.service.outbox.OrderEventOutbox;
+import com.ordermanagement.service.scheduler.DelayedTransitionService;
+import com.ordermanagement.service.scheduler.PendingOrderProcessor;
+import com.ordermanagement.service.workflow.StatusTransitionGraph;
 import com.ordermanagement.validator.OrderValidator;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -48,9 +77,21 @@ class OrderServiceImplTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private OrderStatusBatchRepository orderStatusBatchRepository;
+
+    @Mock
+    private OrderStatusHistoryRepository statusHistoryRepository;
+
     @Mock
     private OrderMapper orderMapper;
 
+    @Mock
+    private OrderResponseCache orderResponseCache;
+
     @Mock
     private OrderValidator orderValidator;
 
@@ -66,6 +107,27 @@ class OrderServiceImplTest {
     @Mock
     private OrderPricingService orderPricingService;
 
+    @Mock
+    private OrderEventOutbox orderEventOutbox;
+
+    @Spy
+    private OrderNumberGenerator orderNumberGenerator = new OrderNumberGenerator(0, Clock.systemDefaultZone());
+
+    @Mock
+    private PendingOrderProcessor pendingOrderProcessor;
+
+    @Mock
+    private DelayedTransitionService delayedTransitionService;
+
+    @Mock
+    private Validator validator;
+
+    @Spy
+    private BusinessRulesProperties businessRules = new BusinessRulesProperties();
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
     @InjectMocks
     private OrderServiceImpl orderService;
 
@@ -76,6 +138,8 @@ class OrderServiceImplTest {
     private OrderStatusEntity processingStatus;
     private Customer customer;
     private Item item;
+    private OrderSummaryRow orderRow;
+    private List<OrderItemRow> itemRows;
 
     @BeforeEach
     void setUp() {
@@ -136,7 +200,7 @@ class OrderServiceImplTest {
 
         order = Order.builder()
                 .id(1L)
-                .orderNumber(OrderNumber.of("ORD-123456789-1234"))
+                .orderNumber(OrderNumber.of("ORD-20240115-0000A1B2"))
                 .customer(customer)
                 .status(pendingStatus)
                 .totalAmount(Money.of(new BigDecimal("1200.00")))
@@ -145,6 +209,11 @@ class OrderServiceImplTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
+        orderRow = new OrderSummaryRow(1L, "ORD-123456789-1234", "John Doe", "john.doe@example.com",
+                new BigDecimal("1200.00"), "PENDING", order.getCreatedAt(), order.getUpdatedAt(), 0L);
+        itemRows = List.of(new OrderItemRow(1L, 1L, "Laptop", "LAPTOP-001", 1,
+                new BigDecimal("1200.00"), new BigDecimal("1200.00")));
+
         orderResponse = OrderResponse.builder()
                 .id(1L)
                 .orderNumber("ORD-123456789-1234")
@@ -180,25 +249,123 @@ class OrderServiceImplTest {
         verify(orderMapper).toResponse(order);
     }
 
+    @Test
+    @DisplayName("Should create valid batch orders and report invalid ones without rolling them back")
+    void createOrders_PartialFailure() {
+        // Arrange
+        CreateOrderRequest invalid = CreateOrderRequest.builder()
+                .customerName("Jane Roe")
+                .customerEmail("jane.roe@example.com")
+                .items(List.of())
+                .build();
+        doThrow(new IllegalArgumentException("Order must have at least one item"))
+                .when(orderValidator).validateCreateOrderRequest(invalid);
+        stubBatchOrderBuilding();
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        BatchOrderResponse result = orderService.createOrders(List.of(createOrderRequest, invalid));
+
+        // Assert
+        assertThat(result.getTotalRequested()).isEqualTo(2);
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getResults().get(0).isSuccess()).isTrue();
+        assertThat(result.getResults().get(0).getOrder()).isSameAs(orderResponse);
+        assertThat(result.getResults().get(1).isSuccess()).isFalse();
+        assertThat(result.getResults().get(1).getIndex()).isEqualTo(1);
+        assertThat(result.getResults().get(1).getError()).isEqualTo("Order must have at least one item");
+
+        verify(orderRepository).saveAll(argThat(orders -> ((List<?>) orders).size() == 1));
+        verify(orderEventOutbox, times(1)).orderCreated(any(Order.class));
+        verify(orderMetrics).incrementOrdersCreated();
+        verify(orderMetrics).incrementBatchOrdersFailed(1);
+    }
+
+    @Test
+    @DisplayName("Should persist one transaction per configured chunk")
+    void createOrders_ChunksBySize() {
+        // Arrange
+        businessRules.setBatchChunkSize(2);
+        stubBatchOrderBuilding();
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        BatchOrderResponse result = orderService.createOrders(
+                List.of(createOrderRequest, createOrderRequest, createOrderRequest));
+
+        // Assert
+        assertThat(result.getSucceeded()).isEqualTo(3);
+        assertThat(result.getFailed()).isZero();
+        verify(orderRepository, times(2)).saveAll(anyList());
+        verify(orderRepository, times(2)).flush();
+        verify(orderRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Should retry a failed chunk one order per transaction")
+    void createOrders_ChunkFallback() {
+        // Arrange
+        stubBatchOrderBuilding();
+        when(orderRepository.saveAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("duplicate order number"));
+        when(orderRepository.saveAndFlush(any(Order.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0))
+                .thenThrow(new DataIntegrityViolationException("duplicate order number"));
+
+        // Act
+        BatchOrderResponse result = orderService.createOrders(List.of(createOrderRequest, createOrderRequest));
+
+        // Assert
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getResults().get(0).isSuccess()).isTrue();
+        assertThat(result.getResults().get(1).isSuccess()).isFalse();
+        assertThat(result.getResults().get(1).getError()).isEqualTo("duplicate order number");
+
+        verify(orderRepository, times(2)).saveAndFlush(any(Order.class));
+        // Only the order that survived its own transaction is counted and announced
+        verify(orderMetrics, times(1)).incrementOrdersCreated();
+        verify(orderEventOutbox, times(1)).orderCreated(any(Order.class));
+    }
+
+    @Test
+    @DisplayName("Should reject a batch larger than the configured maximum")
+    void createOrders_Oversized() {
+        // Arrange
+        businessRules.setMaxBatchSize(1);
+
+        // Act & Assert
+        assertThatThrownBy(() -> orderService.createOrders(List.of(createOrderRequest, createOrderRequest)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Batch cannot contain more than 1 orders");
+
+        verifyNoInteractions(orderRepository);
+    }
+
     @Test
     @DisplayName("Should throw exception when order not found by ID")
     void getOrderById_NotFound() {
         // Arrange
-        when(orderRepository.findByIdWithItems(1L)).thenReturn(Optional.empty());
+        when(orderRepository.findVersionById(1L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> orderService.getOrderById(1L))
                 .isInstanceOf(OrderNotFoundException.class);
 
-        verify(orderRepository).findByIdWithItems(1L);
+        verify(orderRepository).findVersionById(1L);
+        verify(orderRepository, never()).findSummaryRowById(any());
+        verify(itemRepository, never()).findRowsByOrderIdIn(any());
     }
 
     @Test
     @DisplayName("Should get order by ID successfully")
     void getOrderById_Success() {
         // Arrange
-        when(orderRepository.findByIdWithItems(1L)).thenReturn(Optional.of(order));
-        when(orderMapper.toResponse(order)).thenReturn(orderResponse);
+        when(orderRepository.findVersionById(1L)).thenReturn(Optional.of(0L));
+        when(orderRepository.findSummaryRowById(1L)).thenReturn(Optional.of(orderRow));
+        when(itemRepository.findRowsByOrderIdIn(List.of(1L))).thenReturn(itemRows);
+        when(orderMapper.toResponse(orderRow, itemRows)).thenReturn(orderResponse);
 
         // Act
         OrderResponse result = orderService.getOrderById(1L);
@@ -208,59 +375,200 @@ class OrderServiceImplTest {
         assertThat(result.getId()).isEqualTo(1L);
         assertThat(result.getOrderNumber()).isEqualTo("ORD-123456789-1234");
 
-        verify(orderRepository).findByIdWithItems(1L);
-        verify(orderMapper).toResponse(order);
+        verify(orderRepository).findSummaryRowById(1L);
+        verify(orderMapper).toResponse(orderRow, itemRows);
+        verify(orderResponseCache).put(1L, 0L, orderResponse);
+        verify(orderRepository, never()).findByIdWithItems(any());
+    }
+
+    @Test
+    @DisplayName("Should serve order by ID from cache when the version is unchanged")
+    void getOrderById_CacheHit() {
+        // Arrange
+        when(orderRepository.findVersionById(1L)).thenReturn(Optional.of(3L));
+        when(orderResponseCache.get(1L, 3L)).thenReturn(orderResponse);
+
+        // Act
+        OrderResponse result = orderService.getOrderById(1L);
+
+        // Assert
+        assertThat(result).isSameAs(orderResponse);
+        verify(orderRepository, never()).findSummaryRowById(any());
+        verify(itemRepository, never()).findRowsByOrderIdIn(any());
     }
 
     @Test
     @DisplayName("Should get all orders successfully")
     void getAllOrders_Success() {
         // Arrange
-        List<Order> orders = Arrays.asList(order);
+        List<OrderSummaryRow> orders = List.of(orderRow);
         List<OrderResponse> responses = Arrays.asList(orderResponse);
 
-        when(orderRepository.findAllWithItems()).thenReturn(orders);
-        when(orderMapper.toResponses(orders)).thenReturn(responses);
+        when(orderRepository.findAllSummaryRows()).thenReturn(orders);
+        when(itemRepository.findAllRows()).thenReturn(itemRows);
+        when(orderMapper.toResponses(orders, itemRows)).thenReturn(responses);
 
         // Act
-        List<OrderResponse> result = orderService.getAllOrders();
+        List<OrderResponse> result = orderService.getAllOrders(OrderView.FULL);
 
         // Assert
         assertThat(result).isNotEmpty();
         assertThat(result).hasSize(1);
 
-        verify(orderRepository).findAllWithItems();
-        verify(orderMapper).toResponses(orders);
+        verify(orderRepository).findAllSummaryRows();
+        verify(orderMapper).toResponses(orders, itemRows);
     }
 
     @Test
     @DisplayName("Should get orders by status successfully")
     void getOrdersByStatus_Success() {
         // Arrange
-        List<Order> orders = Arrays.asList(order);
+        List<OrderSummaryRow> orders = List.of(orderRow);
         List<OrderResponse> responses = Arrays.asList(orderResponse);
 
         when(orderStatusService.getStatusByCode("PENDING")).thenReturn(pendingStatus);
-        when(orderRepository.findByStatusWithItems(pendingStatus)).thenReturn(orders);
-        when(orderMapper.toResponses(orders)).thenReturn(responses);
+        when(orderRepository.findSummaryRowsByStatus(pendingStatus)).thenReturn(orders);
+        when(itemRepository.findRowsByOrderStatus(pendingStatus)).thenReturn(itemRows);
+        when(orderMapper.toResponses(orders, itemRows)).thenReturn(responses);
 
         // Act
-        List<OrderResponse> result = orderService.getOrdersByStatus("PENDING");
+        List<OrderResponse> result = orderService.getOrdersByStatus("PENDING", OrderView.FULL);
 
         // Assert
         assertThat(result).isNotEmpty();
         assertThat(result).hasSize(1);
 
         verify(orderStatusService).getStatusByCode("PENDING");
-        verify(orderRepository).findByStatusWithItems(pendingStatus);
-        verify(orderMapper).toResponses(orders);
+        verify(orderRepository).findSummaryRowsByStatus(pendingStatus);
+        verify(orderMapper).toResponses(orders, itemRows);
+    }
+
+    @Test
+    @DisplayName("Should page order IDs in the database and keep page order when loading orders")
+    void getAllOrdersPaginated_TwoPhase() {
+        // Arrange
+        OrderSummaryRow second = new OrderSummaryRow(2L, "ORD-123456789-5678", "Jane Roe", "jane.roe@example.com",
+                BigDecimal.TEN, "PENDING", LocalDateTime.now(), LocalDateTime.now(), 0L);
+        OrderResponse secondResponse = OrderResponse.builder().id(2L).build();
+        PageRequest pageable = PageRequest.of(1, 2);
+
+        when(orderRepository.findIdPage(pageable)).thenReturn(new PageImpl<>(List.of(2L, 1L), pageable, 5));
+        when(orderRepository.findSummaryRowsByIdIn(List.of(2L, 1L))).thenReturn(List.of(orderRow, second));
+        when(itemRepository.findRowsByOrderIdIn(List.of(2L, 1L))).thenReturn(itemRows);
+        when(orderMapper.toResponses(List.of(second, orderRow), itemRows))
+                .thenReturn(List.of(secondResponse, orderResponse));
+
+        // Act
+        Page<OrderResponse> result = orderService.getAllOrdersPaginated(pageable, OrderView.FULL);
+
+        // Assert
+        assertThat(result.getContent()).containsExactly(secondResponse, orderResponse);
+        assertThat(result.getTotalElements()).isEqualTo(5);
+        assertThat(result.getNumber()).isEqualTo(1);
+
+        verify(orderRepository).findIdPage(pageable);
+        verify(orderRepository).findSummaryRowsByIdIn(List.of(2L, 1L));
+    }
+
+    @Test
+    @DisplayName("Should not query items for the summary view")
+    void getAllOrdersPaginated_SummaryView() {
+        // Arrange
+        PageRequest pageable = PageRequest.of(0, 20);
+        OrderResponse summary = OrderResponse.builder().id(1L).build();
+
+        when(orderRepository.findIdPage(pageable)).thenReturn(new PageImpl<>(List.of(1L), pageable, 1));
+        when(orderRepository.findSummaryRowsByIdIn(List.of(1L))).thenReturn(List.of(orderRow));
+        when(orderMapper.toSummaryResponses(List.of(orderRow))).thenReturn(List.of(summary));
+
+        // Act
+        Page<OrderResponse> result = orderService.getAllOrdersPaginated(pageable, OrderView.SUMMARY);
+
+        // Assert
+        assertThat(result.getContent()).containsExactly(summary);
+        verifyNoInteractions(itemRepository);
+    }
+
+    @Test
+    @DisplayName("Should not load orders for an empty ID page")
+    void getOrdersByStatusPaginated_EmptyPage() {
+        // Arrange
+        PageRequest pageable = PageRequest.of(3, 20);
+        when(orderStatusService.getStatusByCode("PENDING")).thenReturn(pendingStatus);
+        when(orderRepository.findIdPageByStatus(pendingStatus, pageable))
+                .thenReturn(new PageImpl<>(List.of(), pageable, 10));
+
+        // Act
+        Page<OrderResponse> result = orderService.getOrdersByStatusPaginated("PENDING", pageable, OrderView.FULL);
+
+        // Assert
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.getTotalElements()).isEqualTo(10);
+
+        verify(orderRepository, never()).findSummaryRowsByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("Should return a cursor slice with the next cursor pointing at its last order")
+    void getOrdersByCursor_HasNext() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 15, 10, 30);
+        OrderCursor cursor = new OrderCursor(createdAt.plusMinutes(5), 9L);
+        OrderResponse lastResponse = OrderResponse.builder().id(1L).createdAt(createdAt).build();
+
+        when(orderStatusService.getStatusByCode("PENDING")).thenReturn(pendingStatus);
+        when(orderRepository.findIdsAfterKeysetByStatus(pendingStatus, cursor.createdAt(), 9L, PageRequest.ofSize(2)))
+                .thenReturn(List.of(1L, 0L));
+        when(orderRepository.findSummaryRowsByIdIn(List.of(1L))).thenReturn(List.of(orderRow));
+        when(itemRepository.findRowsByOrderIdIn(List.of(1L))).thenReturn(itemRows);
+        when(orderMapper.toResponses(List.of(orderRow), itemRows)).thenReturn(List.of(lastResponse));
+
+        // Act
+        CursorPageResponse<OrderResponse> result = orderService.getOrdersByCursor(cursor.encode(), "PENDING", 1, false, OrderView.FULL);
+
+        // Assert
+        assertThat(result.getContent()).containsExactly(lastResponse);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(OrderCursor.decode(result.getNextCursor())).isEqualTo(new OrderCursor(createdAt, 1L));
+        assertThat(result.getTotalElements()).isNull();
+        verify(orderRepository, never()).countByStatus(any());
+    }
+
+    @Test
+    @DisplayName("Should page a customer's orders by the normalized email without loading items")
+    void getCustomerOrders_FirstSlice() {
+        // Arrange
+        OrderResponse summary = OrderResponse.builder().id(1L).createdAt(LocalDateTime.now()).build();
+
+        when(orderRepository.findIdsForFirstKeysetPageByCustomerEmail("john.doe@example.com", PageRequest.ofSize(21)))
+                .thenReturn(List.of(1L));
+        when(orderRepository.findSummaryRowsByIdIn(List.of(1L))).thenReturn(List.of(orderRow));
+        when(orderMapper.toSummaryResponses(List.of(orderRow))).thenReturn(List.of(summary));
+
+        // Act
+        CursorPageResponse<OrderResponse> result =
+                orderService.getCustomerOrders(" John.Doe@Example.com ", null, 20, OrderView.SUMMARY);
+
+        // Assert
+        assertThat(result.getContent()).containsExactly(summary);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+        verifyNoInteractions(itemRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed cursor")
+    void getOrdersByCursor_InvalidCursor() {
+        assertThatThrownBy(() -> orderService.getOrdersByCursor("not-a-cursor", null, 20, false, OrderView.FULL))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid cursor");
     }
 
     @Test
     @DisplayName("Should throw exception when status is null")
     void getOrdersByStatus_NullStatus() {
         // Act & Assert
-        assertThatThrownBy(() -> orderService.getOrdersByStatus(null))
+        assertThatThrownBy(() -> orderService.getOrdersByStatus(null, OrderView.FULL))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Status code cannot be null or empty");
 
@@ -314,4 +622,105 @@ class OrderServiceImplTest {
         verify(orderRepository).findById(1L);
         verify(orderRepository, never()).delete(any());
     }
+
+    @Test
+    @DisplayName("Should report a result per order for a mixed bulk status update")
+    void updateOrderStatuses_MixedResults() {
+        // Arrange: 1 moves, 2 changed concurrently, 3 cannot move to PROCESSING, 4 does not exist
+        OrderStatusRow moved = statusRow(1L, "PENDING", 5L, null);
+        OrderStatusRow conflicting = statusRow(2L, "PENDING", 7L, null);
+        OrderStatusRow invalid = statusRow(3L, "PROCESSING", 2L, null);
+        when(orderStatusService.getTransitionGraph()).thenReturn(bulkTransitionGraph());
+        when(orderRepository.findStatusRowsByIdIn(List.of(1L, 2L, 3L, 4L)))
+                .thenReturn(List.of(invalid, moved, conflicting));
+        when(orderStatusBatchRepository.updateStatuses(eq(List.of(moved, conflicting)), eq(2L), any(LocalDateTime.class)))
+                .thenReturn(new boolean[]{true, false});
+        when(orderRepository.getReferenceById(1L)).thenReturn(order);
+
+        // Act: the duplicate ID is updated once
+        BulkStatusUpdateResponse response = orderService.updateOrderStatuses(
+                List.of(1L, 2L, 3L, 1L, 4L), "PROCESSING", null);
+
+        // Assert
+        assertThat(response.getTotalRequested()).isEqualTo(4);
+        assertThat(response.getSucceeded()).isEqualTo(1);
+        assertThat(response.getFailed()).isEqualTo(3);
+        assertThat(response.getResults()).extracting(BulkStatusUpdateResult::getOrderId)
+                .containsExactly(1L, 2L, 3L, 4L);
+        assertThat(response.getResults()).extracting(BulkStatusUpdateResult::isSuccess)
+                .containsExactly(true, false, false, false);
+        assertThat(response.getResults()).extracting(BulkStatusUpdateResult::getPreviousStatus)
+                .containsExactly("PENDING", "PENDING", "PROCESSING", null);
+        assertThat(response.getResults().get(0).getStatus()).isEqualTo("PROCESSING");
+        assertThat(response.getResults().get(1).getError()).contains("modified concurrently");
+        assertThat(response.getResults().get(2).getError())
+                .isEqualTo("Transition from PROCESSING to PROCESSING is not allowed");
+        assertThat(response.getResults().get(3).getError()).contains("4");
+
+        verify(statusHistoryRepository).saveAll(argThat(history -> ((List<?>) history).size() == 1));
+        verify(orderEventOutbox).ordersStatusChanged(
+                List.of(new OrderNumberRow(1L, "ORD-1")), "PENDING", "PROCESSING");
+        verify(orderResponseCache).evict(1L);
+        verify(orderResponseCache, never()).evict(2L);
+    }
+
+    @Test
+    @DisplayName("Should check payment-gated bulk transitions from the projection, without loading orders")
+    void updateOrderStatuses_PaymentRequired() {
+        // Arrange: PROCESSING -> SHIPPED requires payment
+        OrderStatusRow paid = statusRow(1L, "PROCESSING", 3L, new BigDecimal("1200.00"));
+        OrderStatusRow unpaid = statusRow(2L, "PROCESSING", 3L, new BigDecimal("100.00"));
+        when(orderStatusService.getTransitionGraph()).thenReturn(bulkTransitionGraph());
+        when(orderRepository.findStatusRowsByIdIn(List.of(1L, 2L))).thenReturn(List.of(paid, unpaid));
+        when(orderStatusBatchRepository.updateStatuses(eq(List.of(paid)), eq(3L), any(LocalDateTime.class)))
+                .thenReturn(new boolean[]{true});
+
+        // Act
+        BulkStatusUpdateResponse response = orderService.updateOrderStatuses(List.of(1L, 2L), "SHIPPED", "Dispatched");
+
+        // Assert
+        assertThat(response.getSucceeded()).isEqualTo(1);
+        assertThat(response.getResults().get(1).getError()).isEqualTo("Payment required before status transition");
+        verify(orderRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("Should reject a bulk update larger than the maximum batch size")
+    void updateOrderStatuses_TooMany() {
+        businessRules.setMaxBatchSize(2);
+
+        assertThatThrownBy(() -> orderService.updateOrderStatuses(List.of(1L, 2L, 3L), "PROCESSING", null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(orderRepository, never()).findStatusRowsByIdIn(any());
+    }
+
+    private void stubBatchOrderBuilding() {
+        when(orderMapper.toEntity(any(CreateOrderRequest.class)))
+                .thenAnswer(invocation -> Order.builder().customer(customer).items(new ArrayList<>()).build());
+        when(orderStatusService.getDefaultStatus()).thenReturn(pendingStatus);
+        when(orderMapper.toResponse(any(Order.class))).thenReturn(orderResponse);
+    }
+
+    /**
+     * PENDING -> PROCESSING, and PROCESSING -> SHIPPED gated on payment
+     */
+    private StatusTransitionGraph bulkTransitionGraph() {
+        OrderStatusEntity shippedStatus = OrderStatusEntity.builder()
+                .id(3L)
+                .code("SHIPPED")
+                .isActive(true)
+                .isFinal(false)
+                .build();
+        return StatusTransitionGraph.compile(List.of(pendingStatus, processingStatus, shippedStatus), List.of(
+                OrderStatusTransition.builder().fromStatus(pendingStatus).toStatus(processingStatus).build(),
+                OrderStatusTransition.builder().fromStatus(processingStatus).toStatus(shippedStatus)
+                        .requiresPayment(true).build()));
+    }
+
+    private static OrderStatusRow statusRow(Long id, String statusCode, Long version, BigDecimal paidAmount) {
+        long statusId = "PENDING".equals(statusCode) ? 1L : 2L;
+        return new OrderStatusRow(id, "ORD-" + id, version, statusId, statusCode,
+                new BigDecimal("1200.00"), paidAmount);
+    }
 }
@@ -0,0 +1,188 @@
+package com.ordermanagement.service.outbox;
+
+import com.ordermanagement.config.OutboxProperties;
+import com.ordermanagement.model.entity.OutboxEvent;
+import com.ordermanagement.model.entity.OutboxRelayLease;
+import com.ordermanagement.model.enums.OutboxStatus;
+import com.ordermanagement.repository.OutboxEventRepository;
+import com.ordermanagement.repository.OutboxRelayLeaseRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for OutboxRelay: claimed batches, per-aggregate ordering and failure handling,
+ * the relay lease and the retention purge.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Outbox Relay Tests")
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxRepository;
+
+    @Mock
+    private OutboxRelayLeaseRepository leaseRepository;
+
+    @Mock
+    private OrderEventOutbox orderEventOutbox;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final OutboxProperties properties = new OutboxProperties();
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OutboxRelay(outboxRepository, leaseRepository, orderEventOutbox, eventPublisher, properties,
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), false);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        relay.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should deliver a claimed batch in order per aggregate and mark it published")
+    void relayBatch_DeliversAndMarksPublished() {
+        OutboxEvent first = event(1L, 10L);
+        OutboxEvent other = event(2L, 11L);
+        OutboxEvent second = event(3L, 10L);
+        stubClaimedBatch(first, other, second);
+        stubApplicationEvents();
+
+        assertThat(relay.relayBatch()).isEqualTo(3);
+
+        ArgumentCaptor<ApplicationEvent> published = ArgumentCaptor.forClass(ApplicationEvent.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(published.capture());
+        List<Long> aggregateTen = published.getAllValues().stream()
+                .map(event -> (OutboxEvent) ((PayloadApplicationEvent<?>) event).getPayload())
+                .filter(event -> event.getAggregateId() == 10L)
+                .map(OutboxEvent::getId)
+                .toList();
+        assertThat(aggregateTen).containsExactly(1L, 3L);
+        verify(outboxRepository).claim(eq(List.of(1L, 2L, 3L)), eq(OutboxStatus.PENDING), anyString(), any(), any());
+        verify(outboxRepository).markProcessed(
+                argThat(ids -> ids.size() == 3 && ids.containsAll(List.of(1L, 2L, 3L))),
+                eq(OutboxStatus.PUBLISHED), any());
+        verify(outboxRepository).releaseClaims(anyString());
+    }
+
+    @Test
+    @DisplayName("Should stop an aggregate at its first failure and keep delivering other aggregates")
+    void relayBatch_StopsAggregateOnFailure() {
+        OutboxEvent failing = event(1L, 10L);
+        OutboxEvent other = event(2L, 11L);
+        OutboxEvent blocked = event(3L, 10L);
+        stubClaimedBatch(failing, other, blocked);
+        stubApplicationEvents();
+        lenient().doThrow(new IllegalStateException("listener down")).when(eventPublisher)
+                .publishEvent(argThat((ApplicationEvent event) -> event instanceof PayloadApplicationEvent<?> payload
+                        && payload.getPayload() == failing));
+        when(outboxRepository.findById(1L)).thenReturn(Optional.of(failing));
+
+        relay.relayBatch();
+
+        verify(outboxRepository).markProcessed(eq(List.of(2L)), eq(OutboxStatus.PUBLISHED), any());
+        verify(outboxRepository).releaseClaims(anyString());
+        verify(outboxRepository, never()).findById(3L);
+        assertThat(failing.getAttempts()).isEqualTo(1);
+        assertThat(failing.getLastError()).contains("listener down");
+        assertThat(failing.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(blocked.getAttempts()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not relay while another instance holds the lease")
+    void relayPendingEvents_LeaseHeldElsewhere() {
+        when(leaseRepository.renewOrTakeOver(eq(OutboxRelay.LEASE_NAME), anyString(), any(), any())).thenReturn(0);
+        when(leaseRepository.existsById(OutboxRelay.LEASE_NAME)).thenReturn(true);
+
+        relay.relayPendingEvents();
+
+        verify(outboxRepository, never()).findClaimableIds(any(), any(), any());
+        verify(eventPublisher, never()).publishEvent(any(ApplicationEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should create the lease on first use and then relay")
+    void relayPendingEvents_CreatesLease() {
+        when(leaseRepository.renewOrTakeOver(eq(OutboxRelay.LEASE_NAME), anyString(), any(), any())).thenReturn(0);
+        when(leaseRepository.existsById(OutboxRelay.LEASE_NAME)).thenReturn(false);
+        when(outboxRepository.findClaimableIds(eq(OutboxStatus.PENDING), any(), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        relay.relayPendingEvents();
+
+        verify(leaseRepository).saveAndFlush(any(OutboxRelayLease.class));
+        verify(outboxRepository).findClaimableIds(eq(OutboxStatus.PENDING), any(), any(Pageable.class));
+        verify(outboxRepository, never()).claim(anyCollection(), any(), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should purge published rows older than the retention period")
+    void purgePublishedEvents_UsesRetentionCutoff() {
+        properties.setRetentionHours(72);
+        LocalDateTime before = LocalDateTime.now().minusHours(72);
+
+        relay.purgePublishedEvents();
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outboxRepository).deleteProcessedBefore(eq(OutboxStatus.PUBLISHED), cutoff.capture());
+        assertThat(cutoff.getValue()).isAfterOrEqualTo(before).isBeforeOrEqualTo(LocalDateTime.now().minusHours(72));
+    }
+
+    private void stubClaimedBatch(OutboxEvent... events) {
+        List<Long> ids = Arrays.stream(events).map(OutboxEvent::getId).toList();
+        when(outboxRepository.findClaimableIds(eq(OutboxStatus.PENDING), any(), any(Pageable.class))).thenReturn(ids);
+        when(outboxRepository.findByClaimedByOrderByCreatedAtAscIdAsc(anyString())).thenReturn(List.of(events));
+    }
+
+    private void stubApplicationEvents() {
+        when(orderEventOutbox.toApplicationEvent(any(OutboxEvent.class), any()))
+                .thenAnswer(invocation -> new PayloadApplicationEvent<>(invocation.getArgument(1), invocation.getArgument(0)));
+    }
+
+    private static OutboxEvent event(Long id, Long aggregateId) {
+        return OutboxEvent.builder()
+                .id(id)
+                .aggregateType("Order")
+                .aggregateId(aggregateId)
+                .eventType("OrderStatusChanged")
+                .payload("{}")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.ordermanagement.service.pricing;
+
+/**
+ * Provider that always serves the given snapshot (unit tests, benchmarks).
+ * Has no repository and never rebuilds.
+ */
+public class FixedPricingContextProvider extends PricingContextProvider {
+
+    private final PricingContext context;
+
+    public FixedPricingContextProvider(PricingContext context) {
+        super(null);
+        this.context = context;
+    }
+
+    @Override
+    public PricingContext current() {
+        return context;
+    }
+
+    @Override
+    public PricingContext refresh() {
+        return context;
+    }
+}
@@ -0,0 +1,217 @@
+package com.ordermanagement.service.scheduler;
+
+import com.ordermanagement.config.BusinessRulesProperties;
+import com.ordermanagement.event.OrderCreatedEvent;
+import com.ordermanagement.event.OrderStatusChangedEvent;
+import com.ordermanagement.model.dto.projection.OrderTimerRow;
+import com.ordermanagement.model.entity.OrderStatusEntity;
+import com.ordermanagement.repository.OrderRepository;
+import com.ordermanagement.service.ConfigurationService;
+import com.ordermanagement.service.OrderStatusService;
+import com.ordermanagement.service.workflow.StatusTransitionGraph;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for DelayedTransitionService: persisted due times, the per-tick limit,
+ * retries after a failed move, cancellation and the startup rebuild.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Delayed Transition Service Tests")
+class DelayedTransitionServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderStatusService orderStatusService;
+
+    @Mock
+    private ConfigurationService configurationService;
+
+    @Mock
+    private PendingOrderProcessor pendingOrderProcessor;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final OrderStatusEntity pending = OrderStatusEntity.builder().id(1L).code("PENDING").build();
+    private final OrderStatusEntity processing = OrderStatusEntity.builder().id(2L).code("PROCESSING").build();
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-15T10:00:00Z"));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BusinessRulesProperties businessRules = new BusinessRulesProperties();
+
+    private DelayedTransitionService transitionService;
+
+    @BeforeEach
+    void setUp() {
+        transitionService = new DelayedTransitionService(orderRepository, orderStatusService, configurationService,
+                pendingOrderProcessor, businessRules, transactionManager, meterRegistry, clock);
+        lenient().when(orderStatusService.getTransitionGraph())
+                .thenReturn(StatusTransitionGraph.compile(List.of(pending, processing), List.of()));
+    }
+
+    @Test
+    @DisplayName("Should fire at the persisted due time without reading the configured delay")
+    void handleOrderCreated_UsesPersistedDueTime() {
+        transitionService.handleOrderCreated(createdEvent(7L, now().plusSeconds(5)));
+
+        clock.advance(Duration.ofSeconds(4));
+        transitionService.tick();
+        verify(pendingOrderProcessor, never()).transitionOrders(anyCollection(), any(), any(), anyString());
+
+        clock.advance(Duration.ofSeconds(1));
+        transitionService.tick();
+        verify(pendingOrderProcessor).transitionOrders(eq(List.of(7L)), eq(pending), eq(processing), anyString());
+        verifyNoInteractions(configurationService);
+    }
+
+    @Test
+    @DisplayName("Should schedule nothing for an order without a persisted due time")
+    void handleOrderCreated_NoDueTime() {
+        transitionService.handleOrderCreated(createdEvent(7L, null));
+
+        assertThat(gauge("orders.transitions.scheduled")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should move at most maxTransitionsPerTick due orders per tick")
+    void tick_LimitsPerTick() {
+        businessRules.setMaxTransitionsPerTick(2);
+        for (long id = 1; id <= 3; id++) {
+            transitionService.handleOrderCreated(createdEvent(id, now().plusSeconds(1)));
+        }
+        clock.advance(Duration.ofSeconds(1));
+
+        transitionService.tick();
+        verify(pendingOrderProcessor).transitionOrders(eq(List.of(1L, 2L)), eq(pending), eq(processing), anyString());
+        assertThat(gauge("orders.transitions.ready")).isEqualTo(1.0);
+
+        transitionService.tick();
+        verify(pendingOrderProcessor).transitionOrders(eq(List.of(3L)), eq(pending), eq(processing), anyString());
+        assertThat(gauge("orders.transitions.ready")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep a failed batch due and retry it on the next tick")
+    void tick_RetriesFailedBatch() {
+        when(pendingOrderProcessor.transitionOrders(eq(List.of(7L)), eq(pending), eq(processing), anyString()))
+                .thenThrow(new IllegalStateException("connection lost"))
+                .thenReturn(1);
+        transitionService.handleOrderCreated(createdEvent(7L, now().plusSeconds(1)));
+        clock.advance(Duration.ofSeconds(1));
+
+        transitionService.tick();
+        assertThat(gauge("orders.transitions.ready")).isEqualTo(1.0);
+
+        transitionService.tick();
+        verify(pendingOrderProcessor, times(2))
+                .transitionOrders(eq(List.of(7L)), eq(pending), eq(processing), anyString());
+        assertThat(gauge("orders.transitions.ready")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should cancel the timer when the order moves to a status without an automatic successor")
+    void handleOrderStatusChanged_CancelsTimer() {
+        transitionService.handleOrderCreated(createdEvent(7L, now().plusSeconds(1)));
+
+        transitionService.handleOrderStatusChanged(
+                new OrderStatusChangedEvent(this, 7L, "ORD-7", "PENDING", "PROCESSING", null));
+        clock.advance(Duration.ofSeconds(2));
+        transitionService.tick();
+
+        assertThat(gauge("orders.transitions.scheduled")).isZero();
+        verify(pendingOrderProcessor, never()).transitionOrders(anyCollection(), any(), any(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should rebuild only the timers due within the horizon, overdue ones first")
+    void rebuildTimers_LoadsTimersWithinHorizon() {
+        LocalDateTime horizon = now().plusHours(1);
+        when(orderRepository.findTransitionTimersDueBy(eq(horizon), eq(0L), any(Pageable.class))).thenReturn(List.of(
+                new OrderTimerRow(1L, now().plusSeconds(2)),
+                new OrderTimerRow(2L, now().minusSeconds(10))));
+        when(orderRepository.findTransitionTimersDueBy(eq(horizon), eq(2L), any(Pageable.class))).thenReturn(List.of());
+
+        transitionService.rebuildTimers();
+        assertThat(gauge("orders.transitions.scheduled")).isEqualTo(2.0);
+
+        clock.advance(Duration.ofSeconds(2));
+        transitionService.tick();
+        verify(pendingOrderProcessor).transitionOrders(eq(List.of(2L, 1L)), eq(pending), eq(processing), anyString());
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private static OrderCreatedEvent createdEvent(Long orderId, LocalDateTime nextTransitionAt) {
+        return new OrderCreatedEvent(DelayedTransitionServiceTest.class, orderId, "ORD-" + orderId,
+                "customer@example.com", BigDecimal.TEN, "USD", 1, BigDecimal.TEN, "PENDING",
+                LocalDateTime.of(2024, 1, 15, 10, 0), nextTransitionAt, null);
+    }
+
+    /**
+     * Clock that only moves when a test advances it
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
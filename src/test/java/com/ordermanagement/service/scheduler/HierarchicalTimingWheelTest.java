@@ -0,0 +1,67 @@
+package com.ordermanagement.service.scheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for HierarchicalTimingWheel: expiry, cascading, rescheduling and cancellation.
+ */
+@DisplayName("Hierarchical Timing Wheel Tests")
+class HierarchicalTimingWheelTest {
+
+    @Test
+    @DisplayName("Should expire keys at their deadline in deadline order")
+    void advance_ExpiresDueKeys() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(1000, 8, 3, 0);
+        wheel.schedule(1L, 3_000);
+        wheel.schedule(2L, 1_500);
+        wheel.schedule(3L, 9_000);
+
+        assertThat(wheel.advance(2_000)).containsExactly(2L);
+        assertThat(wheel.advance(3_000)).containsExactly(1L);
+        assertThat(wheel.advance(8_999)).isEmpty();
+        assertThat(wheel.advance(9_000)).containsExactly(3L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should cascade far deadlines down the levels without firing early")
+    void advance_CascadesFarDeadlines() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(1000, 4, 2, 0);
+        wheel.schedule(1L, 13_000);
+        wheel.schedule(2L, 40_000); // beyond both levels (16 ticks)
+
+        assertThat(wheel.advance(12_000)).isEmpty();
+        assertThat(wheel.advance(13_000)).containsExactly(1L);
+        assertThat(wheel.advance(39_000)).isEmpty();
+        assertThat(wheel.advance(40_000)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Should fire past deadlines on the next advance")
+    void schedule_PastDeadline() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(1000, 8, 2, 10_000);
+        wheel.schedule(1L, 2_000);
+
+        assertThat(wheel.advance(11_000)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should honour only the latest deadline and skip cancelled keys")
+    void schedule_RescheduleAndCancel() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(1000, 8, 2, 0);
+        wheel.schedule(1L, 2_000);
+        wheel.schedule(1L, 5_000);
+        wheel.schedule(2L, 2_000);
+        wheel.cancel(2L);
+
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(4_000)).isEmpty();
+        List<Long> expired = wheel.advance(5_000);
+        assertThat(expired).containsExactly(1L);
+    }
+}
@@ -0,0 +1,119 @@
+package com.ordermanagement.service.scheduler;
+
+import com.ordermanagement.config.BusinessRulesProperties;
+import com.ordermanagement.model.dto.projection.OrderNumberRow;
+import com.ordermanagement.model.entity.Order;
+import com.ordermanagement.model.entity.OrderStatusEntity;
+import com.ordermanagement.repository.OrderRepository;
+import com.ordermanagement.repository.OrderStatusHistoryRepository;
+import com.ordermanagement.service.outbox.OrderEventOutbox;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for PendingOrderProcessor: keyset chunking and concurrent-change handling.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Pending Order Processor Tests")
+class PendingOrderProcessorTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderStatusHistoryRepository historyRepository;
+
+    @Mock
+    private OrderEventOutbox orderEventOutbox;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final OrderStatusEntity pending = OrderStatusEntity.builder().id(1L).code("PENDING").build();
+    private final OrderStatusEntity processing = OrderStatusEntity.builder().id(2L).code("PROCESSING").build();
+
+    private PendingOrderProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        BusinessRulesProperties businessRules = new BusinessRulesProperties();
+        businessRules.setSchedulerChunkSize(2);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        processor = new PendingOrderProcessor(orderRepository, historyRepository, orderEventOutbox,
+                businessRules, transactionManager, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Should move orders chunk by chunk with history and events")
+    void transitionAll_ProcessesChunks() {
+        List<OrderNumberRow> first = List.of(new OrderNumberRow(1L, "ORD-1"), new OrderNumberRow(2L, "ORD-2"));
+        List<OrderNumberRow> second = List.of(new OrderNumberRow(5L, "ORD-5"));
+        when(orderRepository.countByStatus(pending)).thenReturn(3L);
+        when(orderRepository.findDueNumberRowsByStatusAfter(eq(pending), any(), eq(0L), any(Pageable.class))).thenReturn(first);
+        when(orderRepository.findDueNumberRowsByStatusAfter(eq(pending), any(), eq(2L), any(Pageable.class))).thenReturn(second);
+        when(orderRepository.findDueNumberRowsByStatusAfter(eq(pending), any(), eq(5L), any(Pageable.class))).thenReturn(List.of());
+        when(orderRepository.updateStatusByIdIn(eq(List.of(1L, 2L)), eq(pending), eq(processing), any())).thenReturn(2);
+        when(orderRepository.updateStatusByIdIn(eq(List.of(5L)), eq(pending), eq(processing), any())).thenReturn(1);
+        when(orderRepository.getReferenceById(any())).thenReturn(new Order());
+
+        int moved = processor.transitionAll(pending, processing, "test");
+
+        assertThat(moved).isEqualTo(3);
+        verify(historyRepository, times(2)).saveAll(anyList());
+        verify(orderEventOutbox).ordersStatusChanged(first, "PENDING", "PROCESSING");
+        verify(orderEventOutbox).ordersStatusChanged(second, "PENDING", "PROCESSING");
+    }
+
+    @Test
+    @DisplayName("Should roll back and re-read a chunk changed concurrently")
+    void transitionAll_RetriesChangedChunk() {
+        List<OrderNumberRow> stale = List.of(new OrderNumberRow(1L, "ORD-1"), new OrderNumberRow(2L, "ORD-2"));
+        List<OrderNumberRow> fresh = List.of(new OrderNumberRow(2L, "ORD-2"));
+        when(orderRepository.countByStatus(pending)).thenReturn(2L);
+        when(orderRepository.findDueNumberRowsByStatusAfter(eq(pending), any(), eq(0L), any(Pageable.class)))
+                .thenReturn(stale, fresh);
+        when(orderRepository.findDueNumberRowsByStatusAfter(eq(pending), any(), eq(2L), any(Pageable.class))).thenReturn(List.of());
+        when(orderRepository.updateStatusByIdIn(eq(List.of(1L, 2L)), eq(pending), eq(processing), any())).thenReturn(1);
+        when(orderRepository.updateStatusByIdIn(eq(List.of(2L)), eq(pending), eq(processing), any())).thenReturn(1);
+        when(orderRepository.getReferenceById(any())).thenReturn(new Order());
+
+        int moved = processor.transitionAll(pending, processing, "test");
+
+        assertThat(moved).isEqualTo(1);
+        verify(orderEventOutbox).ordersStatusChanged(fresh, "PENDING", "PROCESSING");
+        verify(orderEventOutbox, never()).ordersStatusChanged(stale, "PENDING", "PROCESSING");
+    }
+
+    @Test
+    @DisplayName("Should move only the given orders that still have the source status")
+    void transitionOrders_MovesStillPendingOrders() {
+        List<OrderNumberRow> stillPending = List.of(new OrderNumberRow(4L, "ORD-4"));
+        when(orderRepository.findNumberRowsByIdInAndStatus(List.of(4L, 9L), pending)).thenReturn(stillPending);
+        when(orderRepository.updateStatusByIdIn(eq(List.of(4L)), eq(pending), eq(processing), any())).thenReturn(1);
+        when(orderRepository.getReferenceById(any())).thenReturn(new Order());
+
+        int moved = processor.transitionOrders(List.of(4L, 9L), pending, processing, "test");
+
+        assertThat(moved).isEqualTo(1);
+        verify(orderEventOutbox).ordersStatusChanged(stillPending, "PENDING", "PROCESSING");
+    }
+}
@@ -0,0 +1,113 @@
+package com.ordermanagement.service.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for OrderSearchIndex: matching, ranking, incremental updates and bounded searches.
+ */
+@DisplayName("Order Search Index Tests")
+class OrderSearchIndexTest {
+
+    private OrderSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new OrderSearchIndex(10_000);
+        index.put(new OrderSearchIndex.Document(1L, "ORD-20240115-000A1B2C", "Jane Smith",
+                "jane.smith@example.com", List.of("Wireless Mouse", "USB Cable")));
+        index.put(new OrderSearchIndex.Document(2L, "ORD-20240116-000A1B2D", "John Doe",
+                "john.doe@example.com", List.of("Laptop Stand")));
+        index.put(new OrderSearchIndex.Document(3L, "ORD-20240117-000A1B2E", "Mouse Trap Ltd",
+                "orders@mousetrap.com", List.of("Keyboard")));
+    }
+
+    @Test
+    @DisplayName("Should require every term to match, in any field")
+    void search_AllTermsMatch() {
+        assertThat(ids(index.search("jane cable", 10))).containsExactly(1L);
+        assertThat(ids(index.search("jane keyboard", 10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should match substrings and short prefixes case-insensitively")
+    void search_SubstringAndPrefix() {
+        assertThat(ids(index.search("A1B2D", 10))).containsExactly(2L);
+        assertThat(ids(index.search("jo", 10))).containsExactly(2L);
+        assertThat(ids(index.search("mith@exa", 10))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should rank customer matches above product matches")
+    void search_RanksByField() {
+        List<OrderSearchIndex.Hit> hits = index.search("mouse", 10);
+
+        assertThat(ids(hits)).containsExactly(3L, 1L);
+        assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+    }
+
+    @Test
+    @DisplayName("Should drop stale tokens when an order is replaced or removed")
+    void putAndRemove_UpdatePostings() {
+        index.put(new OrderSearchIndex.Document(1L, "ORD-20240115-000A1B2C", "Jane Brown",
+                "jane.brown@example.com", List.of("Monitor")));
+
+        assertThat(ids(index.search("smith", 10))).isEmpty();
+        assertThat(ids(index.search("brown monitor", 10))).containsExactly(1L);
+
+        index.remove(1L);
+
+        assertThat(ids(index.search("jane", 10))).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should honour the limit, newest order first on equal scores")
+    void search_Limit() {
+        assertThat(ids(index.search("ord", 2))).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should keep the best hits across many candidates regardless of insertion order")
+    void search_TopHitsOutOfOrder() {
+        OrderSearchIndex large = new OrderSearchIndex(10_000);
+        for (long id = 1_000; id >= 1; id--) {
+            String name = id % 100 == 0 ? "Widget" : "Widgetry " + id;
+            large.put(new OrderSearchIndex.Document(id, "ORD-20240115-" + id, name, "buyer" + id + "@example.com",
+                    List.of()));
+        }
+
+        // Exact token matches (every 100th order) outrank prefix matches, newest first
+        assertThat(ids(large.search("widget", 3))).containsExactly(1_000L, 900L, 800L);
+        assertThat(large.search("widget", 100)).hasSize(100);
+        assertThat(ids(large.search("buyer5", 1))).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("Should rank only the newest candidates when a term matches more than the cap")
+    void search_CandidateCap() {
+        OrderSearchIndex capped = new OrderSearchIndex(5);
+        for (long id = 1; id <= 20; id++) {
+            capped.put(new OrderSearchIndex.Document(id, "ORD-20240115-" + id, "Same Name",
+                    "same" + id + "@example.com", List.of()));
+        }
+
+        assertThat(ids(capped.search("same", 100))).containsExactly(20L, 19L, 18L, 17L, 16L);
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive candidate cap")
+    void constructor_InvalidCap() {
+        assertThatThrownBy(() -> new OrderSearchIndex(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<Long> ids(List<OrderSearchIndex.Hit> hits) {
+        return hits.stream().map(OrderSearchIndex.Hit::orderId).toList();
+    }
+}
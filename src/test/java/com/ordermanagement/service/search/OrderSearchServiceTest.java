@@ -0,0 +1,211 @@
+package com.ordermanagement.service.search;
+
+import com.ordermanagement.config.SearchProperties;
+import com.ordermanagement.event.OrderCancelledEvent;
+import com.ordermanagement.event.OrderCreatedEvent;
+import com.ordermanagement.model.dto.projection.OrderItemRow;
+import com.ordermanagement.model.dto.projection.OrderSummaryRow;
+import com.ordermanagement.repository.ItemRepository;
+import com.ordermanagement.repository.OrderRepository;
+import com.ordermanagement.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for OrderSearchService: query validation, rebuild, event maintenance, events
+ * that arrive while a rebuild runs and the scheduled refresh from the database.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Order Search Service Tests")
+class OrderSearchServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    private static final Instant NOW = Instant.parse("2024-01-15T10:00:00Z");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SearchProperties properties = new SearchProperties();
+
+    private OrderSearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        properties.setRebuildChunkSize(2);
+        properties.setRebuildParallelism(2);
+        searchService = newService(Clock.fixed(NOW, ZoneOffset.UTC));
+
+        lenient().when(orderRepository.findSummaryRowsByIdIn(anyCollection()))
+                .thenAnswer(invocation -> rows(invocation.getArgument(0)));
+        lenient().when(itemRepository.findRowsByOrderIdIn(anyCollection()))
+                .thenAnswer(invocation -> items(invocation.getArgument(0)));
+    }
+
+    @Test
+    @DisplayName("Should reject blank queries and out-of-range limits")
+    void search_Validation() {
+        assertThatThrownBy(() -> searchService.search(" ", 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searchService.search("jane", 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searchService.search("jane", 1_000_000)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should index every chunk on rebuild and answer ranked searches")
+    void rebuild_IndexesAllChunks() {
+        stubIds(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+
+        assertThat(searchService.rebuild()).isEqualTo(5);
+
+        assertThat(searchService.search("customer", 10).getOrderIds()).containsExactly(5L, 4L, 3L, 2L, 1L);
+        assertThat(searchService.search("customer3", 10).getOrderIds()).containsExactly(3L);
+        assertThat(searchService.search("widget4", 10).getOrderIds()).containsExactly(4L);
+        assertThat(meterRegistry.get("orders.search.indexed").gauge().value()).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("Should index created orders and drop cancelled ones")
+    void events_IndexAndRemove() {
+        searchService.handleOrderCreated(createdEvent(7L));
+        assertThat(searchService.search("customer7", 10).getOrderIds()).containsExactly(7L);
+
+        searchService.handleOrderCancelled(cancelledEvent(7L));
+        assertThat(searchService.search("customer7", 10).getOrderIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not bring back an order cancelled while its chunk was loading")
+    void rebuild_RemovalDuringLoad() {
+        stubIds(List.of(1L, 2L));
+        when(orderRepository.findSummaryRowsByIdIn(anyCollection())).thenAnswer(invocation -> {
+            // The cancel event arrives after the chunk's rows were read
+            List<OrderSummaryRow> rows = rows(invocation.getArgument(0));
+            searchService.remove(2L);
+            return rows;
+        });
+
+        searchService.rebuild();
+
+        assertThat(searchService.search("customer", 10).getOrderIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should keep orders created while a rebuild runs")
+    void rebuild_CreationDuringRebuild() {
+        when(orderRepository.findIdsAfter(eq(0L), any(Pageable.class))).thenAnswer(invocation -> {
+            // Created after the rebuild started; not part of any chunk
+            searchService.handleOrderCreated(createdEvent(9L));
+            return List.of(1L);
+        });
+        when(orderRepository.findIdsAfter(eq(1L), any(Pageable.class))).thenReturn(List.of());
+
+        searchService.rebuild();
+
+        assertThat(searchService.search("customer", 10).getOrderIds()).containsExactly(9L, 1L);
+    }
+
+    @Test
+    @DisplayName("Should apply orders created, updated and cancelled on other instances on refresh")
+    void refresh_AppliesChangesWithoutEvents() {
+        searchService.handleOrderCreated(createdEvent(1L));
+        LocalDateTime since = LocalDateTime.ofInstant(NOW, ZoneOffset.UTC).minusSeconds(60);
+        when(orderRepository.findIdsUpdatedSince(eq(since), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(2L, 3L));
+        when(orderRepository.findIdsUpdatedSince(eq(since), eq(3L), any(Pageable.class))).thenReturn(List.of(4L));
+        when(orderRepository.findIdsUpdatedSince(eq(since), eq(4L), any(Pageable.class))).thenReturn(List.of());
+        when(outboxEventRepository.findAggregateIdsByEventTypeSince("OrderCancelled", since))
+                .thenReturn(List.of(1L, 3L));
+
+        assertThat(searchService.refresh()).isEqualTo(3);
+
+        assertThat(searchService.search("customer", 10).getOrderIds()).containsExactly(4L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should start each refresh from the start of the previous one, less the overlap")
+    void refresh_AdvancesWindow() {
+        Clock clock = mock(Clock.class);
+        when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(300));
+        OrderSearchService service = newService(clock);
+        LocalDateTime constructedAt = LocalDateTime.ofInstant(NOW, ZoneOffset.UTC);
+
+        service.refresh();
+        service.refresh();
+
+        verify(orderRepository).findIdsUpdatedSince(eq(constructedAt.minusSeconds(60)), eq(0L), any(Pageable.class));
+        verify(orderRepository).findIdsUpdatedSince(eq(constructedAt.plusSeconds(240)), eq(0L), any(Pageable.class));
+    }
+
+    private OrderSearchService newService(Clock clock) {
+        return new OrderSearchService(orderRepository, itemRepository, outboxEventRepository, properties,
+                mock(PlatformTransactionManager.class), meterRegistry, clock);
+    }
+
+    @SafeVarargs
+    private void stubIds(List<Long>... chunks) {
+        long afterId = 0;
+        for (List<Long> chunk : chunks) {
+            when(orderRepository.findIdsAfter(eq(afterId), any(Pageable.class))).thenReturn(chunk);
+            afterId = chunk.get(chunk.size() - 1);
+        }
+        when(orderRepository.findIdsAfter(eq(afterId), any(Pageable.class))).thenReturn(List.of());
+    }
+
+    private static List<OrderSummaryRow> rows(Collection<Long> ids) {
+        return ids.stream()
+                .map(id -> new OrderSummaryRow(id, "ORD-20240115-0000000" + id, "Customer" + id,
+                        "customer" + id + "@example.com", BigDecimal.TEN, "PENDING",
+                        LocalDateTime.of(2024, 1, 15, 10, 0), LocalDateTime.of(2024, 1, 15, 10, 0), 0L))
+                .toList();
+    }
+
+    private static List<OrderItemRow> items(Collection<Long> ids) {
+        return ids.stream()
+                .map(id -> new OrderItemRow(id, id * 10, "Widget" + id, "WIDGET-" + id, 1,
+                        BigDecimal.TEN, BigDecimal.TEN))
+                .toList();
+    }
+
+    private static OrderCreatedEvent createdEvent(Long orderId) {
+        return new OrderCreatedEvent(OrderSearchServiceTest.class, orderId, "ORD-20240115-0000000" + orderId,
+                "customer" + orderId + "@example.com", BigDecimal.TEN, "USD", 1, BigDecimal.TEN, "PENDING",
+                LocalDateTime.of(2024, 1, 15, 10, 0), null, null);
+    }
+
+    private static OrderCancelledEvent cancelledEvent(Long orderId) {
+        return new OrderCancelledEvent(OrderSearchServiceTest.class, orderId, "ORD-20240115-0000000" + orderId,
+                "customer" + orderId + "@example.com", "Customer request", BigDecimal.TEN, "CANCELLED",
+                LocalDateTime.of(2024, 1, 15, 10, 0), null);
+    }
+}
@@ -0,0 +1,197 @@
+package com.ordermanagement.service.statistics;
+
+import com.ordermanagement.event.OrderCancelledEvent;
+import com.ordermanagement.event.OrderCreatedEvent;
+import com.ordermanagement.event.OrderStatusChangedEvent;
+import com.ordermanagement.model.dto.projection.DailyTotalsRow;
+import com.ordermanagement.model.dto.projection.StatusTotalsRow;
+import com.ordermanagement.model.dto.response.OrderStatisticsResponse;
+import com.ordermanagement.model.enums.OutboxStatus;
+import com.ordermanagement.repository.OrderRepository;
+import com.ordermanagement.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for OrderStatisticsService: event-driven counters, reconciliation and the
+ * outbox watermark that keeps events racing a reconciliation from being lost or counted twice.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Order Statistics Service Tests")
+class OrderStatisticsServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OutboxEventRepository outboxRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OrderStatisticsService statisticsService;
+
+    @BeforeEach
+    void setUp() {
+        statisticsService = new OrderStatisticsService(orderRepository, outboxRepository, transactionManager,
+                new SimpleMeterRegistry(), Clock.systemDefaultZone(), 30);
+    }
+
+    @Test
+    @DisplayName("Should count created, moved and cancelled orders")
+    void events_UpdateCounters() {
+        LocalDateTime now = LocalDateTime.now();
+        statisticsService.handleOrderCreated(created(1L, "100.00", now, 11L));
+        statisticsService.handleOrderCreated(created(2L, "50.50", now, 12L));
+        statisticsService.handleOrderCreated(created(3L, "20.00", now, 13L));
+        statisticsService.handleOrderStatusChanged(
+                new OrderStatusChangedEvent(this, 1L, "ORD-1", "PENDING", "PROCESSING", 14L));
+        statisticsService.handleOrderCancelled(new OrderCancelledEvent(this, 3L, "ORD-3", "c@example.com",
+                "Customer requested cancellation", new BigDecimal("20.00"), "PENDING", now, 15L));
+
+        OrderStatisticsResponse statistics = statisticsService.getStatistics();
+
+        assertThat(statistics.getOrdersByStatus()).containsEntry("PENDING", 1L).containsEntry("PROCESSING", 1L);
+        assertThat(statistics.getTotalOrders()).isEqualTo(2);
+        assertThat(statistics.getTotalRevenue()).isEqualByComparingTo("150.50");
+        assertThat(statistics.getAverageOrderValue()).isEqualByComparingTo("75.25");
+        assertThat(statistics.getRevenueByDay()).singleElement()
+                .satisfies(day -> {
+                    assertThat(day.getDate()).isEqualTo(now.toLocalDate());
+                    assertThat(day.getOrders()).isEqualTo(2);
+                    assertThat(day.getRevenue()).isEqualByComparingTo("150.50");
+                });
+    }
+
+    @Test
+    @DisplayName("Should replace drifted counters with database aggregates")
+    void reconcile_ReplacesCounters() {
+        LocalDate today = LocalDate.now();
+        statisticsService.handleOrderCreated(created(1L, "10.00", today.atStartOfDay(), 11L));
+        statisticsService.handleOrderCreated(created(1L, "10.00", today.atStartOfDay(), 11L)); // duplicate delivery
+
+        stubSnapshot(List.of(), 1L, "10.00");
+
+        statisticsService.reconcile();
+        OrderStatisticsResponse statistics = statisticsService.getStatistics();
+
+        assertThat(statistics.getOrdersByStatus()).containsEntry("PENDING", 1L);
+        assertThat(statistics.getTotalOrders()).isEqualTo(1);
+        assertThat(statistics.getTotalRevenue()).isEqualByComparingTo("10.00");
+        assertThat(statistics.getRevenueByDay()).singleElement()
+                .satisfies(day -> assertThat(day.getOrders()).isEqualTo(1));
+        assertThat(statistics.getReconciledAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should skip an event that was pending at reconciliation, as the aggregates include it")
+    void reconcile_SkipsPendingEventDeliveredLater() {
+        LocalDate today = LocalDate.now();
+        stubSnapshot(List.of(21L), 1L, "10.00");
+
+        statisticsService.reconcile();
+        statisticsService.handleOrderCreated(created(1L, "10.00", today.atStartOfDay(), 21L));
+        statisticsService.handleOrderCreated(created(2L, "5.00", today.atStartOfDay(), 22L));
+
+        OrderStatisticsResponse statistics = statisticsService.getStatistics();
+        assertThat(statistics.getTotalOrders()).isEqualTo(2);
+        assertThat(statistics.getTotalRevenue()).isEqualByComparingTo("15.00");
+    }
+
+    @Test
+    @DisplayName("Should keep an event applied during the reconciliation read but committed after its snapshot")
+    void reconcile_KeepsEventCommittedAfterSnapshot() {
+        LocalDate today = LocalDate.now();
+        stubSnapshot(List.of(), 1L, "10.00",
+                () -> statisticsService.handleOrderCreated(created(2L, "5.00", today.atStartOfDay(), 31L)));
+        when(outboxRepository.findExistingIds(Set.of(31L))).thenReturn(List.of());
+
+        statisticsService.reconcile();
+
+        OrderStatisticsResponse statistics = statisticsService.getStatistics();
+        assertThat(statistics.getTotalOrders()).isEqualTo(2);
+        assertThat(statistics.getOrdersByStatus()).containsEntry("PENDING", 2L);
+        assertThat(statistics.getTotalRevenue()).isEqualByComparingTo("15.00");
+        assertThat(statistics.getRevenueByDay()).singleElement()
+                .satisfies(day -> assertThat(day.getOrders()).isEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("Should not count twice an event applied during the reconciliation read and already in its snapshot")
+    void reconcile_DoesNotRecountEventInSnapshot() {
+        LocalDate today = LocalDate.now();
+        stubSnapshot(List.of(), 2L, "15.00",
+                () -> statisticsService.handleOrderCreated(created(2L, "5.00", today.atStartOfDay(), 41L)));
+        when(outboxRepository.findExistingIds(Set.of(41L))).thenReturn(List.of(41L));
+
+        statisticsService.reconcile();
+
+        OrderStatisticsResponse statistics = statisticsService.getStatistics();
+        assertThat(statistics.getTotalOrders()).isEqualTo(2);
+        assertThat(statistics.getTotalRevenue()).isEqualByComparingTo("15.00");
+    }
+
+    @Test
+    @DisplayName("Should leave the counters alone while the outbox backlog is too large to track")
+    void reconcile_SkipsLargeBacklog() {
+        LocalDate today = LocalDate.now();
+        statisticsService.handleOrderCreated(created(1L, "10.00", today.atStartOfDay(), 11L));
+        when(outboxRepository.findIdsByStatus(eq(OutboxStatus.PENDING), any(Pageable.class)))
+                .thenAnswer(invocation -> LongStream
+                        .rangeClosed(1, invocation.<Pageable>getArgument(1).getPageSize())
+                        .boxed()
+                        .toList());
+
+        statisticsService.reconcile();
+
+        OrderStatisticsResponse statistics = statisticsService.getStatistics();
+        assertThat(statistics.getTotalOrders()).isEqualTo(1);
+        assertThat(statistics.getReconciledAt()).isNull();
+    }
+
+    private void stubSnapshot(List<Long> pendingOutboxIds, long orders, String revenue) {
+        stubSnapshot(pendingOutboxIds, orders, revenue, () -> { });
+    }
+
+    /**
+     * Database state at reconciliation: all orders PENDING and created today
+     *
+     * @param duringRead Runs while the aggregates are read, like an event relayed concurrently
+     */
+    private void stubSnapshot(List<Long> pendingOutboxIds, long orders, String revenue, Runnable duringRead) {
+        when(outboxRepository.findIdsByStatus(eq(OutboxStatus.PENDING), any(Pageable.class)))
+                .thenReturn(pendingOutboxIds);
+        when(orderRepository.findStatusTotals()).thenAnswer(invocation -> {
+            duringRead.run();
+            return List.of(new StatusTotalsRow("PENDING", orders, new BigDecimal(revenue)));
+        });
+        when(orderRepository.findDailyTotalsSince(any()))
+                .thenReturn(List.of(new DailyTotalsRow(LocalDate.now(), orders, new BigDecimal(revenue))));
+    }
+
+    private OrderCreatedEvent created(Long orderId, String amount, LocalDateTime createdAt, Long outboxEventId) {
+        return new OrderCreatedEvent(this, orderId, "ORD-" + orderId, "c@example.com",
+                new BigDecimal(amount), "USD", 1, new BigDecimal(amount), "PENDING", createdAt, null,
+                outboxEventId);
+    }
+}
@@ -0,0 +1,87 @@
+package com.ordermanagement.service.workflow;
+
+import com.ordermanagement.model.entity.OrderStatusEntity;
+import com.ordermanagement.model.entity.OrderStatusTransition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for StatusTransitionGraph compilation and lookups.
+ */
+@DisplayName("Status Transition Graph Tests")
+class StatusTransitionGraphTest {
+
+    private final OrderStatusEntity pending = status(10L, "PENDING");
+    private final OrderStatusEntity processing = status(3L, "PROCESSING");
+    private final OrderStatusEntity confirmed = status(42L, "CONFIRMED");
+    private final OrderStatusEntity cancelled = status(7L, "CANCELLED");
+
+    @Test
+    @DisplayName("Should allow only configured and allowed transitions")
+    void rule_AllowedTransitions() {
+        StatusTransitionGraph graph = StatusTransitionGraph.compile(
+                List.of(pending, processing, confirmed, cancelled),
+                List.of(transition(pending, processing, true, false, false, false),
+                        transition(pending, cancelled, true, false, false, false),
+                        transition(processing, confirmed, true, false, true, false),
+                        transition(confirmed, cancelled, false, false, false, false)));
+
+        assertThat(graph.isAllowed(10L, 3L)).isTrue();
+        assertThat(graph.isAllowed(10L, 7L)).isTrue();
+        assertThat(graph.isAllowed(3L, 42L)).isTrue();
+        assertThat(graph.isAllowed(3L, 10L)).isFalse();
+        assertThat(graph.isAllowed(42L, 7L)).isFalse();
+        assertThat(graph.isAllowed(99L, 3L)).isFalse();
+        assertThat(graph.getStatusCount()).isEqualTo(4);
+        assertThat(graph.getTransitionCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should carry requirement flags of each transition")
+    void rule_CarriesFlags() {
+        StatusTransitionGraph graph = StatusTransitionGraph.compile(
+                List.of(pending, processing, confirmed),
+                List.of(transition(pending, processing, true, false, false, false),
+                        transition(processing, confirmed, true, true, true, true)));
+
+        int plain = graph.rule(10L, 3L);
+        int guarded = graph.rule(3L, 42L);
+
+        assertThat(plain).isZero();
+        assertThat(StatusTransitionGraph.requires(guarded, StatusTransitionGraph.REQUIRES_APPROVAL)).isTrue();
+        assertThat(StatusTransitionGraph.requires(guarded, StatusTransitionGraph.REQUIRES_PAYMENT)).isTrue();
+        assertThat(StatusTransitionGraph.requires(guarded, StatusTransitionGraph.REQUIRES_INVENTORY_CHECK)).isTrue();
+        assertThat(StatusTransitionGraph.requires(StatusTransitionGraph.NOT_ALLOWED,
+                StatusTransitionGraph.REQUIRES_PAYMENT)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should resolve statuses by code")
+    void getStatus_ByCode() {
+        StatusTransitionGraph graph = StatusTransitionGraph.compile(List.of(pending, processing), List.of());
+
+        assertThat(graph.getStatus("PROCESSING")).isSameAs(processing);
+        assertThat(graph.getStatus("UNKNOWN")).isNull();
+        assertThat(graph.getStatus(null)).isNull();
+    }
+
+    private static OrderStatusEntity status(Long id, String code) {
+        return OrderStatusEntity.builder().id(id).code(code).build();
+    }
+
+    private static OrderStatusTransition transition(OrderStatusEntity from, OrderStatusEntity to, boolean allowed,
+                                                    boolean approval, boolean payment, boolean inventory) {
+        return OrderStatusTransition.builder()
+                .fromStatus(from)
+                .toStatus(to)
+                .isAllowed(allowed)
+                .requiresApproval(approval)
+                .requiresPayment(payment)
+                .requiresInventoryCheck(inventory)
+                .build();
+    }
+}